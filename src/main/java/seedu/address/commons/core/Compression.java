@@ -0,0 +1,25 @@
+package seedu.address.commons.core;
+
+/**
+ * Represents the ways a data file can be compressed when it is saved.
+ */
+public enum Compression {
+    /** Saved as is. */
+    NONE,
+    /** Compressed with Deflate in the zlib format. */
+    DEFLATE,
+    /** Compressed with Deflate in the gzip format, which common archive tools can also open. */
+    GZIP;
+
+    public static final int MIN_LEVEL = 0;
+    public static final int MAX_LEVEL = 9;
+    /** The level that zlib itself defaults to, a balance between speed and size. */
+    public static final int DEFAULT_LEVEL = 6;
+
+    /**
+     * Returns true if {@code level} is a valid compression level, from no compression to the best.
+     */
+    public static boolean isValidLevel(int level) {
+        return level >= MIN_LEVEL && level <= MAX_LEVEL;
+    }
+}
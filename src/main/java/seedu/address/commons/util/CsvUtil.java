@@ -0,0 +1,129 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes single lines of comma-separated values.
+ * A field that contains a comma or a double quote is enclosed in double quotes, and any double quote in it doubled.
+ * Fields cannot span lines, so that a file can be read one line at a time.
+ */
+public class CsvUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits {@code line} into its fields, removing the quotes around quoted fields.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed, or is followed by anything but a comma.
+     */
+    public static List<String> parseLine(String line) {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuoted(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalArgumentException("Unexpected character after quoted field at column " + (i + 1));
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end < 0 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Appends the quoted field starting at {@code start}, just after its opening quote, to {@code field}, and returns
+     * the index just after its closing quote.
+     */
+    private static int readQuoted(String line, int start, StringBuilder field) {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Unclosed quoted field");
+    }
+
+    /**
+     * Returns {@code fields} joined into a line, quoting any field that needs it.
+     *
+     * @throws IllegalArgumentException if a field contains a line break, which a line cannot hold.
+     */
+    public static String toLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        try {
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    line.append(SEPARATOR);
+                }
+                appendField(line, fields.get(i));
+            }
+        } catch (IOException ioe) {
+            throw new AssertionError("Appending to a StringBuilder cannot fail", ioe);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Appends the separator that comes between two fields of a line to {@code out}.
+     */
+    public static void appendSeparator(Appendable out) throws IOException {
+        out.append(SEPARATOR);
+    }
+
+    /**
+     * Appends {@code field} to {@code out}, quoting it if it needs to be. Nothing but {@code out} is built, so a
+     * field can be written straight to a file.
+     *
+     * @throws IllegalArgumentException if {@code field} contains a line break.
+     */
+    public static void appendField(Appendable out, CharSequence field) throws IOException {
+        requireNonNull(field);
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '\n' || c == '\r') {
+                throw new IllegalArgumentException("A field cannot contain a line break");
+            }
+            needsQuotes |= c == SEPARATOR || c == QUOTE;
+        }
+        if (!needsQuotes) {
+            out.append(field);
+            return;
+        }
+        out.append(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                out.append(QUOTE);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE);
+    }
+}
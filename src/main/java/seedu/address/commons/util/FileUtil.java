@@ -1,10 +1,21 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +23,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -73,11 +86,162 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file, replacing the file in one step so that a crash leaves either its old or its new
+     * content, never a mix of the two.
+     * The content is written to a new temporary file next to {@code file} and forced to disk, and only then renamed
+     * over {@code file}. Renaming a temporary file that may not be on disk yet could leave an empty or partial file in
+     * place of the old one after a crash. Each write has its own temporary file, so writes to the same file from
+     * different threads cannot replace each other's content half written. An existing file keeps its permissions.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, content, false);
+    }
+
+    /**
+     * Writes given string to a file like {@link #writeToFile(Path, String)}.
+     *
+     * @param isRenameForced whether to also force the rename to disk before returning, so that the new content is
+     *     still in place after a crash.
+     */
+    public static void writeToFile(Path file, String content, boolean isRenameForced) throws IOException {
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes), isRenameForced);
+    }
+
+    /**
+     * Writes the content {@code writer} produces to a file through a buffer, replacing the file in one step like
+     * {@link #writeToFile(Path, String)}.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, ContentWriter writer) throws IOException {
+        writeToFile(file, writer, false);
+    }
+
+    /**
+     * Writes the content {@code writer} produces to a file like {@link #writeToFile(Path, ContentWriter)}.
+     *
+     * @param isRenameForced whether to also force the rename to disk before returning, so that the new content is
+     *     still in place after a crash.
+     */
+    public static void writeToFile(Path file, ContentWriter writer, boolean isRenameForced) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = createTempFileFor(file);
+        boolean isMoved = false;
+        try {
+            copyPermissions(file, tempFile);
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                // Not closed, as that would close the channel before it is forced
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            moveAtomically(tempFile, file);
+            isMoved = true;
+        } finally {
+            if (!isMoved) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        if (isRenameForced) {
+            forceDirectory(directory);
+        }
+    }
+
+    /**
+     * Appends given string to a file.
+     * Will create the file if it does not exist yet.
+     *
+     * @param isForced whether to force the content to disk before returning.
+     */
+    public static void appendToFile(Path file, String content, boolean isForced) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            writeFully(channel, content);
+            if (isForced) {
+                channel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Forces what was written to {@code file} so far to disk.
+     */
+    public static void forceFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Produces the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private static void writeFully(FileChannel channel, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Creates a new empty file next to {@code file}, with a name no other file has, to write its new content to.
+     * Unlike {@link Files#createTempFile}, which only lets its owner read the file, the file gets the permissions any
+     * new file in its directory gets, as it is to replace {@code file}.
+     */
+    private static Path createTempFileFor(Path file) throws IOException {
+        while (true) {
+            String suffix = Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), Character.MAX_RADIX);
+            try {
+                return Files.createFile(file.resolveSibling(file.getFileName() + "." + suffix + TEMP_FILE_SUFFIX));
+            } catch (FileAlreadyExistsException e) {
+                // Another write picked the same name; try another
+            }
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if {@code source} exists and the file system has
+     * them, so that replacing {@code source} with {@code target} keeps them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!Files.exists(source)
+                || !Files.getFileStore(target).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to disk, so that a rename within it survives a crash.
+     * Not every platform lets a directory be opened for this, so failures are ignored.
+     */
+    private static void forceDirectory(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The rename is still done, only possibly not yet on disk
+        }
     }
 
 }
@@ -29,6 +29,15 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Shows what {@code commandText}, a command still being typed, would list if it is a search, such as a
+     * {@code search_stu} by the start of a name. Nothing is saved, and the list type is left as it is. Once the text
+     * is no longer a complete search, or is another kind of command, the lists are shown as before the preview again.
+     * Commands executed act on the lists as shown before the preview.
+     * @param commandText The command typed so far.
+     */
+    void previewCommand(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
@@ -11,11 +13,13 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ListType;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,6 +27,8 @@ import seedu.address.model.event.Event;
 import seedu.address.model.person.ExternalParty;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.Student;
+import seedu.address.storage.DamageReport;
+import seedu.address.storage.PendingAddressBook;
 import seedu.address.storage.Storage;
 
 /**
@@ -34,12 +40,17 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    // Modification counts are never negative, so this never matches the address book
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final ObjectProperty<ListType> currentListTypeProperty = new SimpleObjectProperty<>(ListType.STUDENT);
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private long savedModificationCount;
+    private PendingAddressBook pendingAddressBook;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -47,7 +58,9 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        addressBookParser = new AddressBookParser(file -> storage.verifyAddressBook(file)
+                .map(DamageReport::getSummary));
+        savedModificationCount = model.getAddressBookModificationCount();
 
         listTypeListener();
     }
@@ -62,16 +75,54 @@ public class LogicManager implements Logic {
         return currentListTypeProperty;
     }
 
+    /**
+     * Replaces the address book of the model with {@code pendingAddressBook} once it has been read, on the next call
+     * to {@link #finishLoadingAddressBook()} or {@link #execute(String)}.
+     * The model should hold the preview of {@code pendingAddressBook} until then.
+     */
+    public void loadAddressBookInBackground(PendingAddressBook pendingAddressBook) {
+        requireNonNull(pendingAddressBook);
+        this.pendingAddressBook = pendingAddressBook;
+    }
+
+    /**
+     * Replaces the address book of the model with the address book being loaded in the background, if there is one,
+     * waiting for it to be read if need be.
+     * An empty address book is used instead if it could not be read.
+     */
+    public void finishLoadingAddressBook() {
+        if (pendingAddressBook == null) {
+            return;
+        }
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = pendingAddressBook.join();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be continuing with an empty AddressBook.");
+            addressBook = new AddressBook();
+        }
+        pendingAddressBook = null;
+        model.setAddressBook(addressBook);
+        // The loaded address book is what the storage holds, so it need not be saved again
+        savedModificationCount = model.getAddressBookModificationCount();
+    }
+
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
+        // Commands must not act on a preview, as saving it would drop the records not read yet
+        finishLoadingAddressBook();
+        // Commands act on the records shown as last submitted, not on a preview of the text typed
+        model.clearPreview();
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            saveAddressBookIfChanged();
         } catch (AccessDeniedException e) {
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
@@ -81,6 +132,48 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        // Only the whole address book can be previewed, and waiting for it to be read would hold up the typing
+        if (pendingAddressBook != null && !pendingAddressBook.isDone()) {
+            model.clearPreview();
+            return;
+        }
+        finishLoadingAddressBook();
+
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException e) {
+            model.clearPreview();
+            return;
+        }
+        if (!command.preview(model)) {
+            model.clearPreview();
+        }
+    }
+
+    /**
+     * Saves the address book if it changed since it was last saved.
+     * Commands that leave the address book unchanged, such as lists and searches, need not be saved, but they still
+     * report a save of an earlier command that failed after it had returned.
+     */
+    private void saveAddressBookIfChanged() throws IOException {
+        try {
+            storage.checkPendingSaveFailure();
+        } catch (IOException e) {
+            // What the failed save held is not on disk, so the address book must be saved again
+            savedModificationCount = NOT_SAVED;
+            throw e;
+        }
+
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount != savedModificationCount) {
+            storage.saveAddressBook(model.getAddressBook());
+            savedModificationCount = modificationCount;
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -53,7 +53,7 @@ public class AddExternalPartyCommand extends Command {
 
         if (model.hasExternalParty(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PARTY);
-        } else if (model.hasPersonWithPhoneOrEmail(toAdd.getPhone(), toAdd.getEmail())) {
+        } else if (model.getContactOwner(toAdd.getPhone(), toAdd.getEmail()).isPresent()) {
             throw new CommandException(MESSAGE_DUPLICATE_PHONE_OR_EMAIL);
         }
 
@@ -77,7 +77,7 @@ public class AddStaffCommand extends Command {
 
         if (model.hasStaff(toAdd)) {
             throw new CommandException(MESSAGE_DUPLICATE_PERSON);
-        } else if (model.hasPersonWithPhoneOrEmail(toAdd.getPhone(), toAdd.getEmail())) {
+        } else if (model.getContactOwner(toAdd.getPhone(), toAdd.getEmail()).isPresent()) {
             throw new CommandException(MESSAGE_DUPLICATE_PHONE_OR_EMAIL);
         }
 
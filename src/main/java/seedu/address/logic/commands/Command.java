@@ -17,4 +17,13 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Shows on {@code model} what the command, while it is still being typed, would list, until the preview is
+     * cleared with {@link Model#clearPreview()}. Returns false, showing nothing, if the command does more than change
+     * which records are shown, and so has no preview.
+     */
+    public boolean preview(Model model) {
+        return false;
+    }
+
 }
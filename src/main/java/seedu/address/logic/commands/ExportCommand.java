@@ -0,0 +1,393 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+
+/**
+ * Exports the students, staff, external parties or events currently shown to a CSV or JSON file.
+ * <p>
+ * Each record is written field by field straight to a buffered writer as the list is walked, so exporting takes the
+ * same small amount of memory however long the list is. Persons are written with the columns that {@code import}
+ * reads, so an exported file can be imported again.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports the students, staff, external parties or "
+            + "events currently listed to a CSV or JSON file, chosen by the file's extension.\n"
+            + "Parameters: " + ExportList.KEYWORDS + " FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " " + ExportList.STUDENTS.keyword + " data/block_a_heads.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    private static final String LIST_SEPARATOR = ";";
+
+    private static final List<String> STUDENT_COLUMNS = List.of("type", "name", "matric", "phone", "email",
+            "address", "tags", "emergency", "block", "level", "room", "designation");
+    private static final List<String> STAFF_COLUMNS = List.of("type", "name", "phone", "email", "address", "tags",
+            "emergency", "block", "level", "room", "designation");
+    private static final List<String> EXTERNAL_PARTY_COLUMNS = List.of("type", "name", "phone", "email",
+            "description");
+    private static final List<String> EVENT_COLUMNS = List.of("name", "from", "to", "students", "staff",
+            "externalParties");
+
+    private final ExportList list;
+    private final Path file;
+    private final Format format;
+
+    /**
+     * Creates an ExportCommand to export the shown {@code list} to {@code file}, whose extension must name a
+     * supported {@link Format}.
+     */
+    public ExportCommand(ExportList list, Path file) {
+        requireNonNull(list);
+        requireNonNull(file);
+        Optional<Format> format = Format.of(file);
+        checkArgument(format.isPresent(), Format.MESSAGE_CONSTRAINTS);
+        this.list = list;
+        this.file = file;
+        this.format = format.get();
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        int count;
+        try {
+            FileUtil.createParentDirsOfFile(file);
+            switch (list) {
+            case STUDENTS:
+                count = export(model.getFilteredStudentList(), STUDENT_COLUMNS, ExportCommand::writeStudent);
+                break;
+            case STAFF:
+                count = export(model.getFilteredStaffList(), STAFF_COLUMNS, ExportCommand::writeStaff);
+                break;
+            case EXTERNAL_PARTIES:
+                count = export(model.getFilteredExternalPartyList(), EXTERNAL_PARTY_COLUMNS,
+                        ExportCommand::writeExternalParty);
+                break;
+            case EVENTS:
+                count = export(model.getFilteredEventList(), EVENT_COLUMNS, ExportCommand::writeEvent);
+                break;
+            default:
+                throw new AssertionError("Unknown list: " + list);
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILED, file, ioe.getMessage()), ioe);
+        }
+        logger.info(String.format("Exported %d %s to %s", count, list.description, file));
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, count, list.description, file));
+    }
+
+    /**
+     * Writes every item of {@code items} to the file as a record with {@code columns}, and returns how many there
+     * were. The file is replaced in one step once every record is written.
+     */
+    private <T> int export(List<T> items, List<String> columns, RecordFormatter<T> formatter) throws IOException {
+        FileUtil.writeToFile(file, out -> {
+            try (RecordWriter writer = format.open(out, columns)) {
+                for (T item : items) {
+                    writer.startRecord();
+                    formatter.write(writer, item);
+                    writer.endRecord();
+                }
+            }
+        });
+        return items.size();
+    }
+
+    private static void writeStudent(RecordWriter writer, Student student) throws IOException {
+        writer.writeField("student");
+        writer.writeField(student.getName().fullName);
+        writer.writeField(student.getMatric().value);
+        writer.writeField(student.getPhone().value);
+        writer.writeField(student.getEmail().value);
+        writer.writeField(student.getAddress().value);
+        writer.writeListField(student.getTags(), tag -> tag.tagName);
+        writer.writeField(student.getEmergency().value);
+        writer.writeField(student.getBlock().value);
+        writer.writeField(String.valueOf(student.getLevel().value));
+        writer.writeField(String.valueOf(student.getRoom().value));
+        writer.writeField(String.valueOf(student.getStudentDesignation().getOrdinalDesignation()));
+    }
+
+    private static void writeStaff(RecordWriter writer, Staff staff) throws IOException {
+        writer.writeField("staff");
+        writeNamePhoneEmail(writer, staff);
+        writer.writeField(staff.getAddress().value);
+        writer.writeListField(staff.getTags(), tag -> tag.tagName);
+        writer.writeField(staff.getEmergency().value);
+        writer.writeField(staff.getBlock().value);
+        writer.writeField(String.valueOf(staff.getLevel().value));
+        writer.writeField(String.valueOf(staff.getRoom().value));
+        writer.writeField(String.valueOf(staff.getStaffDesignation().getOrdinalDesignation()));
+    }
+
+    private static void writeExternalParty(RecordWriter writer, ExternalParty externalParty) throws IOException {
+        writer.writeField("external");
+        writeNamePhoneEmail(writer, externalParty);
+        writer.writeField(externalParty.getDescription().value);
+    }
+
+    private static void writeNamePhoneEmail(RecordWriter writer, Person person) throws IOException {
+        writer.writeField(person.getName().fullName);
+        writer.writeField(person.getPhone().value);
+        writer.writeField(person.getEmail().value);
+    }
+
+    private static void writeEvent(RecordWriter writer, Event event) throws IOException {
+        writer.writeField(event.getEventName().fullEventName);
+        writer.writeField(event.getEventStartTime().toString());
+        writer.writeField(event.getEventEndTime().toString());
+        writer.writeListField(event.getStudents(), student -> student.getName().fullName);
+        writer.writeListField(event.getStaff(), staff -> staff.getName().fullName);
+        writer.writeListField(event.getExternalParties(), externalParty -> externalParty.getName().fullName);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return list == otherExportCommand.list
+                && file.equals(otherExportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("list", list)
+                .add("file", file)
+                .toString();
+    }
+
+    /**
+     * The lists that can be exported, by the keyword that names each in the command.
+     */
+    public enum ExportList {
+        STUDENTS("stu", "students"),
+        STAFF("staff", "staff"),
+        EXTERNAL_PARTIES("ext", "external parties"),
+        EVENTS("event", "events");
+
+        public static final String KEYWORDS = Arrays.stream(values()).map(list -> list.keyword)
+                .collect(Collectors.joining("/", "[", "]"));
+
+        public final String keyword;
+        private final String description;
+
+        ExportList(String keyword, String description) {
+            this.keyword = keyword;
+            this.description = description;
+        }
+
+        /**
+         * Returns the list named by {@code keyword}, if any.
+         */
+        public static Optional<ExportList> of(String keyword) {
+            return Arrays.stream(values()).filter(list -> list.keyword.equals(keyword)).findFirst();
+        }
+    }
+
+    /**
+     * The formats a list can be exported in, by the file extension that chooses each.
+     */
+    public enum Format {
+        CSV(".csv"), JSON(".json");
+
+        public static final String MESSAGE_CONSTRAINTS = "The file to export to must end in .csv or .json";
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Returns the format chosen by the extension of {@code file}, if any.
+         */
+        public static Optional<Format> of(Path file) {
+            Path fileName = file.getFileName();
+            if (fileName == null) {
+                return Optional.empty();
+            }
+            String name = fileName.toString().toLowerCase(Locale.ROOT);
+            return Arrays.stream(values()).filter(format -> name.endsWith(format.extension)).findFirst();
+        }
+
+        RecordWriter open(OutputStream out, List<String> columns) throws IOException {
+            switch (this) {
+            case CSV:
+                return new CsvRecordWriter(out, columns);
+            case JSON:
+                return new JsonRecordWriter(out, columns);
+            default:
+                throw new AssertionError("Unknown format: " + this);
+            }
+        }
+    }
+
+    /**
+     * Writes the fields of one kind of item as a record.
+     */
+    @FunctionalInterface
+    private interface RecordFormatter<T> {
+        void write(RecordWriter writer, T item) throws IOException;
+    }
+
+    /**
+     * Writes records to a stream one field at a time, in the order of the columns it was opened with.
+     * Closing the writer finishes the file but leaves the stream open.
+     */
+    private interface RecordWriter extends Closeable {
+        void startRecord() throws IOException;
+
+        void writeField(String value) throws IOException;
+
+        /**
+         * Writes each of {@code items}, as given by {@code toValue}, as one field.
+         */
+        <T> void writeListField(Collection<T> items, Function<T, String> toValue) throws IOException;
+
+        void endRecord() throws IOException;
+    }
+
+    /**
+     * Writes records as the rows of a CSV file, under a header naming the columns.
+     * The values of a list field are joined with semicolons, as {@code import} reads tags.
+     */
+    private static class CsvRecordWriter implements RecordWriter {
+        private final BufferedWriter writer;
+        private boolean isFirstField;
+
+        CsvRecordWriter(OutputStream out, List<String> columns) throws IOException {
+            writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            startRecord();
+            for (String column : columns) {
+                writeField(column);
+            }
+            endRecord();
+        }
+
+        @Override
+        public void startRecord() {
+            isFirstField = true;
+        }
+
+        @Override
+        public void writeField(String value) throws IOException {
+            if (!isFirstField) {
+                CsvUtil.appendSeparator(writer);
+            }
+            isFirstField = false;
+            CsvUtil.appendField(writer, value);
+        }
+
+        @Override
+        public <T> void writeListField(Collection<T> items, Function<T, String> toValue) throws IOException {
+            // Lists such as tags are short, so joining one into a single value costs little
+            writeField(items.stream().map(toValue).collect(Collectors.joining(LIST_SEPARATOR)));
+        }
+
+        @Override
+        public void endRecord() throws IOException {
+            writer.newLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Flushing rather than closing leaves the stream open
+            writer.flush();
+        }
+    }
+
+    /**
+     * Writes records as the objects of a JSON array, with a property for each column.
+     */
+    private static class JsonRecordWriter implements RecordWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+        private int column;
+
+        JsonRecordWriter(OutputStream out, List<String> columns) throws IOException {
+            this.generator = JsonUtil.createGenerator(out, false);
+            this.columns = columns;
+            generator.writeStartArray();
+        }
+
+        @Override
+        public void startRecord() throws IOException {
+            column = 0;
+            generator.writeStartObject();
+        }
+
+        @Override
+        public void writeField(String value) throws IOException {
+            generator.writeStringField(columns.get(column++), value);
+        }
+
+        @Override
+        public <T> void writeListField(Collection<T> items, Function<T, String> toValue) throws IOException {
+            generator.writeArrayFieldStart(columns.get(column++));
+            for (T item : items) {
+                generator.writeString(toValue.apply(item));
+            }
+            generator.writeEndArray();
+        }
+
+        @Override
+        public void endRecord() throws IOException {
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeEndArray();
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,472 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_PHONE_OR_EMAIL;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Matric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Imports the staff, students and external parties listed in a CSV file.
+ * <p>
+ * The file is read one line at a time, and its rows are validated on the fork-join pool a batch at a time while the
+ * rest of the file is still being read. Rows are then checked, in file order, against the contacts already in
+ * ResiConnect and against the earlier rows of the file, through hash lookups. Every row that passes is added in a
+ * single change to the model, so the address book is saved once however many rows there are. Rows that fail are
+ * listed with their line numbers and reasons in a report written beside the file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports staff, students and external parties from a "
+            + "CSV file.\n"
+            + "Parameters: FILE_PATH\n"
+            + "The first line of the file names its columns: " + String.join(", ", Column.NAMES) + ". "
+            + "Only " + Column.TYPE.name + " is required; unknown columns are ignored. "
+            + "Each row's " + Column.TYPE.name + " is student, staff or external, and decides which other columns "
+            + "it needs, as in " + AddStudentCommand.COMMAND_WORD + ", " + AddStaffCommand.COMMAND_WORD + " and "
+            + AddExternalPartyCommand.COMMAND_WORD + ". Separate multiple tags with a semicolon.\n"
+            + "Example: " + COMMAND_WORD + " data/new_residents.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students, %2$d staff and %3$d external parties. "
+            + "Rejected %4$d rows.";
+    public static final String MESSAGE_REJECT_REPORT = " The rejected rows are listed in %1$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at %1$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_REPORT_FAILED = "Could not write the reject report %1$s, so nothing was "
+            + "imported: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "The file is empty; its first line must name its columns.";
+    public static final String MESSAGE_MISSING_TYPE_COLUMN = "The first line of the file must name a "
+            + Column.TYPE.name + " column.";
+    public static final String MESSAGE_MALFORMED_ROW = "Malformed row: %1$s";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Unknown type \"%1$s\"; expected student, staff or external.";
+    public static final String MESSAGE_MISSING_VALUE = "Missing value for column: %1$s";
+    public static final String MESSAGE_DUPLICATE_IN_FILE = "Has the same %1$s as line %2$d.";
+
+    /** Rows per validation task; large enough that a task's validation dwarfs the cost of scheduling it. */
+    static final int BATCH_SIZE = 256;
+
+    private static final String REJECT_REPORT_SUFFIX = ".rejects.csv";
+    private static final String TAG_SEPARATOR = ";";
+    private static final String DEFAULT_DESIGNATION = "0";
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the CSV file at {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    /**
+     * Returns the path of the reject report of an import of {@code file}.
+     */
+    public static Path getRejectReportPath(Path file) {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String stem = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return file.resolveSibling(stem + REJECT_REPORT_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(file)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file));
+        }
+
+        List<Row> rows;
+        try {
+            rows = validate(file);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, file, ioe.getMessage()), ioe);
+        }
+
+        Accepted accepted = new Accepted();
+        List<Row> rejects = new ArrayList<>();
+        DuplicateChecker checker = new DuplicateChecker(model);
+        for (Row row : rows) {
+            if (row.rejectReason == null) {
+                row.rejectReason = checker.check(row);
+            }
+            if (row.rejectReason == null) {
+                accepted.add(row.person);
+            } else {
+                rejects.add(row);
+            }
+        }
+
+        // The report is written first, so that a failure to write it cannot leave an import with unexplained gaps
+        Path report = getRejectReportPath(file);
+        if (!rejects.isEmpty()) {
+            try {
+                writeRejectReport(report, rejects);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(MESSAGE_REPORT_FAILED, report, ioe.getMessage()), ioe);
+            }
+        }
+
+        try {
+            model.addPersons(accepted.staff, accepted.students, accepted.externalParties);
+        } catch (DuplicatePersonException dpe) {
+            // Rows were checked against the model above, so this only happens if the model changed meanwhile
+            throw new CommandException(MESSAGE_DUPLICATE_PHONE_OR_EMAIL, dpe);
+        }
+        logger.info(String.format("Imported %d rows and rejected %d from %s", rows.size() - rejects.size(),
+                rejects.size(), file));
+
+        String message = String.format(MESSAGE_SUCCESS, accepted.students.size(), accepted.staff.size(),
+                accepted.externalParties.size(), rejects.size());
+        return new CommandResult(rejects.isEmpty() ? message : message + String.format(MESSAGE_REJECT_REPORT, report));
+    }
+
+    /**
+     * Reads every row of {@code file} and validates each into a person or a reason to reject it, in file order.
+     * Batches of rows are validated in parallel while later ones are still being read.
+     */
+    private static List<Row> validate(Path file) throws IOException, CommandException {
+        List<ForkJoinTask<List<Row>>> tasks = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new CommandException(MESSAGE_EMPTY_FILE);
+            }
+            Header header = Header.parse(headerLine);
+
+            List<Row> batch = new ArrayList<>(BATCH_SIZE);
+            int lineNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(new Row(lineNumber, line));
+                if (batch.size() == BATCH_SIZE) {
+                    tasks.add(startValidating(header, batch));
+                    batch = new ArrayList<>(BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                tasks.add(startValidating(header, batch));
+            }
+        }
+
+        List<Row> rows = new ArrayList<>(tasks.size() * BATCH_SIZE);
+        for (ForkJoinTask<List<Row>> task : tasks) {
+            rows.addAll(task.join());
+        }
+        return rows;
+    }
+
+    private static ForkJoinTask<List<Row>> startValidating(Header header, List<Row> batch) {
+        return ForkJoinTask.adapt(() -> {
+            batch.forEach(row -> row.validate(header));
+            return batch;
+        }).fork();
+    }
+
+    private static void writeRejectReport(Path report, List<Row> rejects) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            writer.write(CsvUtil.toLine(List.of("line", "reason")));
+            writer.newLine();
+            for (Row reject : rejects) {
+                writer.write(CsvUtil.toLine(List.of(String.valueOf(reject.lineNumber), reject.rejectReason)));
+                writer.newLine();
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+
+    /**
+     * The columns an import file may have.
+     */
+    private enum Column {
+        TYPE("type"), NAME("name"), MATRIC("matric"), PHONE("phone"), EMAIL("email"), ADDRESS("address"),
+        TAGS("tags"), EMERGENCY("emergency"), BLOCK("block"), LEVEL("level"), ROOM("room"),
+        DESIGNATION("designation"), DESCRIPTION("description");
+
+        static final List<String> NAMES = Arrays.stream(values()).map(column -> column.name)
+                .collect(Collectors.toList());
+
+        private final String name;
+
+        Column(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The position of each known column in the rows of a file.
+     */
+    private static class Header {
+        private final Map<Column, Integer> positions;
+
+        private Header(Map<Column, Integer> positions) {
+            this.positions = positions;
+        }
+
+        static Header parse(String line) throws CommandException {
+            List<String> names;
+            try {
+                names = CsvUtil.parseLine(line);
+            } catch (IllegalArgumentException iae) {
+                throw new CommandException(String.format(MESSAGE_MALFORMED_ROW, iae.getMessage()));
+            }
+            Map<Column, Integer> positions = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+                for (Column column : Column.values()) {
+                    if (column.name.equals(name)) {
+                        positions.putIfAbsent(column, i);
+                    }
+                }
+            }
+            if (!positions.containsKey(Column.TYPE)) {
+                throw new CommandException(MESSAGE_MISSING_TYPE_COLUMN);
+            }
+            return new Header(positions);
+        }
+
+        /**
+         * Returns the trimmed value of {@code column} in {@code fields}, if it is present and not blank.
+         */
+        Optional<String> get(List<String> fields, Column column) {
+            Integer position = positions.get(column);
+            if (position == null || position >= fields.size()) {
+                return Optional.empty();
+            }
+            String value = fields.get(position).trim();
+            return value.isEmpty() ? Optional.empty() : Optional.of(value);
+        }
+
+        String require(List<String> fields, Column column) throws ParseException {
+            return get(fields, column).orElseThrow(() ->
+                    new ParseException(String.format(MESSAGE_MISSING_VALUE, column.name)));
+        }
+    }
+
+    /**
+     * One row of an import file, and once validated, either the person it describes or the reason it is rejected.
+     */
+    private static class Row {
+        private final int lineNumber;
+        private String line;
+        private Person person;
+        private String rejectReason;
+
+        Row(int lineNumber, String line) {
+            this.lineNumber = lineNumber;
+            this.line = line;
+        }
+
+        /**
+         * Parses this row into a person, or records why it cannot be. Touches nothing but this row, so that rows can
+         * be validated on several threads at once.
+         */
+        void validate(Header header) {
+            try {
+                person = toPerson(header, CsvUtil.parseLine(line));
+            } catch (IllegalArgumentException iae) {
+                rejectReason = String.format(MESSAGE_MALFORMED_ROW, iae.getMessage());
+            } catch (ParseException pe) {
+                rejectReason = pe.getMessage();
+            }
+            // The text is no longer needed, so it is not kept alive until the whole file is read
+            line = null;
+        }
+
+        private static Person toPerson(Header header, List<String> fields) throws ParseException {
+            String type = header.require(fields, Column.TYPE);
+            switch (type.toLowerCase(Locale.ROOT)) {
+            case "student":
+                return new Student(ParserUtil.parseName(header.require(fields, Column.NAME)),
+                        ParserUtil.parseMatric(header.require(fields, Column.MATRIC)),
+                        ParserUtil.parsePhone(header.require(fields, Column.PHONE)),
+                        ParserUtil.parseEmail(header.require(fields, Column.EMAIL)),
+                        ParserUtil.parseAddress(header.require(fields, Column.ADDRESS)),
+                        parseTags(header, fields),
+                        ParserUtil.parsePhone(header.require(fields, Column.EMERGENCY)),
+                        ParserUtil.parseBlock(header.require(fields, Column.BLOCK)),
+                        ParserUtil.parseLevel(header.require(fields, Column.LEVEL)),
+                        ParserUtil.parseRoom(header.require(fields, Column.ROOM)),
+                        ParserUtil.parseStudentDesignation(
+                                header.get(fields, Column.DESIGNATION).orElse(DEFAULT_DESIGNATION)));
+            case "staff":
+                return new Staff(ParserUtil.parseName(header.require(fields, Column.NAME)),
+                        ParserUtil.parsePhone(header.require(fields, Column.PHONE)),
+                        ParserUtil.parseEmail(header.require(fields, Column.EMAIL)),
+                        ParserUtil.parseAddress(header.require(fields, Column.ADDRESS)),
+                        parseTags(header, fields),
+                        ParserUtil.parsePhone(header.require(fields, Column.EMERGENCY)),
+                        ParserUtil.parseBlock(header.require(fields, Column.BLOCK)),
+                        ParserUtil.parseLevel(header.require(fields, Column.LEVEL)),
+                        ParserUtil.parseRoom(header.require(fields, Column.ROOM)),
+                        ParserUtil.parseDesignation(
+                                header.get(fields, Column.DESIGNATION).orElse(DEFAULT_DESIGNATION)));
+            case "external":
+                return new ExternalParty(ParserUtil.parseName(header.require(fields, Column.NAME)),
+                        ParserUtil.parsePhone(header.require(fields, Column.PHONE)),
+                        ParserUtil.parseEmail(header.require(fields, Column.EMAIL)),
+                        ParserUtil.parseDescription(header.require(fields, Column.DESCRIPTION)));
+            default:
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+            }
+        }
+
+        private static Set<Tag> parseTags(Header header, List<String> fields) throws ParseException {
+            List<String> tags = header.get(fields, Column.TAGS)
+                    .map(value -> Arrays.stream(value.split(TAG_SEPARATOR))
+                            .map(String::trim)
+                            .filter(tag -> !tag.isEmpty())
+                            .collect(Collectors.toList()))
+                    .orElse(List.of());
+            return ParserUtil.parseTags(tags);
+        }
+    }
+
+    /**
+     * Checks rows, in file order, for a phone, email or matric already taken in the model or by an earlier row.
+     * Earlier rows are remembered in hash maps of each key to its line, and the model is asked through its own
+     * hash indexes, so each row is checked in constant time.
+     */
+    private static class DuplicateChecker {
+        private final Model model;
+        private final Map<Phone, Integer> phoneLines = new HashMap<>();
+        private final Map<Email, Integer> emailLines = new HashMap<>();
+        private final Map<Matric, Integer> matricLines = new HashMap<>();
+
+        DuplicateChecker(Model model) {
+            this.model = model;
+        }
+
+        /**
+         * Returns the reason {@code row} is a duplicate, or null if it is not, in which case its keys are taken.
+         */
+        String check(Row row) {
+            Person person = row.person;
+            String reason = checkModel(person);
+            if (reason == null) {
+                reason = checkEarlierRows(person);
+            }
+            if (reason == null) {
+                phoneLines.put(person.getPhone(), row.lineNumber);
+                emailLines.put(person.getEmail(), row.lineNumber);
+                if (person instanceof Student) {
+                    matricLines.put(((Student) person).getMatric(), row.lineNumber);
+                }
+            }
+            return reason;
+        }
+
+        private String checkModel(Person person) {
+            if (person instanceof Student && model.hasStudent((Student) person)) {
+                return AddStudentCommand.MESSAGE_DUPLICATE_PERSON;
+            }
+            Optional<ListType> owner = model.getContactOwner(person.getPhone(), person.getEmail());
+            if (owner.isEmpty()) {
+                return null;
+            }
+            if (person instanceof Staff && owner.get() == ListType.STAFF) {
+                return AddStaffCommand.MESSAGE_DUPLICATE_PERSON;
+            }
+            if (person instanceof ExternalParty && owner.get() == ListType.EXTERNAL) {
+                return AddExternalPartyCommand.MESSAGE_DUPLICATE_PARTY;
+            }
+            return MESSAGE_DUPLICATE_PHONE_OR_EMAIL;
+        }
+
+        private String checkEarlierRows(Person person) {
+            Integer line = phoneLines.get(person.getPhone());
+            if (line != null) {
+                return String.format(MESSAGE_DUPLICATE_IN_FILE, Column.PHONE.name, line);
+            }
+            line = emailLines.get(person.getEmail());
+            if (line != null) {
+                return String.format(MESSAGE_DUPLICATE_IN_FILE, Column.EMAIL.name, line);
+            }
+            line = person instanceof Student ? matricLines.get(((Student) person).getMatric()) : null;
+            if (line != null) {
+                return String.format(MESSAGE_DUPLICATE_IN_FILE, Column.MATRIC.name, line);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * The persons accepted from a file, by roster.
+     */
+    private static class Accepted {
+        private final List<Staff> staff = new ArrayList<>();
+        private final List<Student> students = new ArrayList<>();
+        private final List<ExternalParty> externalParties = new ArrayList<>();
+
+        void add(Person person) {
+            if (person instanceof Student) {
+                students.add((Student) person);
+            } else if (person instanceof Staff) {
+                staff.add((Staff) person);
+            } else {
+                externalParties.add((ExternalParty) person);
+            }
+        }
+    }
+}
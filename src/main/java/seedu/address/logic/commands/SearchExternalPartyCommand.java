@@ -42,7 +42,7 @@ public class SearchExternalPartyCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredExternalPartyList(predicate);
+        model.searchExternalPartyList(predicate);
         int filteredListSize = model.getFilteredExternalPartyList().size();
         if (filteredListSize == 0) {
             return new CommandResult(String.format(MESSAGE_NO_EXTERNAL_PARTY_FOUND, predicate));
@@ -52,6 +52,13 @@ public class SearchExternalPartyCommand extends Command {
         }
     }
 
+    @Override
+    public boolean preview(Model model) {
+        requireNonNull(model);
+        model.previewExternalPartySearch(predicate);
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -19,6 +19,8 @@ import java.util.Map;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
+import seedu.address.model.person.SearchPlan;
+import seedu.address.model.person.Staff;
 import seedu.address.model.person.StaffMatchesAttributesPredicate;
 
 /**
@@ -28,6 +30,8 @@ import seedu.address.model.person.StaffMatchesAttributesPredicate;
 public class SearchStaffCommand extends Command {
     public static final String COMMAND_WORD = "search_staff";
 
+    public static final String EXPLAIN_KEYWORD = "explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches for all staff whose attributes match "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: "
@@ -42,25 +46,49 @@ public class SearchStaffCommand extends Command {
             + PREFIX_ROOM + "ROOM "
             + PREFIX_DESIGNATION + "DESIGNATION\n"
             + "At least one of the parameters must be provided.\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "91234567";
+            + "Start with " + EXPLAIN_KEYWORD + " to also show how the search was carried out, and how long it "
+            + "took.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "91234567\n"
+            + "Example: " + COMMAND_WORD + " " + EXPLAIN_KEYWORD + " "
+            + PREFIX_PHONE + "91234567 " + PREFIX_BLOCK + "A";
+
+    public static final String MESSAGE_PLAN = "%1$s\nSearch plan:\n%2$s";
 
     private final StaffMatchesAttributesPredicate predicate;
+    private final boolean isExplained;
 
     public SearchStaffCommand(Map<Prefix, String> searchCriteria) {
+        this(searchCriteria, false);
+    }
+
+    /**
+     * Creates a SearchStaffCommand that searches for staff meeting {@code searchCriteria}, and also
+     * shows the plan the search followed if {@code isExplained}.
+     */
+    public SearchStaffCommand(Map<Prefix, String> searchCriteria, boolean isExplained) {
         this.predicate = new StaffMatchesAttributesPredicate(searchCriteria);
+        this.isExplained = isExplained;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStaffList(predicate);
+        SearchPlan<Staff> plan = model.searchStaffList(predicate);
         int filteredListSize = model.getFilteredStaffList().size();
-        if (filteredListSize == 0) {
-            return new CommandResult(String.format(MESSAGE_NO_STAFF_FOUND, predicate));
-        } else {
-            return new CommandResult(
-                    String.format(MESSAGE_STAFF_LISTED_OVERVIEW, filteredListSize, predicate));
+        String message = filteredListSize == 0
+                ? String.format(MESSAGE_NO_STAFF_FOUND, predicate)
+                : String.format(MESSAGE_STAFF_LISTED_OVERVIEW, filteredListSize, predicate);
+        if (isExplained) {
+            message = String.format(MESSAGE_PLAN, message, plan.explain());
         }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean preview(Model model) {
+        requireNonNull(model);
+        model.previewStaffSearch(predicate);
+        return true;
     }
 
     @Override
@@ -75,13 +103,15 @@ public class SearchStaffCommand extends Command {
         }
 
         SearchStaffCommand otherSearchStaffCommand = (SearchStaffCommand) other;
-        return predicate.equals(otherSearchStaffCommand.predicate);
+        return predicate.equals(otherSearchStaffCommand.predicate)
+                && isExplained == otherSearchStaffCommand.isExplained;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplained", isExplained)
                 .toString();
     }
 }
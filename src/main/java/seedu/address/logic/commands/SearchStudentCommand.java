@@ -20,6 +20,8 @@ import java.util.Map;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
+import seedu.address.model.person.SearchPlan;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.StudentMatchesAttributesPredicate;
 
 /**
@@ -29,6 +31,8 @@ import seedu.address.model.person.StudentMatchesAttributesPredicate;
 public class SearchStudentCommand extends Command {
     public static final String COMMAND_WORD = "search_stu";
 
+    public static final String EXPLAIN_KEYWORD = "explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Searches for all students whose attributes match "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: "
@@ -44,25 +48,49 @@ public class SearchStudentCommand extends Command {
             + PREFIX_ROOM + "ROOM "
             + PREFIX_DESIGNATION + "DESIGNATION\n"
             + "At least one of the parameters must be provided.\n"
-            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "91234567";
+            + "Start with " + EXPLAIN_KEYWORD + " to also show how the search was carried out, and how long it "
+            + "took.\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_PHONE + "91234567\n"
+            + "Example: " + COMMAND_WORD + " " + EXPLAIN_KEYWORD + " "
+            + PREFIX_MATRIC + "A0123456X " + PREFIX_BLOCK + "A";
+
+    public static final String MESSAGE_PLAN = "%1$s\nSearch plan:\n%2$s";
 
     private final StudentMatchesAttributesPredicate predicate;
+    private final boolean isExplained;
 
     public SearchStudentCommand(Map<Prefix, String> searchCriteria) {
+        this(searchCriteria, false);
+    }
+
+    /**
+     * Creates a SearchStudentCommand that searches for students meeting {@code searchCriteria}, and also
+     * shows the plan the search followed if {@code isExplained}.
+     */
+    public SearchStudentCommand(Map<Prefix, String> searchCriteria, boolean isExplained) {
         this.predicate = new StudentMatchesAttributesPredicate(searchCriteria);
+        this.isExplained = isExplained;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredStudentList(predicate);
+        SearchPlan<Student> plan = model.searchStudentList(predicate);
         int filteredListSize = model.getFilteredStudentList().size();
-        if (filteredListSize == 0) {
-            return new CommandResult(String.format(MESSAGE_NO_STUDENT_FOUND, predicate));
-        } else {
-            return new CommandResult(
-                    String.format(MESSAGE_STUDENT_LISTED_OVERVIEW, filteredListSize, predicate));
+        String message = filteredListSize == 0
+                ? String.format(MESSAGE_NO_STUDENT_FOUND, predicate)
+                : String.format(MESSAGE_STUDENT_LISTED_OVERVIEW, filteredListSize, predicate);
+        if (isExplained) {
+            message = String.format(MESSAGE_PLAN, message, plan.explain());
         }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean preview(Model model) {
+        requireNonNull(model);
+        model.previewStudentSearch(predicate);
+        return true;
     }
 
     @Override
@@ -77,13 +105,15 @@ public class SearchStudentCommand extends Command {
         }
 
         SearchStudentCommand otherSearchStudentCommand = (SearchStudentCommand) other;
-        return predicate.equals(otherSearchStudentCommand.predicate);
+        return predicate.equals(otherSearchStudentCommand.predicate)
+                && isExplained == otherSearchStudentCommand.isExplained;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isExplained", isExplained)
                 .toString();
     }
 }
@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Checks the checksums of a JSON data file, by default the one ResiConnect saves to, and that the entries of the
+ * journal kept next to it can be read, and summarises what is damaged.
+ * The check itself is left to the {@link Verifier} the command is given, so that only storage knows the file formats.
+ * Nothing in the file is loaded, so the contacts shown are left as they are.
+ */
+public class VerifyCommand extends Command {
+
+    public static final String COMMAND_WORD = "verify";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Checks a data file for damaged records without "
+            + "loading it, along with the journal of changes saved next to it.\n"
+            + "Parameters: [FILE_PATH]\n"
+            + "Without a file path, checks the file ResiConnect saves to.\n"
+            + "Example: " + COMMAND_WORD + " data/addressbook.json";
+
+    public static final String MESSAGE_RESULT = "Verified %1$s: %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "There is no file at %1$s";
+    public static final String MESSAGE_UNREADABLE = "Verified %1$s: it cannot be read as an address book, so none "
+            + "of it would load: %2$s";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only JSON data files can be verified; %1$s is not one.";
+
+    private final Verifier verifier;
+    private final Path file;
+
+    /**
+     * Creates a VerifyCommand that checks the file ResiConnect saves to with {@code verifier}.
+     */
+    public VerifyCommand(Verifier verifier) {
+        requireNonNull(verifier);
+        this.verifier = verifier;
+        this.file = null;
+    }
+
+    /**
+     * Creates a VerifyCommand that checks the file at {@code file} with {@code verifier}.
+     */
+    public VerifyCommand(Verifier verifier, Path file) {
+        requireNonNull(verifier);
+        requireNonNull(file);
+        this.verifier = verifier;
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Path fileToVerify = Optional.ofNullable(file).orElseGet(model::getAddressBookFilePath);
+        if (!Files.isRegularFile(fileToVerify)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, fileToVerify));
+        }
+
+        Optional<String> summary;
+        try {
+            summary = verifier.verify(fileToVerify);
+        } catch (DataLoadingException dle) {
+            return new CommandResult(String.format(MESSAGE_UNREADABLE, fileToVerify, dle.getCause().getMessage()));
+        }
+        if (summary.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_UNSUPPORTED_FORMAT, fileToVerify));
+        }
+        return new CommandResult(String.format(MESSAGE_RESULT, fileToVerify, summary.get()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof VerifyCommand)) {
+            return false;
+        }
+
+        VerifyCommand otherVerifyCommand = (VerifyCommand) other;
+        return Objects.equals(file, otherVerifyCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+
+    /**
+     * Checks a data file without loading it.
+     */
+    @FunctionalInterface
+    public interface Verifier {
+        /**
+         * Returns a summary of what is damaged in the data file at {@code file}, or {@code Optional.empty()} if the
+         * file is not in a format that can be checked.
+         *
+         * @throws DataLoadingException if the file could not be read, or does not hold an address book.
+         */
+        Optional<String> verify(Path file) throws DataLoadingException;
+    }
+}
@@ -30,9 +30,9 @@ import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventMemberPredicate;
-import seedu.address.model.person.UniqueExternalPartyList;
-import seedu.address.model.person.UniqueStaffList;
-import seedu.address.model.person.UniqueStudentList;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
 
 /**
  * Searches for a member in an event and lists the matching members under the event.
@@ -114,43 +114,41 @@ public class SearchEventMemberCommand extends Command {
         Event eventToSearch = lastShownList.get(targetIndex.getZeroBased());
         String memberType = predicate.getMemberType();
         Map<Prefix, String> searchCriteria = predicate.getSearchCriteria();
-        UniqueStudentList students = new UniqueStudentList();
-        UniqueStaffList staffs = new UniqueStaffList();
-        UniqueExternalPartyList externalParties = new UniqueExternalPartyList();
+        List<Student> students = List.of();
+        List<Staff> staffs = List.of();
+        List<ExternalParty> externalParties = List.of();
 
         switch (memberType) {
         case "stu":
-            students.setStudents(eventToSearch.getStudents().stream()
+            students = eventToSearch.getStudents().stream()
                     .filter(new EventMemberPredicate(memberType, searchCriteria))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList());
             break;
         case "staff":
-            staffs.setStaffs(eventToSearch.getStaff().stream()
+            staffs = eventToSearch.getStaff().stream()
                     .filter(new EventMemberPredicate(memberType, searchCriteria))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList());
             break;
         case "ext":
-            externalParties.setExternalParties(eventToSearch.getExternalParties().stream()
+            externalParties = eventToSearch.getExternalParties().stream()
                     .filter(new EventMemberPredicate(memberType, searchCriteria))
-                    .collect(Collectors.toList()));
+                    .collect(Collectors.toList());
             break;
         default:
             throw new CommandException(Messages.MESSAGE_INVALID_EVENT_MEMBER_TYPE);
         }
 
-        if (students.asUnmodifiableObservableList().isEmpty() && staffs.asUnmodifiableObservableList().isEmpty()
-                && externalParties.asUnmodifiableObservableList().isEmpty()) {
+        if (students.isEmpty() && staffs.isEmpty() && externalParties.isEmpty()) {
             return new CommandResult(MESSAGE_NO_MATCH);
         }
 
         // Create a new Event with all the matching members, and update the model to display it.
-        Event updatedEvent = new Event(eventToSearch.getEventName(), eventToSearch.getEventStartTime(),
-                eventToSearch.getEventEndTime(), students, staffs, externalParties);
+        Event updatedEvent = new Event(eventToSearch.getId(), eventToSearch.getEventName(),
+                eventToSearch.getEventStartTime(), eventToSearch.getEventEndTime(), students, staffs, externalParties);
 
         model.setSelectedEventDetail(updatedEvent, targetIndex);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, students.asUnmodifiableObservableList().size()
-                + staffs.asUnmodifiableObservableList().size()
-                + externalParties.asUnmodifiableObservableList().size()));
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                students.size() + staffs.size() + externalParties.size()));
     }
 
     @Override
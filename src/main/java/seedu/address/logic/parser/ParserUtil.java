@@ -2,6 +2,9 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -36,6 +39,7 @@ public class ParserUtil {
             "Event start time is invalid! Please use the format: yyyy-MM-dd HH:mm (e.g., 2025-06-15 18:00)";
     public static final String MESSAGE_INVALID_EVENT_END_TIME =
             "Event end time is invalid! Please use the format: yyyy-MM-dd HH:mm (e.g., 2025-06-15 18:00)";
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path: %1$s";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -289,4 +293,20 @@ public class ParserUtil {
         }
         return new Matric(matric);
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is not a valid path on this system.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        try {
+            return Paths.get(trimmedFilePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmedFilePath), ipe);
+        }
+    }
 }
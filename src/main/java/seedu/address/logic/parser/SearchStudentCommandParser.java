@@ -56,12 +56,16 @@ public class SearchStudentCommandParser implements Parser<SearchStudentCommand>
             }
         }
 
+        // An explain keyword before the prefixes asks for the search plan rather than being searched for
+        boolean isExplained = argMultimap.getPreamble().equalsIgnoreCase(SearchStudentCommand.EXPLAIN_KEYWORD);
+
         // Create a map of prefixes to their corresponding values
         Map<Prefix, String> searchCriteria = argMultimap.getPrefixValueMap().entrySet().stream()
                 .filter(entry -> entry.getKey() != null && !entry.getValue().isBlank())
+                .filter(entry -> !(isExplained && entry.getKey().getPrefix().isEmpty()))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
-        return new SearchStudentCommand(searchCriteria);
+        return new SearchStudentCommand(searchCriteria, isExplained);
     }
 
     /**
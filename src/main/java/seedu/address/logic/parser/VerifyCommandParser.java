@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.VerifyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new VerifyCommand object
+ */
+public class VerifyCommandParser implements Parser<VerifyCommand> {
+
+    private final VerifyCommand.Verifier verifier;
+
+    /**
+     * Creates a VerifyCommandParser whose commands check files with {@code verifier}.
+     */
+    public VerifyCommandParser(VerifyCommand.Verifier verifier) {
+        requireNonNull(verifier);
+        this.verifier = verifier;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the VerifyCommand
+     * and returns a VerifyCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public VerifyCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new VerifyCommand(verifier);
+        }
+
+        return new VerifyCommand(verifier, ParserUtil.parseFilePath(trimmedArgs));
+    }
+}
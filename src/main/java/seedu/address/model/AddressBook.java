@@ -3,7 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
@@ -11,12 +15,18 @@ import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.ExternalPartyMatchesAttributesPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchPlan;
 import seedu.address.model.person.Staff;
+import seedu.address.model.person.StaffMatchesAttributesPredicate;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.StudentMatchesAttributesPredicate;
 import seedu.address.model.person.UniqueExternalPartyList;
 import seedu.address.model.person.UniqueStaffList;
 import seedu.address.model.person.UniqueStudentList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Wraps all data at the address-book level
@@ -29,6 +39,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueStaffList staff;
     private final UniqueStudentList students;
     private final UniqueExternalPartyList externalParty;
+    private final ContactRegistry contacts;
+    private final ChangeLog changeLog;
+    private long personModificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -38,10 +51,12 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        events = new UniqueEventList();
+        changeLog = new ChangeLog();
+        events = new UniqueEventList(changeLog);
         staff = new UniqueStaffList();
         externalParty = new UniqueExternalPartyList();
         students = new UniqueStudentList();
+        contacts = new ContactRegistry();
     }
 
     public AddressBook() {}
@@ -54,6 +69,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code source} that later changes to {@code source} do not affect.
+     * Persons are immutable, so the copy shares them, but each event is copied along with its member lists.
+     */
+    public static AddressBook copyOf(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        AddressBook copy = new AddressBook();
+        copy.setStaffs(source.getStaffList());
+        copy.setExternalParties(source.getExternalPartyList());
+        copy.setStudents(source.getStudentList());
+        copy.setEvents(source.getEventList().stream().map(Event::copy).toList());
+        copy.changeLog.continueFrom(source.getChangeLog());
+        return copy;
+    }
+
     //// list overwrite operations
 
     /**
@@ -62,6 +92,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setStaffs(List<Staff> staff) {
         this.staff.setStaffs(staff);
+        contacts.replaceAll(staff, ListType.STAFF);
+        changeLog.recordAllChanged();
+        personModificationCount++;
     }
 
     /**
@@ -70,6 +103,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setExternalParties(List<ExternalParty> externalParty) {
         this.externalParty.setExternalParties(externalParty);
+        contacts.replaceAll(externalParty, ListType.EXTERNAL);
+        changeLog.recordAllChanged();
+        personModificationCount++;
     }
 
     /**
@@ -78,6 +114,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
+        contacts.replaceAll(students, ListType.STUDENT);
+        changeLog.recordAllChanged();
+        personModificationCount++;
     }
 
     /**
@@ -90,6 +129,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         setStaffs(newData.getStaffList());
         setExternalParties(newData.getExternalPartyList());
         setStudents(newData.getStudentList());
+        changeLog.continueFrom(newData.getChangeLog());
     }
 
     //// person-level operations
@@ -98,10 +138,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Returns true if any of the staff, students or external parties have this phone or this email.
      */
     boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
+        return getContactOwner(phone, email).isPresent();
+    }
+
+    /**
+     * Returns the roster of the staff, student or external party that has this phone, or failing that, this email.
+     */
+    public Optional<ListType> getContactOwner(Phone phone, Email email) {
         requireAllNonNull(phone, email);
-        return staff.hasPersonWithPhoneOrEmail(phone, email)
-                || students.hasPersonWithPhoneOrEmail(phone, email)
-                || externalParty.hasPersonWithPhoneOrEmail(phone, email);
+        return contacts.getOwner(phone, email);
+    }
+
+    /**
+     * Returns the staff, student or external party with the given {@code id}, if there is one.
+     */
+    @Override
+    public Optional<Person> findPersonById(long id) {
+        Optional<Person> person = students.findById(id).map(Person.class::cast);
+        if (person.isEmpty()) {
+            person = staff.findById(id).map(Person.class::cast);
+        }
+        if (person.isEmpty()) {
+            person = externalParty.findById(id).map(Person.class::cast);
+        }
+        return person;
     }
 
     /**
@@ -134,6 +194,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addStaff(Staff s) {
         this.staff.add(s);
+        contacts.register(s, ListType.STAFF);
+        changeLog.recordChanged(s.getId());
+        personModificationCount++;
     }
 
     /**
@@ -142,6 +205,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addExternalParty(ExternalParty e) {
         this.externalParty.add(e);
+        contacts.register(e, ListType.EXTERNAL);
+        changeLog.recordChanged(e.getId());
+        personModificationCount++;
     }
 
     /**
@@ -150,38 +216,94 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addStudent(Student s) {
         this.students.add(s);
+        contacts.register(s, ListType.STUDENT);
+        changeLog.recordChanged(s.getId());
+        personModificationCount++;
+    }
+
+    /**
+     * Adds the given staff, students and external parties to the address book as a single change to each roster.
+     * None of them may share a phone or email with a person already in the address book or with each other, nor may
+     * two students share a matric. If any does, a {@code DuplicatePersonException} is thrown and the address book is
+     * left unchanged.
+     */
+    public void addPersons(List<Staff> newStaff, List<Student> newStudents, List<ExternalParty> newExternalParties) {
+        requireAllNonNull(newStaff, newStudents, newExternalParties);
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        List<Person> duplicates = new ArrayList<>();
+        for (List<? extends Person> persons : List.of(newStaff, newStudents, newExternalParties)) {
+            for (Person person : persons) {
+                boolean isNewPhone = phones.add(person.getPhone());
+                boolean isNewEmail = emails.add(person.getEmail());
+                if (!isNewPhone || !isNewEmail || hasPersonWithPhoneOrEmail(person.getPhone(), person.getEmail())) {
+                    duplicates.add(person);
+                }
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        // Only a matric can still clash, so students go first and the other rosters cannot fail after them
+        students.addAll(newStudents);
+        staff.addAll(newStaff);
+        externalParty.addAll(newExternalParties);
+        newStaff.forEach(s -> contacts.register(s, ListType.STAFF));
+        newStudents.forEach(s -> contacts.register(s, ListType.STUDENT));
+        newExternalParties.forEach(e -> contacts.register(e, ListType.EXTERNAL));
+        for (List<? extends Person> persons : List.of(newStaff, newStudents, newExternalParties)) {
+            persons.forEach(person -> changeLog.recordChanged(person.getId()));
+        }
+        personModificationCount++;
     }
 
     /**
      * Replaces the given staff {@code target} in the list with {@code editedStaff}.
      * {@code target} must exist in the address book.
      * The staff identity of {@code editedStaff} must not be the same as another existing staff in the address book.
+     * The edited staff keeps the ID of {@code target}.
      */
     public void setStaff(Staff target, Staff editedStaff) {
         requireNonNull(editedStaff);
-        this.staff.setStaff(target, editedStaff);
+        Staff stored = this.staff.setStaff(target, editedStaff);
+        contacts.unregister(target, ListType.STAFF);
+        contacts.register(stored, ListType.STAFF);
+        this.events.setStaffInAllEvents(target, stored);
+        changeLog.recordChanged(stored.getId());
+        personModificationCount++;
     }
 
     /**
      * Replaces the given external party {@code target} in the list with {@code editedStaff}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedExternalParty} must not be the same as another existing external party
-     * in the address book.
+     * in the address book. The edited external party keeps the ID of {@code target}.
      */
     public void setExternalParty(ExternalParty target, ExternalParty editedExternalParty) {
         requireNonNull(editedExternalParty);
-        this.externalParty.setExternalParty(target, editedExternalParty);
+        ExternalParty stored = this.externalParty.setExternalParty(target, editedExternalParty);
+        contacts.unregister(target, ListType.EXTERNAL);
+        contacts.register(stored, ListType.EXTERNAL);
+        this.events.setExternalPartyInAllEvents(target, stored);
+        changeLog.recordChanged(stored.getId());
+        personModificationCount++;
     }
 
     /**
      * Replaces the given student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the address book.
      * The student identity of {@code editedStudent} must not be the same as another existing student in the address
-     * book.
+     * book. The edited student keeps the ID of {@code target}.
      */
     public void setStudent(Student target, Student editedStudent) {
         requireNonNull(editedStudent);
-        this.students.setStudent(target, editedStudent);
+        Student stored = this.students.setStudent(target, editedStudent);
+        contacts.unregister(target, ListType.STUDENT);
+        contacts.register(stored, ListType.STUDENT);
+        this.events.setStudentInAllEvents(target, stored);
+        changeLog.recordChanged(stored.getId());
+        personModificationCount++;
     }
 
     //// Event level operations
@@ -201,6 +323,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return events.contains(event);
     }
 
+    /**
+     * Returns the event with the given {@code id}, if there is one.
+     */
+    @Override
+    public Optional<Event> findEventById(long id) {
+        return events.findById(id);
+    }
+
     public void addEvent(Event event) {
         events.add(event);
     }
@@ -214,6 +344,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         events.remove(key);
     }
 
+    /**
+     * Returns the events that {@code student} is a member of.
+     */
+    public List<Event> getEventsOfStudent(Student student) {
+        return events.getEventsOfStudent(student);
+    }
+
+    /**
+     * Returns the events that {@code staff} is a member of.
+     */
+    public List<Event> getEventsOfStaff(Staff staff) {
+        return events.getEventsOfStaff(staff);
+    }
+
+    /**
+     * Returns the events that {@code externalParty} is a member of.
+     */
+    public List<Event> getEventsOfExternalParty(ExternalParty externalParty) {
+        return events.getEventsOfExternalParty(externalParty);
+    }
+
+    /**
+     * Returns a number that changes whenever the contents of this address book change, including the members of
+     * its events. Comparing two readings tells whether anything changed in between.
+     */
+    public long getModificationCount() {
+        return personModificationCount + events.getModificationCount();
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+
     @Override
     public ObservableList<Event> getEventList() {
         return events.asUnmodifiableObservableList();
@@ -224,8 +388,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeStaff(Staff key) {
-        this.staff.remove(key);
+        Staff removed = this.staff.remove(key);
+        contacts.unregister(key, ListType.STAFF);
+        changeLog.recordChanged(removed.getId());
         this.events.removeStaffFromAllEvents(key);
+        personModificationCount++;
     }
 
     /**
@@ -233,8 +400,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeExternalParty(ExternalParty key) {
-        this.externalParty.remove(key);
+        ExternalParty removed = this.externalParty.remove(key);
+        contacts.unregister(key, ListType.EXTERNAL);
+        changeLog.recordChanged(removed.getId());
         this.events.removeExternalPartyFromAllEvents(key);
+        personModificationCount++;
     }
 
     /**
@@ -242,8 +412,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removeStudent(Student key) {
-        this.students.remove(key);
+        Student removed = this.students.remove(key);
+        contacts.unregister(key, ListType.STUDENT);
+        changeLog.recordChanged(removed.getId());
         this.events.removeStudentFromAllEvents(key);
+        personModificationCount++;
     }
 
     //// util methods
@@ -263,6 +436,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return this.students.asUnmodifiableObservableList();
     }
 
+    /**
+     * Searches the students now in the address book for those matching {@code predicate} through the indexes of the
+     * student list, and returns the plan the search followed.
+     */
+    public SearchPlan<Student> searchStudents(StudentMatchesAttributesPredicate predicate) {
+        return students.search(predicate);
+    }
+
+    /**
+     * Searches the staff now in the address book for those matching {@code predicate} through the indexes of the
+     * staff list, and returns the plan the search followed.
+     */
+    public SearchPlan<Staff> searchStaff(StaffMatchesAttributesPredicate predicate) {
+        return staff.search(predicate);
+    }
+
+    /**
+     * Searches the external parties now in the address book for those matching {@code predicate} through the indexes
+     * of the external party list, and returns the plan the search followed.
+     */
+    public SearchPlan<ExternalParty> searchExternalParties(ExternalPartyMatchesAttributesPredicate predicate) {
+        return externalParty.search(predicate);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+
+/**
+ * An unmodifiable copy of an address book as it was at one moment, cheap enough to take on every change.
+ * Persons are immutable, so the copy shares them, and only the events, whose members can change, are copied.
+ * Unlike {@link AddressBook#copyOf(ReadOnlyAddressBook)}, nothing is checked for duplicates or indexed, as the address
+ * book copied is already valid. Records are looked up by ID through maps built when first needed, which is only by
+ * the thread the copy is handed to.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Staff> staff;
+    private final ObservableList<Student> students;
+    private final ObservableList<ExternalParty> externalParties;
+    private final ObservableList<Event> events;
+    private final ChangeLog changeLog;
+
+    private Map<Long, Person> personsById;
+    private Map<Long, Event> eventsById;
+
+    private AddressBookSnapshot(ReadOnlyAddressBook source, ChangeLog changeLog) {
+        staff = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(source.getStaffList()));
+        students = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getStudentList()));
+        externalParties = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getExternalPartyList()));
+        events = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                source.getEventList().stream().map(Event::copy).toList()));
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Returns a snapshot of {@code source} whose change log only knows the changes since {@code since}, or every
+     * change {@code source} knows if {@code since} is null.
+     *
+     * @see ChangeLog#copySince(ChangeLog.Mark)
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook source, ChangeLog.Mark since) {
+        requireNonNull(source);
+        return new AddressBookSnapshot(source, source.getChangeLog().copySince(since));
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return events;
+    }
+
+    @Override
+    public ObservableList<Staff> getStaffList() {
+        return staff;
+    }
+
+    @Override
+    public ObservableList<ExternalParty> getExternalPartyList() {
+        return externalParties;
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return students;
+    }
+
+    @Override
+    public synchronized Optional<Person> findPersonById(long id) {
+        if (personsById == null) {
+            personsById = new HashMap<>();
+            staff.forEach(person -> personsById.put(person.getId(), person));
+            students.forEach(person -> personsById.put(person.getId(), person));
+            externalParties.forEach(person -> personsById.put(person.getId(), person));
+        }
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    @Override
+    public synchronized Optional<Event> findEventById(long id) {
+        if (eventsById == null) {
+            eventsById = new HashMap<>();
+            events.forEach(event -> eventsById.put(event.getId(), event));
+        }
+        return Optional.ofNullable(eventsById.get(id));
+    }
+
+    @Override
+    public ChangeLog getChangeLog() {
+        return changeLog;
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records which persons and events of an address book were added, edited or removed, and in what order, so that a
+ * storage can write only the records that changed since it last saved instead of comparing every record.
+ * <p>
+ * Every change is numbered from a sequence shared by all logs. A {@link Mark} names a point in the history of a log.
+ * A log copied from another continues its history, so marks taken in the other log up to the copy still apply.
+ * Replacing every record at once, as when a roster is replaced, forgets which records changed before.
+ */
+public class ChangeLog {
+
+    /** How many logs back a copy remembers, beyond which marks from older logs are no longer recognised. */
+    private static final int MAX_ANCESTORS = 8;
+
+    private static final AtomicLong lastSequence = new AtomicLong();
+
+    private Object origin;
+    private List<Mark> ancestors;
+    private long forkSequence;
+    private long sequence;
+    private long resetSequence;
+    private final Map<Long, Long> sequenceById = new HashMap<>();
+    private final NavigableMap<Long, Long> idBySequence = new TreeMap<>();
+
+    /**
+     * Creates a log of an address book with no known history.
+     */
+    public ChangeLog() {
+        origin = new Object();
+        ancestors = List.of();
+        sequence = lastSequence.incrementAndGet();
+        forkSequence = sequence;
+        resetSequence = sequence;
+    }
+
+    /**
+     * Returns a copy of this log, which continues its history without affecting it.
+     */
+    public ChangeLog copy() {
+        ChangeLog copy = new ChangeLog();
+        copy.continueFrom(this);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of this log, which continues its history without affecting it, but only knows the changes since
+     * {@code since}. The copy costs as much as those changes, rather than every change this log knows, and can tell
+     * what changed since any mark from {@code since} on. With no {@code since}, the copy knows every change this log
+     * does, as with {@link #copy()}.
+     */
+    public ChangeLog copySince(Mark since) {
+        ChangeLog copy = new ChangeLog();
+        if (since == null) {
+            copy.continueFrom(this);
+        } else if (isInHistory(since) && since.sequence >= resetSequence) {
+            copy.continueFrom(this, since.sequence, idBySequence.tailMap(since.sequence, false));
+        } else {
+            copy.continueFrom(this, sequence, Collections.emptySortedMap());
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces this log with a continuation of the history of {@code other}, for an address book that has just been
+     * made equal to the one {@code other} logs.
+     */
+    void continueFrom(ChangeLog other) {
+        requireNonNull(other);
+        continueFrom(other, other.resetSequence, other.idBySequence);
+    }
+
+    /**
+     * Replaces this log with a continuation of the history of {@code other} that only knows the {@code changes} since
+     * {@code fromSequence}.
+     */
+    private void continueFrom(ChangeLog other, long fromSequence, SortedMap<Long, Long> changes) {
+        List<Mark> otherAncestors = new ArrayList<>();
+        otherAncestors.add(other.mark());
+        otherAncestors.addAll(other.ancestors);
+        origin = new Object();
+        ancestors = List.copyOf(otherAncestors.subList(0, Math.min(otherAncestors.size(), MAX_ANCESTORS)));
+        sequence = other.sequence;
+        forkSequence = other.sequence;
+        resetSequence = fromSequence;
+        sequenceById.clear();
+        idBySequence.clear();
+        idBySequence.putAll(changes);
+        changes.forEach((changeSequence, id) -> sequenceById.put(id, changeSequence));
+    }
+
+    /**
+     * Records that the person or event with the given {@code id} was added, edited or removed.
+     */
+    public void recordChanged(long id) {
+        long changeSequence = lastSequence.incrementAndGet();
+        Long previous = sequenceById.put(id, changeSequence);
+        if (previous != null) {
+            idBySequence.remove(previous);
+        }
+        idBySequence.put(changeSequence, id);
+        sequence = changeSequence;
+    }
+
+    /**
+     * Records that every record may have changed.
+     */
+    public void recordAllChanged() {
+        sequence = lastSequence.incrementAndGet();
+        resetSequence = sequence;
+        sequenceById.clear();
+        idBySequence.clear();
+    }
+
+    /**
+     * Returns a mark of the address book as it is now.
+     */
+    public Mark mark() {
+        // A copy that has not changed is the address book it was copied from, as it was then
+        return sequence == forkSequence && !ancestors.isEmpty() ? ancestors.get(0) : new Mark(origin, sequence);
+    }
+
+    /**
+     * Returns the IDs of the persons and events added, edited or removed since {@code mark}, in the order they last
+     * changed, or nothing if that is not known, such as when {@code mark} is from the history of another address
+     * book or every record was replaced since.
+     */
+    public Optional<List<Long>> getChangedIdsSince(Mark mark) {
+        requireNonNull(mark);
+        if (!isInHistory(mark) || mark.sequence < resetSequence) {
+            return Optional.empty();
+        }
+        return Optional.of(new ArrayList<>(idBySequence.tailMap(mark.sequence, false).values()));
+    }
+
+    private boolean isInHistory(Mark mark) {
+        if (mark.origin == origin) {
+            return mark.sequence <= sequence;
+        }
+        return ancestors.stream().anyMatch(ancestor -> ancestor.origin == mark.origin
+                && mark.sequence <= ancestor.sequence);
+    }
+
+    /**
+     * A point in the history of a log.
+     */
+    public static class Mark {
+        private final Object origin;
+        private final long sequence;
+
+        private Mark(Object origin, long sequence) {
+            this.origin = origin;
+            this.sequence = sequence;
+        }
+    }
+}
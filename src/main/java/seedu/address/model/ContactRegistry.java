@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Maps every phone and email in the address book to the rosters that hold it, in the order they registered it.
+ * When two rosters share a contact, the roster registered first owns it, and the other takes over once the first
+ * unregisters it, so that a contact stays known for as long as any roster holds it.
+ */
+class ContactRegistry {
+
+    private final Map<Phone, List<ListType>> phoneOwners = new HashMap<>();
+    private final Map<Email, List<ListType>> emailOwners = new HashMap<>();
+
+    /**
+     * Records {@code owner} as a roster holding the phone and email of {@code person}.
+     */
+    void register(Person person, ListType owner) {
+        requireAllNonNull(person, owner);
+        phoneOwners.computeIfAbsent(person.getPhone(), unused -> new ArrayList<>(1)).add(owner);
+        emailOwners.computeIfAbsent(person.getEmail(), unused -> new ArrayList<>(1)).add(owner);
+    }
+
+    /**
+     * Records that {@code owner} no longer holds the phone and email of {@code person}. They are forgotten once no
+     * roster holds them.
+     */
+    void unregister(Person person, ListType owner) {
+        requireAllNonNull(person, owner);
+        removeOwner(phoneOwners, person.getPhone(), owner);
+        removeOwner(emailOwners, person.getEmail(), owner);
+    }
+
+    /**
+     * Replaces every contact held by {@code owner} with those of {@code persons}.
+     */
+    void replaceAll(List<? extends Person> persons, ListType owner) {
+        requireAllNonNull(persons, owner);
+        removeOwnerEverywhere(phoneOwners, owner);
+        removeOwnerEverywhere(emailOwners, owner);
+        persons.forEach(person -> register(person, owner));
+    }
+
+    /**
+     * Returns the roster owning {@code phone}, or failing that, the roster owning {@code email}.
+     */
+    Optional<ListType> getOwner(Phone phone, Email email) {
+        requireAllNonNull(phone, email);
+        List<ListType> owners = phoneOwners.get(phone);
+        if (owners == null) {
+            owners = emailOwners.get(email);
+        }
+        return owners == null ? Optional.empty() : Optional.of(owners.get(0));
+    }
+
+    private static <K> void removeOwner(Map<K, List<ListType>> owners, K key, ListType owner) {
+        List<ListType> keyOwners = owners.get(key);
+        if (keyOwners != null && keyOwners.remove(owner) && keyOwners.isEmpty()) {
+            owners.remove(key);
+        }
+    }
+
+    private static <K> void removeOwnerEverywhere(Map<K, List<ListType>> owners, ListType owner) {
+        owners.values().removeIf(keyOwners -> {
+            keyOwners.removeIf(owner::equals);
+            return keyOwners.isEmpty();
+        });
+    }
+}
@@ -0,0 +1,217 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * The rows of a list shown to the user: those meeting a predicate, in the order of the list, kept up to date as the
+ * list changes. Unlike a {@code FilteredList}, it can be given the rows meeting its predicate directly, as a search
+ * through indexes finds them, so that showing them does not test every row of the list.
+ * <p>
+ * Rows added to or replaced in the list are tested against the predicate as they change, and rows removed are dropped.
+ * Only if a row comes to meet the predicate away from the end of the list, where its place among the rows shown is
+ * not known, is every row of the list tested again.
+ * <p>
+ * Matches can also be shown as a preview, which the next predicate or matches set replace, and which can be cleared to
+ * show the rows shown before it again.
+ */
+class DisplayedList<T> {
+
+    private final ObservableList<T> source;
+    private final ObservableList<T> shown = FXCollections.observableArrayList();
+    private final ObservableList<T> unmodifiableShown = FXCollections.unmodifiableObservableList(shown);
+    private Predicate<? super T> predicate = unused -> true;
+    /** Whether the rows shown are the matches of a search, which the next search may narrow. */
+    private boolean isShowingMatches = false;
+    /** The predicate of the matches previewed, or null if no preview is shown. */
+    private Predicate<? super T> previewPredicate;
+    /** The rows shown before the preview, to show again when it is cleared. */
+    private List<T> rowsBeforePreview;
+    /** Whether the list changed during the preview, so that the rows shown before it may be out of date. */
+    private boolean isChangedDuringPreview;
+
+    /**
+     * Creates a list showing every row of {@code source}.
+     */
+    DisplayedList(ObservableList<T> source) {
+        requireNonNull(source);
+        this.source = source;
+        shown.setAll(source);
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Returns the rows shown as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableShown;
+    }
+
+    /**
+     * Shows the rows of the list meeting {@code predicate}, testing every row.
+     */
+    void setPredicate(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        dropPreview();
+        this.predicate = predicate;
+        isShowingMatches = false;
+        refilter();
+    }
+
+    /**
+     * Shows {@code matches}, which must be the rows of the list meeting {@code predicate} in the order of the list,
+     * without testing any row. If the rows shown are the matches of a search and {@code matches} are among them, as
+     * when a search is narrowed, only the other rows shown are removed.
+     */
+    void setMatches(List<T> matches, Predicate<? super T> predicate) {
+        requireAllNonNull(matches, predicate);
+        boolean isNarrowed = (isShowingMatches || isPreviewing()) && isAmongShown(matches);
+        dropPreview();
+        this.predicate = predicate;
+        isShowingMatches = true;
+        show(matches, isNarrowed);
+    }
+
+    /**
+     * Shows {@code matches}, which must be the rows of the list meeting {@code predicate} in the order of the list, as
+     * {@link #setMatches(List, Predicate)} does, until the preview is cleared or replaced. If a preview is shown and
+     * {@code matches} are among its rows, only the other rows shown are removed.
+     */
+    void previewMatches(List<T> matches, Predicate<? super T> predicate) {
+        requireAllNonNull(matches, predicate);
+        boolean isNarrowed = (isShowingMatches || isPreviewing()) && isAmongShown(matches);
+        if (!isPreviewing()) {
+            rowsBeforePreview = new ArrayList<>(shown);
+            isChangedDuringPreview = false;
+        }
+        previewPredicate = predicate;
+        show(matches, isNarrowed);
+    }
+
+    /**
+     * Shows the rows shown before the preview again, if a preview is shown.
+     */
+    void clearPreview() {
+        if (!isPreviewing()) {
+            return;
+        }
+        List<T> rows = rowsBeforePreview;
+        boolean isRefilterNeeded = isChangedDuringPreview;
+        dropPreview();
+        if (isRefilterNeeded) {
+            refilter();
+        } else {
+            shown.setAll(rows);
+        }
+    }
+
+    private boolean isPreviewing() {
+        return previewPredicate != null;
+    }
+
+    /**
+     * Forgets the preview shown, if any, leaving its rows shown.
+     */
+    private void dropPreview() {
+        previewPredicate = null;
+        rowsBeforePreview = null;
+        isChangedDuringPreview = false;
+    }
+
+    /**
+     * Shows {@code matches}, by removing the other rows shown if {@code isNarrowed}, as {@code matches} are then
+     * among them.
+     */
+    private void show(List<T> matches, boolean isNarrowed) {
+        if (isNarrowed) {
+            Set<T> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+            kept.addAll(matches);
+            shown.retainAll(kept);
+        } else {
+            shown.setAll(matches);
+        }
+    }
+
+    /**
+     * Returns the predicate the rows shown meet, that of the preview if one is shown.
+     */
+    private Predicate<? super T> shownPredicate() {
+        return isPreviewing() ? previewPredicate : predicate;
+    }
+
+    /**
+     * Returns true if {@code rows} are among the rows shown, in the same order.
+     */
+    private boolean isAmongShown(List<T> rows) {
+        if (rows.size() > shown.size()) {
+            return false;
+        }
+        int found = 0;
+        for (int i = 0; i < shown.size() && found < rows.size(); i++) {
+            if (shown.get(i) == rows.get(found)) {
+                found++;
+            }
+        }
+        return found == rows.size();
+    }
+
+    private void refilter() {
+        shown.setAll(source.stream().filter(shownPredicate()).collect(Collectors.toList()));
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends T> change) {
+        isChangedDuringPreview = isPreviewing();
+        boolean isRefilterNeeded = false;
+        while (change.next() && !isRefilterNeeded) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                isRefilterNeeded = true;
+                continue;
+            }
+            // The rows shown from a run of the list are next to each other, so rows replacing them take their place
+            int place = -1;
+            for (T removed : change.getRemoved()) {
+                int index = indexOfSame(removed);
+                if (index >= 0) {
+                    place = place < 0 ? index : place;
+                    shown.remove(index);
+                }
+            }
+            List<T> added = change.getAddedSubList().stream().filter(shownPredicate()).collect(Collectors.toList());
+            if (added.isEmpty()) {
+                continue;
+            }
+            if (place < 0 && change.getTo() == source.size()) {
+                place = shown.size();
+            }
+            if (place < 0) {
+                isRefilterNeeded = true;
+            } else {
+                shown.addAll(place, added);
+            }
+        }
+        if (isRefilterNeeded) {
+            refilter();
+        }
+    }
+
+    private int indexOfSame(T row) {
+        for (int i = 0; i < shown.size(); i++) {
+            if (shown.get(i) == row) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
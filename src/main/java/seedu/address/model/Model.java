@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
@@ -10,9 +12,14 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.ExternalPartyMatchesAttributesPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchPlan;
 import seedu.address.model.person.Staff;
+import seedu.address.model.person.StaffMatchesAttributesPredicate;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.StudentMatchesAttributesPredicate;
 
 /**
  * The API of the Model component.
@@ -63,11 +70,31 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a number that changes whenever the AddressBook changes, including the members of its events.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if any of the staff, students or external parties have this phone or this email.
      */
     boolean hasPersonWithPhoneOrEmail(Phone phone, Email email);
 
+    /**
+     * Returns the roster of the staff, student or external party that has this phone, or failing that, this email.
+     */
+    Optional<ListType> getContactOwner(Phone phone, Email email);
+
+    /**
+     * Returns the staff, student or external party with the given {@code id}, if there is one.
+     */
+    Optional<Person> findPersonById(long id);
+
+    /**
+     * Returns the event with the given {@code id}, if there is one.
+     */
+    Optional<Event> findEventById(long id);
+
     /**
      * Returns true if a staff with the same identity as {@code staff} exists in the address book.
      */
@@ -119,6 +146,13 @@ public interface Model {
      */
     void addStudent(Student student);
 
+    /**
+     * Adds the given staff, students and external parties in a single change to each roster.
+     * None of them may share a phone or email with a person in the address book or with each other, nor may two
+     * students share a matric.
+     */
+    void addPersons(List<Staff> staff, List<Student> students, List<ExternalParty> externalParties);
+
     /**
      * Replaces the given staff {@code target} with {@code editedStaff}.
      * {@code target} must exist in the address book.
@@ -152,6 +186,15 @@ public interface Model {
     /** Deletes the given event. */
     void deleteEvent(Event target);
 
+    /** Returns the events that {@code student} is a member of. */
+    List<Event> getEventsOfStudent(Student student);
+
+    /** Returns the events that {@code staff} is a member of. */
+    List<Event> getEventsOfStaff(Staff staff);
+
+    /** Returns the events that {@code externalParty} is a member of. */
+    List<Event> getEventsOfExternalParty(ExternalParty externalParty);
+
     /** Returns the list of events, filtered by the current criteria. */
     ObservableList<Event> getFilteredEventList();
 
@@ -176,6 +219,13 @@ public interface Model {
      */
     void updateFilteredStaffList(Predicate<Staff> predicate);
 
+    /**
+     * Updates the filter of the filtered staff list to the staff matching {@code predicate}, found through the
+     * indexes of the staff list instead of by testing every staff, and returns the plan the search followed.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    SearchPlan<Staff> searchStaffList(StaffMatchesAttributesPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered external party list */
     ObservableList<ExternalParty> getFilteredExternalPartyList();
 
@@ -188,6 +238,14 @@ public interface Model {
      */
     void updateFilteredExternalPartyList(Predicate<ExternalParty> predicate);
 
+    /**
+     * Updates the filter of the filtered external party list to the external parties matching {@code predicate},
+     * found through the indexes of the external party list instead of by testing every external party, and returns
+     * the plan the search followed.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    SearchPlan<ExternalParty> searchExternalPartyList(ExternalPartyMatchesAttributesPredicate predicate);
+
     /** Returns an unmodifiable view of the filtered student list */
     ObservableList<Student> getFilteredStudentList();
 
@@ -200,6 +258,40 @@ public interface Model {
      */
     void updateFilteredStudentList(Predicate<Student> predicate);
 
+    /**
+     * Updates the filter of the filtered student list to the students matching {@code predicate}, found through the
+     * indexes of the student list instead of by testing every student, and returns the plan the search followed.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    SearchPlan<Student> searchStudentList(StudentMatchesAttributesPredicate predicate);
+
+    /**
+     * Shows the students matching {@code predicate} in the filtered student list until the preview is cleared, as
+     * {@link #searchStudentList(StudentMatchesAttributesPredicate)} would, but without changing the list type.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void previewStudentSearch(StudentMatchesAttributesPredicate predicate);
+
+    /**
+     * Shows the staff matching {@code predicate} in the filtered staff list until the preview is cleared, as
+     * {@link #searchStaffList(StaffMatchesAttributesPredicate)} would, but without changing the list type.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void previewStaffSearch(StaffMatchesAttributesPredicate predicate);
+
+    /**
+     * Shows the external parties matching {@code predicate} in the filtered external party list until the preview
+     * is cleared, as {@link #searchExternalPartyList(ExternalPartyMatchesAttributesPredicate)} would, but without
+     * changing the list type.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void previewExternalPartySearch(ExternalPartyMatchesAttributesPredicate predicate);
+
+    /**
+     * Shows the filtered lists as they were before any search was previewed.
+     */
+    void clearPreview();
+
     /**
      * Gets the ObjectProperty of list (person, staff, etc) that should be displayed now.
      */
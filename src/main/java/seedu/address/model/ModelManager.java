@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -17,9 +19,14 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.ExternalPartyMatchesAttributesPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchPlan;
 import seedu.address.model.person.Staff;
+import seedu.address.model.person.StaffMatchesAttributesPredicate;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.StudentMatchesAttributesPredicate;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -30,10 +37,10 @@ public class ModelManager implements Model {
     private final ObjectProperty<ListType> currentListTypeProperty = new SimpleObjectProperty<>(ListType.STUDENT);
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<ExternalParty> filteredExternalParty;
+    private final DisplayedList<ExternalParty> filteredExternalParty;
     private final FilteredList<Event> filteredEvents;
-    private final FilteredList<Staff> filteredStaff;
-    private final FilteredList<Student> filteredStudents;
+    private final DisplayedList<Staff> filteredStaff;
+    private final DisplayedList<Student> filteredStudents;
     private Event selectedEventDetail;
     private Index selectedEventIndex;
 
@@ -47,10 +54,10 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredExternalParty = new FilteredList<>(this.addressBook.getExternalPartyList());
+        filteredExternalParty = new DisplayedList<>(this.addressBook.getExternalPartyList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList());
-        filteredStaff = new FilteredList<>(this.addressBook.getStaffList());
-        filteredStudents = new FilteredList<>(this.addressBook.getStudentList());
+        filteredStaff = new DisplayedList<>(this.addressBook.getStaffList());
+        filteredStudents = new DisplayedList<>(this.addressBook.getStudentList());
     }
 
     public ModelManager() {
@@ -104,11 +111,31 @@ public class ModelManager implements Model {
         return this.addressBook.hasPersonWithPhoneOrEmail(phone, email);
     }
 
+    @Override
+    public Optional<ListType> getContactOwner(Phone phone, Email email) {
+        return this.addressBook.getContactOwner(phone, email);
+    }
+
+    @Override
+    public Optional<Person> findPersonById(long id) {
+        return addressBook.findPersonById(id);
+    }
+
+    @Override
+    public Optional<Event> findEventById(long id) {
+        return addressBook.findEventById(id);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasStaff(Staff staff) {
         requireNonNull(staff);
@@ -172,6 +199,14 @@ public class ModelManager implements Model {
         updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
     }
 
+    @Override
+    public void addPersons(List<Staff> staff, List<Student> students, List<ExternalParty> externalParties) {
+        addressBook.addPersons(staff, students, externalParties);
+        updateFilteredStaffList(PREDICATE_SHOW_ALL_STAFF);
+        updateFilteredStudentList(PREDICATE_SHOW_ALL_STUDENTS);
+        updateFilteredExternalPartyList(PREDICATE_SHOW_ALL_EXTERNALPARTIES);
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
@@ -192,9 +227,9 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredStudents.equals(otherModelManager.filteredStudents)
-                && filteredStaff.equals(otherModelManager.filteredStaff)
-                && filteredExternalParty.equals(otherModelManager.filteredExternalParty)
+                && getFilteredStudentList().equals(otherModelManager.getFilteredStudentList())
+                && getFilteredStaffList().equals(otherModelManager.getFilteredStaffList())
+                && getFilteredExternalPartyList().equals(otherModelManager.getFilteredExternalPartyList())
                 && filteredEvents.equals(otherModelManager.filteredEvents);
     }
 
@@ -217,6 +252,24 @@ public class ModelManager implements Model {
         addressBook.removeEvent(target);
     }
 
+    @Override
+    public List<Event> getEventsOfStudent(Student student) {
+        requireNonNull(student);
+        return addressBook.getEventsOfStudent(student);
+    }
+
+    @Override
+    public List<Event> getEventsOfStaff(Staff staff) {
+        requireNonNull(staff);
+        return addressBook.getEventsOfStaff(staff);
+    }
+
+    @Override
+    public List<Event> getEventsOfExternalParty(ExternalParty externalParty) {
+        requireNonNull(externalParty);
+        return addressBook.getEventsOfExternalParty(externalParty);
+    }
+
     @Override
     public ObservableList<Event> getFilteredEventList() {
         return filteredEvents;
@@ -242,7 +295,7 @@ public class ModelManager implements Model {
     //=========== Filtered Staff List Accessors =============================================================
     @Override
     public ObservableList<Staff> getFilteredStaffList() {
-        return filteredStaff;
+        return filteredStaff.asUnmodifiableObservableList();
     }
 
     @Override
@@ -257,10 +310,18 @@ public class ModelManager implements Model {
         setListType(ListType.STAFF);
     }
 
+    @Override
+    public SearchPlan<Staff> searchStaffList(StaffMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        SearchPlan<Staff> plan = showMatches(filteredStaff, addressBook.searchStaff(predicate));
+        setListType(ListType.STAFF);
+        return plan;
+    }
+
     //=========== Filtered External Party List Accessors =============================================================
     @Override
     public ObservableList<ExternalParty> getFilteredExternalPartyList() {
-        return filteredExternalParty;
+        return filteredExternalParty.asUnmodifiableObservableList();
     }
 
     @Override
@@ -275,10 +336,19 @@ public class ModelManager implements Model {
         setListType(ListType.EXTERNAL);
     }
 
+    @Override
+    public SearchPlan<ExternalParty> searchExternalPartyList(ExternalPartyMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        SearchPlan<ExternalParty> plan = showMatches(filteredExternalParty,
+                addressBook.searchExternalParties(predicate));
+        setListType(ListType.EXTERNAL);
+        return plan;
+    }
+
     //=========== Filtered Student List Accessors =============================================================
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return filteredStudents.asUnmodifiableObservableList();
     }
 
     @Override
@@ -293,6 +363,61 @@ public class ModelManager implements Model {
         setListType(ListType.STUDENT);
     }
 
+    @Override
+    public SearchPlan<Student> searchStudentList(StudentMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        SearchPlan<Student> plan = showMatches(filteredStudents, addressBook.searchStudents(predicate));
+        setListType(ListType.STUDENT);
+        return plan;
+    }
+
+    @Override
+    public void previewStudentSearch(StudentMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        previewMatches(filteredStudents, addressBook.searchStudents(predicate));
+    }
+
+    @Override
+    public void previewStaffSearch(StaffMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        previewMatches(filteredStaff, addressBook.searchStaff(predicate));
+    }
+
+    @Override
+    public void previewExternalPartySearch(ExternalPartyMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        previewMatches(filteredExternalParty, addressBook.searchExternalParties(predicate));
+    }
+
+    @Override
+    public void clearPreview() {
+        filteredStudents.clearPreview();
+        filteredStaff.clearPreview();
+        filteredExternalParty.clearPreview();
+    }
+
+    /**
+     * Shows the matches of {@code plan} in {@code displayed} until the preview is cleared.
+     * Previews of the other lists are cleared, so that only one list is ever previewed.
+     */
+    private <T> void previewMatches(DisplayedList<T> displayed, SearchPlan<T> plan) {
+        for (DisplayedList<?> other : List.of(filteredStudents, filteredStaff, filteredExternalParty)) {
+            if (other != displayed) {
+                other.clearPreview();
+            }
+        }
+        displayed.previewMatches(plan.getMatches(), plan.getResult());
+    }
+
+    /**
+     * Shows the matches of {@code plan} in {@code displayed}, and returns the plan with the time that took.
+     */
+    private static <T> SearchPlan<T> showMatches(DisplayedList<T> displayed, SearchPlan<T> plan) {
+        long start = System.nanoTime();
+        displayed.setMatches(plan.getMatches(), plan.getResult());
+        return plan.withStep("Show the matches", plan.getMatches().size(), System.nanoTime() - start);
+    }
+
     //=========== List Accessors ============================================================================
     @Override
     public ObjectProperty<ListType> getListTypeProperty() {
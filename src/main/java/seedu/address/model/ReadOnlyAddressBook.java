@@ -1,8 +1,11 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.Student;
 
@@ -35,5 +38,20 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Student> getStudentList();
 
+    /**
+     * Returns the staff, student or external party with the given {@code id}, if there is one.
+     */
+    Optional<Person> findPersonById(long id);
+
+    /**
+     * Returns the event with the given {@code id}, if there is one.
+     */
+    Optional<Event> findEventById(long id);
+
+    /**
+     * Returns the log of the persons and events that changed in this address book.
+     */
+    ChangeLog getChangeLog();
+
 }
 
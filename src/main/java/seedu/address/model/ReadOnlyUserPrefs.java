@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.Compression;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getAddressBookSyncIntervalMillis();
+
+    Compression getAddressBookCompression();
+
+    int getAddressBookCompressionLevel();
+
 }
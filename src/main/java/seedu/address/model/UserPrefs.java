@@ -1,11 +1,13 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.Compression;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "resiconnect.json");
+    private long addressBookSyncIntervalMillis = 1000;
+    private Compression addressBookCompression = Compression.NONE;
+    private int addressBookCompressionLevel = Compression.DEFAULT_LEVEL;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +41,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookSyncIntervalMillis(newUserPrefs.getAddressBookSyncIntervalMillis());
+        setAddressBookCompression(newUserPrefs.getAddressBookCompression());
+        setAddressBookCompressionLevel(newUserPrefs.getAddressBookCompressionLevel());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +64,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getAddressBookSyncIntervalMillis() {
+        return addressBookSyncIntervalMillis;
+    }
+
+    /**
+     * Sets how often, at most, saves of the address book are forced to disk. 0 forces every save.
+     */
+    public void setAddressBookSyncIntervalMillis(long addressBookSyncIntervalMillis) {
+        checkArgument(addressBookSyncIntervalMillis >= 0, "Sync interval should not be negative");
+        this.addressBookSyncIntervalMillis = addressBookSyncIntervalMillis;
+    }
+
+    public Compression getAddressBookCompression() {
+        return addressBookCompression;
+    }
+
+    public void setAddressBookCompression(Compression addressBookCompression) {
+        requireNonNull(addressBookCompression);
+        this.addressBookCompression = addressBookCompression;
+    }
+
+    public int getAddressBookCompressionLevel() {
+        return addressBookCompressionLevel;
+    }
+
+    /**
+     * Sets how hard the address book is compressed, from 0 for not at all to 9 for the smallest file.
+     * Has no effect unless a compression is set.
+     */
+    public void setAddressBookCompressionLevel(int addressBookCompressionLevel) {
+        checkArgument(Compression.isValidLevel(addressBookCompressionLevel),
+                "Compression level should be from " + Compression.MIN_LEVEL + " to " + Compression.MAX_LEVEL);
+        this.addressBookCompressionLevel = addressBookCompressionLevel;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +112,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookSyncIntervalMillis == otherUserPrefs.addressBookSyncIntervalMillis
+                && addressBookCompression == otherUserPrefs.addressBookCompression
+                && addressBookCompressionLevel == otherUserPrefs.addressBookCompressionLevel;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookSyncIntervalMillis, addressBookCompression,
+                addressBookCompressionLevel);
     }
 
     @Override
@@ -82,6 +129,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nData file sync interval (ms) : " + addressBookSyncIntervalMillis);
+        sb.append("\nData file compression : " + addressBookCompression + " (level " + addressBookCompressionLevel
+                + ")");
         return sb.toString();
     }
 
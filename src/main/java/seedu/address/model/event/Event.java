@@ -1,14 +1,14 @@
 package seedu.address.model.event;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.ExternalParty;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.Student;
-import seedu.address.model.person.UniqueExternalPartyList;
-import seedu.address.model.person.UniqueStaffList;
-import seedu.address.model.person.UniqueStudentList;
+import seedu.address.model.util.IdSequence;
 
 
 /**
@@ -16,30 +16,57 @@ import seedu.address.model.person.UniqueStudentList;
  */
 public class Event {
 
+    private final long id;
+
     // Event fields
     private final EventName eventName;
     private final EventStartTime eventStartTime;
     private final EventEndTime eventEndTime;
-    private final UniqueStudentList students;
-    private final UniqueStaffList staffs;
-    private final UniqueExternalPartyList externalParties;
+    private final EventMemberList<Student> students;
+    private final EventMemberList<Staff> staffs;
+    private final EventMemberList<ExternalParty> externalParties;
+
+    // Indexes of the event lists this event belongs to, told about every membership change
+    private final List<EventMembershipIndex> membershipIndexes = new ArrayList<>();
 
     /**
-     * Constructs an {@code Event} with the given details.
+     * Constructs an {@code Event} with the given details and a fresh ID.
      */
     public Event(EventName eventName, EventStartTime eventStartTime, EventEndTime eventEndTime) {
-        this.eventName = eventName;
-        this.eventStartTime = eventStartTime;
-        this.eventEndTime = eventEndTime;
-        this.students = new UniqueStudentList();
-        this.staffs = new UniqueStaffList();
-        this.externalParties = new UniqueExternalPartyList();
+        this(IdSequence.next(), eventName, eventStartTime, eventEndTime);
     }
+
+    /**
+     * Constructs an {@code Event} with the given ID and details.
+     */
+    public Event(long id, EventName eventName, EventStartTime eventStartTime, EventEndTime eventEndTime) {
+        this(id, eventName, eventStartTime, eventEndTime, new EventMemberList<>(), new EventMemberList<>(),
+                new EventMemberList<>());
+    }
+
     /**
-     * Constructs an {@code Event} with the given details and list of students, staff and external parties.
+     * Constructs an {@code Event} with the given details, a fresh ID and list of students, staff and external parties.
+     * No two students, staff or external parties may share an ID.
      */
     public Event(EventName eventName, EventStartTime eventStartTime, EventEndTime eventEndTime,
-                 UniqueStudentList students, UniqueStaffList staffs, UniqueExternalPartyList externalParties) {
+                 List<Student> students, List<Staff> staffs, List<ExternalParty> externalParties) {
+        this(IdSequence.next(), eventName, eventStartTime, eventEndTime, students, staffs, externalParties);
+    }
+
+    /**
+     * Constructs an {@code Event} with the given ID, details and list of students, staff and external parties.
+     * No two students, staff or external parties may share an ID.
+     */
+    public Event(long id, EventName eventName, EventStartTime eventStartTime, EventEndTime eventEndTime,
+                 List<Student> students, List<Staff> staffs, List<ExternalParty> externalParties) {
+        this(id, eventName, eventStartTime, eventEndTime, new EventMemberList<>(students),
+                new EventMemberList<>(staffs), new EventMemberList<>(externalParties));
+    }
+
+    private Event(long id, EventName eventName, EventStartTime eventStartTime, EventEndTime eventEndTime,
+                  EventMemberList<Student> students, EventMemberList<Staff> staffs,
+                  EventMemberList<ExternalParty> externalParties) {
+        this.id = IdSequence.claim(id);
         this.eventName = eventName;
         this.eventStartTime = eventStartTime;
         this.eventEndTime = eventEndTime;
@@ -48,6 +75,10 @@ public class Event {
         this.externalParties = externalParties;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public EventName getEventName() {
         return eventName;
     }
@@ -105,9 +136,20 @@ public class Event {
      */
     public void addStudent(Student student) {
         students.add(student);
+        membershipIndexes.forEach(index -> index.studentAdded(this, student));
     }
 
 
+    /**
+     * Replaces the student {@code target} in the event with {@code editedStudent}.
+     * {@code target} must be in the event, and {@code editedStudent} must have its ID.
+     */
+    public void setStudent(Student target, Student editedStudent) {
+        students.set(target, editedStudent);
+        membershipIndexes.forEach(index -> index.studentRemoved(this, target));
+        membershipIndexes.forEach(index -> index.studentAdded(this, editedStudent));
+    }
+
     public ObservableList<Student> getStudents() {
         return students.asUnmodifiableObservableList();
     }
@@ -118,6 +160,7 @@ public class Event {
      */
     public void removeStudent(Student student) {
         students.remove(student);
+        membershipIndexes.forEach(index -> index.studentRemoved(this, student));
     }
 
     /**
@@ -126,6 +169,17 @@ public class Event {
      */
     public void addStaff(Staff staff) {
         staffs.add(staff);
+        membershipIndexes.forEach(index -> index.staffAdded(this, staff));
+    }
+
+    /**
+     * Replaces the staff member {@code target} in the event with {@code editedStaff}.
+     * {@code target} must be in the event, and {@code editedStaff} must have its ID.
+     */
+    public void setStaff(Staff target, Staff editedStaff) {
+        staffs.set(target, editedStaff);
+        membershipIndexes.forEach(index -> index.staffRemoved(this, target));
+        membershipIndexes.forEach(index -> index.staffAdded(this, editedStaff));
     }
 
     public ObservableList<Staff> getStaff() {
@@ -138,6 +192,7 @@ public class Event {
      */
     public void removeStaff(Staff staff) {
         staffs.remove(staff);
+        membershipIndexes.forEach(index -> index.staffRemoved(this, staff));
     }
 
     /**
@@ -146,6 +201,17 @@ public class Event {
      */
     public void addExternalParty(ExternalParty externalParty) {
         externalParties.add(externalParty);
+        membershipIndexes.forEach(index -> index.externalPartyAdded(this, externalParty));
+    }
+
+    /**
+     * Replaces the external party {@code target} in the event with {@code editedExternalParty}.
+     * {@code target} must be in the event, and {@code editedExternalParty} must have its ID.
+     */
+    public void setExternalParty(ExternalParty target, ExternalParty editedExternalParty) {
+        externalParties.set(target, editedExternalParty);
+        membershipIndexes.forEach(index -> index.externalPartyRemoved(this, target));
+        membershipIndexes.forEach(index -> index.externalPartyAdded(this, editedExternalParty));
     }
 
     /**
@@ -154,6 +220,7 @@ public class Event {
      */
     public void removeExternalParty(ExternalParty externalParty) {
         externalParties.remove(externalParty);
+        membershipIndexes.forEach(index -> index.externalPartyRemoved(this, externalParty));
     }
 
     /**
@@ -163,6 +230,23 @@ public class Event {
         return externalParties.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns a copy of this event with the same ID and details, and its own copies of the member lists, so that
+     * later changes to the members of either event do not show in the other.
+     */
+    public Event copy() {
+        return new Event(id, eventName, eventStartTime, eventEndTime, new EventMemberList<>(students),
+                new EventMemberList<>(staffs), new EventMemberList<>(externalParties));
+    }
+
+    void addMembershipIndex(EventMembershipIndex index) {
+        membershipIndexes.add(index);
+    }
+
+    void removeMembershipIndex(EventMembershipIndex index) {
+        membershipIndexes.remove(index);
+    }
+
     /**
      * Returns true if the {@code staff} is participating in this event's staff list.
      */
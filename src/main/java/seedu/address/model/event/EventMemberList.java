@@ -0,0 +1,149 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * The members of an event from one roster, in the order they were added.
+ * Members are persons of the address book, whose rosters already keep them unique, so the list only tells them apart
+ * by {@link Person#getId()}. It keeps no other indexes, as the members of an event are never searched by attribute.
+ *
+ * @param <T> the kind of person the list holds.
+ */
+class EventMemberList<T extends Person> implements Iterable<T> {
+
+    private final ObservableList<T> internalList = FXCollections.observableArrayList();
+    private final ObservableList<T> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Long, T> idIndex = new HashMap<>();
+
+    /**
+     * Creates an empty list.
+     */
+    EventMemberList() {}
+
+    /**
+     * Creates a list of {@code members}, none of which may share an ID.
+     */
+    EventMemberList(List<T> members) {
+        requireAllNonNull(members);
+        members.forEach(this::add);
+    }
+
+    /**
+     * Creates a copy of {@code toBeCopied} that later changes to either list do not affect.
+     */
+    EventMemberList(EventMemberList<T> toBeCopied) {
+        requireNonNull(toBeCopied);
+        internalList.setAll(toBeCopied.internalList);
+        idIndex.putAll(toBeCopied.idIndex);
+    }
+
+    /**
+     * Returns true if the list has a member with the ID of {@code toCheck}.
+     */
+    boolean contains(T toCheck) {
+        requireNonNull(toCheck);
+        return idIndex.containsKey(toCheck.getId());
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list.
+     * No member may already have its ID.
+     */
+    void add(T toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+    }
+
+    /**
+     * Replaces the member with the ID of {@code target} with {@code edited}, in the same place in the list.
+     * Such a member must exist, and no other member may have the ID of {@code edited}.
+     */
+    void set(T target, T edited) {
+        requireAllNonNull(target, edited);
+        T existing = idIndex.get(target.getId());
+        if (existing == null) {
+            throw new PersonNotFoundException();
+        }
+        if (edited.getId() != existing.getId() && idIndex.containsKey(edited.getId())) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.set(internalList.indexOf(existing), edited);
+        idIndex.remove(existing.getId());
+        idIndex.put(edited.getId(), edited);
+    }
+
+    /**
+     * Removes the member with the ID of {@code toRemove}, which must exist.
+     */
+    void remove(T toRemove) {
+        requireNonNull(toRemove);
+        T existing = idIndex.remove(toRemove.getId());
+        if (existing == null) {
+            throw new PersonNotFoundException();
+        }
+        internalList.remove(internalList.indexOf(existing));
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return internalUnmodifiableList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventMemberList)) {
+            return false;
+        }
+
+        EventMemberList<?> otherList = (EventMemberList<?>) other;
+        if (internalList.size() != otherList.internalList.size()) {
+            return false;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            if (!internalList.get(i).isSamePerson(otherList.internalList.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return internalList.toString();
+    }
+}
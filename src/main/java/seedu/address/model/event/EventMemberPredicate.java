@@ -19,9 +19,11 @@ import seedu.address.model.person.StudentMatchesAttributesPredicate;
 public class EventMemberPredicate implements Predicate<Person> {
     private final String memberType;
     private final Map<Prefix, String> searchCriteria;
+    private final Predicate<Person> memberPredicate;
 
     /**
      * Creates an EventMemberPredicate to test if a {@code Person} matches the searching criteria.
+     * The criteria are compiled once here, for the type of member searched for, rather than for every person tested.
      *
      * @param memberType the type of the member to search for
      * @param searchCriteria the searching criteria
@@ -29,37 +31,31 @@ public class EventMemberPredicate implements Predicate<Person> {
     public EventMemberPredicate(String memberType, Map<Prefix, String> searchCriteria) {
         this.memberType = memberType;
         this.searchCriteria = searchCriteria;
+        this.memberPredicate = createMemberPredicate(memberType, searchCriteria);
     }
 
-    @Override
-    public boolean test(Person person) {
+    private static Predicate<Person> createMemberPredicate(String memberType, Map<Prefix, String> searchCriteria) {
         switch (memberType.toLowerCase()) {
         case "stu":
-            if (person instanceof Student) {
-                StudentMatchesAttributesPredicate studentPredicate =
-                        new StudentMatchesAttributesPredicate(searchCriteria);
-                return studentPredicate.test((Student) person);
-            }
-            break;
+            StudentMatchesAttributesPredicate studentPredicate = new StudentMatchesAttributesPredicate(searchCriteria);
+            return person -> person instanceof Student && studentPredicate.test((Student) person);
         case "staff":
-            if (person instanceof Staff) {
-                StaffMatchesAttributesPredicate staffPredicate =
-                        new StaffMatchesAttributesPredicate(searchCriteria);
-                return staffPredicate.test((Staff) person);
-            }
-            break;
+            StaffMatchesAttributesPredicate staffPredicate = new StaffMatchesAttributesPredicate(searchCriteria);
+            return person -> person instanceof Staff && staffPredicate.test((Staff) person);
         case "ext":
-            if (person instanceof ExternalParty) {
-                ExternalPartyMatchesAttributesPredicate extPredicate =
-                        new ExternalPartyMatchesAttributesPredicate(searchCriteria);
-                return extPredicate.test((ExternalParty) person);
-            }
-            break;
+            ExternalPartyMatchesAttributesPredicate extPredicate =
+                    new ExternalPartyMatchesAttributesPredicate(searchCriteria);
+            return person -> person instanceof ExternalParty && extPredicate.test((ExternalParty) person);
         default:
-            break;
+            return person -> false;
         }
-        return false;
     }
+
+    @Override
+    public boolean test(Person person) {
+        return memberPredicate.test(person);
+    }
+
     public String getMemberType() {
         return memberType;
     }
@@ -0,0 +1,135 @@
+package seedu.address.model.event;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.ChangeLog;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+
+/**
+ * Maps every student, staff and external party to the tracked events they are a member of.
+ * Tracked events report their own membership changes, so the index never has to scan an event, and records the events
+ * whose members changed in a {@link ChangeLog}.
+ */
+class EventMembershipIndex {
+
+    private final ChangeLog changeLog;
+
+    private final Map<Student, Set<Event>> eventsByStudent = new HashMap<>();
+    private final Map<Staff, Set<Event>> eventsByStaff = new HashMap<>();
+    private final Map<ExternalParty, Set<Event>> eventsByExternalParty = new HashMap<>();
+    private long changeCount;
+
+    EventMembershipIndex(ChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Starts tracking {@code event} and indexes its current members.
+     */
+    void track(Event event) {
+        event.addMembershipIndex(this);
+        event.getStudents().forEach(student -> studentAdded(event, student));
+        event.getStaff().forEach(staff -> staffAdded(event, staff));
+        event.getExternalParties().forEach(externalParty -> externalPartyAdded(event, externalParty));
+    }
+
+    /**
+     * Stops tracking {@code event} and forgets its current members.
+     */
+    void untrack(Event event) {
+        event.removeMembershipIndex(this);
+        event.getStudents().forEach(student -> studentRemoved(event, student));
+        event.getStaff().forEach(staff -> staffRemoved(event, staff));
+        event.getExternalParties().forEach(externalParty -> externalPartyRemoved(event, externalParty));
+    }
+
+    void studentAdded(Event event, Student student) {
+        changeCount++;
+        changeLog.recordChanged(event.getId());
+        link(eventsByStudent, student, event);
+    }
+
+    void studentRemoved(Event event, Student student) {
+        changeCount++;
+        changeLog.recordChanged(event.getId());
+        unlink(eventsByStudent, student, event);
+    }
+
+    void staffAdded(Event event, Staff staff) {
+        changeCount++;
+        changeLog.recordChanged(event.getId());
+        link(eventsByStaff, staff, event);
+    }
+
+    void staffRemoved(Event event, Staff staff) {
+        changeCount++;
+        changeLog.recordChanged(event.getId());
+        unlink(eventsByStaff, staff, event);
+    }
+
+    void externalPartyAdded(Event event, ExternalParty externalParty) {
+        changeCount++;
+        changeLog.recordChanged(event.getId());
+        link(eventsByExternalParty, externalParty, event);
+    }
+
+    void externalPartyRemoved(Event event, ExternalParty externalParty) {
+        changeCount++;
+        changeLog.recordChanged(event.getId());
+        unlink(eventsByExternalParty, externalParty, event);
+    }
+
+    /**
+     * Returns the number of membership changes reported so far, including those of events being tracked.
+     */
+    long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Returns a snapshot of the events {@code student} is a member of.
+     */
+    List<Event> getEventsOfStudent(Student student) {
+        return snapshot(eventsByStudent.get(student));
+    }
+
+    /**
+     * Returns a snapshot of the events {@code staff} is a member of.
+     */
+    List<Event> getEventsOfStaff(Staff staff) {
+        return snapshot(eventsByStaff.get(staff));
+    }
+
+    /**
+     * Returns a snapshot of the events {@code externalParty} is a member of.
+     */
+    List<Event> getEventsOfExternalParty(ExternalParty externalParty) {
+        return snapshot(eventsByExternalParty.get(externalParty));
+    }
+
+    private static <T> void link(Map<T, Set<Event>> index, T member, Event event) {
+        requireAllNonNull(member, event);
+        index.computeIfAbsent(member, unused -> new LinkedHashSet<>()).add(event);
+    }
+
+    private static <T> void unlink(Map<T, Set<Event>> index, T member, Event event) {
+        requireAllNonNull(member, event);
+        Set<Event> events = index.get(member);
+        if (events != null && events.remove(event) && events.isEmpty()) {
+            index.remove(member);
+        }
+    }
+
+    private static List<Event> snapshot(Set<Event> events) {
+        return events == null ? Collections.emptyList() : List.copyOf(events);
+    }
+}
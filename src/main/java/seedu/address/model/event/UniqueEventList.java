@@ -3,11 +3,18 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ChangeLog;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
 import seedu.address.model.person.ExternalParty;
@@ -17,12 +24,38 @@ import seedu.address.model.person.Student;
 /**
  * A list that maintains unique events and does not allow duplicates.
  * Supports basic operations like add, remove, and update while ensuring uniqueness.
+ * Also indexes which events each person is a member of, so cascading removals only visit those events,
+ * and indexes every event by its ID. Events added, replaced or removed, or whose members change, are recorded in a
+ * {@link ChangeLog}.
  */
 public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final ChangeLog changeLog;
+    private final EventMembershipIndex membershipIndex;
+    private final Map<Long, Event> idIndex = new HashMap<>();
+    private long modificationCount;
 
+    public UniqueEventList() {
+        this(new ChangeLog());
+    }
+
+    /**
+     * Creates an empty list that records the events that change in {@code changeLog}.
+     */
+    public UniqueEventList(ChangeLog changeLog) {
+        requireNonNull(changeLog);
+        this.changeLog = changeLog;
+        this.membershipIndex = new EventMembershipIndex(changeLog);
+    }
+
+    /**
+     * Returns the event with the given {@code id}, if it is in the list.
+     */
+    public Optional<Event> findById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
+    }
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
@@ -43,7 +76,10 @@ public class UniqueEventList implements Iterable<Event> {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
-
+        membershipIndex.track(toAdd);
+        idIndex.put(toAdd.getId(), toAdd);
+        changeLog.recordChanged(toAdd.getId());
+        modificationCount++;
     }
 
     /**
@@ -59,11 +95,18 @@ public class UniqueEventList implements Iterable<Event> {
             throw new EventNotFoundException();
         }
 
-        if (!target.equals(editedEvent) && contains(editedEvent)) {
+        if (!target.isSameEvent(editedEvent) && contains(editedEvent)) {
             throw new DuplicateEventException();
         }
 
-        internalList.set(index, editedEvent);
+        Event existing = internalList.set(index, editedEvent);
+        membershipIndex.untrack(existing);
+        membershipIndex.track(editedEvent);
+        idIndex.remove(existing.getId(), existing);
+        idIndex.put(editedEvent.getId(), editedEvent);
+        changeLog.recordChanged(existing.getId());
+        changeLog.recordChanged(editedEvent.getId());
+        modificationCount++;
     }
 
     /**
@@ -72,9 +115,15 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+        Event removed = internalList.remove(index);
+        membershipIndex.untrack(removed);
+        idIndex.remove(removed.getId(), removed);
+        changeLog.recordChanged(removed.getId());
+        modificationCount++;
     }
 
     /**
@@ -83,10 +132,8 @@ public class UniqueEventList implements Iterable<Event> {
      *
      */
     public void removeStaffFromAllEvents(Staff staff) {
-        for (Event e : internalList) {
-            if (e.isStaffInEvent(staff)) {
-                e.removeStaff(staff);
-            }
+        for (Event e : membershipIndex.getEventsOfStaff(staff)) {
+            e.removeStaff(staff);
         }
     }
 
@@ -96,10 +143,8 @@ public class UniqueEventList implements Iterable<Event> {
      *
      */
     public void removeStudentFromAllEvents(Student student) {
-        for (Event e : internalList) {
-            if (e.isStudentInEvent(student)) {
-                e.removeStudent(student);
-            }
+        for (Event e : membershipIndex.getEventsOfStudent(student)) {
+            e.removeStudent(student);
         }
     }
 
@@ -109,10 +154,38 @@ public class UniqueEventList implements Iterable<Event> {
      *
      */
     public void removeExternalPartyFromAllEvents(ExternalParty externalParty) {
-        for (Event e : internalList) {
-            if (e.isExternalPartyInEvent(externalParty)) {
-                e.removeExternalParty(externalParty);
-            }
+        for (Event e : membershipIndex.getEventsOfExternalParty(externalParty)) {
+            e.removeExternalParty(externalParty);
+        }
+    }
+
+    /**
+     * Replaces the staff {@code target} with {@code editedStaff} in every event stored in this UniqueEventList
+     * that {@code target} is a member of, so that events always refer to the current roster entry.
+     */
+    public void setStaffInAllEvents(Staff target, Staff editedStaff) {
+        for (Event e : membershipIndex.getEventsOfStaff(target)) {
+            e.setStaff(target, editedStaff);
+        }
+    }
+
+    /**
+     * Replaces the student {@code target} with {@code editedStudent} in every event stored in this UniqueEventList
+     * that {@code target} is a member of, so that events always refer to the current roster entry.
+     */
+    public void setStudentInAllEvents(Student target, Student editedStudent) {
+        for (Event e : membershipIndex.getEventsOfStudent(target)) {
+            e.setStudent(target, editedStudent);
+        }
+    }
+
+    /**
+     * Replaces the external party {@code target} with {@code editedExternalParty} in every event stored in this
+     * UniqueEventList that {@code target} is a member of, so that events always refer to the current roster entry.
+     */
+    public void setExternalPartyInAllEvents(ExternalParty target, ExternalParty editedExternalParty) {
+        for (Event e : membershipIndex.getEventsOfExternalParty(target)) {
+            e.setExternalParty(target, editedExternalParty);
         }
     }
 
@@ -122,10 +195,49 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvents(List<Event> events) {
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
+        List<Event> duplicates = findDuplicates(events);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateEventException(duplicates);
         }
+        internalList.forEach(membershipIndex::untrack);
         internalList.setAll(events);
+        internalList.forEach(membershipIndex::track);
+        idIndex.clear();
+        internalList.forEach(event -> idIndex.put(event.getId(), event));
+        changeLog.recordAllChanged();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a number that changes whenever an event is added, replaced or removed, or the members of an event in
+     * this list change.
+     */
+    public long getModificationCount() {
+        return modificationCount + membershipIndex.getChangeCount();
+    }
+
+    /**
+     * Returns the events in this list that {@code student} is a member of.
+     */
+    public List<Event> getEventsOfStudent(Student student) {
+        requireNonNull(student);
+        return membershipIndex.getEventsOfStudent(student);
+    }
+
+    /**
+     * Returns the events in this list that {@code staff} is a member of.
+     */
+    public List<Event> getEventsOfStaff(Staff staff) {
+        requireNonNull(staff);
+        return membershipIndex.getEventsOfStaff(staff);
+    }
+
+    /**
+     * Returns the events in this list that {@code externalParty} is a member of.
+     */
+    public List<Event> getEventsOfExternalParty(ExternalParty externalParty) {
+        requireNonNull(externalParty);
+        return membershipIndex.getEventsOfExternalParty(externalParty);
     }
 
     /**
@@ -165,17 +277,19 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns the events in {@code events} that are the same event as an earlier one, in one hashed pass.
+     * Events are keyed by name, start and end time, matching {@link Event#isSameEvent(Event)}.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).equals(events.get(j))) {
-                    return false;
-                }
+    private static List<Event> findDuplicates(List<Event> events) {
+        Set<List<Object>> identities = new HashSet<>();
+        List<Event> duplicates = new ArrayList<>();
+        for (Event event : events) {
+            List<Object> identity = List.of(event.getEventName(), event.getEventStartTime(), event.getEventEndTime());
+            if (!identities.add(identity)) {
+                duplicates.add(event);
             }
         }
-        return true;
+        return duplicates;
     }
 
 }
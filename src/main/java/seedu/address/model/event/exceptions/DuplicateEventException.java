@@ -1,11 +1,34 @@
 package seedu.address.model.event.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.event.Event;
+
 /**
  * Signals that the operation will result in duplicate Events (Events are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateEventException extends RuntimeException {
+    private final List<Event> duplicates;
+
     public DuplicateEventException() {
         super("Operation would result in duplicate events");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception listing every event that duplicates an earlier one.
+     */
+    public DuplicateEventException(List<Event> duplicates) {
+        super("Operation would result in duplicate events: " + duplicates);
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the events that duplicate an earlier one, or an empty list if they were not recorded.
+     */
+    public List<Event> getDuplicates() {
+        return duplicates;
     }
 }
@@ -0,0 +1,678 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Bitmap indexes over some attributes of the persons in a list, kept up to date as persons are added and removed.
+ * Each person is given a slot, and each value of an attribute a bitmap of the slots of the persons having it, so that
+ * an attribute search is answered by intersecting a few bitmaps instead of testing every person.
+ * <p>
+ * Values are normalized before they are indexed, in a way that keeps together every two values a search treats as
+ * equal. An index may therefore give a few more candidates than match, and searches check their candidates against
+ * the full criteria before returning them.
+ * <p>
+ * The number of rows having each value is read off its bitmap, so that a search can be planned to start from its
+ * most selective criterion.
+ * <p>
+ * Attributes made of words, such as names, are indexed by word in sorted order, and searched for rows having a word
+ * starting with each searched word, so that the rows for a word prefix are those of a range of keys. Free text, such
+ * as addresses, is indexed by trigram in a {@link TrigramIndex}, and searched for rows containing the searched text.
+ */
+class AttributeIndex<T> {
+
+    /** Below this many freed slots, the bitmaps are not worth compacting. */
+    private static final int MIN_SLOTS_TO_COMPACT = 64;
+
+    /** At or below this many candidates, testing them is cheaper than intersecting another bitmap. */
+    private static final int MAX_ROWS_TO_CHECK = 8;
+
+    /** From this many rows added at once, as when an address book is loaded, free text is indexed in the background. */
+    private static final int MIN_ROWS_TO_INDEX_IN_BACKGROUND = 1000;
+
+    private static final BitSet NO_ROWS = new BitSet();
+
+    private final List<Attribute<T>> attributes;
+    private final Map<Prefix, Attribute<T>> attributesByPrefix = new HashMap<>();
+    private final Map<Prefix, Map<Object, BitSet>> bitmaps = new HashMap<>();
+    private final Map<Prefix, TrigramIndex> trigramIndexes = new HashMap<>();
+    private final Map<T, Entry> entries = new IdentityHashMap<>();
+    private final List<T> rows = new ArrayList<>();
+    private final BitSet liveSlots = new BitSet();
+    private long nextSequence = 0;
+    private long modificationCount = 0;
+    private WordLookup lastWordLookup;
+    private LastSearch lastSearch;
+
+    AttributeIndex(List<Attribute<T>> attributes) {
+        requireNonNull(attributes);
+        this.attributes = attributes;
+        for (Attribute<T> attribute : attributes) {
+            attributesByPrefix.put(attribute.prefix, attribute);
+            switch (attribute.matching) {
+            case WORD_PREFIX:
+                bitmaps.put(attribute.prefix, new TreeMap<>());
+                break;
+            case SUBSTRING:
+                trigramIndexes.put(attribute.prefix, new TrigramIndex(attribute.prefix.toString(),
+                        TrigramIndex.DEFAULT_MAX_BYTES));
+                break;
+            default:
+                bitmaps.put(attribute.prefix, new HashMap<>());
+            }
+        }
+    }
+
+    /**
+     * Indexes {@code row}, which must not be indexed already.
+     */
+    void add(T row) {
+        requireNonNull(row);
+        setBits(row, addEntry(row), true);
+    }
+
+    /**
+     * Indexes every row in {@code newRows}, none of which may be indexed already. If there are many of them, their
+     * free text is indexed in the background, and searches scan it until that is done.
+     */
+    void addAll(Collection<T> newRows) {
+        requireAllNonNull(newRows);
+        boolean isIndexedInBackground = !trigramIndexes.isEmpty()
+                && newRows.size() >= MIN_ROWS_TO_INDEX_IN_BACKGROUND;
+        for (T row : newRows) {
+            setBits(row, addEntry(row), !isIndexedInBackground);
+        }
+        if (isIndexedInBackground) {
+            indexTextInBackground();
+        }
+    }
+
+    private int addEntry(T row) {
+        return addEntry(row, nextSequence);
+    }
+
+    private int addEntry(T row, long order) {
+        Entry entry = new Entry(rows.size(), nextSequence++, order);
+        modificationCount++;
+        entries.put(row, entry);
+        rows.add(row);
+        return entry.slot;
+    }
+
+    /**
+     * Indexes {@code replacement} in place of {@code existing}, which must be indexed, keeping the place of
+     * {@code existing} in the order of the rows, as when a row of a list is edited in place.
+     */
+    void replace(T existing, T replacement) {
+        requireAllNonNull(existing, replacement);
+        long order = entries.get(existing).order;
+        remove(existing);
+        setBits(replacement, addEntry(replacement, order), true);
+    }
+
+    /**
+     * Stops indexing {@code row}, if it is indexed.
+     */
+    void remove(T row) {
+        Entry entry = entries.remove(row);
+        if (entry == null) {
+            return;
+        }
+        modificationCount++;
+        rows.set(entry.slot, null);
+        liveSlots.clear(entry.slot);
+        for (Attribute<T> attribute : attributes) {
+            if (attribute.matching == Matching.SUBSTRING) {
+                trigramIndexes.get(attribute.prefix).remove(entry.slot, attribute.values.apply(row));
+                continue;
+            }
+            Map<Object, BitSet> valueBitmaps = bitmaps.get(attribute.prefix);
+            for (Object key : attribute.keysOf(row)) {
+                BitSet bitmap = valueBitmaps.get(key);
+                bitmap.clear(entry.slot);
+                if (bitmap.isEmpty()) {
+                    valueBitmaps.remove(key);
+                }
+            }
+        }
+        int freeSlots = rows.size() - entries.size();
+        if (freeSlots >= MIN_SLOTS_TO_COMPACT && freeSlots > entries.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Stops indexing every row.
+     */
+    void clear() {
+        modificationCount++;
+        lastSearch = null;
+        entries.clear();
+        rows.clear();
+        liveSlots.clear();
+        bitmaps.values().forEach(Map::clear);
+        trigramIndexes.values().forEach(TrigramIndex::clear);
+    }
+
+    /**
+     * Searches the rows indexed now for those meeting {@code searchCriteria}, which {@code predicate} tests, and
+     * returns the plan the search followed. Its matches are the rows found, in the order the rows were added, with
+     * rows replaced in place keeping the place of the rows they replaced. Its result tests every row indexed now with
+     * a lookup, having tested only the candidates the indexes gave, and only once. Rows indexed later, such as those
+     * added or edited since, are tested against {@code predicate} when they are tested.
+     * <p>
+     * The plan starts from the indexed criterion with the fewest rows, then narrows by the other indexed criteria,
+     * fewest rows first, until so few candidates are left that testing them costs less than another intersection.
+     * The candidates left are then checked against {@code predicate}, which covers the criteria no index answers.
+     * Criteria with as many rows are taken in order of the number of distinct values of their attributes, most first,
+     * then in the order the attributes were declared, so that a plan does not depend on the order of the criteria.
+     * <p>
+     * If no row has been indexed or removed since the last search, {@code searchCriteria} can only narrow its
+     * criteria, as when a search is typed one letter at a time, and it found no more rows than the first lookup
+     * would start from, only the rows it found are checked instead.
+     */
+    SearchPlan<T> search(Map<Prefix, String> searchCriteria, Predicate<T> predicate) {
+        requireAllNonNull(searchCriteria, predicate);
+        List<SearchPlan.Step> steps = new ArrayList<>();
+        long stepStart = System.nanoTime();
+
+        List<Lookup> lookups = new ArrayList<>();
+        List<Prefix> unindexed = new ArrayList<>();
+        for (Map.Entry<Prefix, String> criterion : searchCriteria.entrySet()) {
+            Attribute<T> attribute = attributesByPrefix.get(criterion.getKey());
+            Lookup lookup = attribute == null ? null : new Lookup(attribute, criterion.getValue());
+            if (lookup == null || lookup.bitmap == null) {
+                unindexed.add(criterion.getKey());
+            } else {
+                lookups.add(lookup);
+            }
+        }
+        lookups.sort(Comparator.comparingInt((Lookup lookup) -> lookup.rows)
+                .thenComparing(lookup -> -getValueCount(lookup.attribute.prefix))
+                .thenComparingInt(lookup -> attributes.indexOf(lookup.attribute)));
+        unindexed.sort(Comparator.comparing(Prefix::getPrefix));
+
+        if (lastSearch != null && lastSearch.isNarrowedBy(searchCriteria, modificationCount)
+                && (lookups.isEmpty() || lastSearch.matches.size() <= lookups.get(0).rows)) {
+            List<T> matches = new ArrayList<>();
+            for (T row : lastSearch.matches) {
+                if (predicate.test(row)) {
+                    matches.add(row);
+                }
+            }
+            addStep(steps, "Check the " + countRows(lastSearch.matches.size()) + " found for " + lastSearch,
+                    matches.size(), stepStart);
+            return finishSearch(searchCriteria, predicate, steps, matches);
+        }
+
+        BitSet candidates;
+        int narrowed = 0;
+        if (lookups.isEmpty()) {
+            candidates = (BitSet) liveSlots.clone();
+            stepStart = addStep(steps, "Scan every row", candidates.cardinality(), stepStart);
+        } else {
+            candidates = (BitSet) lookups.get(0).bitmap.clone();
+            stepStart = addStep(steps, "Look up " + lookups.get(0).describe(), candidates.cardinality(), stepStart);
+            narrowed = 1;
+            while (narrowed < lookups.size() && candidates.cardinality() > MAX_ROWS_TO_CHECK) {
+                Lookup lookup = lookups.get(narrowed++);
+                candidates.and(lookup.bitmap);
+                stepStart = addStep(steps, "Narrow by " + lookup.describe(), candidates.cardinality(), stepStart);
+            }
+        }
+
+        List<T> matches = new ArrayList<>();
+        int candidateCount = candidates.cardinality();
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+            T row = rows.get(slot);
+            if (predicate.test(row)) {
+                matches.add(row);
+            }
+        }
+        // Rows replaced in place take a later slot but keep their place, so slots are nearly in order already
+        matches.sort(Comparator.comparingLong(row -> entries.get(row).order));
+        List<String> unchecked = new ArrayList<>();
+        lookups.subList(narrowed, lookups.size()).forEach(lookup -> unchecked.add(lookup.toString()));
+        unindexed.forEach(prefix -> unchecked.add(prefix + searchCriteria.get(prefix)));
+        String check = unchecked.isEmpty()
+                ? "Confirm " + countCandidates(candidateCount)
+                : "Check " + countCandidates(candidateCount) + " for " + String.join(", ", unchecked);
+        addStep(steps, check, matches.size(), stepStart);
+        return finishSearch(searchCriteria, predicate, steps, matches);
+    }
+
+    /**
+     * Returns the plan of a search that found {@code matches}, and remembers the search for the next to narrow.
+     */
+    private SearchPlan<T> finishSearch(Map<Prefix, String> searchCriteria, Predicate<T> predicate,
+            List<SearchPlan.Step> steps, List<T> matches) {
+        lastSearch = new LastSearch(searchCriteria, matches, modificationCount);
+        Set<T> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        matchSet.addAll(matches);
+        long searchedBefore = nextSequence;
+        return new SearchPlan<>(steps, matches, row -> {
+            Entry entry = entries.get(row);
+            return entry != null && entry.sequence < searchedBefore ? matchSet.contains(row) : predicate.test(row);
+        });
+    }
+
+    private static String countCandidates(int count) {
+        return count + (count == 1 ? " candidate" : " candidates");
+    }
+
+    private static String countRows(int count) {
+        return count + (count == 1 ? " row" : " rows");
+    }
+
+    private static long addStep(List<SearchPlan.Step> steps, String description, int rows, long stepStart) {
+        long now = System.nanoTime();
+        steps.add(new SearchPlan.Step(description, rows, now - stepStart));
+        return now;
+    }
+
+    /**
+     * Returns the slots of the rows having, for each word of {@code value}, a word of {@code attribute} starting with
+     * it, ignoring case. Each searched word is looked up as the range of indexed words starting with it.
+     * <p>
+     * If the last such lookup was for the same attribute, no row has been indexed or removed since, and each of its
+     * words starts the word in the same place of {@code value}, as when a search is typed one letter at a time, only
+     * the rows it found are tested, rather than going back to the whole index.
+     */
+    @SuppressWarnings("unchecked")
+    private WordLookup lookUpWords(Attribute<T> attribute, String value) {
+        String[] words = splitWords(foldCase(value));
+        WordLookup previous = lastWordLookup;
+        BitSet found = new BitSet();
+        String narrowedFrom = null;
+        if (previous != null && previous.isNarrowedBy(attribute, words, modificationCount)) {
+            narrowedFrom = previous.toString();
+            for (int slot = previous.slots.nextSetBit(0); slot >= 0; slot = previous.slots.nextSetBit(slot + 1)) {
+                if (hasWordsStartingWith(attribute.keysOf(rows.get(slot)), words)) {
+                    found.set(slot);
+                }
+            }
+        } else {
+            NavigableMap<Object, BitSet> wordBitmaps = (NavigableMap<Object, BitSet>) bitmaps.get(attribute.prefix);
+            for (int i = 0; i < words.length; i++) {
+                BitSet withWord = new BitSet();
+                for (Map.Entry<Object, BitSet> indexed : wordBitmaps.tailMap(words[i], true).entrySet()) {
+                    if (!((String) indexed.getKey()).startsWith(words[i])) {
+                        break;
+                    }
+                    withWord.or(indexed.getValue());
+                }
+                if (i == 0) {
+                    found = withWord;
+                } else {
+                    found.and(withWord);
+                }
+            }
+        }
+        lastWordLookup = new WordLookup(attribute, value, words, modificationCount, found, narrowedFrom);
+        return lastWordLookup;
+    }
+
+    /**
+     * Returns true if each of {@code words} starts the word in the same place of {@code otherWords}, so that every
+     * row with words starting with {@code otherWords} has words starting with {@code words}.
+     */
+    private static boolean isExtendedBy(String[] words, String[] otherWords) {
+        if (otherWords.length < words.length) {
+            return false;
+        }
+        for (int i = 0; i < words.length; i++) {
+            if (!otherWords[i].startsWith(words[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasWordsStartingWith(Set<Object> rowWords, String[] words) {
+        for (String word : words) {
+            boolean isFound = false;
+            for (Object rowWord : rowWords) {
+                if (((String) rowWord).startsWith(word)) {
+                    isFound = true;
+                    break;
+                }
+            }
+            if (!isFound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of distinct values of the attribute searched with {@code prefix}.
+     */
+    int getValueCount(Prefix prefix) {
+        TrigramIndex trigramIndex = trigramIndexes.get(prefix);
+        return trigramIndex == null ? bitmaps.get(prefix).size() : trigramIndex.getTrigramCount();
+    }
+
+    private void setBits(T row, int slot, boolean isTextIndexed) {
+        liveSlots.set(slot);
+        for (Attribute<T> attribute : attributes) {
+            if (attribute.matching == Matching.SUBSTRING) {
+                if (isTextIndexed) {
+                    trigramIndexes.get(attribute.prefix).add(slot, attribute.values.apply(row));
+                }
+                continue;
+            }
+            Map<Object, BitSet> valueBitmaps = bitmaps.get(attribute.prefix);
+            for (Object key : attribute.keysOf(row)) {
+                valueBitmaps.computeIfAbsent(key, unused -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    /**
+     * Moves every indexed row to the lowest free slot, keeping their order and sequence numbers, and rebuilds the
+     * bitmaps, so that freed slots do not keep the bitmaps long.
+     */
+    private void compact() {
+        List<T> liveRows = new ArrayList<>(entries.size());
+        for (T row : rows) {
+            if (row != null) {
+                liveRows.add(row);
+            }
+        }
+        rows.clear();
+        liveSlots.clear();
+        bitmaps.values().forEach(Map::clear);
+        trigramIndexes.values().forEach(TrigramIndex::clear);
+        for (T row : liveRows) {
+            Entry entry = entries.get(row);
+            entry.slot = rows.size();
+            rows.add(row);
+            setBits(row, entry.slot, true);
+        }
+    }
+
+    /**
+     * Replaces the indexes of free text with ones of every row indexed now, built in the background.
+     */
+    private void indexTextInBackground() {
+        int[] slots = liveSlots.stream().toArray();
+        for (Attribute<T> attribute : attributes) {
+            if (attribute.matching != Matching.SUBSTRING) {
+                continue;
+            }
+            List<Collection<String>> texts = new ArrayList<>(slots.length);
+            for (int slot : slots) {
+                texts.add(attribute.values.apply(rows.get(slot)));
+            }
+            trigramIndexes.get(attribute.prefix).buildInBackground(slots, texts);
+        }
+    }
+
+    /**
+     * Returns {@code value} with the case of each character folded the way {@link String#equalsIgnoreCase(String)}
+     * compares characters, so that strings it calls equal fold to the same string.
+     */
+    static String foldCase(String value) {
+        char[] folded = new char[value.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(value.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns {@code c} with its case folded as {@link #foldCase(String)} folds each character.
+     */
+    static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns the words of {@code value}, which are separated by whitespace.
+     */
+    static String[] splitWords(String value) {
+        return value.trim().split("\\s+");
+    }
+
+    /**
+     * Returns the whole number {@code value} is, or null if it is not one.
+     */
+    static Integer parseNumber(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * How the values of an attribute are searched.
+     */
+    private enum Matching {
+        EXACT, WORD_PREFIX, SUBSTRING
+    }
+
+    /**
+     * A criterion an index answers: the bitmap of the rows having the searched value, and how many rows that is.
+     */
+    private class Lookup {
+        private final Attribute<T> attribute;
+        private final String value;
+        private final BitSet bitmap;
+        private final int rows;
+        private final String narrowedFrom;
+
+        Lookup(Attribute<T> attribute, String value) {
+            this.attribute = attribute;
+            this.value = value;
+            if (attribute.matching == Matching.WORD_PREFIX) {
+                WordLookup wordLookup = lookUpWords(attribute, value);
+                this.bitmap = wordLookup.slots;
+                this.narrowedFrom = wordLookup.narrowedFrom;
+            } else if (attribute.matching == Matching.SUBSTRING) {
+                this.bitmap = trigramIndexes.get(attribute.prefix).lookUp(value).orElse(null);
+                this.narrowedFrom = null;
+            } else {
+                Object key = attribute.normalizer.apply(value);
+                BitSet found = key == null ? null : bitmaps.get(attribute.prefix).get(key);
+                this.bitmap = found == null ? NO_ROWS : found;
+                this.narrowedFrom = null;
+            }
+            this.rows = bitmap == null ? 0 : bitmap.cardinality();
+        }
+
+        /**
+         * Returns the criterion, and the lookup it narrowed if there is one.
+         */
+        String describe() {
+            return narrowedFrom == null ? toString() : this + " among the rows found for " + narrowedFrom;
+        }
+
+        @Override
+        public String toString() {
+            return attribute.prefix + value;
+        }
+    }
+
+    /**
+     * A lookup of words by their prefixes, kept so that the next lookup can narrow its rows if it extends its words.
+     */
+    private class WordLookup {
+        private final Attribute<T> attribute;
+        private final String value;
+        private final String[] words;
+        private final long modificationCount;
+        private final BitSet slots;
+        private final String narrowedFrom;
+
+        WordLookup(Attribute<T> attribute, String value, String[] words, long modificationCount, BitSet slots,
+                String narrowedFrom) {
+            this.attribute = attribute;
+            this.value = value;
+            this.words = words;
+            this.modificationCount = modificationCount;
+            this.slots = slots;
+            this.narrowedFrom = narrowedFrom;
+        }
+
+        /**
+         * Returns true if the rows for {@code otherWords} of {@code otherAttribute}, with the index at
+         * {@code otherModificationCount}, are among the rows found by this lookup.
+         */
+        boolean isNarrowedBy(Attribute<T> otherAttribute, String[] otherWords, long otherModificationCount) {
+            return otherAttribute == attribute && otherModificationCount == modificationCount
+                    && isExtendedBy(words, otherWords);
+        }
+
+        @Override
+        public String toString() {
+            return attribute.prefix + value;
+        }
+    }
+
+    /**
+     * The last search, kept so that the next search can check only the rows it found if it narrows its criteria.
+     */
+    private class LastSearch {
+        private final Map<Prefix, String> criteria;
+        private final List<T> matches;
+        private final long modificationCount;
+
+        LastSearch(Map<Prefix, String> criteria, List<T> matches, long modificationCount) {
+            this.criteria = criteria;
+            this.matches = matches;
+            this.modificationCount = modificationCount;
+        }
+
+        /**
+         * Returns true if the rows meeting {@code otherCriteria}, with the index at {@code otherModificationCount},
+         * are among the rows found by this search: each criterion of this search is kept, with a value that can only
+         * match fewer rows, and any other criterion only narrows them further.
+         */
+        boolean isNarrowedBy(Map<Prefix, String> otherCriteria, long otherModificationCount) {
+            if (otherModificationCount != modificationCount) {
+                return false;
+            }
+            for (Map.Entry<Prefix, String> criterion : criteria.entrySet()) {
+                String otherValue = otherCriteria.get(criterion.getKey());
+                if (otherValue == null || !isNarrowedBy(criterion.getKey(), criterion.getValue(), otherValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isNarrowedBy(Prefix prefix, String value, String otherValue) {
+            Attribute<T> attribute = attributesByPrefix.get(prefix);
+            Matching matching = attribute == null ? Matching.EXACT : attribute.matching;
+            switch (matching) {
+            case WORD_PREFIX:
+                return isExtendedBy(splitWords(foldCase(value)), splitWords(foldCase(otherValue)));
+            case SUBSTRING:
+                return otherValue.contains(value);
+            default:
+                return otherValue.equals(value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            List<String> described = new ArrayList<>();
+            criteria.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey(Comparator.comparing(Prefix::getPrefix)))
+                    .forEach(criterion -> described.add(criterion.getKey() + criterion.getValue()));
+            return String.join(", ", described);
+        }
+    }
+
+    /**
+     * Where a row is indexed, and when, relative to the other rows.
+     */
+    private static class Entry {
+        private int slot;
+        private final long sequence;
+        /** The place of the row in the order the rows were first added, which a row replaced in place keeps. */
+        private final long order;
+
+        Entry(int slot, long sequence, long order) {
+            this.slot = slot;
+            this.sequence = sequence;
+            this.order = order;
+        }
+    }
+
+    /**
+     * An indexed attribute: the prefix it is searched with, its values in a row, and how values from either a row or
+     * a search are normalized into index keys. A normalizer returns null for a searched value no row can have.
+     */
+    static class Attribute<T> {
+        private final Prefix prefix;
+        private final Function<T, Collection<String>> values;
+        private final Function<String, Object> normalizer;
+        private final Matching matching;
+
+        Attribute(Prefix prefix, Function<T, Collection<String>> values, Function<String, Object> normalizer) {
+            this(prefix, values, normalizer, Matching.EXACT);
+        }
+
+        private Attribute(Prefix prefix, Function<T, Collection<String>> values, Function<String, Object> normalizer,
+                Matching matching) {
+            this.prefix = prefix;
+            this.values = values;
+            this.normalizer = normalizer;
+            this.matching = matching;
+        }
+
+        /**
+         * Creates an attribute with a single value in each row.
+         */
+        static <T> Attribute<T> of(Prefix prefix, Function<T, String> value, Function<String, Object> normalizer) {
+            return new Attribute<>(prefix, row -> List.of(value.apply(row)), normalizer);
+        }
+
+        /**
+         * Creates an attribute made of the words of {@code text}, searched for rows having a word starting with each
+         * searched word, ignoring case.
+         */
+        static <T> Attribute<T> words(Prefix prefix, Function<T, String> text) {
+            return new Attribute<>(prefix, row -> Arrays.asList(splitWords(text.apply(row))), AttributeIndex::foldCase,
+                    Matching.WORD_PREFIX);
+        }
+
+        /**
+         * Creates an attribute of free text, searched for rows whose {@code text} contains the searched text, ignoring
+         * case.
+         */
+        static <T> Attribute<T> text(Prefix prefix, Function<T, String> text) {
+            return new Attribute<>(prefix, row -> List.of(text.apply(row)), AttributeIndex::foldCase,
+                    Matching.SUBSTRING);
+        }
+
+        private Set<Object> keysOf(T row) {
+            Set<Object> keys = new HashSet<>();
+            for (String value : values.apply(row)) {
+                keys.add(normalizer.apply(value));
+            }
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Search criteria compiled into an array of field matchers, each holding its search value already parsed or
+ * normalized, so that testing a row costs a few comparisons instead of a walk over the criteria and a parse of every
+ * number in them.
+ * <p>
+ * Matchers run cheapest first. Criteria that no row can meet, such as a level that is not a number, compile to a
+ * predicate that matches nothing without looking at the row.
+ */
+class CompiledCriteria<T> implements Predicate<T> {
+
+    private final FieldMatcher<T>[] matchers;
+    private final boolean matchesNothing;
+
+    private CompiledCriteria(FieldMatcher<T>[] matchers, boolean matchesNothing) {
+        this.matchers = matchers;
+        this.matchesNothing = matchesNothing;
+    }
+
+    @Override
+    public boolean test(T row) {
+        if (matchesNothing) {
+            return false;
+        }
+        for (FieldMatcher<T> matcher : matchers) {
+            if (!matcher.matches(row)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if no row can meet the criteria.
+     */
+    boolean matchesNothing() {
+        return matchesNothing;
+    }
+
+    /**
+     * Tests one field of a row against a search value prepared beforehand.
+     */
+    @FunctionalInterface
+    private interface FieldMatcher<T> {
+        boolean matches(T row);
+    }
+
+    /**
+     * How much a matcher costs to run, cheapest first.
+     */
+    private enum Cost {
+        NUMBER, STRING, STRING_IGNORING_CASE, WORDS, SUBSTRING, COLLECTION
+    }
+
+    /**
+     * Compiles criteria one at a time into a {@code CompiledCriteria}.
+     */
+    static class Builder<T> {
+        private final List<FieldMatcher<T>> matchers = new ArrayList<>();
+        private final List<Cost> costs = new ArrayList<>();
+        private boolean matchesNothing = false;
+
+        /**
+         * Adds a criterion that {@code field} equals {@code value}, ignoring case.
+         */
+        Builder<T> text(Function<T, String> field, String value) {
+            String foldedValue = AttributeIndex.foldCase(value);
+            return add(Cost.STRING_IGNORING_CASE, row -> equalsFolded(field.apply(row), foldedValue));
+        }
+
+        /**
+         * Adds a criterion that, for each word of {@code value}, {@code field} has a word starting with it, ignoring
+         * case. Words are separated by whitespace.
+         */
+        Builder<T> wordPrefixes(Function<T, String> field, String value) {
+            String[] words = AttributeIndex.splitWords(value);
+            return add(Cost.WORDS, row -> {
+                String text = field.apply(row);
+                for (String word : words) {
+                    if (!hasWordStartingWith(text, word)) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        }
+
+        /**
+         * Adds a criterion that {@code field} contains {@code value}, ignoring case.
+         */
+        Builder<T> contains(Function<T, String> field, String value) {
+            requireNonNull(value);
+            return add(Cost.SUBSTRING, row -> {
+                String text = field.apply(row);
+                for (int i = 0; i <= text.length() - value.length(); i++) {
+                    if (text.regionMatches(true, i, value, 0, value.length())) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Adds a criterion that {@code field} equals {@code value}, for fields whose values have no case, such as
+         * digits.
+         */
+        Builder<T> exact(Function<T, String> field, String value) {
+            requireNonNull(value);
+            return add(Cost.STRING, row -> field.apply(row).equals(value));
+        }
+
+        /**
+         * Adds a criterion that {@code field} equals {@code value} ignoring case, for fields whose values are
+         * stored in upper case, so that {@code value} only has to be upper-cased once.
+         */
+        Builder<T> upperCase(Function<T, String> field, String value) {
+            String upperCaseValue = value.toUpperCase(Locale.ROOT);
+            return add(Cost.STRING, row -> field.apply(row).equals(upperCaseValue));
+        }
+
+        /**
+         * Adds a criterion that {@code field} equals the whole number {@code value}. A value that is not a whole
+         * number matches nothing.
+         */
+        Builder<T> number(ToIntFunction<T> field, String value) {
+            int number;
+            try {
+                number = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return nothing();
+            }
+            return add(Cost.NUMBER, row -> field.applyAsInt(row) == number);
+        }
+
+        /**
+         * Adds a criterion that {@code field}, the ordinal of one of {@code count} constants, equals the whole number
+         * {@code value}. A value that is not the ordinal of a constant matches nothing.
+         */
+        Builder<T> ordinal(ToIntFunction<T> field, String value, int count) {
+            int ordinal;
+            try {
+                ordinal = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return nothing();
+            }
+            if (ordinal < 0 || ordinal >= count) {
+                return nothing();
+            }
+            return add(Cost.NUMBER, row -> field.applyAsInt(row) == ordinal);
+        }
+
+        /**
+         * Adds a criterion that one of the tags in {@code field} is named {@code value}, ignoring case.
+         */
+        Builder<T> tag(Function<T, Set<Tag>> field, String value) {
+            requireNonNull(value);
+            return add(Cost.COLLECTION, row -> {
+                for (Tag tag : field.apply(row)) {
+                    if (tag.tagName.equalsIgnoreCase(value)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+        }
+
+        /**
+         * Adds a criterion that no row meets.
+         */
+        Builder<T> nothing() {
+            matchesNothing = true;
+            return this;
+        }
+
+        /**
+         * Returns true if {@code text} folds to {@code foldedValue}, folding one character at a time.
+         */
+        private static boolean equalsFolded(String text, String foldedValue) {
+            if (text.length() != foldedValue.length()) {
+                return false;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (AttributeIndex.foldCase(text.charAt(i)) != foldedValue.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean hasWordStartingWith(String text, String word) {
+            for (int i = 0; i <= text.length() - word.length(); i++) {
+                boolean isWordStart = i == 0 || Character.isWhitespace(text.charAt(i - 1));
+                if (isWordStart && text.regionMatches(true, i, word, 0, word.length())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Builder<T> add(Cost cost, FieldMatcher<T> matcher) {
+            matchers.add(matcher);
+            costs.add(cost);
+            return this;
+        }
+
+        /**
+         * Returns the criteria added so far, compiled.
+         */
+        @SuppressWarnings("unchecked")
+        CompiledCriteria<T> build() {
+            if (matchesNothing) {
+                return new CompiledCriteria<>(new FieldMatcher[0], true);
+            }
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < matchers.size(); i++) {
+                order.add(i);
+            }
+            order.sort(Comparator.comparing(costs::get));
+            FieldMatcher<T>[] ordered = new FieldMatcher[order.size()];
+            for (int i = 0; i < ordered.length; i++) {
+                ordered[i] = matchers.get(order.get(i));
+            }
+            return new CompiledCriteria<>(ordered, false);
+        }
+    }
+}
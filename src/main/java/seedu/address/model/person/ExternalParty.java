@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents an External Party in the address book.
@@ -14,14 +15,28 @@ public class ExternalParty extends Person {
     private final Description description;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. A fresh ID is assigned.
      */
     public ExternalParty(Name name, Phone phone, Email email, Description description) {
-        super(name, phone, email);
+        this(IdSequence.next(), name, phone, email, description);
+    }
+
+    /**
+     * Every field must be present and not null, and {@code id} must be a valid ID.
+     */
+    public ExternalParty(long id, Name name, Phone phone, Email email, Description description) {
+        super(id, name, phone, email);
         requireAllNonNull(name, phone, email, description);
         this.description = description;
     }
 
+    /**
+     * Returns a copy of this external party with {@code id} as its ID.
+     */
+    ExternalParty withId(long id) {
+        return new ExternalParty(id, getName(), getPhone(), getEmail(), description);
+    }
+
     public Description getDescription() {
         return this.description;
     }
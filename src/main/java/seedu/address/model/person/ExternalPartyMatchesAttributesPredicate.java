@@ -16,29 +16,43 @@ import seedu.address.logic.parser.Prefix;
  */
 public class ExternalPartyMatchesAttributesPredicate implements Predicate<ExternalParty> {
     private final Map<Prefix, String> searchCriteria;
+    private final CompiledCriteria<ExternalParty> compiledCriteria;
 
+    /**
+     * Creates a predicate that tests for {@code searchCriteria}, compiled once here rather than on every test.
+     */
     public ExternalPartyMatchesAttributesPredicate(Map<Prefix, String> searchCriteria) {
         this.searchCriteria = searchCriteria;
+        this.compiledCriteria = compile(searchCriteria);
+    }
+
+    private static CompiledCriteria<ExternalParty> compile(Map<Prefix, String> searchCriteria) {
+        CompiledCriteria.Builder<ExternalParty> builder = new CompiledCriteria.Builder<>();
+        for (Map.Entry<Prefix, String> entry : searchCriteria.entrySet()) {
+            Prefix prefix = entry.getKey();
+            String value = entry.getValue();
+            if (prefix.equals(PREFIX_NAME)) {
+                builder.wordPrefixes(externalParty -> externalParty.getName().fullName, value);
+            } else if (prefix.equals(PREFIX_PHONE)) {
+                builder.exact(externalParty -> externalParty.getPhone().value, value);
+            } else if (prefix.equals(PREFIX_EMAIL)) {
+                builder.text(externalParty -> externalParty.getEmail().value, value);
+            } else if (prefix.equals(PREFIX_DESCRIPTION)) {
+                builder.contains(externalParty -> externalParty.getDescription().value, value);
+            } else {
+                builder.nothing();
+            }
+        }
+        return builder.build();
+    }
+
+    public Map<Prefix, String> getSearchCriteria() {
+        return searchCriteria;
     }
 
     @Override
     public boolean test(ExternalParty externalParty) {
-        return searchCriteria.entrySet().stream()
-                .allMatch(entry -> {
-                    Prefix prefix = entry.getKey();
-                    String value = entry.getValue();
-                    if (prefix.equals(PREFIX_NAME)) {
-                        return externalParty.getName().fullName.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_PHONE)) {
-                        return externalParty.getPhone().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_EMAIL)) {
-                        return externalParty.getEmail().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_DESCRIPTION)) {
-                        return externalParty.getDescription().value.equalsIgnoreCase(value);
-                    } else {
-                        return false;
-                    }
-                });
+        return compiledCriteria.test(externalParty);
     }
 
     @Override
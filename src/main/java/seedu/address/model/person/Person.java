@@ -5,28 +5,44 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Every person carries a numeric ID that is fixed at creation and never reused.
  */
 public abstract class Person {
 
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. A fresh ID is assigned.
      */
     public Person(Name name, Phone phone, Email email) {
+        this(IdSequence.next(), name, phone, email);
+    }
+
+    /**
+     * Every field must be present and not null, and {@code id} must be a valid ID.
+     */
+    public Person(long id, Name name, Phone phone, Email email) {
         requireAllNonNull(name, phone, email);
+        this.id = IdSequence.claim(id);
         this.name = name;
         this.phone = phone;
         this.email = email;
     }
 
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -0,0 +1,114 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * How an attribute search was carried out: the steps the planner chose, in the order they ran, with the number of
+ * rows left after each and the time each took, together with the rows found and the result of the search.
+ */
+public class SearchPlan<T> {
+
+    private final List<Step> steps;
+    private final List<T> matches;
+    private final Predicate<T> result;
+
+    SearchPlan(List<Step> steps, List<T> matches, Predicate<T> result) {
+        requireAllNonNull(steps, matches, result);
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        this.matches = Collections.unmodifiableList(matches);
+        this.result = result;
+    }
+
+    /**
+     * Returns a copy of this plan with a step that ran after the search, such as showing its matches, taking
+     * {@code nanos} and leaving {@code rows} rows.
+     */
+    public SearchPlan<T> withStep(String description, int rows, long nanos) {
+        List<Step> extendedSteps = new ArrayList<>(steps);
+        extendedSteps.add(new Step(description, rows, nanos));
+        return new SearchPlan<>(extendedSteps, matches, result);
+    }
+
+    /**
+     * Returns the rows the search found among those it searched, in the order of the list searched.
+     */
+    public List<T> getMatches() {
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that tests rows as the search criteria do, with its results for the rows searched already
+     * worked out.
+     */
+    public Predicate<T> getResult() {
+        return result;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Returns the time the search took, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return steps.stream().mapToLong(Step::getNanos).sum();
+    }
+
+    /**
+     * Returns the steps of the plan one per line, numbered, followed by the time they took altogether.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder();
+        for (int i = 0; i < steps.size(); i++) {
+            explanation.append(i + 1).append(". ").append(steps.get(i)).append('\n');
+        }
+        return explanation.append("Total: ").append(formatMillis(getTotalNanos())).toString();
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f ms", nanos / 1e6);
+    }
+
+    /**
+     * One step of a plan.
+     */
+    public static class Step {
+        private final String description;
+        private final int rows;
+        private final long nanos;
+
+        Step(String description, int rows, long nanos) {
+            requireNonNull(description);
+            this.description = description;
+            this.rows = rows;
+            this.nanos = nanos;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * Returns the number of rows left after the step.
+         */
+        public int getRows() {
+            return rows;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d %s (%s)", description, rows, rows == 1 ? "row" : "rows", formatMillis(nanos));
+        }
+    }
+}
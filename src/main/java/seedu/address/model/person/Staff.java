@@ -8,6 +8,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Staff in the address book.
@@ -25,11 +26,19 @@ public class Staff extends Person {
     private final StaffDesignation designation;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. A fresh ID is assigned.
      */
     public Staff(Name name, Phone phone, Email email, Address address, Set<Tag> tags, Phone emergency,
                  Block block, Level level, Room room, StaffDesignation designation) {
-        super(name, phone, email);
+        this(IdSequence.next(), name, phone, email, address, tags, emergency, block, level, room, designation);
+    }
+
+    /**
+     * Every field must be present and not null, and {@code id} must be a valid ID.
+     */
+    public Staff(long id, Name name, Phone phone, Email email, Address address, Set<Tag> tags, Phone emergency,
+                 Block block, Level level, Room room, StaffDesignation designation) {
+        super(id, name, phone, email);
         requireAllNonNull(name, phone, email, address, tags, emergency, block, level, room, designation);
         this.address = address;
         this.tags.addAll(tags);
@@ -40,6 +49,14 @@ public class Staff extends Person {
         this.designation = designation;
     }
 
+    /**
+     * Returns a copy of this staff member with {@code id} as its ID.
+     */
+    Staff withId(long id) {
+        return new Staff(id, getName(), getPhone(), getEmail(), address, tags, emergency, block, level, room,
+                designation);
+    }
+
     public Address getAddress() {
         return address;
     }
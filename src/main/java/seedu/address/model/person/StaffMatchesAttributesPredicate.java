@@ -22,62 +22,56 @@ import seedu.address.logic.parser.Prefix;
  */
 public class StaffMatchesAttributesPredicate implements Predicate<Staff> {
     private final Map<Prefix, String> searchCriteria;
+    private final CompiledCriteria<Staff> compiledCriteria;
 
+    /**
+     * Creates a predicate that tests for {@code searchCriteria}, compiled once here rather than on every test.
+     */
     public StaffMatchesAttributesPredicate(Map<Prefix, String> searchCriteria) {
         this.searchCriteria = searchCriteria;
+        this.compiledCriteria = compile(searchCriteria);
+    }
+
+    private static CompiledCriteria<Staff> compile(Map<Prefix, String> searchCriteria) {
+        CompiledCriteria.Builder<Staff> builder = new CompiledCriteria.Builder<>();
+        for (Map.Entry<Prefix, String> entry : searchCriteria.entrySet()) {
+            Prefix prefix = entry.getKey();
+            String value = entry.getValue();
+            if (prefix.equals(PREFIX_NAME)) {
+                builder.wordPrefixes(staff -> staff.getName().fullName, value);
+            } else if (prefix.equals(PREFIX_PHONE)) {
+                builder.exact(staff -> staff.getPhone().value, value);
+            } else if (prefix.equals(PREFIX_EMAIL)) {
+                builder.text(staff -> staff.getEmail().value, value);
+            } else if (prefix.equals(PREFIX_ADDRESS)) {
+                builder.contains(staff -> staff.getAddress().value, value);
+            } else if (prefix.equals(PREFIX_TAG)) {
+                builder.tag(Staff::getTags, value);
+            } else if (prefix.equals(PREFIX_EMERGENCY)) {
+                builder.exact(staff -> staff.getEmergency().value, value);
+            } else if (prefix.equals(PREFIX_BLOCK)) {
+                builder.upperCase(staff -> staff.getBlock().value, value);
+            } else if (prefix.equals(PREFIX_LEVEL)) {
+                builder.number(staff -> staff.getLevel().value, value);
+            } else if (prefix.equals(PREFIX_ROOM)) {
+                builder.number(staff -> staff.getRoom().value, value);
+            } else if (prefix.equals(PREFIX_DESIGNATION)) {
+                builder.ordinal(staff -> staff.getStaffDesignation().getOrdinalDesignation(), value,
+                        StaffDesignation.Role.values().length);
+            } else {
+                builder.nothing();
+            }
+        }
+        return builder.build();
+    }
+
+    public Map<Prefix, String> getSearchCriteria() {
+        return searchCriteria;
     }
 
     @Override
     public boolean test(Staff staff) {
-        return searchCriteria.entrySet().stream()
-                .allMatch(entry -> {
-                    Prefix prefix = entry.getKey();
-                    String value = entry.getValue();
-                    if (prefix.equals(PREFIX_NAME)) {
-                        return staff.getName().fullName.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_PHONE)) {
-                        return staff.getPhone().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_EMAIL)) {
-                        return staff.getEmail().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_ADDRESS)) {
-                        return staff.getAddress().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_TAG)) {
-                        return staff.getTags().stream()
-                                .anyMatch(tag -> tag.tagName.equalsIgnoreCase(value));
-                    } else if (prefix.equals(PREFIX_EMERGENCY)) {
-                        return staff.getEmergency().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_BLOCK)) {
-                        return staff.getBlock().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_LEVEL)) {
-                        try {
-                            int level = Integer.parseInt(value);
-                            return staff.getLevel().value == level;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    } else if (prefix.equals(PREFIX_ROOM)) {
-                        try {
-                            int room = Integer.parseInt(value);
-                            return staff.getRoom().value == room;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    } else if (prefix.equals(PREFIX_DESIGNATION)) {
-                        try {
-                            int designationIndex = Integer.parseInt(value);
-                            if (designationIndex < 0 || designationIndex >= StaffDesignation.Role.values().length) {
-                                return false;
-                            }
-                            StaffDesignation.Role role = StaffDesignation.Role.values()[designationIndex];
-                            boolean matches = staff.getStaffDesignation().value == role;
-                            return matches;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    } else {
-                        return false;
-                    }
-                });
+        return compiledCriteria.test(staff);
     }
 
     @Override
@@ -8,6 +8,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Represents a Student in the address book.
@@ -25,11 +26,20 @@ public class Student extends Person {
     private final StudentDesignation studentDesignation;
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. A fresh ID is assigned.
      */
     public Student(Name name, Matric matric, Phone phone, Email email, Address address, Set<Tag> tags, Phone emergency,
                  Block block, Level level, Room room, StudentDesignation studentDesignation) {
-        super(name, phone, email);
+        this(IdSequence.next(), name, matric, phone, email, address, tags, emergency, block, level, room,
+                studentDesignation);
+    }
+
+    /**
+     * Every field must be present and not null, and {@code id} must be a valid ID.
+     */
+    public Student(long id, Name name, Matric matric, Phone phone, Email email, Address address, Set<Tag> tags,
+                   Phone emergency, Block block, Level level, Room room, StudentDesignation studentDesignation) {
+        super(id, name, phone, email);
         requireAllNonNull(name, matric, phone, email, address, tags, emergency, block, level, room, studentDesignation);
         this.address = address;
         this.tags.addAll(tags);
@@ -41,6 +51,14 @@ public class Student extends Person {
         this.studentDesignation = studentDesignation;
     }
 
+    /**
+     * Returns a copy of this student with {@code id} as its ID.
+     */
+    Student withId(long id) {
+        return new Student(id, getName(), matric, getPhone(), getEmail(), address, tags, emergency, block, level, room,
+                studentDesignation);
+    }
+
     public Address getAddress() {
         return address;
     }
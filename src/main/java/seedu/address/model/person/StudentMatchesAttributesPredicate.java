@@ -23,64 +23,58 @@ import seedu.address.logic.parser.Prefix;
  */
 public class StudentMatchesAttributesPredicate implements Predicate<Student> {
     private final Map<Prefix, String> searchCriteria;
+    private final CompiledCriteria<Student> compiledCriteria;
 
+    /**
+     * Creates a predicate that tests for {@code searchCriteria}, compiled once here rather than on every test.
+     */
     public StudentMatchesAttributesPredicate(Map<Prefix, String> searchCriteria) {
         this.searchCriteria = searchCriteria;
+        this.compiledCriteria = compile(searchCriteria);
+    }
+
+    private static CompiledCriteria<Student> compile(Map<Prefix, String> searchCriteria) {
+        CompiledCriteria.Builder<Student> builder = new CompiledCriteria.Builder<>();
+        for (Map.Entry<Prefix, String> entry : searchCriteria.entrySet()) {
+            Prefix prefix = entry.getKey();
+            String value = entry.getValue();
+            if (prefix.equals(PREFIX_NAME)) {
+                builder.wordPrefixes(student -> student.getName().fullName, value);
+            } else if (prefix.equals(PREFIX_MATRIC)) {
+                builder.upperCase(student -> student.getMatric().value, value);
+            } else if (prefix.equals(PREFIX_PHONE)) {
+                builder.exact(student -> student.getPhone().value, value);
+            } else if (prefix.equals(PREFIX_EMAIL)) {
+                builder.text(student -> student.getEmail().value, value);
+            } else if (prefix.equals(PREFIX_ADDRESS)) {
+                builder.contains(student -> student.getAddress().value, value);
+            } else if (prefix.equals(PREFIX_TAG)) {
+                builder.tag(Student::getTags, value);
+            } else if (prefix.equals(PREFIX_EMERGENCY)) {
+                builder.exact(student -> student.getEmergency().value, value);
+            } else if (prefix.equals(PREFIX_BLOCK)) {
+                builder.upperCase(student -> student.getBlock().value, value);
+            } else if (prefix.equals(PREFIX_LEVEL)) {
+                builder.number(student -> student.getLevel().value, value);
+            } else if (prefix.equals(PREFIX_ROOM)) {
+                builder.number(student -> student.getRoom().value, value);
+            } else if (prefix.equals(PREFIX_DESIGNATION)) {
+                builder.ordinal(student -> student.getStudentDesignation().getOrdinalDesignation(), value,
+                        StudentDesignation.Role.values().length);
+            } else {
+                builder.nothing();
+            }
+        }
+        return builder.build();
+    }
+
+    public Map<Prefix, String> getSearchCriteria() {
+        return searchCriteria;
     }
 
     @Override
     public boolean test(Student student) {
-        return searchCriteria.entrySet().stream()
-                .allMatch(entry -> {
-                    Prefix prefix = entry.getKey();
-                    String value = entry.getValue();
-                    if (prefix.equals(PREFIX_NAME)) {
-                        return student.getName().fullName.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_MATRIC)) {
-                        return student.getMatric().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_PHONE)) {
-                        return student.getPhone().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_EMAIL)) {
-                        return student.getEmail().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_ADDRESS)) {
-                        return student.getAddress().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_TAG)) {
-                        return student.getTags().stream()
-                                .anyMatch(tag -> tag.tagName.equalsIgnoreCase(value));
-                    } else if (prefix.equals(PREFIX_EMERGENCY)) {
-                        return student.getEmergency().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_BLOCK)) {
-                        return student.getBlock().value.equalsIgnoreCase(value);
-                    } else if (prefix.equals(PREFIX_LEVEL)) {
-                        try {
-                            int level = Integer.parseInt(value);
-                            return student.getLevel().value == level;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    } else if (prefix.equals(PREFIX_ROOM)) {
-                        try {
-                            int room = Integer.parseInt(value);
-                            return student.getRoom().value == room;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    } else if (prefix.equals(PREFIX_DESIGNATION)) {
-                        try {
-                            int designationIndex = Integer.parseInt(value);
-                            if (designationIndex < 0 || designationIndex >= StudentDesignation.Role.values().length) {
-                                return false;
-                            }
-                            StudentDesignation.Role role = StudentDesignation.Role.values()[designationIndex];
-                            boolean matches = student.getStudentDesignation().value == role;
-                            return matches;
-                        } catch (NumberFormatException e) {
-                            return false;
-                        }
-                    } else {
-                        return false;
-                    }
-                });
+        return compiledCriteria.test(student);
     }
 
     @Override
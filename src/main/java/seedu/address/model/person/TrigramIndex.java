@@ -0,0 +1,336 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * An inverted index from each trigram, three characters in a row with their case folded, to the sorted slots of the
+ * rows whose text has it, so that the rows that may contain a string are those in the posting lists of all its
+ * trigrams. Rows found this way must still be checked for the string itself, as having its trigrams is not enough.
+ * <p>
+ * The memory the posting lists take is estimated as they change, and reported only in the logs. An index that would
+ * take more than its budget is dropped, and searches scan instead, until the rows are indexed again, as when they are
+ * replaced or their slots are compacted.
+ * <p>
+ * Many rows at once, such as those of an address book being loaded, are indexed in the background. Searches scan
+ * until that is done, and rows added or removed meanwhile are applied to the index once it is built.
+ */
+class TrigramIndex {
+
+    /** The number of characters in a trigram, and the shortest string the index can look up. */
+    static final int TRIGRAM_LENGTH = 3;
+
+    /** The memory an index may take before it is dropped: 64 MiB. */
+    static final long DEFAULT_MAX_BYTES = 64L << 20;
+
+    /** The estimated memory a posting list takes besides its slots, such as its map entry, key and array header. */
+    private static final long POSTING_OVERHEAD_BYTES = 80;
+
+    private static final Logger logger = LogsCenter.getLogger(TrigramIndex.class);
+
+    private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "trigram-index-builder");
+        // A build only speeds up searches, so it need not keep the JVM alive
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String name;
+    private final long maxBytes;
+    private Postings postings = new Postings();
+    private boolean isDropped = false;
+    private CompletableFuture<Postings> build;
+    private final List<Change> changesDuringBuild = new ArrayList<>();
+
+    /**
+     * Creates an empty index, called {@code name} in logs, that may take up to {@code maxBytes} of memory.
+     */
+    TrigramIndex(String name, long maxBytes) {
+        this.name = name;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Indexes the {@code texts} of the row at {@code slot}, which must be after every slot indexed.
+     */
+    void add(int slot, Collection<String> texts) {
+        applyChange(new Change(slot, texts, true));
+    }
+
+    /**
+     * Stops indexing the {@code texts} of the row at {@code slot}.
+     */
+    void remove(int slot, Collection<String> texts) {
+        applyChange(new Change(slot, texts, false));
+    }
+
+    /**
+     * Stops indexing every row, abandoning any build in the background.
+     */
+    void clear() {
+        if (build != null) {
+            build.cancel(false);
+            build = null;
+        }
+        changesDuringBuild.clear();
+        postings = new Postings();
+        isDropped = false;
+    }
+
+    /**
+     * Replaces the index with one of {@code texts}, the texts of the rows at {@code slots} in ascending order, built
+     * in the background.
+     */
+    void buildInBackground(int[] slots, List<Collection<String>> texts) {
+        clear();
+        build = CompletableFuture.supplyAsync(() -> {
+            Postings built = new Postings();
+            for (int i = 0; i < slots.length; i++) {
+                built.add(slots[i], texts.get(i));
+            }
+            return built;
+        }, BUILDER);
+    }
+
+    /**
+     * Returns the slots of the rows whose texts may contain {@code value}, ignoring case, or nothing if the index
+     * cannot tell: while it is built, once it is dropped, or for a value shorter than a trigram.
+     */
+    Optional<BitSet> lookUp(String value) {
+        installBuild();
+        String folded = AttributeIndex.foldCase(value);
+        if (build != null || isDropped || folded.length() < TRIGRAM_LENGTH) {
+            return Optional.empty();
+        }
+        return Optional.of(postings.lookUp(folded));
+    }
+
+    /**
+     * Returns the number of distinct trigrams indexed.
+     */
+    int getTrigramCount() {
+        installBuild();
+        return postings.lists.size();
+    }
+
+    private void applyChange(Change change) {
+        installBuild();
+        if (build != null) {
+            changesDuringBuild.add(change);
+            return;
+        }
+        if (isDropped) {
+            return;
+        }
+        change.applyTo(postings);
+        checkBudget();
+    }
+
+    /**
+     * Replaces the index with the one built in the background if it is ready, applying the changes made since.
+     */
+    private void installBuild() {
+        if (build == null || !build.isDone()) {
+            return;
+        }
+        Postings built;
+        try {
+            built = build.get();
+        } catch (InterruptedException | ExecutionException e) {
+            logger.warning("Could not build the " + name + " trigram index, so searches will scan instead: " + e);
+            build = null;
+            changesDuringBuild.clear();
+            isDropped = true;
+            return;
+        }
+        build = null;
+        changesDuringBuild.forEach(change -> change.applyTo(built));
+        changesDuringBuild.clear();
+        postings = built;
+        logger.fine(String.format("Built the %s trigram index: %d trigrams in about %d KiB", name,
+                postings.lists.size(), postings.bytes >> 10));
+        checkBudget();
+    }
+
+    private void checkBudget() {
+        if (postings.bytes <= maxBytes) {
+            return;
+        }
+        logger.warning(String.format("The %s trigram index would take about %d KiB, more than the %d KiB allowed, "
+                + "so searches will scan instead", name, postings.bytes >> 10, maxBytes >> 10));
+        postings = new Postings();
+        isDropped = true;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code folded}, a string with its case folded, each packed into a long.
+     */
+    static Set<Long> trigramsOf(String folded) {
+        Set<Long> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= folded.length(); i++) {
+            trigrams.add(((long) folded.charAt(i) << 32) | ((long) folded.charAt(i + 1) << 16)
+                    | folded.charAt(i + 2));
+        }
+        return trigrams;
+    }
+
+    /**
+     * The posting lists of an index, and the memory they are estimated to take.
+     */
+    private static class Postings {
+        private final Map<Long, PostingList> lists = new HashMap<>();
+        private long bytes = 0;
+
+        void add(int slot, Collection<String> texts) {
+            for (Long trigram : trigramsOfAll(texts)) {
+                PostingList list = lists.get(trigram);
+                if (list == null) {
+                    list = new PostingList();
+                    lists.put(trigram, list);
+                    bytes += POSTING_OVERHEAD_BYTES + list.getBytes();
+                }
+                bytes -= list.getBytes();
+                list.add(slot);
+                bytes += list.getBytes();
+            }
+        }
+
+        void remove(int slot, Collection<String> texts) {
+            for (Long trigram : trigramsOfAll(texts)) {
+                PostingList list = lists.get(trigram);
+                if (list == null) {
+                    continue;
+                }
+                bytes -= list.getBytes();
+                list.remove(slot);
+                if (list.size == 0) {
+                    lists.remove(trigram);
+                    bytes -= POSTING_OVERHEAD_BYTES;
+                } else {
+                    bytes += list.getBytes();
+                }
+            }
+        }
+
+        /**
+         * Returns the slots in the posting lists of every trigram of {@code folded}, intersecting the shortest lists
+         * first.
+         */
+        BitSet lookUp(String folded) {
+            List<PostingList> selected = new ArrayList<>();
+            for (Long trigram : trigramsOf(folded)) {
+                PostingList list = lists.get(trigram);
+                if (list == null) {
+                    return new BitSet();
+                }
+                selected.add(list);
+            }
+            selected.sort((first, second) -> Integer.compare(first.size, second.size));
+            int[] slots = Arrays.copyOf(selected.get(0).slots, selected.get(0).size);
+            int count = slots.length;
+            for (int i = 1; i < selected.size() && count > 0; i++) {
+                count = selected.get(i).retainIn(slots, count);
+            }
+            BitSet found = new BitSet();
+            for (int i = 0; i < count; i++) {
+                found.set(slots[i]);
+            }
+            return found;
+        }
+
+        private static Set<Long> trigramsOfAll(Collection<String> texts) {
+            Set<Long> trigrams = new HashSet<>();
+            for (String text : texts) {
+                trigrams.addAll(trigramsOf(AttributeIndex.foldCase(text)));
+            }
+            return trigrams;
+        }
+    }
+
+    /**
+     * The slots of the rows having a trigram, in ascending order.
+     */
+    private static class PostingList {
+        private int[] slots = new int[2];
+        private int size = 0;
+
+        /**
+         * Adds {@code slot}, which must be after every slot in the list.
+         */
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(slots, index + 1, slots, index, size - index - 1);
+            size--;
+        }
+
+        /**
+         * Keeps only the first {@code count} of {@code candidates}, in ascending order, that are also in the list, and
+         * returns how many are left, walking both lists once.
+         */
+        int retainIn(int[] candidates, int count) {
+            int kept = 0;
+            int i = 0;
+            for (int c = 0; c < count; c++) {
+                while (i < size && slots[i] < candidates[c]) {
+                    i++;
+                }
+                if (i < size && slots[i] == candidates[c]) {
+                    candidates[kept++] = candidates[c];
+                }
+            }
+            return kept;
+        }
+
+        long getBytes() {
+            return (long) slots.length * Integer.BYTES;
+        }
+    }
+
+    /**
+     * A row added or removed, kept while the index is built so that it can be applied afterwards.
+     */
+    private static class Change {
+        private final int slot;
+        private final Collection<String> texts;
+        private final boolean isAdded;
+
+        Change(int slot, Collection<String> texts, boolean isAdded) {
+            this.slot = slot;
+            this.texts = texts;
+            this.isAdded = isAdded;
+        }
+
+        void applyTo(Postings postings) {
+            if (isAdded) {
+                postings.add(slot, texts);
+            } else {
+                postings.remove(slot, texts);
+            }
+        }
+    }
+}
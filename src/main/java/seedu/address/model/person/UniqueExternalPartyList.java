@@ -2,9 +2,19 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,19 +31,45 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The phone and email of every external party are also kept in hash indexes, so identity checks do not need to scan the
+ * list. The indexes never change the order of external parties seen through the {@code ObservableList}.
+ * A further index by {@link Person#getId()} lets external parties be looked up by ID, and bitmap indexes of the
+ * attributes searched most let attribute searches skip the external parties that cannot match.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniqueExternalPartyList implements Iterable<ExternalParty> {
+
+    /** The attributes of external parties that searches look up in indexes, free text by trigram. */
+    private static final List<AttributeIndex.Attribute<ExternalParty>> SEARCHABLE_ATTRIBUTES = List.of(
+            AttributeIndex.Attribute.words(PREFIX_NAME, externalParty -> externalParty.getName().fullName),
+            AttributeIndex.Attribute.of(PREFIX_PHONE, externalParty -> externalParty.getPhone().value, value -> value),
+            AttributeIndex.Attribute.of(PREFIX_EMAIL, externalParty -> externalParty.getEmail().value,
+                    AttributeIndex::foldCase),
+            AttributeIndex.Attribute.text(PREFIX_DESCRIPTION, externalParty -> externalParty.getDescription().value));
+
     private final ObservableList<ExternalParty> internalList = FXCollections.observableArrayList();
     private final ObservableList<ExternalParty> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Phone, ExternalParty> phoneIndex = new HashMap<>();
+    private final Map<Email, ExternalParty> emailIndex = new HashMap<>();
+    private final Map<Long, ExternalParty> idIndex = new HashMap<>();
+    private final AttributeIndex<ExternalParty> attributeIndex = new AttributeIndex<>(SEARCHABLE_ATTRIBUTES);
+
     /**
      * Returns true if any of the external parties have this phone or this email.
      */
     public boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
         requireAllNonNull(phone, email);
-        return internalList.stream().anyMatch(externalParty -> externalParty.hasPersonWithPhoneOrEmail(phone, email));
+        return phoneIndex.containsKey(phone) || emailIndex.containsKey(email);
+    }
+
+    /**
+     * Returns the external party with the given {@code id}, if it is in the list.
+     */
+    public Optional<ExternalParty> findById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -41,7 +77,7 @@ public class UniqueExternalPartyList implements Iterable<ExternalParty> {
      */
     public boolean contains(ExternalParty toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone()) || emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -54,6 +90,25 @@ public class UniqueExternalPartyList implements Iterable<ExternalParty> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds every external party in {@code toAdd} to the end of the list in a single change to the list.
+     * None of them may already exist in the list, nor share a phone or email with another of them. If any does, the
+     * list is left unchanged.
+     */
+    public void addAll(List<ExternalParty> toAdd) {
+        requireAllNonNull(toAdd);
+        List<ExternalParty> duplicates = findDuplicates(toAdd);
+        toAdd.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::indexIdentities);
+        attributeIndex.addAll(toAdd);
     }
 
     /**
@@ -61,8 +116,9 @@ public class UniqueExternalPartyList implements Iterable<ExternalParty> {
      * {@code target} must exist in the list.
      * The external party identity of {@code editedExternalParty} must not be the same
      * as another existing external party in the list.
+     * The {@code external party} stored keeps the ID of {@code target}, and is returned.
      */
-    public void setExternalParty(ExternalParty target, ExternalParty editedExternalParty) {
+    public ExternalParty setExternalParty(ExternalParty target, ExternalParty editedExternalParty) {
         requireAllNonNull(target, editedExternalParty);
 
         int index = internalList.indexOf(target);
@@ -70,27 +126,41 @@ public class UniqueExternalPartyList implements Iterable<ExternalParty> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedExternalParty) && contains(editedExternalParty)) {
+        ExternalParty existing = internalList.get(index);
+        if (isIdentityTakenByOther(editedExternalParty, existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedExternalParty);
+        ExternalParty stored = editedExternalParty.getId() == existing.getId()
+                ? editedExternalParty
+                : editedExternalParty.withId(existing.getId());
+        internalList.set(index, stored);
+        unindexIdentities(existing);
+        indexIdentities(stored);
+        attributeIndex.replace(existing, stored);
+        return stored;
     }
 
     /**
      * Removes the equivalent external party from the list.
      * The external party must exist in the list.
+     * Returns the external party removed.
      */
-    public void remove(ExternalParty toRemove) {
+    public ExternalParty remove(ExternalParty toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        ExternalParty removed = internalList.remove(index);
+        unindex(removed);
+        return removed;
     }
 
     public void setExternalParties(UniqueExternalPartyList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -99,11 +169,23 @@ public class UniqueExternalPartyList implements Iterable<ExternalParty> {
      */
     public void setExternalParties(List<ExternalParty> externalParty) {
         requireAllNonNull(externalParty);
-        if (!externalPartyAreUnique(externalParty)) {
-            throw new DuplicatePersonException();
+        List<ExternalParty> duplicates = findDuplicates(externalParty);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(externalParty);
+        rebuildIndexes();
+    }
+
+    /**
+     * Searches the external parties in the list for those matching {@code predicate} through the bitmap indexes, and
+     * returns the plan the search followed. Its result is equivalent to {@code predicate}, with its results for the
+     * external parties in the list now looked up rather than worked out.
+     */
+    public SearchPlan<ExternalParty> search(ExternalPartyMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        return attributeIndex.search(predicate.getSearchCriteria(), predicate);
     }
 
     /**
@@ -161,17 +243,64 @@ public class UniqueExternalPartyList implements Iterable<ExternalParty> {
     }
 
     /**
-     * Returns true if {@code externalParty} contains only unique external party.
+     * Returns true if the phone or email of {@code externalParty} belongs to an external party other than {@code self}.
+     */
+    private boolean isIdentityTakenByOther(ExternalParty externalParty, ExternalParty self) {
+        return isTakenByOther(phoneIndex.get(externalParty.getPhone()), self)
+                || isTakenByOther(emailIndex.get(externalParty.getEmail()), self);
+    }
+
+    private static boolean isTakenByOther(ExternalParty owner, ExternalParty self) {
+        return owner != null && owner != self;
+    }
+
+    private void index(ExternalParty externalParty) {
+        indexIdentities(externalParty);
+        attributeIndex.add(externalParty);
+    }
+
+    private void indexIdentities(ExternalParty externalParty) {
+        phoneIndex.put(externalParty.getPhone(), externalParty);
+        emailIndex.put(externalParty.getEmail(), externalParty);
+        idIndex.put(externalParty.getId(), externalParty);
+    }
+
+    private void unindex(ExternalParty externalParty) {
+        unindexIdentities(externalParty);
+        attributeIndex.remove(externalParty);
+    }
+
+    private void unindexIdentities(ExternalParty externalParty) {
+        phoneIndex.remove(externalParty.getPhone(), externalParty);
+        emailIndex.remove(externalParty.getEmail(), externalParty);
+        idIndex.remove(externalParty.getId(), externalParty);
+    }
+
+    private void rebuildIndexes() {
+        phoneIndex.clear();
+        emailIndex.clear();
+        idIndex.clear();
+        attributeIndex.clear();
+        internalList.forEach(this::indexIdentities);
+        attributeIndex.addAll(internalList);
+    }
+
+    /**
+     * Returns the external parties in {@code externalParty} that share a phone or email with an earlier one,
+     * in one hashed pass.
      */
-    private boolean externalPartyAreUnique(List<ExternalParty> externalParty) {
-        for (int i = 0; i < externalParty.size() - 1; i++) {
-            for (int j = i + 1; j < externalParty.size(); j++) {
-                if (externalParty.get(i).isSamePerson(externalParty.get(j))) {
-                    return false;
-                }
+    private static List<ExternalParty> findDuplicates(List<ExternalParty> externalParty) {
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        List<ExternalParty> duplicates = new ArrayList<>();
+        for (ExternalParty externalPartyMember : externalParty) {
+            boolean isNewPhone = phones.add(externalPartyMember.getPhone());
+            boolean isNewEmail = emails.add(externalPartyMember.getEmail());
+            if (!isNewPhone || !isNewEmail) {
+                duplicates.add(externalPartyMember);
             }
         }
-        return true;
+        return duplicates;
     }
 
 }
@@ -2,9 +2,26 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOCK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESIGNATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMERGENCY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,20 +37,55 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The phone and email of every staff are also kept in hash indexes, so identity checks do not need to scan the
+ * list. The indexes never change the order of staff seen through the {@code ObservableList}.
+ * A further index by {@link Person#getId()} lets staff be looked up by ID, and bitmap indexes of the attributes
+ * searched most let attribute searches skip the staff that cannot match.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniqueStaffList implements Iterable<Staff> {
 
+    /** The attributes of staff that searches look up in indexes, free text by trigram. */
+    private static final List<AttributeIndex.Attribute<Staff>> SEARCHABLE_ATTRIBUTES = List.of(
+            AttributeIndex.Attribute.words(PREFIX_NAME, staff -> staff.getName().fullName),
+            AttributeIndex.Attribute.of(PREFIX_PHONE, staff -> staff.getPhone().value, value -> value),
+            AttributeIndex.Attribute.of(PREFIX_EMERGENCY, staff -> staff.getEmergency().value, value -> value),
+            AttributeIndex.Attribute.of(PREFIX_EMAIL, staff -> staff.getEmail().value, AttributeIndex::foldCase),
+            AttributeIndex.Attribute.text(PREFIX_ADDRESS, staff -> staff.getAddress().value),
+            new AttributeIndex.Attribute<>(PREFIX_TAG, staff -> staff.getTags().stream().map(tag -> tag.tagName)
+                    .collect(Collectors.toList()), AttributeIndex::foldCase),
+            AttributeIndex.Attribute.of(PREFIX_BLOCK, staff -> staff.getBlock().value, AttributeIndex::foldCase),
+            AttributeIndex.Attribute.of(PREFIX_LEVEL, staff -> String.valueOf(staff.getLevel().value),
+                    AttributeIndex::parseNumber),
+            AttributeIndex.Attribute.of(PREFIX_ROOM, staff -> String.valueOf(staff.getRoom().value),
+                    AttributeIndex::parseNumber),
+            AttributeIndex.Attribute.of(PREFIX_DESIGNATION,
+                    staff -> String.valueOf(staff.getStaffDesignation().getOrdinalDesignation()),
+                    AttributeIndex::parseNumber));
+
     private final ObservableList<Staff> internalList = FXCollections.observableArrayList();
     private final ObservableList<Staff> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Phone, Staff> phoneIndex = new HashMap<>();
+    private final Map<Email, Staff> emailIndex = new HashMap<>();
+    private final Map<Long, Staff> idIndex = new HashMap<>();
+    private final AttributeIndex<Staff> attributeIndex = new AttributeIndex<>(SEARCHABLE_ATTRIBUTES);
+
     /**
      * Returns true if any of the staff have this phone or this email.
      */
     public boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
         requireAllNonNull(phone, email);
-        return internalList.stream().anyMatch(staff -> staff.hasPersonWithPhoneOrEmail(phone, email));
+        return phoneIndex.containsKey(phone) || emailIndex.containsKey(email);
+    }
+
+    /**
+     * Returns the staff with the given {@code id}, if it is in the list.
+     */
+    public Optional<Staff> findById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -41,7 +93,7 @@ public class UniqueStaffList implements Iterable<Staff> {
      */
     public boolean contains(Staff toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone()) || emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -54,14 +106,34 @@ public class UniqueStaffList implements Iterable<Staff> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds every staff in {@code toAdd} to the end of the list in a single change to the list.
+     * None of them may already exist in the list, nor share a phone or email with another of them. If any does, the
+     * list is left unchanged.
+     */
+    public void addAll(List<Staff> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Staff> duplicates = findDuplicates(toAdd);
+        toAdd.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::indexIdentities);
+        attributeIndex.addAll(toAdd);
     }
 
     /**
      * Replaces the staff {@code target} in the list with {@code editedStaff}.
      * {@code target} must exist in the list.
      * The staff identity of {@code editedStaff} must not be the same as another existing staff in the list.
+     * The {@code staff} stored keeps the ID of {@code target}, and is returned.
      */
-    public void setStaff(Staff target, Staff editedStaff) {
+    public Staff setStaff(Staff target, Staff editedStaff) {
         requireAllNonNull(target, editedStaff);
 
         int index = internalList.indexOf(target);
@@ -69,27 +141,39 @@ public class UniqueStaffList implements Iterable<Staff> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedStaff) && contains(editedStaff)) {
+        Staff existing = internalList.get(index);
+        if (isIdentityTakenByOther(editedStaff, existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedStaff);
+        Staff stored = editedStaff.getId() == existing.getId() ? editedStaff : editedStaff.withId(existing.getId());
+        internalList.set(index, stored);
+        unindexIdentities(existing);
+        indexIdentities(stored);
+        attributeIndex.replace(existing, stored);
+        return stored;
     }
 
     /**
      * Removes the equivalent staff from the list.
      * The staff must exist in the list.
+     * Returns the staff removed.
      */
-    public void remove(Staff toRemove) {
+    public Staff remove(Staff toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Staff removed = internalList.remove(index);
+        unindex(removed);
+        return removed;
     }
 
     public void setStaffs(UniqueStaffList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -98,11 +182,23 @@ public class UniqueStaffList implements Iterable<Staff> {
      */
     public void setStaffs(List<Staff> staff) {
         requireAllNonNull(staff);
-        if (!staffAreUnique(staff)) {
-            throw new DuplicatePersonException();
+        List<Staff> duplicates = findDuplicates(staff);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(staff);
+        rebuildIndexes();
+    }
+
+    /**
+     * Searches the staff in the list for those matching {@code predicate} through the bitmap indexes, and returns
+     * the plan the search followed. Its result is equivalent to {@code predicate}, with its results for the
+     * staff in the list now looked up rather than worked out.
+     */
+    public SearchPlan<Staff> search(StaffMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        return attributeIndex.search(predicate.getSearchCriteria(), predicate);
     }
 
     /**
@@ -160,17 +256,63 @@ public class UniqueStaffList implements Iterable<Staff> {
     }
 
     /**
-     * Returns true if {@code staff} contains only unique staff.
+     * Returns true if the phone or email of {@code staff} belongs to a staff other than {@code self}.
+     */
+    private boolean isIdentityTakenByOther(Staff staff, Staff self) {
+        return isTakenByOther(phoneIndex.get(staff.getPhone()), self)
+                || isTakenByOther(emailIndex.get(staff.getEmail()), self);
+    }
+
+    private static boolean isTakenByOther(Staff owner, Staff self) {
+        return owner != null && owner != self;
+    }
+
+    private void index(Staff staff) {
+        indexIdentities(staff);
+        attributeIndex.add(staff);
+    }
+
+    private void indexIdentities(Staff staff) {
+        phoneIndex.put(staff.getPhone(), staff);
+        emailIndex.put(staff.getEmail(), staff);
+        idIndex.put(staff.getId(), staff);
+    }
+
+    private void unindex(Staff staff) {
+        unindexIdentities(staff);
+        attributeIndex.remove(staff);
+    }
+
+    private void unindexIdentities(Staff staff) {
+        phoneIndex.remove(staff.getPhone(), staff);
+        emailIndex.remove(staff.getEmail(), staff);
+        idIndex.remove(staff.getId(), staff);
+    }
+
+    private void rebuildIndexes() {
+        phoneIndex.clear();
+        emailIndex.clear();
+        idIndex.clear();
+        attributeIndex.clear();
+        internalList.forEach(this::indexIdentities);
+        attributeIndex.addAll(internalList);
+    }
+
+    /**
+     * Returns the staff in {@code staff} that share a phone or email with an earlier one, in one hashed pass.
      */
-    private boolean staffAreUnique(List<Staff> staff) {
-        for (int i = 0; i < staff.size() - 1; i++) {
-            for (int j = i + 1; j < staff.size(); j++) {
-                if (staff.get(i).isSamePerson(staff.get(j))) {
-                    return false;
-                }
+    private static List<Staff> findDuplicates(List<Staff> staff) {
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        List<Staff> duplicates = new ArrayList<>();
+        for (Staff staffMember : staff) {
+            boolean isNewPhone = phones.add(staffMember.getPhone());
+            boolean isNewEmail = emails.add(staffMember.getEmail());
+            if (!isNewPhone || !isNewEmail) {
+                duplicates.add(staffMember);
             }
         }
-        return true;
+        return duplicates;
     }
 
 }
@@ -2,9 +2,27 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOCK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESIGNATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMERGENCY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,20 +38,57 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The phone, email and matric of every student are also kept in hash indexes, so identity checks do not need to
+ * scan the list. The indexes never change the order of students seen through the {@code ObservableList}.
+ * A further index by {@link Person#getId()} lets students be looked up by ID, and bitmap indexes of the attributes
+ * searched most let attribute searches skip the students that cannot match.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
+    /** The attributes of students that searches look up in indexes, free text by trigram. */
+    private static final List<AttributeIndex.Attribute<Student>> SEARCHABLE_ATTRIBUTES = List.of(
+            AttributeIndex.Attribute.words(PREFIX_NAME, student -> student.getName().fullName),
+            AttributeIndex.Attribute.of(PREFIX_MATRIC, student -> student.getMatric().value, AttributeIndex::foldCase),
+            AttributeIndex.Attribute.of(PREFIX_PHONE, student -> student.getPhone().value, value -> value),
+            AttributeIndex.Attribute.of(PREFIX_EMERGENCY, student -> student.getEmergency().value, value -> value),
+            AttributeIndex.Attribute.of(PREFIX_EMAIL, student -> student.getEmail().value, AttributeIndex::foldCase),
+            AttributeIndex.Attribute.text(PREFIX_ADDRESS, student -> student.getAddress().value),
+            new AttributeIndex.Attribute<>(PREFIX_TAG, student -> student.getTags().stream().map(tag -> tag.tagName)
+                    .collect(Collectors.toList()), AttributeIndex::foldCase),
+            AttributeIndex.Attribute.of(PREFIX_BLOCK, student -> student.getBlock().value, AttributeIndex::foldCase),
+            AttributeIndex.Attribute.of(PREFIX_LEVEL, student -> String.valueOf(student.getLevel().value),
+                    AttributeIndex::parseNumber),
+            AttributeIndex.Attribute.of(PREFIX_ROOM, student -> String.valueOf(student.getRoom().value),
+                    AttributeIndex::parseNumber),
+            AttributeIndex.Attribute.of(PREFIX_DESIGNATION,
+                    student -> String.valueOf(student.getStudentDesignation().getOrdinalDesignation()),
+                    AttributeIndex::parseNumber));
+
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Phone, Student> phoneIndex = new HashMap<>();
+    private final Map<Email, Student> emailIndex = new HashMap<>();
+    private final Map<Matric, Student> matricIndex = new HashMap<>();
+    private final Map<Long, Student> idIndex = new HashMap<>();
+    private final AttributeIndex<Student> attributeIndex = new AttributeIndex<>(SEARCHABLE_ATTRIBUTES);
+
     /**
      * Returns true if any of the students have this phone or this email.
      */
     public boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
         requireAllNonNull(phone, email);
-        return internalList.stream().anyMatch(student -> student.hasPersonWithPhoneOrEmail(phone, email));
+        return phoneIndex.containsKey(phone) || emailIndex.containsKey(email);
+    }
+
+    /**
+     * Returns the student with the given {@code id}, if it is in the list.
+     */
+    public Optional<Student> findById(long id) {
+        return Optional.ofNullable(idIndex.get(id));
     }
 
     /**
@@ -41,7 +96,9 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone())
+                || emailIndex.containsKey(toCheck.getEmail())
+                || matricIndex.containsKey(toCheck.getMatric());
     }
 
     /**
@@ -54,14 +111,34 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds every student in {@code toAdd} to the end of the list in a single change to the list.
+     * None of them may already exist in the list, nor share a phone, email or matric with another of them. If any
+     * does, the list is left unchanged.
+     */
+    public void addAll(List<Student> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Student> duplicates = findDuplicates(toAdd);
+        toAdd.stream().filter(this::contains).forEach(duplicates::add);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::indexIdentities);
+        attributeIndex.addAll(toAdd);
     }
 
     /**
      * Replaces the student {@code target} in the list with {@code editedStudent}.
      * {@code target} must exist in the list.
      * The student identity of {@code editedStudent} must not be the same as another existing student in the list.
+     * The {@code student} stored keeps the ID of {@code target}, and is returned.
      */
-    public void setStudent(Student target, Student editedSudent) {
+    public Student setStudent(Student target, Student editedSudent) {
         requireAllNonNull(target, editedSudent);
 
         int index = internalList.indexOf(target);
@@ -69,27 +146,41 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedSudent) && contains(editedSudent)) {
+        Student existing = internalList.get(index);
+        if (isIdentityTakenByOther(editedSudent, existing)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedSudent);
+        Student stored = editedSudent.getId() == existing.getId()
+                ? editedSudent
+                : editedSudent.withId(existing.getId());
+        internalList.set(index, stored);
+        unindexIdentities(existing);
+        indexIdentities(stored);
+        attributeIndex.replace(existing, stored);
+        return stored;
     }
 
     /**
      * Removes the equivalent student from the list.
      * The student must exist in the list.
+     * Returns the student removed.
      */
-    public void remove(Student toRemove) {
+    public Student remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Student removed = internalList.remove(index);
+        unindex(removed);
+        return removed;
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -98,11 +189,23 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicatePersonException();
+        List<Student> duplicates = findDuplicates(students);
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(students);
+        rebuildIndexes();
+    }
+
+    /**
+     * Searches the students in the list for those matching {@code predicate} through the bitmap indexes, and returns
+     * the plan the search followed. Its result is equivalent to {@code predicate}, with its results for the
+     * students in the list now looked up rather than worked out.
+     */
+    public SearchPlan<Student> search(StudentMatchesAttributesPredicate predicate) {
+        requireNonNull(predicate);
+        return attributeIndex.search(predicate.getSearchCriteria(), predicate);
     }
 
     /**
@@ -160,17 +263,70 @@ public class UniqueStudentList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code staff} contains only unique staff.
+     * Returns true if the phone, email or matric of {@code student} belongs to a student other than {@code self}.
+     */
+    private boolean isIdentityTakenByOther(Student student, Student self) {
+        return isTakenByOther(phoneIndex.get(student.getPhone()), self)
+                || isTakenByOther(emailIndex.get(student.getEmail()), self)
+                || isTakenByOther(matricIndex.get(student.getMatric()), self);
+    }
+
+    private static boolean isTakenByOther(Student owner, Student self) {
+        return owner != null && owner != self;
+    }
+
+    private void index(Student student) {
+        indexIdentities(student);
+        attributeIndex.add(student);
+    }
+
+    private void indexIdentities(Student student) {
+        phoneIndex.put(student.getPhone(), student);
+        emailIndex.put(student.getEmail(), student);
+        matricIndex.put(student.getMatric(), student);
+        idIndex.put(student.getId(), student);
+    }
+
+    private void unindex(Student student) {
+        unindexIdentities(student);
+        attributeIndex.remove(student);
+    }
+
+    private void unindexIdentities(Student student) {
+        phoneIndex.remove(student.getPhone(), student);
+        emailIndex.remove(student.getEmail(), student);
+        matricIndex.remove(student.getMatric(), student);
+        idIndex.remove(student.getId(), student);
+    }
+
+    private void rebuildIndexes() {
+        phoneIndex.clear();
+        emailIndex.clear();
+        matricIndex.clear();
+        idIndex.clear();
+        attributeIndex.clear();
+        internalList.forEach(this::indexIdentities);
+        attributeIndex.addAll(internalList);
+    }
+
+    /**
+     * Returns the students in {@code students} that share a phone, email or matric with an earlier one,
+     * in one hashed pass.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSamePerson(students.get(j))) {
-                    return false;
-                }
+    private static List<Student> findDuplicates(List<Student> students) {
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        Set<Matric> matrics = new HashSet<>();
+        List<Student> duplicates = new ArrayList<>();
+        for (Student student : students) {
+            boolean isNewPhone = phones.add(student.getPhone());
+            boolean isNewEmail = emails.add(student.getEmail());
+            boolean isNewMatric = matrics.add(student.getMatric());
+            if (!isNewPhone || !isNewEmail || !isNewMatric) {
+                duplicates.add(student);
             }
         }
-        return true;
+        return duplicates;
     }
 
 }
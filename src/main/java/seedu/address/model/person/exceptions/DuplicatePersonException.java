@@ -1,11 +1,34 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Creates an exception listing every person that duplicates an earlier one.
+     */
+    public DuplicatePersonException(List<? extends Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates);
+        this.duplicates = List.copyOf(duplicates);
+    }
+
+    /**
+     * Returns the persons that duplicate an earlier one, or an empty list if they were not recorded.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
@@ -0,0 +1,41 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the numeric IDs of persons and events.
+ * IDs are positive, shared by persons and events, and never handed out twice in one run.
+ */
+public class IdSequence {
+
+    public static final String MESSAGE_CONSTRAINTS = "IDs should be positive numbers";
+
+    private static final AtomicLong lastId = new AtomicLong();
+
+    private IdSequence() {}
+
+    /**
+     * Returns a fresh ID.
+     */
+    public static long next() {
+        return lastId.incrementAndGet();
+    }
+
+    /**
+     * Records that {@code id} has been assigned, so that {@link #next()} never hands it out, and returns it.
+     */
+    public static long claim(long id) {
+        checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
+        lastId.accumulateAndGet(id, Math::max);
+        return id;
+    }
+
+    /**
+     * Returns true if {@code id} can be used as an ID.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+}
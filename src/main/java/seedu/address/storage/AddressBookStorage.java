@@ -30,6 +30,18 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Starts reading the AddressBook data, returning once part of it can be shown.
+     * Returns {@code Optional.empty()} if storage file is not found. Nothing may be saved to the storage until the
+     * returned address book is done.
+     * By default, the whole address book is read before returning.
+     *
+     * @throws DataLoadingException if loading the part of the data to be shown failed.
+     */
+    default Optional<PendingAddressBook> readAddressBookInBackground() throws DataLoadingException {
+        return readAddressBook().map(PendingAddressBook::of);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
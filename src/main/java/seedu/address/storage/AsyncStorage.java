@@ -0,0 +1,188 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that saves the address book on a background thread, so that commands do not wait for the disk.
+ * Each save takes an {@link AddressBookSnapshot} of the address book and hands it to a single writer thread. Saves
+ * requested while the writer is busy replace each other, so a burst of saves results in one write of the latest copy.
+ * A snapshot only carries the changes since the one before it, which is all the wrapped storage needs if it wrote
+ * that one, so taking it costs little beyond copying the lists of records.
+ * A write that fails is reported by the next call to {@link #saveAddressBook(ReadOnlyAddressBook)},
+ * {@link #checkPendingSaveFailure()} or {@link #flush()}.
+ * Everything else is passed straight to the wrapped {@code Storage}.
+ */
+public class AsyncStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+    private final AtomicReference<IOException> saveFailure = new AtomicReference<>();
+
+    // Guarded by this object, as the writer takes the pending snapshot while saves may replace it
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ChangeLog.Mark pendingSince;
+    private ChangeLog.Mark lastQueuedMark;
+
+    /**
+     * Creates an {@code AsyncStorage} that writes the address book to {@code storage} in the background.
+     */
+    public AsyncStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "address-book-writer");
+            // Stopping the app flushes any pending save, so the writer need not keep the JVM alive
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<PendingAddressBook> readAddressBookInBackground() throws DataLoadingException {
+        return storage.readAddressBookInBackground();
+    }
+
+    /**
+     * Queues a snapshot of {@code addressBook} to be written in the background, replacing any snapshot still waiting.
+     *
+     * @throws IOException if an earlier write failed and its error has not been thrown yet. Nothing is queued then.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        checkPendingSaveFailure();
+
+        synchronized (this) {
+            // A snapshot replacing one that was never written must carry the changes that one carried as well
+            boolean isWriteScheduled = pendingAddressBook != null;
+            ChangeLog.Mark since = isWriteScheduled ? pendingSince : lastQueuedMark;
+            pendingAddressBook = AddressBookSnapshot.of(addressBook, since);
+            pendingSince = since;
+            lastQueuedMark = pendingAddressBook.getChangeLog().mark();
+            // Only schedule a write if none is waiting; a waiting write will pick up this snapshot instead
+            if (!isWriteScheduled) {
+                writer.execute(this::writePendingAddressBook);
+            }
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once every queued save has been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Checks the address book at {@code filePath} once every queued save has been written, so that a journal append
+     * still being written is not reported as damaged.
+     * A queued save that failed is not reported here, but by the next save as usual.
+     */
+    @Override
+    public Optional<DamageReport> verifyAddressBook(Path filePath) throws DataLoadingException {
+        awaitQueuedSaves();
+        return storage.verifyAddressBook(filePath);
+    }
+
+    @Override
+    public void checkPendingSaveFailure() throws IOException {
+        IOException failure = saveFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        awaitQueuedSaves();
+        checkPendingSaveFailure();
+    }
+
+    private void awaitQueuedSaves() {
+        try {
+            // The writer runs tasks in order, so this one finishes after every write queued before it
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            pendingSince = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(addressBook);
+            // The address book is now saved in full, so an earlier failure no longer needs reporting
+            saveFailure.set(null);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            saveFailure.set(e);
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes an address book as a compact binary snapshot.
+ * <p>
+ * A snapshot starts with {@link #MAGIC} and the format version, followed by sections and an end marker. Each section
+ * is a tag byte, the length of its payload, the payload, and a CRC32 of the payload. The string table comes first
+ * and holds the values that repeat across records: blocks, tags and email domains. Records refer to those by their
+ * index in the table. All other integers, such as IDs, levels and rooms, are written as varints.
+ * <p>
+ * The record index follows the string table. It gives the offset and length of every record, so that
+ * {@link LazyAddressBookSnapshot} can decode single records without reading the sections around them.
+ * <p>
+ * Sections with unknown tags are skipped, so later versions can add sections without breaking older readers.
+ * Records are converted through the same adapters as the JSON format, so both apply the same checks.
+ */
+class BinaryAddressBookCodec {
+
+    public static final String MESSAGE_NOT_SNAPSHOT = "Not an address book snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Snapshot format version %1$d is not supported.";
+    public static final String MESSAGE_CORRUPTED_SECTION = "Section %1$d of the snapshot is corrupted.";
+
+    static final byte[] MAGIC = {'R', 'C', 'A', 'B'};
+    static final int FORMAT_VERSION = 1;
+
+    static final int SECTION_END = 0;
+    static final int SECTION_STRING_TABLE = 1;
+    static final int SECTION_STAFF = 2;
+    static final int SECTION_STUDENTS = 3;
+    static final int SECTION_EXTERNAL_PARTIES = 4;
+    static final int SECTION_EVENTS = 5;
+    static final int SECTION_RECORD_INDEX = 6;
+
+    /** The record sections, in the order they are written and listed in the record index. */
+    static final List<Integer> RECORD_SECTIONS =
+            List.of(SECTION_STAFF, SECTION_STUDENTS, SECTION_EXTERNAL_PARTIES, SECTION_EVENTS);
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     * The string table is only complete once every record is encoded, so the record sections are encoded in memory
+     * before anything is written.
+     */
+    void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+
+        SectionWriter staffSection = new SectionWriter(strings);
+        staffSection.writeVarint(addressBook.getStaffList().size());
+        for (Staff staff : addressBook.getStaffList()) {
+            staffSection.startRecord();
+            writeStaff(staffSection, staff);
+        }
+        SectionWriter studentSection = new SectionWriter(strings);
+        studentSection.writeVarint(addressBook.getStudentList().size());
+        for (Student student : addressBook.getStudentList()) {
+            studentSection.startRecord();
+            writeStudent(studentSection, student);
+        }
+        SectionWriter externalPartySection = new SectionWriter(strings);
+        externalPartySection.writeVarint(addressBook.getExternalPartyList().size());
+        for (ExternalParty externalParty : addressBook.getExternalPartyList()) {
+            externalPartySection.startRecord();
+            writeExternalParty(externalPartySection, externalParty);
+        }
+        SectionWriter eventSection = new SectionWriter(strings);
+        eventSection.writeVarint(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            eventSection.startRecord();
+            writeEvent(eventSection, event);
+        }
+        SectionWriter stringSection = new SectionWriter(strings);
+        strings.writeTo(stringSection);
+        List<SectionWriter> recordSections = List.of(staffSection, studentSection, externalPartySection,
+                eventSection);
+        SectionWriter indexSection = new SectionWriter(strings);
+        for (int i = 0; i < recordSections.size(); i++) {
+            indexSection.writeVarint(RECORD_SECTIONS.get(i));
+            recordSections.get(i).writeRecordIndexTo(indexSection);
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.write(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        writeSection(data, SECTION_STRING_TABLE, stringSection);
+        writeSection(data, SECTION_RECORD_INDEX, indexSection);
+        writeSection(data, SECTION_STAFF, staffSection);
+        writeSection(data, SECTION_STUDENTS, studentSection);
+        writeSection(data, SECTION_EXTERNAL_PARTIES, externalPartySection);
+        writeSection(data, SECTION_EVENTS, eventSection);
+        data.writeByte(SECTION_END);
+        data.flush();
+    }
+
+    /**
+     * Reads an address book from {@code in}, without closing it.
+     *
+     * @throws IOException if {@code in} could not be read, or does not hold an intact snapshot of a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        checkHeader(data.readNBytes(MAGIC.length), data.readUnsignedByte());
+
+        Contents contents = new Contents();
+        for (int tag = data.readUnsignedByte(); tag != SECTION_END; tag = data.readUnsignedByte()) {
+            contents.decode(tag, readSection(data, tag));
+        }
+        return contents.toAddressBook();
+    }
+
+    /**
+     * Checks that a snapshot starts with {@code magic} and {@code version}.
+     */
+    static void checkHeader(byte[] magic, int version) throws IOException {
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_SNAPSHOT);
+        }
+        if (version != FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+    }
+
+    /**
+     * Checks that {@code payload}, from its position to its limit, matches the CRC32 written after it.
+     */
+    static void checkCrc(int tag, ByteBuffer payload, int expectedCrc) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_SECTION, tag));
+        }
+    }
+
+    private static void writeSection(DataOutputStream data, int tag, SectionWriter section) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(section.buffer(), 0, section.size());
+        data.writeByte(tag);
+        data.writeInt(section.size());
+        data.write(section.buffer(), 0, section.size());
+        data.writeInt((int) crc.getValue());
+    }
+
+    private static ByteBuffer readSection(DataInputStream data, int tag) throws IOException {
+        int length = data.readInt();
+        if (length < 0) {
+            throw new IOException(String.format(MESSAGE_CORRUPTED_SECTION, tag));
+        }
+        // Read in chunks rather than allocating a corrupted length up front
+        byte[] payload = data.readNBytes(length);
+        if (payload.length != length) {
+            throw new EOFException(String.format(MESSAGE_CORRUPTED_SECTION, tag));
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        checkCrc(tag, buffer, data.readInt());
+        return buffer;
+    }
+
+    private static void writePerson(SectionWriter section, Person person) {
+        section.writeVarint(person.getId());
+        section.writeString(person.getName().fullName);
+        section.writeString(person.getPhone().value);
+        writeEmail(section, person.getEmail());
+    }
+
+    /**
+     * Writes the part of {@code email} before its last @ inline, and the domain after it to the string table.
+     */
+    private static void writeEmail(SectionWriter section, Email email) {
+        int at = email.value.lastIndexOf('@');
+        section.writeString(email.value.substring(0, at));
+        section.writeTableString(email.value.substring(at + 1));
+    }
+
+    private static void writeTags(SectionWriter section, Iterable<Tag> tags, int count) {
+        section.writeVarint(count);
+        for (Tag tag : tags) {
+            section.writeTableString(tag.tagName);
+        }
+    }
+
+    private static void writeStaff(SectionWriter section, Staff staff) {
+        writePerson(section, staff);
+        section.writeString(staff.getAddress().value);
+        writeTags(section, staff.getTags(), staff.getTags().size());
+        section.writeString(staff.getEmergency().value);
+        section.writeTableString(staff.getBlock().value);
+        section.writeVarint(staff.getLevel().value);
+        section.writeVarint(staff.getRoom().value);
+        section.writeVarint(staff.getStaffDesignation().getOrdinalDesignation());
+    }
+
+    private static void writeStudent(SectionWriter section, Student student) {
+        writePerson(section, student);
+        section.writeString(student.getMatric().value);
+        section.writeString(student.getAddress().value);
+        writeTags(section, student.getTags(), student.getTags().size());
+        section.writeString(student.getEmergency().value);
+        section.writeTableString(student.getBlock().value);
+        section.writeVarint(student.getLevel().value);
+        section.writeVarint(student.getRoom().value);
+        section.writeVarint(student.getStudentDesignation().getOrdinalDesignation());
+    }
+
+    private static void writeExternalParty(SectionWriter section, ExternalParty externalParty) {
+        writePerson(section, externalParty);
+        section.writeString(externalParty.getDescription().value);
+    }
+
+    private static void writeEvent(SectionWriter section, Event event) {
+        section.writeVarint(event.getId());
+        section.writeString(event.getEventName().fullEventName);
+        section.writeString(event.getEventStartTime().toString());
+        section.writeString(event.getEventEndTime().toString());
+        for (List<? extends Person> members : List.of(event.getStudents(), event.getStaff(),
+                event.getExternalParties())) {
+            section.writeVarint(members.size());
+            for (Person member : members) {
+                section.writeVarint(member.getId());
+            }
+        }
+    }
+
+    private static String readEmail(SectionReader section) throws IOException {
+        String localPart = section.readString();
+        return localPart + "@" + section.readTableString();
+    }
+
+    private static List<JsonAdaptedTag> readTags(SectionReader section) throws IOException {
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = section.readCount(); i > 0; i--) {
+            tags.add(new JsonAdaptedTag(section.readTableString()));
+        }
+        return tags;
+    }
+
+    static JsonAdaptedStaff readStaff(SectionReader section) throws IOException {
+        long id = section.readVarint();
+        String name = section.readString();
+        String phone = section.readString();
+        String email = readEmail(section);
+        String address = section.readString();
+        List<JsonAdaptedTag> tags = readTags(section);
+        String emergency = section.readString();
+        String block = section.readTableString();
+        String level = String.valueOf(section.readVarint());
+        String room = String.valueOf(section.readVarint());
+        String designation = String.valueOf(section.readVarint());
+        return new JsonAdaptedStaff(id, name, phone, email, address, tags, emergency, block, level, room,
+                designation);
+    }
+
+    static JsonAdaptedStudent readStudent(SectionReader section) throws IOException {
+        long id = section.readVarint();
+        String name = section.readString();
+        String phone = section.readString();
+        String email = readEmail(section);
+        String matric = section.readString();
+        String address = section.readString();
+        List<JsonAdaptedTag> tags = readTags(section);
+        String emergency = section.readString();
+        String block = section.readTableString();
+        String level = String.valueOf(section.readVarint());
+        String room = String.valueOf(section.readVarint());
+        String designation = String.valueOf(section.readVarint());
+        return new JsonAdaptedStudent(id, name, matric, phone, email, address, tags, emergency, block, level, room,
+                designation);
+    }
+
+    static JsonAdaptedExternalParty readExternalParty(SectionReader section) throws IOException {
+        long id = section.readVarint();
+        String name = section.readString();
+        String phone = section.readString();
+        String email = readEmail(section);
+        String description = section.readString();
+        return new JsonAdaptedExternalParty(id, name, phone, email, description);
+    }
+
+    static JsonAdaptedEvent readEvent(SectionReader section) throws IOException {
+        long id = section.readVarint();
+        String name = section.readString();
+        String startTime = section.readString();
+        String endTime = section.readString();
+        List<JsonAdaptedEventMember> students = readMembers(section);
+        List<JsonAdaptedEventMember> staffs = readMembers(section);
+        List<JsonAdaptedEventMember> externalParties = readMembers(section);
+        return new JsonAdaptedEvent(id, name, startTime, endTime, students, staffs, externalParties);
+    }
+
+    private static List<JsonAdaptedEventMember> readMembers(SectionReader section) throws IOException {
+        List<JsonAdaptedEventMember> members = new ArrayList<>();
+        for (int i = section.readCount(); i > 0; i--) {
+            members.add(JsonAdaptedEventMember.ofId(section.readVarint()));
+        }
+        return members;
+    }
+
+    /**
+     * The records of a snapshot, gathered section by section.
+     * Persons are decoded on the calling thread and converted into the model on the fork-join pool, so converting
+     * one section overlaps with decoding the next.
+     */
+    static class Contents {
+        private final List<String> strings = new ArrayList<>();
+        private final ParallelRecordConverter<JsonAdaptedStaff, Staff> staffConverter =
+                new ParallelRecordConverter<>(JsonAdaptedStaff::toModelType);
+        private final ParallelRecordConverter<JsonAdaptedStudent, Student> studentConverter =
+                new ParallelRecordConverter<>(JsonAdaptedStudent::toModelType);
+        private final ParallelRecordConverter<JsonAdaptedExternalParty, ExternalParty> externalPartyConverter =
+                new ParallelRecordConverter<>(JsonAdaptedExternalParty::toModelType);
+        private final List<JsonAdaptedEvent> events = new ArrayList<>();
+
+        /**
+         * Decodes the section {@code tag} held in {@code payload}. Sections with unknown tags are skipped.
+         */
+        void decode(int tag, ByteBuffer payload) throws IOException {
+            SectionReader section = new SectionReader(tag, payload, strings);
+            switch (tag) {
+            case SECTION_STRING_TABLE:
+                for (int i = section.readCount(); i > 0; i--) {
+                    strings.add(section.readString());
+                }
+                break;
+            case SECTION_STAFF:
+                for (int i = section.readCount(); i > 0; i--) {
+                    staffConverter.add(readStaff(section));
+                }
+                break;
+            case SECTION_STUDENTS:
+                for (int i = section.readCount(); i > 0; i--) {
+                    studentConverter.add(readStudent(section));
+                }
+                break;
+            case SECTION_EXTERNAL_PARTIES:
+                for (int i = section.readCount(); i > 0; i--) {
+                    externalPartyConverter.add(readExternalParty(section));
+                }
+                break;
+            case SECTION_EVENTS:
+                for (int i = section.readCount(); i > 0; i--) {
+                    events.add(readEvent(section));
+                }
+                break;
+            default:
+                // The record index only speeds up lazy reads; other sections are from a later version
+                return;
+            }
+            section.requireFullyRead();
+        }
+
+        List<String> getStrings() {
+            return strings;
+        }
+
+        /**
+         * Waits for every person to be converted, and returns the address book.
+         * The failure reported is the one a sequential load would hit first, whichever thread hit it.
+         */
+        AddressBook toAddressBook() throws IllegalValueException {
+            return JsonSerializableAddressBook.toAddressBook(staffConverter.join(), studentConverter.join(),
+                    externalPartyConverter.join(), events);
+        }
+    }
+
+    /**
+     * The distinct repeated values of a snapshot, each given an index in the order first written.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int indexOf(String value) {
+            return indexes.computeIfAbsent(value, unused -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        void writeTo(SectionWriter section) {
+            section.writeVarint(values.size());
+            values.forEach(section::writeString);
+        }
+    }
+
+    /**
+     * Encodes the payload of one section in memory, noting where each record starts.
+     */
+    private static class SectionWriter extends ByteArrayOutputStream {
+        private final StringTable strings;
+        private final List<Integer> recordOffsets = new ArrayList<>();
+
+        SectionWriter(StringTable strings) {
+            this.strings = strings;
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        void startRecord() {
+            recordOffsets.add(size());
+        }
+
+        /**
+         * Writes the number of records, the offset of the first, and the length of each to {@code index}.
+         */
+        void writeRecordIndexTo(SectionWriter index) {
+            index.writeVarint(recordOffsets.size());
+            index.writeVarint(recordOffsets.isEmpty() ? size() : recordOffsets.get(0));
+            for (int i = 0; i < recordOffsets.size(); i++) {
+                int end = i + 1 < recordOffsets.size() ? recordOffsets.get(i + 1) : size();
+                index.writeVarint(end - recordOffsets.get(i));
+            }
+        }
+
+        /**
+         * Writes a non-negative {@code value} in 7-bit groups, least significant first, so small values take one byte.
+         */
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeTableString(String value) {
+            writeVarint(strings.indexOf(value));
+        }
+    }
+
+    /**
+     * Decodes the payload of one section, or of one record in it, failing with an {@code IOException} rather than
+     * reading past its end.
+     */
+    static class SectionReader {
+        private final int tag;
+        private final ByteBuffer payload;
+        private final List<String> strings;
+
+        /**
+         * Creates a reader of {@code payload} from its position to its limit, resolving string table references
+         * against {@code strings}.
+         */
+        SectionReader(int tag, ByteBuffer payload, List<String> strings) {
+            this.tag = tag;
+            this.payload = payload;
+            this.strings = strings;
+        }
+
+        long readVarint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                byte next = readByte();
+                value |= (long) (next & 0x7F) << shift;
+                if ((next & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw corrupted();
+        }
+
+        /**
+         * Reads the number of items that follow, which cannot exceed the bytes left in the section.
+         */
+        int readCount() throws IOException {
+            long count = readVarint();
+            if (count > payload.remaining()) {
+                throw corrupted();
+            }
+            return (int) count;
+        }
+
+        String readString() throws IOException {
+            byte[] bytes = new byte[readCount()];
+            payload.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String readTableString() throws IOException {
+            long index = readVarint();
+            if (index >= strings.size()) {
+                throw corrupted();
+            }
+            return strings.get((int) index);
+        }
+
+        void requireFullyRead() throws IOException {
+            if (payload.hasRemaining()) {
+                throw corrupted();
+            }
+        }
+
+        private byte readByte() throws IOException {
+            if (!payload.hasRemaining()) {
+                throw corrupted();
+            }
+            return payload.get();
+        }
+
+        private IOException corrupted() {
+            return new IOException(String.format(MESSAGE_CORRUPTED_SECTION, tag));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot on the hard disk.
+ * Snapshots are smaller and faster to read and write than JSON, but cannot be edited by hand. Reading or saving to a
+ * path ending in {@link #JSON_FILE_EXTENSION} uses JSON instead, so address books can still be imported from and
+ * exported to JSON.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".rcab";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    /** How many records of each list are read before the rest of the address book is read in the background. */
+    public static final int PREVIEW_SIZE = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JsonAddressBookStorage jsonStorage;
+    private final BinaryAddressBookCodec codec = new BinaryAddressBookCodec();
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+        this.jsonStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns true if {@code filePath} names a binary snapshot.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but reads JSON if {@code filePath} ends in {@link #JSON_FILE_EXTENSION}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            return Optional.of(codec.read(in));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads the first {@link #PREVIEW_SIZE} staff, students and external parties straight away, and the whole
+     * address book on a background thread.
+     * Snapshots without a record index are read in full before returning.
+     */
+    @Override
+    public Optional<PendingAddressBook> readAddressBookInBackground() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Optional<LazyAddressBookSnapshot> openedSnapshot;
+        try {
+            openedSnapshot = LazyAddressBookSnapshot.open(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (!openedSnapshot.isPresent()) {
+            return readAddressBook().map(PendingAddressBook::of);
+        }
+
+        LazyAddressBookSnapshot snapshot = openedSnapshot.get();
+        ReadOnlyAddressBook preview;
+        try {
+            preview = snapshot.readPreview(PREVIEW_SIZE);
+        } catch (IOException | IllegalValueException e) {
+            closeQuietly(snapshot);
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return Optional.of(new PendingAddressBook(preview, CompletableFuture.supplyAsync(() -> {
+            try {
+                return snapshot.readAll();
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Error reading from file " + filePath + ": " + e);
+                throw new CompletionException(new DataLoadingException(e));
+            } finally {
+                closeQuietly(snapshot);
+            }
+        })));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes JSON if {@code filePath} ends in
+     * {@link #JSON_FILE_EXTENSION}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> codec.write(addressBook, out), true);
+    }
+
+    private static void closeQuietly(LazyAddressBookSnapshot snapshot) {
+        try {
+            snapshot.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close snapshot: " + e);
+        }
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * An input stream that keeps the bytes read through it, so that the bytes of a value a parser has just read can be
+ * taken as they were in the file.
+ * Bytes are counted from the start of the stream. Bytes before the offset last passed to {@link #release(long)} are
+ * dropped as room is needed, so only the bytes of the value being read and whatever the parser has read ahead of it
+ * are kept.
+ */
+class CapturingInputStream extends FilterInputStream {
+
+    private static final int INITIAL_CAPACITY = 16 * 1024;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    /** The offset in the stream of {@code buffer[0]}. */
+    private long bufferStart;
+    private int length;
+    /** Bytes before this offset in the stream are no longer needed. */
+    private long releasedBefore;
+
+    CapturingInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * Lets the bytes before {@code offset} in the stream be dropped.
+     */
+    void release(long offset) {
+        releasedBefore = Math.max(releasedBefore, offset);
+    }
+
+    /**
+     * Returns the bytes from {@code start} up to {@code end} in the stream, which must not have been released.
+     */
+    byte[] getBytes(long start, long end) {
+        if (start < bufferStart || end > bufferStart + length || start > end) {
+            throw new IllegalArgumentException("Bytes " + start + " to " + end + " are not kept");
+        }
+        return Arrays.copyOfRange(buffer, (int) (start - bufferStart), (int) (end - bufferStart));
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            keep(new byte[] {(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = super.read(b, off, len);
+        if (count > 0) {
+            keep(b, off, count);
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Skipped bytes must still be kept, so they are read instead
+        byte[] skipped = new byte[(int) Math.min(n, INITIAL_CAPACITY)];
+        int count = read(skipped, 0, skipped.length);
+        return Math.max(count, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void keep(byte[] bytes, int off, int len) {
+        if (length + len > buffer.length) {
+            dropReleased();
+        }
+        if (length + len > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + len));
+        }
+        System.arraycopy(bytes, off, buffer, length, len);
+        length += len;
+    }
+
+    private void dropReleased() {
+        int dropped = (int) Math.min(releasedBefore - bufferStart, length);
+        if (dropped <= 0) {
+            return;
+        }
+        System.arraycopy(buffer, dropped, buffer, 0, length - dropped);
+        length -= dropped;
+        bufferStart += dropped;
+    }
+}
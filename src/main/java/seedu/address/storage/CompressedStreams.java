@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import seedu.address.commons.core.Compression;
+import seedu.address.commons.util.FileUtil.ContentWriter;
+
+/**
+ * Compresses data files as they are written, and recognises compressed files by their first bytes as they are read,
+ * so that a file reads back whichever compression it was saved with.
+ * Data streams through a fixed-size buffer both ways, so a file is never held whole in memory.
+ */
+final class CompressedStreams {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** The first two bytes of every gzip file. */
+    private static final int GZIP_MAGIC = 0x1f8b;
+    /** The low four bits of the first byte of a zlib stream, naming Deflate as its method. */
+    private static final int ZLIB_DEFLATE_METHOD = 8;
+    /** The first two bytes of a zlib stream, read as a big-endian number, are always a multiple of this. */
+    private static final int ZLIB_HEADER_CHECK = 31;
+
+    private CompressedStreams() {}
+
+    /**
+     * Writes the content {@code writer} produces to {@code out}, compressed with {@code compression} at
+     * {@code level}. {@code out} is left open.
+     */
+    static void write(OutputStream out, Compression compression, int level, ContentWriter writer) throws IOException {
+        requireNonNull(out);
+        requireNonNull(compression);
+        checkArgument(Compression.isValidLevel(level), "Invalid compression level: " + level);
+
+        switch (compression) {
+        case NONE:
+            writer.writeTo(out);
+            return;
+        case DEFLATE:
+            Deflater deflater = new Deflater(level);
+            try {
+                DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+                writer.writeTo(deflaterOut);
+                // Finishing rather than closing writes the end of the stream but leaves out open
+                deflaterOut.finish();
+            } finally {
+                deflater.end();
+            }
+            return;
+        case GZIP:
+            LeveledGzipOutputStream gzipOut = new LeveledGzipOutputStream(out, level);
+            try {
+                writer.writeTo(gzipOut);
+                gzipOut.finish();
+            } finally {
+                gzipOut.end();
+            }
+            return;
+        default:
+            throw new AssertionError("Unknown compression: " + compression);
+        }
+    }
+
+    /**
+     * Returns a stream that reads {@code in} uncompressed, whether it was written with or without compression.
+     * Closing the returned stream closes {@code in}.
+     */
+    static InputStream open(InputStream in) throws IOException {
+        requireNonNull(in);
+        BufferedInputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+        switch (detect(bufferedIn)) {
+        case DEFLATE:
+            return new InflaterInputStream(bufferedIn, new Inflater(), BUFFER_SIZE) {
+                @Override
+                public void close() throws IOException {
+                    // An inflater passed in is not ended by the stream itself
+                    try {
+                        super.close();
+                    } finally {
+                        inf.end();
+                    }
+                }
+            };
+        case GZIP:
+            return new GZIPInputStream(bufferedIn, BUFFER_SIZE);
+        default:
+            return bufferedIn;
+        }
+    }
+
+    /**
+     * Returns the compression of the data {@code in} is about to read, without consuming any of it.
+     */
+    static Compression detect(BufferedInputStream in) throws IOException {
+        in.mark(2);
+        int first = in.read();
+        int second = in.read();
+        in.reset();
+        if (first < 0 || second < 0) {
+            return Compression.NONE;
+        }
+
+        int header = (first << 8) | second;
+        if (header == GZIP_MAGIC) {
+            return Compression.GZIP;
+        }
+        // JSON starts with a bracket or whitespace, none of which can start a zlib stream
+        if ((first & 0x0f) == ZLIB_DEFLATE_METHOD && header % ZLIB_HEADER_CHECK == 0) {
+            return Compression.DEFLATE;
+        }
+        return Compression.NONE;
+    }
+
+    /**
+     * A gzip stream whose compression level can be chosen, which {@link GZIPOutputStream} itself does not allow.
+     */
+    private static class LeveledGzipOutputStream extends GZIPOutputStream {
+        LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        /**
+         * Frees the native memory of the deflater without closing the underlying stream.
+         */
+        void end() {
+            def.end();
+        }
+    }
+}
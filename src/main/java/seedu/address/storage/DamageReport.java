@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * What checking the checksums of a JSON address book found: how many records of each list were checked, and which
+ * records and lists turned out to be damaged.
+ * Damaged records keep their content as it was read, so that they can be set aside for repair.
+ * <p>
+ * Records may be reported damaged from several threads at once, as they are checked while they convert.
+ */
+public class DamageReport {
+
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "its content does not match its checksum";
+    public static final String MESSAGE_CHECKSUM_UNREADABLE = "its checksum is not 8 hexadecimal digits";
+    public static final String MESSAGE_SECTION_MISMATCH =
+            "its checksum does not match its records, so some are missing, added or out of order";
+
+    private final Map<String, ListCounts> counts = new LinkedHashMap<>();
+    private final List<DamagedRecord> damagedRecords = new ArrayList<>();
+    private final List<String> damagedLists = new ArrayList<>();
+
+    /**
+     * Counts a record of {@code list} that was read, with a checksum if {@code isChecked}.
+     */
+    synchronized void countRecord(String list, boolean isChecked) {
+        ListCounts listCounts = counts.computeIfAbsent(list, unused -> new ListCounts());
+        if (isChecked) {
+            listCounts.checked++;
+        } else {
+            listCounts.unchecked++;
+        }
+    }
+
+    /**
+     * Reports that the record at {@code index} of {@code list} is damaged for {@code reason}.
+     */
+    synchronized void addDamagedRecord(String list, int index, String reason, JsonNode record) {
+        damagedRecords.add(new DamagedRecord(list, index, reason, record));
+    }
+
+    /**
+     * Reports that {@code list} as a whole is damaged for {@code reason}.
+     */
+    synchronized void addDamagedList(String list, String reason) {
+        damagedLists.add(list + ": " + reason);
+    }
+
+    public synchronized boolean isClean() {
+        return damagedRecords.isEmpty() && damagedLists.isEmpty();
+    }
+
+    public synchronized int getRecordCount() {
+        return counts.values().stream().mapToInt(listCounts -> listCounts.checked + listCounts.unchecked).sum();
+    }
+
+    public synchronized int getUncheckedRecordCount() {
+        return counts.values().stream().mapToInt(listCounts -> listCounts.unchecked).sum();
+    }
+
+    /**
+     * Returns the damaged records, in the order of their lists in the file and then of their positions.
+     */
+    public synchronized List<DamagedRecord> getDamagedRecords() {
+        List<String> listOrder = new ArrayList<>(counts.keySet());
+        List<DamagedRecord> sorted = new ArrayList<>(damagedRecords);
+        sorted.sort(Comparator.<DamagedRecord>comparingInt(record -> listOrder.indexOf(record.list))
+                .thenComparingInt(record -> record.index));
+        return sorted;
+    }
+
+    public synchronized List<String> getDamagedLists() {
+        return new ArrayList<>(damagedLists);
+    }
+
+    /**
+     * Returns a summary of the report for the user, naming every damaged record and list.
+     */
+    public synchronized String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format("%1$s %2$d records in %3$d lists, %4$d of them "
+                + "without a checksum.", isClean() ? "No damage found in" : "Damage found in", getRecordCount(),
+                counts.size(), getUncheckedRecordCount()));
+        for (DamagedRecord record : getDamagedRecords()) {
+            summary.append(String.format("%nRecord %1$d of %2$s is damaged: %3$s.", record.index + 1, record.list,
+                    record.reason));
+        }
+        for (String damagedList : damagedLists) {
+            summary.append(String.format("%nList %1$s is damaged.", damagedList));
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getSummary();
+    }
+
+    /**
+     * A record that failed its checksum, with what was read of it.
+     */
+    public static class DamagedRecord {
+        private final String list;
+        private final int index;
+        private final String reason;
+        private final JsonNode record;
+
+        DamagedRecord(String list, int index, String reason, JsonNode record) {
+            requireNonNull(list);
+            requireNonNull(reason);
+            requireNonNull(record);
+            this.list = list;
+            this.index = index;
+            this.reason = reason;
+            this.record = record;
+        }
+
+        public String getList() {
+            return list;
+        }
+
+        /** Returns the zero-based position of the record in its list. */
+        public int getIndex() {
+            return index;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public JsonNode getRecord() {
+            return record;
+        }
+    }
+
+    private static class ListCounts {
+        private int checked;
+        private int unchecked;
+    }
+}
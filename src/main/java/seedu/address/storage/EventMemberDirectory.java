@@ -0,0 +1,71 @@
+package seedu.address.storage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+
+/**
+ * Resolves the references stored by {@link JsonAdaptedEventMember} to the persons in the rosters of an address book.
+ * IDs are looked up in the address book as it currently is; the legacy keys of older files are only indexed the
+ * first time one is looked up.
+ */
+class EventMemberDirectory {
+
+    private final AddressBook addressBook;
+    private Map<String, Student> studentsByLegacyKey;
+    private Map<String, Staff> staffByLegacyKey;
+    private Map<String, ExternalParty> externalPartiesByLegacyKey;
+
+    EventMemberDirectory(AddressBook addressBook) {
+        this.addressBook = addressBook;
+    }
+
+    Optional<Student> findStudent(JsonAdaptedEventMember member) {
+        if (member.getId() != null) {
+            return findById(member.getId(), Student.class);
+        }
+        if (studentsByLegacyKey == null) {
+            studentsByLegacyKey = indexByLegacyKey(addressBook.getStudentList(), student -> student.getMatric().value);
+        }
+        return Optional.ofNullable(studentsByLegacyKey.get(member.getLegacyKey()));
+    }
+
+    Optional<Staff> findStaff(JsonAdaptedEventMember member) {
+        if (member.getId() != null) {
+            return findById(member.getId(), Staff.class);
+        }
+        if (staffByLegacyKey == null) {
+            staffByLegacyKey = indexByLegacyKey(addressBook.getStaffList(), staff -> staff.getEmail().value);
+        }
+        return Optional.ofNullable(staffByLegacyKey.get(member.getLegacyKey()));
+    }
+
+    Optional<ExternalParty> findExternalParty(JsonAdaptedEventMember member) {
+        if (member.getId() != null) {
+            return findById(member.getId(), ExternalParty.class);
+        }
+        if (externalPartiesByLegacyKey == null) {
+            externalPartiesByLegacyKey = indexByLegacyKey(addressBook.getExternalPartyList(), externalParty ->
+                    externalParty.getEmail().value);
+        }
+        return Optional.ofNullable(externalPartiesByLegacyKey.get(member.getLegacyKey()));
+    }
+
+    private <T extends Person> Optional<T> findById(long id, Class<T> type) {
+        return addressBook.findPersonById(id).filter(type::isInstance).map(type::cast);
+    }
+
+    private static <T extends Person> Map<String, T> indexByLegacyKey(List<T> persons, Function<T, String> toKey) {
+        Map<String, T> index = new HashMap<>();
+        persons.forEach(person -> index.put(toKey.apply(person), person));
+        return index;
+    }
+}
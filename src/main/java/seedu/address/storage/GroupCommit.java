@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Decides which appends of a storage are forced to disk, so that forcing costs at most one force per interval.
+ * Appends made within the interval of the last force are not forced right away. Instead, one deferred force at the
+ * end of the interval covers all of them, so a crash may lose at most one interval of appends.
+ * <p>
+ * Only appends may be grouped this way. A file that replaces another must be forced before the rename, as
+ * {@link seedu.address.commons.util.FileUtil#writeToFile} does.
+ */
+class GroupCommit {
+
+    public static final String MESSAGE_CONSTRAINTS = "Sync interval should not be negative";
+
+    private static final Logger logger = LogsCenter.getLogger(GroupCommit.class);
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "group-commit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long intervalNanos;
+    private final Force force;
+    private boolean hasForced;
+    private long lastForcedAt;
+    private boolean isForcePending;
+
+    /**
+     * Creates a {@code GroupCommit} that forces at most once every {@code intervalMillis} milliseconds, running
+     * {@code force} for deferred forces. An interval of 0 forces every append.
+     */
+    GroupCommit(long intervalMillis, Force force) {
+        checkArgument(intervalMillis >= 0, MESSAGE_CONSTRAINTS);
+        requireNonNull(force);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.force = force;
+    }
+
+    /**
+     * Returns true if the append about to be made should be forced to disk, and if so, counts it as forced.
+     * An append that is not forced should be followed by {@link #forceLater()}.
+     */
+    synchronized boolean shouldForce() {
+        long now = System.nanoTime();
+        if (hasForced && now - lastForcedAt < intervalNanos) {
+            return false;
+        }
+        hasForced = true;
+        lastForcedAt = now;
+        return true;
+    }
+
+    /**
+     * Makes sure a force runs at the end of the current interval, for an append that was made without one.
+     */
+    synchronized void forceLater() {
+        if (isForcePending) {
+            return;
+        }
+        isForcePending = true;
+        long delayNanos = Math.max(0, lastForcedAt + intervalNanos - System.nanoTime());
+        scheduler.schedule(this::runDeferredForce, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void runDeferredForce() {
+        synchronized (this) {
+            // Appends from now on are left to the next interval, so they schedule a force of their own
+            isForcePending = false;
+            hasForced = true;
+            lastForcedAt = System.nanoTime();
+        }
+        try {
+            force.run();
+        } catch (IOException e) {
+            logger.warning("Failed to force appends to disk: " + e);
+        }
+    }
+
+    /**
+     * Forces what was appended so far to disk.
+     */
+    @FunctionalInterface
+    interface Force {
+        void run() throws IOException;
+    }
+}
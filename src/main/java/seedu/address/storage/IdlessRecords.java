@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.util.IdSequence;
+import seedu.address.storage.ParallelRecordConverter.RecordConverter;
+
+/**
+ * The records of a data file saved without an ID, such as those added to the file by hand.
+ * Records are converted while the file is still being read, and in parallel, so an ID handed out to such a record
+ * as it is converted could be the saved ID of a record further down the file. Such records are therefore noted as
+ * they are converted, and converted again, with a fresh ID, once every ID saved in the file has been claimed.
+ */
+class IdlessRecords {
+
+    private final Map<Object, Reconversion<?>> reconversions =
+            Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Returns a converter that converts records with {@code converter}, noting those for which {@code idOf} gives no
+     * ID. The returned converter is safe to run on several threads at once if {@code converter} is.
+     */
+    <A, M> RecordConverter<A, M> noting(RecordConverter<A, M> converter, Function<A, Long> idOf) {
+        requireNonNull(converter);
+        requireNonNull(idOf);
+        return record -> {
+            M converted = converter.convert(record);
+            if (idOf.apply(record) == null) {
+                reconversions.put(converted, () -> converter.convert(record));
+            }
+            return converted;
+        };
+    }
+
+    /**
+     * Returns {@code converted} with every record converted from a record without an ID converted again, in the same
+     * place. Every saved ID must have been claimed, so that the IDs these records are given are not saved ones.
+     *
+     * @throws IllegalValueException if a record could not be converted again.
+     */
+    @SuppressWarnings("unchecked")
+    <M> List<M> withFreshIds(List<M> converted) throws IllegalValueException {
+        if (reconversions.isEmpty()) {
+            return converted;
+        }
+        List<M> withFreshIds = new ArrayList<>(converted.size());
+        for (M record : converted) {
+            Reconversion<?> reconversion = reconversions.get(record);
+            withFreshIds.add(reconversion == null ? record : (M) reconversion.convert());
+        }
+        return withFreshIds;
+    }
+
+    /**
+     * Claims every valid ID {@code idOf} gives for {@code records}, so that no ID handed out later is one of them.
+     * Invalid IDs are left for the conversion of their records to report.
+     */
+    static <A> void claimSavedIds(List<A> records, Function<A, Long> idOf) {
+        for (A record : records) {
+            Long id = idOf.apply(record);
+            if (id != null && IdSequence.isValidId(id)) {
+                IdSequence.claim(id);
+            }
+        }
+    }
+
+    /**
+     * Converts a noted record again.
+     */
+    @FunctionalInterface
+    private interface Reconversion<M> {
+        M convert() throws IllegalValueException;
+    }
+}
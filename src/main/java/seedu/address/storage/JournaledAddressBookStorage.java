@@ -0,0 +1,312 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot plus an append-only journal on the hard disk.
+ * Each save only appends the persons and events that changed since the last save, one entry per line, to a journal
+ * kept next to the snapshot. The address book's {@link ChangeLog} tells which records those are, so a save costs as
+ * much as the change rather than the whole address book. Once the journal holds {@code compactionThreshold} entries,
+ * the next save rewrites the snapshot and empties the journal. Reading replays the journal on top of the snapshot.
+ * Journal appends are forced to disk at most once every sync interval, and appends in between are forced together at
+ * the end of the interval. Compactions are always forced, as the emptied journal must not reach the disk before the
+ * new snapshot does.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String MESSAGE_ENTRY_UNREADABLE =
+            "it cannot be read, so neither it nor the entries after it would load";
+
+    private static final String JOURNAL_LIST = "journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalPath;
+    private final int compactionThreshold;
+    private final GroupCommit journalGroupCommit;
+
+    private ChangeLog.Mark savedMark;
+    private int journalSize;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that keeps its snapshot at {@code filePath}, compacts the journal once it holds
+     * {@code compactionThreshold} entries, and forces every journal append to disk.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, 0);
+    }
+
+    /**
+     * Creates a storage that keeps its snapshot at {@code filePath}, compacts the journal once it holds
+     * {@code compactionThreshold} entries, and forces the journal to disk at most once every
+     * {@code syncIntervalMillis} milliseconds.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold, long syncIntervalMillis) {
+        this(new JsonAddressBookStorage(requireNonNull(filePath)), compactionThreshold, syncIntervalMillis);
+    }
+
+    /**
+     * Creates a storage that keeps its snapshot in {@code snapshotStorage}, compacts the journal once it holds
+     * {@code compactionThreshold} entries, and forces the journal to disk at most once every
+     * {@code syncIntervalMillis} milliseconds. {@code snapshotStorage} should force every save to disk.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold,
+            long syncIntervalMillis) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0, "Compaction threshold should be positive");
+        Path filePath = snapshotStorage.getAddressBookFilePath();
+        this.snapshotStorage = snapshotStorage;
+        this.journalPath = journalPathOf(filePath);
+        this.compactionThreshold = compactionThreshold;
+        this.journalGroupCommit = new GroupCommit(syncIntervalMillis, () -> FileUtil.forceFile(journalPath));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    private static Path journalPathOf(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    /**
+     * Checks that every entry of the journal kept next to the snapshot at {@code filePath} can be read, without
+     * applying any of them, and adds what was found to {@code report}. Entries have no checksums, so an entry that
+     * can be read is counted as unchecked; one that cannot is reported damaged. Nothing is added if there is no
+     * journal.
+     *
+     * @throws DataLoadingException if the journal could not be read.
+     */
+    static void verifyJournal(Path filePath, DamageReport report) throws DataLoadingException {
+        requireNonNull(report);
+        Path journalPath = journalPathOf(requireNonNull(filePath));
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        int index = 0;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            report.countRecord(JOURNAL_LIST, false);
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                report.addDamagedRecord(JOURNAL_LIST, index, MESSAGE_ENTRY_UNREADABLE, TextNode.valueOf(line));
+            }
+            index++;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        savedMark = null;
+        journalSize = 0;
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(replayJournalOnto(snapshot.get()));
+    }
+
+    /**
+     * Starts reading the snapshot in the background, and replays the journal on it once it is read.
+     * The preview shows the snapshot as it is, without the journal.
+     */
+    @Override
+    public Optional<PendingAddressBook> readAddressBookInBackground() throws DataLoadingException {
+        savedMark = null;
+        journalSize = 0;
+
+        return snapshotStorage.readAddressBookInBackground()
+                .map(pending -> pending.thenApply(this::replayJournalOnto));
+    }
+
+    /**
+     * Returns {@code snapshot} with the journal replayed on it, and remembers the result as saved if the whole
+     * journal could be replayed.
+     */
+    private ReadOnlyAddressBook replayJournalOnto(ReadOnlyAddressBook snapshot) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook(snapshot);
+        boolean isJournalIntact = replayJournal(addressBook);
+
+        // A missing journal means the snapshot was written elsewhere, so its IDs may not have been saved
+        if (isJournalIntact && Files.exists(journalPath)) {
+            savedMark = addressBook.getChangeLog().mark();
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} on its own. Only {@link #readAddressBook()} replays the journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        Optional<List<Long>> changedIds = savedMark == null
+                ? Optional.empty()
+                : addressBook.getChangeLog().getChangedIdsSince(savedMark);
+        if (changedIds.isEmpty()) {
+            compact(addressBook);
+            return;
+        }
+
+        ChangeLog.Mark newMark = addressBook.getChangeLog().mark();
+        List<JsonAdaptedJournalEntry> entries = journalEntries(addressBook, changedIds.get());
+        if (entries.isEmpty()) {
+            savedMark = newMark;
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append(System.lineSeparator());
+        }
+
+        boolean isForced = journalGroupCommit.shouldForce();
+        try {
+            FileUtil.appendToFile(journalPath, lines.toString(), isForced);
+        } catch (IOException e) {
+            // The journal may now end in a partial entry, so the next save starts over with a fresh snapshot
+            savedMark = null;
+            throw e;
+        }
+        if (!isForced) {
+            journalGroupCommit.forceLater();
+        }
+        savedMark = newMark;
+        journalSize += entries.size();
+        if (journalSize >= compactionThreshold) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath}, without touching the journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Rewrites the snapshot with {@code addressBook} and empties the journal.
+     * The journal is only emptied after the snapshot is written, and replaying it again on the new snapshot changes
+     * nothing, so a crash in between loses no data.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook);
+        FileUtil.writeToFile(journalPath, "", true);
+        savedMark = addressBook.getChangeLog().mark();
+        journalSize = 0;
+        logger.fine("Compacted journal into " + getAddressBookFilePath());
+    }
+
+    /**
+     * Applies the journal entries to {@code addressBook}, in order.
+     * Returns false if an entry could not be read or applied; that entry and everything after it are skipped.
+     */
+    private boolean replayJournal(AddressBook addressBook) throws DataLoadingException {
+        if (!Files.exists(journalPath)) {
+            return true;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(addressBook);
+            } catch (IOException | IllegalValueException e) {
+                logger.warning("Skipping the rest of journal " + journalPath + " from entry " + (journalSize + 1)
+                        + ": " + e.getMessage());
+                return false;
+            }
+            journalSize++;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the journal entries that put or remove the records of {@code addressBook} with {@code changedIds}.
+     * Removals come first, so that a record may take over the identity of one removed in the same save, and
+     * persons come before the events that refer to them.
+     */
+    private static List<JsonAdaptedJournalEntry> journalEntries(ReadOnlyAddressBook addressBook,
+            List<Long> changedIds) {
+        List<JsonAdaptedJournalEntry> removals = new ArrayList<>();
+        List<JsonAdaptedJournalEntry> persons = new ArrayList<>();
+        List<JsonAdaptedJournalEntry> events = new ArrayList<>();
+        for (long id : changedIds) {
+            Optional<Person> person = addressBook.findPersonById(id);
+            Optional<Event> event = person.isPresent() ? Optional.empty() : addressBook.findEventById(id);
+            if (person.isPresent()) {
+                persons.add(JsonAdaptedJournalEntry.put(person.get()));
+            } else if (event.isPresent()) {
+                events.add(JsonAdaptedJournalEntry.put(new JsonAdaptedEvent(event.get())));
+            } else {
+                removals.add(JsonAdaptedJournalEntry.remove(id));
+            }
+        }
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>(removals);
+        entries.addAll(persons);
+        entries.addAll(events);
+        return entries;
+    }
+}
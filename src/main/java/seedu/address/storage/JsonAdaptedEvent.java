@@ -2,16 +2,19 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventEndTime;
 import seedu.address.model.event.EventName;
 import seedu.address.model.event.EventStartTime;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Jackson-friendly version of {@link Event}.
@@ -19,24 +22,31 @@ import seedu.address.model.event.EventStartTime;
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_MEMBER = "Event %1$s refers to unknown member %2$s; dropping it.";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonAdaptedEvent.class);
+
+    private final Long id;
     private final String eventName;
     private final String eventStartTime;
     private final String eventEndTime;
-    private final List<JsonAdaptedStudent> students = new ArrayList<>();
-    private final List<JsonAdaptedStaff> staffs = new ArrayList<>();
-    private final List<JsonAdaptedExternalParty> externalParties = new ArrayList<>();
+    private final List<JsonAdaptedEventMember> students = new ArrayList<>();
+    private final List<JsonAdaptedEventMember> staffs = new ArrayList<>();
+    private final List<JsonAdaptedEventMember> externalParties = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedEvent} with the given event details.
+     * A {@code null} {@code id} stands for an event saved before IDs existed; one is assigned on conversion.
      */
     @JsonCreator
-    public JsonAdaptedEvent(@JsonProperty("eventName") String eventName,
+    public JsonAdaptedEvent(@JsonProperty("id") Long id,
+                            @JsonProperty("eventName") String eventName,
                             @JsonProperty("eventStartTime") String eventStartTime,
                             @JsonProperty("eventEndTime") String eventEndTime,
-                            @JsonProperty("students") List<JsonAdaptedStudent> students,
-                            @JsonProperty("staffs") List<JsonAdaptedStaff> staffs,
-                            @JsonProperty("externalParties") List<JsonAdaptedExternalParty> externalParties) {
+                            @JsonProperty("students") List<JsonAdaptedEventMember> students,
+                            @JsonProperty("staffs") List<JsonAdaptedEventMember> staffs,
+                            @JsonProperty("externalParties") List<JsonAdaptedEventMember> externalParties) {
+        this.id = id;
         this.eventName = eventName;
         this.eventStartTime = eventStartTime;
         this.eventEndTime = eventEndTime;
@@ -51,30 +61,53 @@ class JsonAdaptedEvent {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedEvent} with the given event details and no ID.
+     */
+    public JsonAdaptedEvent(String eventName, String eventStartTime, String eventEndTime,
+                            List<JsonAdaptedEventMember> students, List<JsonAdaptedEventMember> staffs,
+                            List<JsonAdaptedEventMember> externalParties) {
+        this(null, eventName, eventStartTime, eventEndTime, students, staffs, externalParties);
+    }
+
     /**
      * Converts a given {@code Event} into this class for Jackson use.
      */
     public JsonAdaptedEvent(Event source) {
+        id = source.getId();
         eventName = source.getEventName().fullEventName;
         eventStartTime = source.getEventStartTime().toString();
         eventEndTime = source.getEventEndTime().toString();
         students.addAll(source.getStudents().stream()
-                .map(JsonAdaptedStudent::new)
+                .map(JsonAdaptedEventMember::new)
                 .collect(Collectors.toList()));
         staffs.addAll(source.getStaff().stream()
-                .map(JsonAdaptedStaff::new)
+                .map(JsonAdaptedEventMember::new)
                 .collect(Collectors.toList()));
         externalParties.addAll(source.getExternalParties().stream()
-                .map(JsonAdaptedExternalParty::new)
+                .map(JsonAdaptedEventMember::new)
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the saved ID, or {@code null} if none was saved.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Members are resolved to the persons in {@code directory}; members that cannot be found are dropped.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(EventMemberDirectory directory) throws IllegalValueException {
+        if (id != null && !IdSequence.isValidId(id)) {
+            throw new IllegalValueException(IdSequence.MESSAGE_CONSTRAINTS);
+        }
+        final long modelId = id == null ? IdSequence.next() : id;
+
         if (eventName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     EventName.class.getSimpleName()));
@@ -93,19 +126,24 @@ class JsonAdaptedEvent {
         }
         final EventEndTime modelEventEndTime = new EventEndTime(eventEndTime);
 
-        final Event event = new Event(modelEventName, modelEventStartTime, modelEventEndTime);
+        final Event event = new Event(modelId, modelEventName, modelEventStartTime, modelEventEndTime);
 
-        // Adding students, staffs, and external parties
-        for (JsonAdaptedStudent student : students) {
-            event.addStudent(student.toModelType());
+        // Resolving students, staffs, and external parties against the rosters
+        for (JsonAdaptedEventMember student : students) {
+            directory.findStudent(student).ifPresentOrElse(event::addStudent, () -> logDroppedMember(student));
         }
-        for (JsonAdaptedStaff staff : staffs) {
-            event.addStaff(staff.toModelType());
+        for (JsonAdaptedEventMember staff : staffs) {
+            directory.findStaff(staff).ifPresentOrElse(event::addStaff, () -> logDroppedMember(staff));
         }
-        for (JsonAdaptedExternalParty externalParty : externalParties) {
-            event.addExternalParty(externalParty.toModelType());
+        for (JsonAdaptedEventMember externalParty : externalParties) {
+            directory.findExternalParty(externalParty).ifPresentOrElse(event::addExternalParty, () ->
+                    logDroppedMember(externalParty));
         }
 
         return event;
     }
+
+    private void logDroppedMember(JsonAdaptedEventMember member) {
+        logger.warning(String.format(MESSAGE_UNKNOWN_MEMBER, eventName, member.getKey()));
+    }
 }
@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly reference from an {@link seedu.address.model.event.Event} to one of its members.
+ * Only the member's ID is stored, and it is resolved against the rosters when the address book is loaded.
+ * Files written before IDs existed refer to members by a legacy key instead: the matric of a student, or the email
+ * of a staff or external party.
+ */
+class JsonAdaptedEventMember {
+
+    private final Long id;
+    private final String legacyKey;
+
+    private JsonAdaptedEventMember(Long id, String legacyKey) {
+        this.id = id;
+        this.legacyKey = legacyKey;
+    }
+
+    /**
+     * Converts a given event member into this class for Jackson use.
+     */
+    public JsonAdaptedEventMember(Person source) {
+        this(source.getId(), null);
+    }
+
+    /**
+     * Returns a {@code JsonAdaptedEventMember} referring to the member with the given {@code id}.
+     */
+    public static JsonAdaptedEventMember ofId(long id) {
+        return new JsonAdaptedEventMember(id, null);
+    }
+
+    /**
+     * Returns a {@code JsonAdaptedEventMember} referring to a member by its legacy {@code key}.
+     */
+    public static JsonAdaptedEventMember ofLegacyKey(String key) {
+        return new JsonAdaptedEventMember(null, key);
+    }
+
+    /**
+     * Returns the {@code JsonAdaptedEventMember} stored as {@code node}: an ID, a legacy key, or a member written out
+     * in full by older versions. Of a member written out in full, only the fields that identify it are read.
+     * This is the only creator, so that which of these a member is does not depend on how Jackson chooses between
+     * creators.
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static JsonAdaptedEventMember fromJson(JsonNode node) {
+        if (node.isIntegralNumber()) {
+            return ofId(node.asLong());
+        }
+        if (node.isTextual()) {
+            return ofLegacyKey(node.asText());
+        }
+        if (node.isObject()) {
+            Long id = node.hasNonNull("id") ? node.get("id").asLong() : null;
+            JsonNode key = node.hasNonNull("matric") ? node.get("matric") : node.get("email");
+            return new JsonAdaptedEventMember(id, key == null || key.isNull() ? null : key.asText());
+        }
+        throw new IllegalArgumentException("Event member is neither an ID, a legacy key nor a member: " + node);
+    }
+
+    @JsonValue
+    public Long getId() {
+        return id;
+    }
+
+    public String getLegacyKey() {
+        return legacyKey;
+    }
+
+    /**
+     * Returns the ID of the member, or its legacy key if it has no ID, for use in messages.
+     */
+    public String getKey() {
+        return id != null ? String.valueOf(id) : legacyKey;
+    }
+}
@@ -9,6 +9,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.ExternalParty;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Jackson-friendly version of {@link ExternalParty}
@@ -16,6 +17,7 @@ import seedu.address.model.person.Phone;
 public class JsonAdaptedExternalParty {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "External party's $s field is missing";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -23,34 +25,57 @@ public class JsonAdaptedExternalParty {
 
     /**
      * Constructs a {@code JsonAdaptedExternalParty} with the given person details.
+     * A {@code null} {@code id} stands for an external party saved before IDs existed; one is assigned on conversion.
      */
     @JsonCreator
-    public JsonAdaptedExternalParty(@JsonProperty("name") String name,
+    public JsonAdaptedExternalParty(@JsonProperty("id") Long id,
+                                    @JsonProperty("name") String name,
                                     @JsonProperty("phone") String phone,
                                     @JsonProperty("email") String email,
                                     @JsonProperty("description") String description) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.description = description;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedExternalParty} with the given person details and no ID.
+     */
+    public JsonAdaptedExternalParty(String name, String phone, String email, String description) {
+        this(null, name, phone, email, description);
+    }
+
     /**
      * Converts a given {@code ExternalParty} into this class for Jackson use.
      */
     public JsonAdaptedExternalParty(ExternalParty source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
         description = source.getDescription().value;
     }
 
+    /**
+     * Returns the saved ID, or {@code null} if none was saved.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted external party object into the model's {@code ExternalParty} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted external party.
      */
     public ExternalParty toModelType() throws IllegalValueException {
+        if (id != null && !IdSequence.isValidId(id)) {
+            throw new IllegalValueException(IdSequence.MESSAGE_CONSTRAINTS);
+        }
+        final long modelId = id == null ? IdSequence.next() : id;
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -84,6 +109,6 @@ public class JsonAdaptedExternalParty {
         }
         final Description modelDescription = new Description(description);
 
-        return new ExternalParty(modelName, modelPhone, modelEmail, modelDescription);
+        return new ExternalParty(modelId, modelName, modelPhone, modelEmail, modelDescription);
     }
 }
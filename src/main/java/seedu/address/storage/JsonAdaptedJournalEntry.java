@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Jackson-friendly version of one change to an {@link AddressBook}, as recorded in the journal of
+ * {@link JournaledAddressBookStorage}.
+ * An entry either puts one record, replacing the record with the same ID if there is one, or removes the record with
+ * the {@code removed} ID.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_EMPTY_ENTRY = "Journal entry does not change anything.";
+    public static final String MESSAGE_CONFLICTING_ENTRY = "Journal entry for ID %1$d conflicts with the address book.";
+
+    private final JsonAdaptedStudent student;
+    private final JsonAdaptedStaff staff;
+    private final JsonAdaptedExternalParty externalParty;
+    private final JsonAdaptedEvent event;
+    private final Long removed;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("student") JsonAdaptedStudent student,
+                                   @JsonProperty("staff") JsonAdaptedStaff staff,
+                                   @JsonProperty("externalParty") JsonAdaptedExternalParty externalParty,
+                                   @JsonProperty("event") JsonAdaptedEvent event,
+                                   @JsonProperty("removed") Long removed) {
+        this.student = student;
+        this.staff = staff;
+        this.externalParty = externalParty;
+        this.event = event;
+        this.removed = removed;
+    }
+
+    /**
+     * Returns an entry that puts {@code person}.
+     */
+    static JsonAdaptedJournalEntry put(Person person) {
+        if (person instanceof Student) {
+            return new JsonAdaptedJournalEntry(new JsonAdaptedStudent((Student) person), null, null, null, null);
+        } else if (person instanceof Staff) {
+            return new JsonAdaptedJournalEntry(null, new JsonAdaptedStaff((Staff) person), null, null, null);
+        } else {
+            return new JsonAdaptedJournalEntry(null, null, new JsonAdaptedExternalParty((ExternalParty) person),
+                    null, null);
+        }
+    }
+
+    /**
+     * Returns an entry that puts {@code event}.
+     */
+    static JsonAdaptedJournalEntry put(JsonAdaptedEvent event) {
+        return new JsonAdaptedJournalEntry(null, null, null, event, null);
+    }
+
+    /**
+     * Returns an entry that removes the person or event with the given {@code id}.
+     */
+    static JsonAdaptedJournalEntry remove(long id) {
+        return new JsonAdaptedJournalEntry(null, null, null, null, id);
+    }
+
+    /**
+     * Applies this entry to {@code addressBook}.
+     * Removing a record that is already gone does nothing, so an entry can safely be applied more than once.
+     *
+     * @throws IllegalValueException if the entry is invalid or cannot be applied to {@code addressBook}.
+     */
+    void applyTo(AddressBook addressBook) throws IllegalValueException {
+        try {
+            if (student != null) {
+                putStudent(addressBook, student.toModelType());
+            } else if (staff != null) {
+                putStaff(addressBook, staff.toModelType());
+            } else if (externalParty != null) {
+                putExternalParty(addressBook, externalParty.toModelType());
+            } else if (event != null) {
+                putEvent(addressBook, event.toModelType(new EventMemberDirectory(addressBook)));
+            } else if (removed != null) {
+                remove(addressBook, removed);
+            } else {
+                throw new IllegalValueException(MESSAGE_EMPTY_ENTRY);
+            }
+        } catch (DuplicatePersonException | DuplicateEventException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_ENTRY, getId()));
+        }
+    }
+
+    private static void putStudent(AddressBook addressBook, Student student) throws IllegalValueException {
+        Optional<Person> existing = addressBook.findPersonById(student.getId());
+        if (existing.isEmpty()) {
+            addressBook.addStudent(student);
+        } else if (existing.get() instanceof Student) {
+            addressBook.setStudent((Student) existing.get(), student);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_ENTRY, student.getId()));
+        }
+    }
+
+    private static void putStaff(AddressBook addressBook, Staff staff) throws IllegalValueException {
+        Optional<Person> existing = addressBook.findPersonById(staff.getId());
+        if (existing.isEmpty()) {
+            addressBook.addStaff(staff);
+        } else if (existing.get() instanceof Staff) {
+            addressBook.setStaff((Staff) existing.get(), staff);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_ENTRY, staff.getId()));
+        }
+    }
+
+    private static void putExternalParty(AddressBook addressBook, ExternalParty externalParty)
+            throws IllegalValueException {
+        Optional<Person> existing = addressBook.findPersonById(externalParty.getId());
+        if (existing.isEmpty()) {
+            addressBook.addExternalParty(externalParty);
+        } else if (existing.get() instanceof ExternalParty) {
+            addressBook.setExternalParty((ExternalParty) existing.get(), externalParty);
+        } else {
+            throw new IllegalValueException(String.format(MESSAGE_CONFLICTING_ENTRY, externalParty.getId()));
+        }
+    }
+
+    private static void putEvent(AddressBook addressBook, Event event) {
+        Optional<Event> existing = addressBook.findEventById(event.getId());
+        if (existing.isEmpty()) {
+            addressBook.addEvent(event);
+        } else {
+            addressBook.setEvent(existing.get(), event);
+        }
+    }
+
+    private static void remove(AddressBook addressBook, long id) {
+        Optional<Person> person = addressBook.findPersonById(id);
+        if (person.isPresent() && person.get() instanceof Student) {
+            addressBook.removeStudent((Student) person.get());
+        } else if (person.isPresent() && person.get() instanceof Staff) {
+            addressBook.removeStaff((Staff) person.get());
+        } else if (person.isPresent()) {
+            addressBook.removeExternalParty((ExternalParty) person.get());
+        } else {
+            addressBook.findEventById(id).ifPresent(addressBook::removeEvent);
+        }
+    }
+
+    private Long getId() {
+        if (student != null) {
+            return student.getId();
+        } else if (staff != null) {
+            return staff.getId();
+        } else if (externalParty != null) {
+            return externalParty.getId();
+        } else if (event != null) {
+            return event.getId();
+        }
+        return removed;
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.model.person.Room;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.StaffDesignation;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Jackson-friendly version of {@link Staff}.
@@ -27,6 +28,7 @@ import seedu.address.model.tag.Tag;
 public class JsonAdaptedStaff {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Staff's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -40,14 +42,17 @@ public class JsonAdaptedStaff {
 
     /**
      * Constructs a {@code JsonAdaptedStaff} with the given person details.
+     * A {@code null} {@code id} stands for a staff saved before IDs existed; one is assigned on conversion.
      */
     @JsonCreator
-    public JsonAdaptedStaff(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedStaff(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                              @JsonProperty("phone") String phone,
                               @JsonProperty("email") String email, @JsonProperty("address") String address,
                               @JsonProperty("tags") List<JsonAdaptedTag> tags,
                               @JsonProperty("emergency") String emergency, @JsonProperty("block") String block,
                               @JsonProperty("level") String level, @JsonProperty("room") String room,
                               @JsonProperty("staffDesignation") String staffDesignation) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -62,10 +67,19 @@ public class JsonAdaptedStaff {
         this.staffDesignation = staffDesignation;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedStaff} with the given person details and no ID.
+     */
+    public JsonAdaptedStaff(String name, String phone, String email, String address, List<JsonAdaptedTag> tags,
+                              String emergency, String block, String level, String room, String staffDesignation) {
+        this(null, name, phone, email, address, tags, emergency, block, level, room, staffDesignation);
+    }
+
     /**
      * Converts a given {@code Staff} into this class for Jackson use.
      */
     public JsonAdaptedStaff(Staff source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -80,6 +94,13 @@ public class JsonAdaptedStaff {
         staffDesignation = String.valueOf(source.getStaffDesignation().getOrdinalDesignation());
     }
 
+    /**
+     * Returns the saved ID, or {@code null} if none was saved.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted staff object into the model's {@code Staff} object.
      *
@@ -91,6 +112,11 @@ public class JsonAdaptedStaff {
             studentTags.add(tag.toModelType());
         }
 
+        if (id != null && !IdSequence.isValidId(id)) {
+            throw new IllegalValueException(IdSequence.MESSAGE_CONSTRAINTS);
+        }
+        final long modelId = id == null ? IdSequence.next() : id;
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -165,7 +191,7 @@ public class JsonAdaptedStaff {
         final StaffDesignation modelStaffDesignation = new StaffDesignation(staffDesignation);
 
         final Set<Tag> modelTags = new HashSet<>(studentTags);
-        return new Staff(modelName, modelPhone, modelEmail, modelAddress, modelTags, modelEmergency,
+        return new Staff(modelId, modelName, modelPhone, modelEmail, modelAddress, modelTags, modelEmergency,
                 modelBlock, modelLevel, modelRoom, modelStaffDesignation);
     }
 }
@@ -21,6 +21,7 @@ import seedu.address.model.person.Room;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.StudentDesignation;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.IdSequence;
 
 /**
  * Jackson-friendly version of {@link Student}.
@@ -28,6 +29,7 @@ import seedu.address.model.tag.Tag;
 public class JsonAdaptedStudent {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Student's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -42,14 +44,17 @@ public class JsonAdaptedStudent {
 
     /**
      * Constructs a {@code JsonAdaptedStudent} with the given person details.
+     * A {@code null} {@code id} stands for a student saved before IDs existed; one is assigned on conversion.
      */
     @JsonCreator
-    public JsonAdaptedStudent(@JsonProperty("name") String name, @JsonProperty("matric") String matric,
+    public JsonAdaptedStudent(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+                              @JsonProperty("matric") String matric,
                               @JsonProperty("phone") String phone, @JsonProperty("email") String email,
                               @JsonProperty("address") String address, @JsonProperty("tags") List<JsonAdaptedTag> tags,
                               @JsonProperty("emergency") String emergency, @JsonProperty("block") String block,
                               @JsonProperty("level") String level, @JsonProperty("room") String room,
                               @JsonProperty("studentDesignation") String studentDesignation) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -65,10 +70,20 @@ public class JsonAdaptedStudent {
         this.studentDesignation = studentDesignation;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedStudent} with the given person details and no ID.
+     */
+    public JsonAdaptedStudent(String name, String matric, String phone, String email, String address,
+                              List<JsonAdaptedTag> tags, String emergency, String block, String level, String room,
+                              String studentDesignation) {
+        this(null, name, matric, phone, email, address, tags, emergency, block, level, room, studentDesignation);
+    }
+
     /**
      * Converts a given {@code Student} into this class for Jackson use.
      */
     public JsonAdaptedStudent(Student source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -84,6 +99,13 @@ public class JsonAdaptedStudent {
         studentDesignation = String.valueOf(source.getStudentDesignation().getOrdinalDesignation());
     }
 
+    /**
+     * Returns the saved ID, or {@code null} if none was saved.
+     */
+    Long getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted student object into the model's {@code Student} object.
      *
@@ -95,6 +117,11 @@ public class JsonAdaptedStudent {
             studentTags.add(tag.toModelType());
         }
 
+        if (id != null && !IdSequence.isValidId(id)) {
+            throw new IllegalValueException(IdSequence.MESSAGE_CONSTRAINTS);
+        }
+        final long modelId = id == null ? IdSequence.next() : id;
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -177,7 +204,7 @@ public class JsonAdaptedStudent {
         final StudentDesignation modelStudentDesignation = new StudentDesignation(studentDesignation);
 
         final Set<Tag> modelTags = new HashSet<>(studentTags);
-        return new Student(modelName, modelMatric, modelPhone, modelEmail, modelAddress, modelTags, modelEmergency,
-                modelBlock, modelLevel, modelRoom, modelStudentDesignation);
+        return new Student(modelId, modelName, modelMatric, modelPhone, modelEmail, modelAddress, modelTags,
+                modelEmergency, modelBlock, modelLevel, modelRoom, modelStudentDesignation);
     }
 }
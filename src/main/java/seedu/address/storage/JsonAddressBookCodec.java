@@ -0,0 +1,394 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+import seedu.address.storage.JsonSchemaMigrations.RecordMigrator;
+import seedu.address.storage.ParallelRecordConverter.RecordConverter;
+
+/**
+ * Reads and writes an address book as JSON one record at a time, in the format of
+ * {@link JsonSerializableAddressBook}.
+ * Unlike converting a whole {@code JsonSerializableAddressBook} to or from a string, neither the document nor a
+ * second copy of every record is ever held in memory at once.
+ * <p>
+ * Files start with the version of their format. Files of older versions have each record upgraded by
+ * {@link JsonSchemaMigrations} as it is read, while files of the current version are converted as they are.
+ * <p>
+ * Every record and list is written with a checksum, as described in {@link RecordChecksums}. Records whose checksum
+ * does not match are left out and reported in a {@link DamageReport} instead of failing the whole read, so that one
+ * damaged record does not cost the rest. Records and lists without a checksum, such as those of older files or
+ * those edited by hand, are read unchecked.
+ * <p>
+ * The bytes of each record are kept as they are read, so that a record is checked against the bytes it was written
+ * as and converted straight from them, rather than through a JSON tree. Only records that were not written by this
+ * app as they are, such as those of older files, are read as trees.
+ */
+class JsonAddressBookCodec {
+
+    public static final String MESSAGE_NOT_ADDRESS_BOOK = "Expected a JSON object holding the address book.";
+    public static final String MESSAGE_INVALID_VERSION = "Expected the version to be a whole number.";
+    public static final String MESSAGE_NOT_LIST = "Expected a JSON array for \"%1$s\".";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Address book's %s field is missing!";
+
+    private static final String STAFFS = "staffs";
+    private static final String STUDENTS = "students";
+    private static final String EXTERNAL_PARTIES = "externalParties";
+    private static final String EVENTS = "events";
+    private static final List<String> LISTS = List.of(STAFFS, STUDENTS, EXTERNAL_PARTIES, EVENTS);
+
+    private final boolean isCompact;
+
+    /**
+     * Creates a codec that writes pretty-printed JSON, or JSON on a single line if {@code isCompact}.
+     */
+    JsonAddressBookCodec(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     */
+    void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out, isCompact)) {
+            generator.writeStartObject();
+            generator.writeNumberField(JsonSchemaMigrations.VERSION_FIELD, JsonSchemaMigrations.CURRENT_VERSION);
+            writeList(generator, STAFFS, addressBook.getStaffList(), JsonAdaptedStaff::new);
+            writeList(generator, STUDENTS, addressBook.getStudentList(), JsonAdaptedStudent::new);
+            writeList(generator, EXTERNAL_PARTIES, addressBook.getExternalPartyList(), JsonAdaptedExternalParty::new);
+            writeList(generator, EVENTS, addressBook.getEventList(), JsonAdaptedEvent::new);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code records} as the array field {@code list}, each adapted by {@code adapter} and given its checksum,
+     * followed by the checksum of the list.
+     */
+    private static <M> void writeList(JsonGenerator generator, String list, List<M> records,
+            Function<M, Object> adapter) throws IOException {
+        RecordChecksums.Section section = new RecordChecksums.Section();
+        generator.writeArrayFieldStart(list);
+        for (M record : records) {
+            byte[] bytes = JsonUtil.toCompactBytes(adapter.apply(record));
+            int checksum = RecordChecksums.compute(bytes);
+            section.add(checksum);
+            generator.writeRawValue(RecordChecksums.addTo(bytes, checksum));
+        }
+        generator.writeEndArray();
+        generator.writeStringField(RecordChecksums.sectionField(list), RecordChecksums.format(section.getValue()));
+    }
+
+    /**
+     * Reads an address book from {@code in}, without closing it, leaving out damaged records and adding them to
+     * {@code report}.
+     * Persons are checked and converted on the fork-join pool in chunks as they are read, while reading goes on.
+     * Events refer to persons, so they are only converted once the whole document has been read. A document that
+     * cannot be parsed is reported as such even if persons before the error failed to convert. Unknown fields are
+     * ignored, and, as in older files, the list of events may be missing.
+     * <p>
+     * The version must be the first field; files without one are taken to be of
+     * {@link JsonSchemaMigrations#UNVERSIONED the version before versions were written}.
+     *
+     * @throws IOException if {@code in} could not be read, does not hold an address book in JSON, or holds one of
+     *     a version this app cannot read.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook read(InputStream in, DamageReport report) throws IOException, IllegalValueException {
+        requireNonNull(report);
+        // Saved IDs further down the file are not known yet, so records without one are given one at the end
+        IdlessRecords idlessRecords = new IdlessRecords();
+        ParallelRecordConverter<PendingRecord, Staff> staffConverter = createConverter(JsonAdaptedStaff.class,
+                idlessRecords.noting(JsonAdaptedStaff::toModelType, JsonAdaptedStaff::getId), report);
+        ParallelRecordConverter<PendingRecord, Student> studentConverter = createConverter(JsonAdaptedStudent.class,
+                idlessRecords.noting(JsonAdaptedStudent::toModelType, JsonAdaptedStudent::getId), report);
+        ParallelRecordConverter<PendingRecord, ExternalParty> externalPartyConverter = createConverter(
+                JsonAdaptedExternalParty.class,
+                idlessRecords.noting(JsonAdaptedExternalParty::toModelType, JsonAdaptedExternalParty::getId), report);
+        List<JsonAdaptedEvent> events = new ArrayList<>();
+
+        Set<String> listsRead = scan(in, report, (list, record) -> {
+            switch (list) {
+            case STAFFS:
+                staffConverter.add(record);
+                break;
+            case STUDENTS:
+                studentConverter.add(record);
+                break;
+            case EXTERNAL_PARTIES:
+                externalPartyConverter.add(record);
+                break;
+            default:
+                if (record.isIntact(report)) {
+                    events.add(record.toAdapted(JsonAdaptedEvent.class));
+                }
+            }
+        });
+        checkRostersPresent(listsRead);
+        return JsonSerializableAddressBook.toAddressBook(withoutDamaged(staffConverter.join()),
+                withoutDamaged(studentConverter.join()), withoutDamaged(externalPartyConverter.join()), events,
+                idlessRecords);
+    }
+
+    /**
+     * Checks the checksums of every record and list in {@code in}, without closing it or converting any record,
+     * and adds whatever is damaged to {@code report}.
+     *
+     * @throws IOException if {@code in} could not be read, does not hold an address book in JSON, or holds one of
+     *     a version this app cannot read.
+     * @throws IllegalValueException if a list of persons is missing.
+     */
+    void verify(InputStream in, DamageReport report) throws IOException, IllegalValueException {
+        requireNonNull(report);
+        checkRostersPresent(scan(in, report, (list, record) -> record.isIntact(report)));
+    }
+
+    /**
+     * Reads the lists of the address book in {@code in}, handing each record to {@code sink} as soon as it is read,
+     * then checks the checksum of every list against those of its records. Returns the names of the lists read.
+     */
+    private static Set<String> scan(InputStream in, DamageReport report, RecordSink sink)
+            throws IOException, IllegalValueException {
+        Map<String, RecordChecksums.Section> sections = new HashMap<>();
+        Map<String, String> sectionChecksums = new HashMap<>();
+
+        CapturingInputStream capturingIn = new CapturingInputStream(in);
+        try (JsonParser parser = JsonUtil.createParser(capturingIn)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_ADDRESS_BOOK);
+            }
+            int version = JsonSchemaMigrations.UNVERSIONED;
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.FIELD_NAME && JsonSchemaMigrations.VERSION_FIELD.equals(parser.getCurrentName())) {
+                if (parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                    throw new JsonParseException(parser, MESSAGE_INVALID_VERSION);
+                }
+                version = parser.getIntValue();
+                token = parser.nextToken();
+            }
+            // Null for the current version, whose records need no migrating
+            RecordMigrator migrator = version == JsonSchemaMigrations.CURRENT_VERSION
+                    ? null
+                    : JsonSchemaMigrations.upgradeFrom(version);
+
+            for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+                String fieldName = parser.getCurrentName();
+                capturingIn.release(parser.getTokenLocation().getByteOffset());
+                parser.nextToken();
+                if (LISTS.contains(fieldName)) {
+                    RecordChecksums.Section section = new RecordChecksums.Section();
+                    readList(parser, capturingIn, fieldName, record -> sink.accept(fieldName,
+                            new PendingRecord(fieldName, record, migrator, section, report)));
+                    sections.put(fieldName, section);
+                    continue;
+                }
+                String sectionList = fieldName.endsWith(RecordChecksums.SECTION_SUFFIX)
+                        ? fieldName.substring(0, fieldName.length() - RecordChecksums.SECTION_SUFFIX.length())
+                        : "";
+                if (LISTS.contains(sectionList)) {
+                    sectionChecksums.put(sectionList, String.valueOf(parser.getValueAsString()));
+                }
+                parser.skipChildren();
+            }
+        }
+        for (Map.Entry<String, String> sectionChecksum : sectionChecksums.entrySet()) {
+            RecordChecksums.Section section = sections.get(sectionChecksum.getKey());
+            if (section != null && !section.matches(sectionChecksum.getValue())) {
+                report.addDamagedList(sectionChecksum.getKey(), DamageReport.MESSAGE_SECTION_MISMATCH);
+            }
+        }
+        return sections.keySet();
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser}, handing the bytes of each element to {@code consumer}
+     * as soon as it is read. {@code in} must be the stream {@code parser} reads from.
+     * Objects are handed over as they were written. Other elements, and objects whose place in the stream is not
+     * known, are handed over as they would be written on a single line.
+     */
+    private static void readList(JsonParser parser, CapturingInputStream in, String fieldName,
+            RecordConsumer consumer) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_LIST, fieldName));
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            long start = parser.getTokenLocation().getByteOffset();
+            if (parser.getCurrentToken() != JsonToken.START_OBJECT || start < 0) {
+                consumer.accept(JsonUtil.toCompactBytes(JsonUtil.readValue(parser, JsonNode.class)));
+                continue;
+            }
+            in.release(start);
+            parser.skipChildren();
+            consumer.accept(in.getBytes(start, parser.getCurrentLocation().getByteOffset()));
+        }
+    }
+
+    private static void checkRostersPresent(Set<String> listsRead) throws IllegalValueException {
+        for (String personList : List.of(STAFFS, STUDENTS, EXTERNAL_PARTIES)) {
+            if (!listsRead.contains(personList)) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, personList));
+            }
+        }
+    }
+
+    /**
+     * Returns a converter that checks each record, adding it to {@code report} if damaged, and converts the intact
+     * ones into their adapted classes and then with {@code toModelType}. Damaged records convert to null.
+     */
+    private static <A, M> ParallelRecordConverter<PendingRecord, M> createConverter(Class<A> adaptedClass,
+            RecordConverter<A, M> toModelType, DamageReport report) {
+        return new ParallelRecordConverter<>(record -> record.isIntact(report)
+                ? toModelType.convert(record.toAdapted(adaptedClass))
+                : null);
+    }
+
+    private static <M> List<M> withoutDamaged(List<M> converted) {
+        converted.removeIf(Objects::isNull);
+        return converted;
+    }
+
+    /**
+     * Receives the records of the lists of an address book as they are read.
+     */
+    @FunctionalInterface
+    private interface RecordSink {
+        void accept(String list, PendingRecord record) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Receives the elements of a list as they are read.
+     */
+    @FunctionalInterface
+    private interface RecordConsumer {
+        void accept(byte[] record) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * A record that has been read but not yet checked against its checksum or converted.
+     * Its checksum is taken out of it and added to the checksum of its list as soon as it is read, in the order of
+     * the list, while checking and converting it may happen later on any thread.
+     */
+    private static class PendingRecord {
+        private final String list;
+        private final int index;
+        private final byte[] bytes;
+        private final RecordMigrator migrator;
+        private final JsonNode checksum;
+        /** Whether {@link #bytes} end with {@link #checksum}, as this app writes records. */
+        private final boolean isChecksumAtEnd;
+        /** The record without its checksum as a JSON tree, or null if it has not been needed yet. */
+        private JsonNode tree;
+
+        PendingRecord(String list, byte[] bytes, RecordMigrator migrator, RecordChecksums.Section section,
+                DamageReport report) throws IOException {
+            this.list = list;
+            this.index = section.size();
+            this.bytes = bytes;
+            this.migrator = migrator;
+            String checksumAtEnd = RecordChecksums.findAtEnd(bytes);
+            this.isChecksumAtEnd = checksumAtEnd != null;
+            if (isChecksumAtEnd) {
+                this.checksum = TextNode.valueOf(checksumAtEnd);
+            } else {
+                // Not as this app writes records, so the checksum may be anywhere in the record, if it has one
+                this.tree = JsonUtil.fromJsonBytes(bytes, JsonNode.class);
+                this.checksum = tree.isObject() ? ((ObjectNode) tree).remove(RecordChecksums.RECORD_FIELD) : null;
+            }
+            section.add(checksum);
+            report.countRecord(list, checksum != null);
+        }
+
+        /**
+         * Returns true if the record matches its checksum or has none, and otherwise adds it to {@code report}.
+         * A record that does not match its own bytes is checked again as a tree before it is taken to be damaged, in
+         * case it was only written differently, such as by hand.
+         */
+        boolean isIntact(DamageReport report) throws IllegalValueException {
+            if (checksum == null) {
+                return true;
+            }
+            String reason = null;
+            try {
+                int expected = RecordChecksums.parse(checksum.asText());
+                boolean isMatch = isChecksumAtEnd && RecordChecksums.computeWithoutEnd(bytes) == expected;
+                if (!isMatch && RecordChecksums.compute(getTree()) != expected) {
+                    reason = DamageReport.MESSAGE_CHECKSUM_MISMATCH;
+                }
+            } catch (NumberFormatException nfe) {
+                reason = DamageReport.MESSAGE_CHECKSUM_UNREADABLE;
+            }
+            if (reason == null) {
+                return true;
+            }
+            // Puts the checksum back, so that whoever repairs the record sees what it was expected to be
+            ObjectNode damaged = (ObjectNode) getTree();
+            damaged.set(RecordChecksums.RECORD_FIELD, checksum);
+            report.addDamagedRecord(list, index, reason, damaged);
+            return false;
+        }
+
+        /**
+         * Upgrades the record to the current version if needed, and converts it into {@code adaptedClass}.
+         * Records of the current version are converted straight from their bytes.
+         *
+         * @throws IllegalValueException if the record does not have the shape of {@code adaptedClass}.
+         */
+        <A> A toAdapted(Class<A> adaptedClass) throws IllegalValueException {
+            try {
+                if (migrator == null) {
+                    return JsonUtil.fromJsonBytes(bytes, adaptedClass);
+                }
+                JsonNode record = getTree();
+                if (record.isObject()) {
+                    migrator.migrate(list, (ObjectNode) record);
+                }
+                return JsonUtil.treeToValue(record, adaptedClass);
+            } catch (IOException ioe) {
+                throw new IllegalValueException(ioe.getMessage(), ioe);
+            }
+        }
+
+        /**
+         * Returns the record without its checksum as a JSON tree, reading it from its bytes the first time.
+         */
+        private JsonNode getTree() throws IllegalValueException {
+            if (tree == null) {
+                try {
+                    tree = JsonUtil.fromJsonBytes(bytes, JsonNode.class);
+                } catch (IOException ioe) {
+                    throw new IllegalValueException(ioe.getMessage(), ioe);
+                }
+                if (tree.isObject()) {
+                    ((ObjectNode) tree).remove(RecordChecksums.RECORD_FIELD);
+                }
+            }
+            return tree;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.Compression;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +20,45 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one record at a time, and saves replace it in one step, so that a crash while
+ * saving leaves the last saved data intact.
+ * <p>
+ * Files may be saved compressed. Compressed files are recognised by their first bytes when read, so a file reads back
+ * whatever compression it was saved with.
+ * <p>
+ * Records that fail their checksums are left out when the file is read, and saved beside it in a quarantine file so
+ * that they can be repaired by hand.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String QUARANTINE_INFIX = ".quarantine-";
+    private static final String QUARANTINE_EXTENSION = ".json";
+
     private Path filePath;
+    private final JsonAddressBookCodec codec;
+    private final Compression compression;
+    private final int compressionLevel;
 
+    /**
+     * Creates a storage at {@code filePath} that writes the file pretty-printed and uncompressed.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false, Compression.NONE, Compression.DEFAULT_LEVEL);
+    }
+
+    /**
+     * Creates a storage at {@code filePath} that writes the file on a single line instead of pretty-printing it if
+     * {@code isCompact}, and compresses it with {@code compression} at {@code compressionLevel}.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, Compression compression, int compressionLevel) {
+        requireNonNull(compression);
+        checkArgument(Compression.isValidLevel(compressionLevel), "Invalid compression level: " + compressionLevel);
         this.filePath = filePath;
+        this.codec = new JsonAddressBookCodec(isCompact);
+        this.compression = compression;
+        this.compressionLevel = compressionLevel;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +79,68 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        DamageReport report = new DamageReport();
+        ReadOnlyAddressBook addressBook;
+        try (InputStream in = CompressedStreams.open(Files.newInputStream(filePath))) {
+            addressBook = codec.read(in, report);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+        if (!report.isClean()) {
+            logger.warning("Damage found in " + filePath + ": " + report.getSummary());
+            quarantine(report, filePath);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Saves the damaged records of {@code report} beside {@code filePath}, in a file named after it and the time.
+     * Failing to save them is only logged, as they have already been left out of what was read.
+     */
+    private static void quarantine(DamageReport report, Path filePath) {
+        if (report.getDamagedRecords().isEmpty()) {
+            return;
+        }
+        Path quarantinePath = getQuarantinePath(filePath, System.currentTimeMillis());
+        try {
+            JsonUtil.saveJsonFile(report.getDamagedRecords(), quarantinePath);
+            logger.warning("Damaged records of " + filePath + " saved to " + quarantinePath);
+        } catch (IOException ioe) {
+            logger.warning("Error saving damaged records to " + quarantinePath + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns where the damaged records of the file at {@code filePath} found at {@code timeMillis} are saved.
+     */
+    public static Path getQuarantinePath(Path filePath, long timeMillis) {
+        return filePath.resolveSibling(filePath.getFileName() + QUARANTINE_INFIX + timeMillis + QUARANTINE_EXTENSION);
+    }
+
+    /**
+     * Checks the checksums of the address book at {@code filePath} without loading it, and returns what was found.
+     *
+     * @throws DataLoadingException if the file could not be read, or does not hold an address book.
+     */
+    public static DamageReport verifyAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        DamageReport report = new DamageReport();
+        try (InputStream in = CompressedStreams.open(Files.newInputStream(filePath))) {
+            new JsonAddressBookCodec(false).verify(in, report);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Error verifying " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return report;
     }
 
     @Override
@@ -73,8 +157,9 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out -> CompressedStreams.write(out, compression, compressionLevel,
+                compressedOut -> codec.write(addressBook, compressedOut)), true);
     }
 
 }
@@ -0,0 +1,109 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The versions of the JSON address book format, and the migrators that upgrade records of each older version to the
+ * next.
+ * <p>
+ * Migrators work on one record at a time, as it is read, so upgrading an old file never holds more of it in memory
+ * than reading a current one does. Files of the current version skip migration altogether and are read straight
+ * into their adapted classes.
+ */
+final class JsonSchemaMigrations {
+
+    /** The version of files written before the format was versioned, which have no version field. */
+    static final int UNVERSIONED = 1;
+    /** The version of the files this app writes. */
+    static final int CURRENT_VERSION = 2;
+
+    static final String VERSION_FIELD = "version";
+
+    static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file version %1$d is not supported; this app reads versions " + UNVERSIONED + " to "
+            + CURRENT_VERSION + ".";
+
+    private static final String EVENTS = "events";
+    private static final List<String> EVENT_MEMBER_LISTS = List.of("students", "staffs", "externalParties");
+
+    /** The migrator that upgrades records of each version to the next, keyed by the version it upgrades from. */
+    private static final Map<Integer, RecordMigrator> MIGRATORS = Map.of(
+            UNVERSIONED, JsonSchemaMigrations::replaceMemberCopiesWithKeys);
+
+    private JsonSchemaMigrations() {}
+
+    /**
+     * Returns a migrator that upgrades records of {@code version} to {@link #CURRENT_VERSION}, by running the
+     * migrator of every version in between in turn.
+     *
+     * @throws IOException if files of {@code version} cannot be read by this app.
+     */
+    static RecordMigrator upgradeFrom(int version) throws IOException {
+        if (version < UNVERSIONED || version > CURRENT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        List<RecordMigrator> steps = new ArrayList<>();
+        for (int from = version; from < CURRENT_VERSION; from++) {
+            steps.add(MIGRATORS.get(from));
+        }
+        return (listName, record) -> {
+            for (RecordMigrator step : steps) {
+                step.migrate(listName, record);
+            }
+        };
+    }
+
+    /**
+     * Upgrades from version 1, in which events could hold a full copy of each member, to version 2, in which they
+     * only refer to their members.
+     * A copy is replaced by its member's ID if it has one, or else by its legacy key: the matric of a student, or the
+     * email of a staff or external party.
+     */
+    private static void replaceMemberCopiesWithKeys(String listName, ObjectNode record) {
+        if (!EVENTS.equals(listName)) {
+            return;
+        }
+        for (String memberList : EVENT_MEMBER_LISTS) {
+            JsonNode members = record.get(memberList);
+            if (members == null || !members.isArray()) {
+                continue;
+            }
+            ArrayNode memberArray = (ArrayNode) members;
+            for (int i = 0; i < memberArray.size(); i++) {
+                JsonNode member = memberArray.get(i);
+                if (member.isObject()) {
+                    memberArray.set(i, toMemberKey(member));
+                }
+            }
+        }
+    }
+
+    private static JsonNode toMemberKey(JsonNode memberCopy) {
+        for (String keyField : List.of("id", "matric", "email")) {
+            JsonNode key = memberCopy.get(keyField);
+            if (key != null && !key.isNull()) {
+                return key;
+            }
+        }
+        // Nothing identifies the member, so the copy is left for loading to drop
+        return memberCopy;
+    }
+
+    /**
+     * Upgrades one record of one version of the format to the next, in place.
+     */
+    @FunctionalInterface
+    interface RecordMigrator {
+        /**
+         * Upgrades {@code record}, an element of the list {@code listName}.
+         */
+        void migrate(String listName, ObjectNode record);
+    }
+}
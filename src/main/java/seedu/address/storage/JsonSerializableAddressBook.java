@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,9 +14,12 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -28,23 +33,34 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_EXTERNAL_PARTY =
             "External parties list contains duplicate external party(ies).";
     public static final String MESSAGE_DUPLICATE_EVENT = "Events list contains duplicate event(s).";
+    public static final String MESSAGE_DUPLICATE_ENTRIES = "%1$s Duplicates: %2$s";
+    public static final String MESSAGE_DUPLICATE_ID = "ID %1$d is used by more than one entry.";
 
+    private final int version;
     private final List<JsonAdaptedStaff> staffs = new ArrayList<>();
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
     private final List<JsonAdaptedExternalParty> externalParties = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} of the given format version with the given persons and events.
+     * A {@code null} {@code version} stands for a file written before versions were, and {@code null} events for
+     * one written before events were saved.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("staffs") List<JsonAdaptedStaff> staffs,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("staffs") List<JsonAdaptedStaff> staffs,
                                        @JsonProperty("students") List<JsonAdaptedStudent> students,
                                        @JsonProperty("externalParties")
-                                           List<JsonAdaptedExternalParty> externalParties) {
+                                           List<JsonAdaptedExternalParty> externalParties,
+                                       @JsonProperty("events") List<JsonAdaptedEvent> events) {
+        this.version = version != null ? version : JsonSchemaMigrations.UNVERSIONED;
         this.staffs.addAll(staffs);
         this.students.addAll(students);
         this.externalParties.addAll(externalParties);
+        if (events != null) {
+            this.events.addAll(events);
+        }
     }
 
     /**
@@ -53,6 +69,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        version = JsonSchemaMigrations.CURRENT_VERSION;
         staffs.addAll(source.getStaffList().stream().map(JsonAdaptedStaff::new).collect(Collectors.toList()));
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
         externalParties.addAll(source.getExternalPartyList().stream().map(JsonAdaptedExternalParty::new)
@@ -62,46 +79,116 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons of all three lists are converted in parallel. Each list is then checked for duplicates in one
+     * hashed pass and loaded with a single bulk replace. Every saved ID is claimed first, so that the records saved
+     * without one, such as those added by hand, are not given the ID of another record.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, or the address book is of a
+     *     version this app cannot read.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        for (JsonAdaptedStaff jsonAdaptedStaff : staffs) {
-            Staff staff = jsonAdaptedStaff.toModelType();
-            if (addressBook.hasStaff(staff)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STAFF);
-            }
-            addressBook.addStaff(staff);
+        if (version > JsonSchemaMigrations.CURRENT_VERSION) {
+            throw new IllegalValueException(String.format(JsonSchemaMigrations.MESSAGE_UNSUPPORTED_VERSION, version));
         }
+        IdlessRecords.claimSavedIds(staffs, JsonAdaptedStaff::getId);
+        IdlessRecords.claimSavedIds(students, JsonAdaptedStudent::getId);
+        IdlessRecords.claimSavedIds(externalParties, JsonAdaptedExternalParty::getId);
+        ParallelRecordConverter<JsonAdaptedStaff, Staff> staffConverter =
+                new ParallelRecordConverter<>(JsonAdaptedStaff::toModelType);
+        staffs.forEach(staffConverter::add);
+        ParallelRecordConverter<JsonAdaptedStudent, Student> studentConverter =
+                new ParallelRecordConverter<>(JsonAdaptedStudent::toModelType);
+        students.forEach(studentConverter::add);
+        ParallelRecordConverter<JsonAdaptedExternalParty, ExternalParty> externalPartyConverter =
+                new ParallelRecordConverter<>(JsonAdaptedExternalParty::toModelType);
+        externalParties.forEach(externalPartyConverter::add);
+        // Joined in the order of the lists, so the failure reported is the one a sequential load would hit first
+        return toAddressBook(staffConverter.join(), studentConverter.join(), externalPartyConverter.join(), events);
+    }
 
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (addressBook.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            addressBook.addStudent(student);
-        }
+    /**
+     * Returns an {@code AddressBook} with the given persons and the given events, after checking that no two of
+     * them share an ID and no list contains duplicates.
+     * Events are converted last, as they refer to the persons.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook toAddressBook(List<Staff> staffList, List<Student> studentList,
+            List<ExternalParty> externalPartyList, List<JsonAdaptedEvent> events) throws IllegalValueException {
+        return toAddressBook(staffList, studentList, externalPartyList, events, new IdlessRecords());
+    }
+
+    /**
+     * Returns an {@code AddressBook} like {@link #toAddressBook(List, List, List, List)}, once the persons noted in
+     * {@code idlessRecords} have been given fresh IDs. Every saved ID of the persons must have been claimed already.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook toAddressBook(List<Staff> staffList, List<Student> studentList,
+            List<ExternalParty> externalPartyList, List<JsonAdaptedEvent> events, IdlessRecords idlessRecords)
+            throws IllegalValueException {
+        // Events are converted after the persons, so their saved IDs must be claimed before anything is given one
+        IdlessRecords.claimSavedIds(events, JsonAdaptedEvent::getId);
+        staffList = idlessRecords.withFreshIds(staffList);
+        studentList = idlessRecords.withFreshIds(studentList);
+        externalPartyList = idlessRecords.withFreshIds(externalPartyList);
 
-        for (JsonAdaptedExternalParty jsonAdaptedExternalParty : externalParties) {
-            ExternalParty externalParty = jsonAdaptedExternalParty.toModelType();
-            if (addressBook.hasExternalParty(externalParty)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EXTERNAL_PARTY);
+        AddressBook addressBook = new AddressBook();
+        Set<Long> ids = new HashSet<>();
+        for (List<? extends Person> persons : List.of(staffList, studentList, externalPartyList)) {
+            for (Person person : persons) {
+                requireUnusedId(ids, person.getId());
             }
-            addressBook.addExternalParty(externalParty);
         }
-
-        // Convert events back into the AddressBook
+        try {
+            addressBook.setStaffs(staffList);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(formatDuplicates(MESSAGE_DUPLICATE_STAFF, e.getDuplicates()));
+        }
+        try {
+            addressBook.setStudents(studentList);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(formatDuplicates(MESSAGE_DUPLICATE_STUDENT, e.getDuplicates()));
+        }
+        try {
+            addressBook.setExternalParties(externalPartyList);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(formatDuplicates(MESSAGE_DUPLICATE_EXTERNAL_PARTY, e.getDuplicates()));
+        }
+        // Events refer to their members by ID, so they can only be resolved once the rosters are loaded
+        EventMemberDirectory directory = new EventMemberDirectory(addressBook);
+        List<Event> eventList = new ArrayList<>(events.size());
         for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
+            Event event = jsonAdaptedEvent.toModelType(directory);
+            requireUnusedId(ids, event.getId());
+            eventList.add(event);
+        }
+        try {
+            addressBook.setEvents(eventList);
+        } catch (DuplicateEventException e) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ENTRIES, MESSAGE_DUPLICATE_EVENT,
+                    e.getDuplicates().stream().map(Event::toString).collect(Collectors.joining(", "))));
         }
 
         return addressBook;
     }
 
+    /**
+     * Records {@code id} in {@code ids}, failing if an earlier entry already uses it.
+     */
+    private static void requireUnusedId(Set<Long> ids, long id) throws IllegalValueException {
+        if (!ids.add(id)) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ID, id));
+        }
+    }
+
+    /**
+     * Returns {@code message} followed by the name of every duplicate person in {@code duplicates}.
+     */
+    private static String formatDuplicates(String message, List<Person> duplicates) {
+        return String.format(MESSAGE_DUPLICATE_ENTRIES, message, duplicates.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+    }
+
 }
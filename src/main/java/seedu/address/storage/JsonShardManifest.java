@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly manifest of a sharded address book, naming the file that holds each shard.
+ */
+class JsonShardManifest {
+
+    private final long generation;
+    private final Map<String, String> shards = new LinkedHashMap<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} of the given generation, mapping each shard to the name of its file.
+     */
+    @JsonCreator
+    JsonShardManifest(@JsonProperty("generation") long generation,
+                      @JsonProperty("shards") Map<String, String> shards) {
+        this.generation = generation;
+        if (shards != null) {
+            this.shards.putAll(shards);
+        }
+    }
+
+    /**
+     * Returns the generation of the save that wrote this manifest.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the name of the file of each shard, keyed by the name of the shard.
+     */
+    Map<String, String> getShards() {
+        return Collections.unmodifiableMap(shards);
+    }
+}
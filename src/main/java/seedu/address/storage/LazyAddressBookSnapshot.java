@@ -0,0 +1,232 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookCodec.MAGIC;
+import static seedu.address.storage.BinaryAddressBookCodec.MESSAGE_CORRUPTED_SECTION;
+import static seedu.address.storage.BinaryAddressBookCodec.RECORD_SECTIONS;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_END;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_EXTERNAL_PARTIES;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_RECORD_INDEX;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_STAFF;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_STRING_TABLE;
+import static seedu.address.storage.BinaryAddressBookCodec.SECTION_STUDENTS;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+
+/**
+ * A binary snapshot whose records are decoded only when asked for.
+ * Opening the snapshot reads only the section headers, the string table and the record index, which are small and
+ * cheap to decode next to the records. Single records are then read straight from the file, so the first records of
+ * each list can be shown long before the whole snapshot is decoded.
+ * <p>
+ * Records read on their own are not checked against the CRC of their section, which covers the whole section.
+ * {@link #readAll()} checks every section, so a damaged snapshot is still caught once it is read in full.
+ */
+class LazyAddressBookSnapshot implements Closeable {
+
+    private static final int SECTION_HEADER_LENGTH = Byte.BYTES + Integer.BYTES;
+
+    private final FileChannel channel;
+    private final Map<Integer, Section> sections = new LinkedHashMap<>();
+    private final Map<Integer, long[]> recordBoundaries = new HashMap<>();
+    private final List<String> strings;
+
+    private LazyAddressBookSnapshot(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer header = read(0, MAGIC.length + 1);
+        byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        BinaryAddressBookCodec.checkHeader(magic, Byte.toUnsignedInt(header.get()));
+
+        long position = MAGIC.length + 1;
+        for (int tag = readTag(position); tag != SECTION_END; tag = readTag(position)) {
+            int length = read(position + Byte.BYTES, Integer.BYTES).getInt();
+            long payloadPosition = position + SECTION_HEADER_LENGTH;
+            if (length < 0 || payloadPosition + length + Integer.BYTES >= channel.size()) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_SECTION, tag));
+            }
+            sections.putIfAbsent(tag, new Section(tag, payloadPosition, length));
+            position = payloadPosition + length + Integer.BYTES;
+        }
+
+        BinaryAddressBookCodec.Contents contents = new BinaryAddressBookCodec.Contents();
+        if (sections.containsKey(SECTION_STRING_TABLE)) {
+            contents.decode(SECTION_STRING_TABLE, readVerified(sections.get(SECTION_STRING_TABLE)));
+        }
+        strings = contents.getStrings();
+        if (sections.containsKey(SECTION_RECORD_INDEX)) {
+            readRecordIndex(readVerified(sections.get(SECTION_RECORD_INDEX)));
+        }
+    }
+
+    /**
+     * Opens the snapshot at {@code filePath} and reads everything but its records.
+     * Returns {@code Optional.empty()} if the snapshot has no record index, so that its records can only be read
+     * all at once.
+     *
+     * @throws IOException if the file could not be read, or does not hold a snapshot of a supported version.
+     */
+    static Optional<LazyAddressBookSnapshot> open(Path filePath) throws IOException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            LazyAddressBookSnapshot snapshot = new LazyAddressBookSnapshot(channel);
+            if (!snapshot.sections.containsKey(SECTION_RECORD_INDEX)) {
+                channel.close();
+                return Optional.empty();
+            }
+            return Optional.of(snapshot);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of records in the section {@code tag}.
+     */
+    int getRecordCount(int tag) {
+        long[] boundaries = recordBoundaries.get(tag);
+        return boundaries == null ? 0 : boundaries.length - 1;
+    }
+
+    /**
+     * Returns an address book with up to the first {@code limit} staff, students and external parties of the
+     * snapshot, but no events. Events are left out as their members need not be among the records read.
+     */
+    AddressBook readPreview(int limit) throws IOException, IllegalValueException {
+        List<Staff> staffList = readFirstRecords(SECTION_STAFF, limit,
+                reader -> BinaryAddressBookCodec.readStaff(reader).toModelType());
+        List<Student> studentList = readFirstRecords(SECTION_STUDENTS, limit,
+                reader -> BinaryAddressBookCodec.readStudent(reader).toModelType());
+        List<ExternalParty> externalPartyList = readFirstRecords(SECTION_EXTERNAL_PARTIES, limit,
+                reader -> BinaryAddressBookCodec.readExternalParty(reader).toModelType());
+        return JsonSerializableAddressBook.toAddressBook(staffList, studentList, externalPartyList, List.of());
+    }
+
+    /**
+     * Returns the whole address book, after checking every section against its CRC.
+     */
+    AddressBook readAll() throws IOException, IllegalValueException {
+        BinaryAddressBookCodec.Contents contents = new BinaryAddressBookCodec.Contents();
+        for (Section section : sections.values()) {
+            contents.decode(section.tag, readVerified(section));
+        }
+        return contents.toAddressBook();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Decodes up to the first {@code limit} records of the section {@code tag}, reading each on its own.
+     */
+    private <T> List<T> readFirstRecords(int tag, int limit, RecordReader<T> recordReader)
+            throws IOException, IllegalValueException {
+        long[] boundaries = recordBoundaries.get(tag);
+        Section section = sections.get(tag);
+        List<T> records = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, getRecordCount(tag)); i++) {
+            ByteBuffer payload = read(section.payloadPosition + boundaries[i],
+                    (int) (boundaries[i + 1] - boundaries[i]));
+            BinaryAddressBookCodec.SectionReader reader =
+                    new BinaryAddressBookCodec.SectionReader(tag, payload, strings);
+            records.add(recordReader.read(reader));
+            reader.requireFullyRead();
+        }
+        return records;
+    }
+
+    /**
+     * Reads where each record of each record section starts and ends, checking that every record lies within its
+     * section.
+     */
+    private void readRecordIndex(ByteBuffer payload) throws IOException {
+        BinaryAddressBookCodec.SectionReader index =
+                new BinaryAddressBookCodec.SectionReader(SECTION_RECORD_INDEX, payload, strings);
+        for (int i = 0; i < RECORD_SECTIONS.size(); i++) {
+            int tag = (int) index.readVarint();
+            Section section = sections.get(tag);
+            if (!RECORD_SECTIONS.contains(tag) || section == null) {
+                throw new IOException(String.format(MESSAGE_CORRUPTED_SECTION, SECTION_RECORD_INDEX));
+            }
+            long[] boundaries = new long[index.readCount() + 1];
+            for (int j = 0; j < boundaries.length; j++) {
+                boundaries[j] = (j == 0 ? 0 : boundaries[j - 1]) + index.readVarint();
+                // Varints are never negative, so a boundary that went down overflowed
+                if (boundaries[j] > section.length || boundaries[j] < 0) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_SECTION, SECTION_RECORD_INDEX));
+                }
+            }
+            recordBoundaries.put(tag, boundaries);
+        }
+        index.requireFullyRead();
+    }
+
+    private int readTag(long position) throws IOException {
+        return Byte.toUnsignedInt(read(position, Byte.BYTES).get());
+    }
+
+    private ByteBuffer readVerified(Section section) throws IOException {
+        ByteBuffer payload = read(section.payloadPosition, section.length);
+        int expectedCrc = read(section.payloadPosition + section.length, Integer.BYTES).getInt();
+        BinaryAddressBookCodec.checkCrc(section.tag, payload, expectedCrc);
+        return payload;
+    }
+
+    /**
+     * Reads {@code length} bytes of the file from {@code position}, without moving the position of the channel, so
+     * that several threads may read at once.
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Snapshot ends unexpectedly.");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Decodes one record.
+     */
+    @FunctionalInterface
+    private interface RecordReader<T> {
+        T read(BinaryAddressBookCodec.SectionReader reader) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Where the payload of one section lies in the file.
+     */
+    private static class Section {
+        private final int tag;
+        private final long payloadPosition;
+        private final int length;
+
+        Section(int tag, long payloadPosition, int length) {
+            this.tag = tag;
+            this.payloadPosition = payloadPosition;
+            this.length = length;
+        }
+    }
+}
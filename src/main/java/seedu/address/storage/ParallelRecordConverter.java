@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts records read from a data file into model objects on the fork-join pool, a chunk of records at a time.
+ * Records are handed over one by one as they are read, and each full chunk starts converting straight away, so that
+ * converting overlaps with reading and spreads across the cores. Converters must therefore be safe to run on several
+ * threads at once.
+ * <p>
+ * The converted records keep the order in which they were added. If any record fails to convert, the failure of the
+ * earliest such record is reported, as if the records had been converted one after another.
+ */
+class ParallelRecordConverter<A, M> {
+
+    /** Records per task; large enough that a task's conversion dwarfs the cost of scheduling it. */
+    static final int CHUNK_SIZE = 256;
+
+    private final RecordConverter<A, M> converter;
+    private final List<ConversionTask<A, M>> tasks = new ArrayList<>();
+    private List<A> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    ParallelRecordConverter(RecordConverter<A, M> converter) {
+        requireNonNull(converter);
+        this.converter = converter;
+    }
+
+    /**
+     * Queues {@code record} to be converted.
+     */
+    void add(A record) {
+        chunk.add(record);
+        if (chunk.size() == CHUNK_SIZE) {
+            startChunk();
+        }
+    }
+
+    /**
+     * Waits for every record added so far to be converted, and returns them in the order they were added.
+     *
+     * @throws IllegalValueException the failure of the earliest record that could not be converted.
+     */
+    List<M> join() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            startChunk();
+        }
+        List<M> converted = new ArrayList<>(tasks.size() * CHUNK_SIZE);
+        for (ConversionTask<A, M> task : tasks) {
+            converted.addAll(task.join());
+            // Earlier chunks have all converted by now, so this is the earliest failure
+            if (task.failure != null) {
+                throw task.failure;
+            }
+        }
+        tasks.clear();
+        return converted;
+    }
+
+    private void startChunk() {
+        ConversionTask<A, M> task = new ConversionTask<>(chunk, converter);
+        task.fork();
+        tasks.add(task);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+    }
+
+    /**
+     * Converts one record from a data file into a model object.
+     */
+    @FunctionalInterface
+    interface RecordConverter<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * Converts one chunk of records in order, stopping at the first that fails.
+     * The failure is kept rather than thrown, as the pool can only pass unchecked exceptions on to {@code join}.
+     */
+    private static class ConversionTask<A, M> extends RecursiveTask<List<M>> {
+        private final List<A> records;
+        private final RecordConverter<A, M> converter;
+        private IllegalValueException failure;
+
+        ConversionTask(List<A> records, RecordConverter<A, M> converter) {
+            this.records = records;
+            this.converter = converter;
+        }
+
+        @Override
+        protected List<M> compute() {
+            List<M> converted = new ArrayList<>(records.size());
+            for (A record : records) {
+                try {
+                    converted.add(converter.convert(record));
+                } catch (IllegalValueException e) {
+                    failure = e;
+                    break;
+                }
+            }
+            return converted;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An address book that is still being read in the background.
+ * Its preview holds part of the address book, and is available at once so that it can be shown while the rest is
+ * read.
+ */
+public class PendingAddressBook {
+
+    private final ReadOnlyAddressBook preview;
+    private final CompletableFuture<ReadOnlyAddressBook> addressBook;
+
+    /**
+     * Creates a {@code PendingAddressBook} that shows {@code preview} until {@code addressBook} completes.
+     * {@code addressBook} fails with a {@code DataLoadingException} if the address book could not be read.
+     */
+    public PendingAddressBook(ReadOnlyAddressBook preview, CompletableFuture<ReadOnlyAddressBook> addressBook) {
+        requireNonNull(preview);
+        requireNonNull(addressBook);
+        this.preview = preview;
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns a {@code PendingAddressBook} that has already been read in full.
+     */
+    public static PendingAddressBook of(ReadOnlyAddressBook addressBook) {
+        return new PendingAddressBook(addressBook, CompletableFuture.completedFuture(addressBook));
+    }
+
+    public ReadOnlyAddressBook getPreview() {
+        return preview;
+    }
+
+    public boolean isDone() {
+        return addressBook.isDone();
+    }
+
+    /**
+     * Runs {@code action} once the address book has been read or failed to be read, on the thread that finished
+     * reading it.
+     */
+    public void whenDone(Runnable action) {
+        addressBook.whenComplete((result, failure) -> action.run());
+    }
+
+    /**
+     * Returns the whole address book, waiting for it to be read if need be.
+     *
+     * @throws DataLoadingException if reading the address book failed.
+     */
+    public ReadOnlyAddressBook join() throws DataLoadingException {
+        try {
+            return addressBook.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DataLoadingException) {
+                throw (DataLoadingException) e.getCause();
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns a {@code PendingAddressBook} with the same preview, whose address book is the result of
+     * {@code step} on this address book.
+     */
+    PendingAddressBook thenApply(LoadingStep step) {
+        return new PendingAddressBook(preview, addressBook.thenApply(loaded -> {
+            try {
+                return step.apply(loaded);
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            }
+        }));
+    }
+
+    /**
+     * Turns an address book that has been read into another, as part of reading it.
+     */
+    @FunctionalInterface
+    interface LoadingStep {
+        ReadOnlyAddressBook apply(ReadOnlyAddressBook addressBook) throws DataLoadingException;
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Computes and checks the CRC32C checksums that a JSON address book keeps of its records and lists.
+ * <p>
+ * A record's checksum is kept in its {@value #RECORD_FIELD} field, and covers the record without that field as
+ * written on a single line, so that pretty-printing or not does not change it. Records are always written on a single
+ * line with their checksum as the last field, so a record read back as written is checked against its own bytes
+ * without converting it. A list's checksum is kept in a field
+ * named after the list with {@value #SECTION_SUFFIX} added, and covers the checksums of its records in order, so
+ * that records which were lost, added or moved are noticed even though each of them is intact.
+ * <p>
+ * Checksums are written as 8 lowercase hexadecimal digits.
+ */
+class RecordChecksums {
+
+    static final String RECORD_FIELD = "crc";
+    static final String SECTION_SUFFIX = "Checksum";
+
+    private static final int HEX_DIGITS = 8;
+
+    private static final byte[] FIELD_START = (",\"" + RECORD_FIELD + "\":\"").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FIELD_END = "\"}".getBytes(StandardCharsets.US_ASCII);
+    /** The length of the checksum field at the end of a record, from the comma before it to the closing brace. */
+    private static final int FIELD_LENGTH = FIELD_START.length + HEX_DIGITS + FIELD_END.length;
+
+    /**
+     * Returns the name of the field holding the checksum of {@code list}.
+     */
+    static String sectionField(String list) {
+        return list + SECTION_SUFFIX;
+    }
+
+    /**
+     * Returns the checksum of {@code record}, which must not hold a checksum itself.
+     */
+    static int compute(JsonNode record) {
+        try {
+            return compute(JsonUtil.toCompactBytes(record));
+        } catch (JsonProcessingException jpe) {
+            throw new AssertionError("Writing a JSON tree cannot fail", jpe);
+        }
+    }
+
+    /**
+     * Returns the checksum of {@code record}, a JSON object written on a single line without a checksum.
+     */
+    static int compute(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Returns {@code record}, a JSON object written on a single line without a checksum, with {@code checksum} added
+     * as its last field.
+     */
+    static String addTo(byte[] record, int checksum) {
+        String json = new String(record, StandardCharsets.UTF_8);
+        int end = json.lastIndexOf('}');
+        String separator = json.substring(1, end).isBlank() ? "" : ",";
+        return json.substring(0, end) + separator + "\"" + RECORD_FIELD + "\":\"" + format(checksum) + "\"}";
+    }
+
+    /**
+     * Returns the checksum written at the end of {@code record}, or null if {@code record} does not end with a
+     * checksum as {@link #addTo(byte[], int)} writes it.
+     */
+    static String findAtEnd(byte[] record) {
+        int fieldStart = record.length - FIELD_LENGTH;
+        int checksumStart = fieldStart + FIELD_START.length;
+        int checksumEnd = checksumStart + HEX_DIGITS;
+        if (fieldStart < 1
+                || !Arrays.equals(record, fieldStart, checksumStart, FIELD_START, 0, FIELD_START.length)
+                || !Arrays.equals(record, checksumEnd, record.length, FIELD_END, 0, FIELD_END.length)) {
+            return null;
+        }
+        return new String(record, checksumStart, HEX_DIGITS, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Returns the checksum of {@code record}, which ends with a checksum as {@link #addTo(byte[], int)} writes it,
+     * computed from the bytes of the record without it.
+     * This is the checksum of the record only if the rest of it is written on a single line as this app writes it.
+     */
+    static int computeWithoutEnd(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record, 0, record.length - FIELD_LENGTH);
+        crc.update('}');
+        return (int) crc.getValue();
+    }
+
+    static String format(int checksum) {
+        return String.format("%08x", checksum);
+    }
+
+    /**
+     * Returns the checksum written as {@code text}.
+     *
+     * @throws NumberFormatException if {@code text} is not 8 hexadecimal digits.
+     */
+    static int parse(String text) {
+        if (text.length() != HEX_DIGITS) {
+            throw new NumberFormatException("Expected " + HEX_DIGITS + " hexadecimal digits: " + text);
+        }
+        return Integer.parseUnsignedInt(text, 16);
+    }
+
+    /**
+     * Accumulates the checksum of a list from the checksums of its records, in order.
+     * Records without a readable checksum count towards the size of the list but not its checksum.
+     */
+    static class Section {
+        private final CRC32C crc = new CRC32C();
+        private int size;
+
+        void add(int recordChecksum) {
+            crc.update(recordChecksum >>> 24);
+            crc.update(recordChecksum >>> 16);
+            crc.update(recordChecksum >>> 8);
+            crc.update(recordChecksum);
+            size++;
+        }
+
+        /**
+         * Adds the record checksum {@code recordChecksum} as read, which may be null or unreadable.
+         */
+        void add(JsonNode recordChecksum) {
+            try {
+                if (recordChecksum != null && recordChecksum.isTextual()) {
+                    add(parse(recordChecksum.asText()));
+                    return;
+                }
+            } catch (NumberFormatException nfe) {
+                // Counted below, as the record itself is reported damaged when it is checked
+            }
+            size++;
+        }
+
+        /** Returns the number of records added. */
+        int size() {
+            return size;
+        }
+
+        int getValue() {
+            return (int) crc.getValue();
+        }
+
+        /**
+         * Returns true if {@code text} is the checksum of the records added.
+         */
+        boolean matches(String text) {
+            try {
+                return parse(text) == getValue();
+            } catch (NumberFormatException nfe) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,591 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeLog;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+
+/**
+ * A class to access AddressBook data stored as shards on the hard disk, so that a save rewrites only the shards that
+ * changed since the last save instead of every list.
+ * <p>
+ * Staff, students, external parties and events are each split by ID into a number of buckets, one shard file per
+ * bucket. A bucket holds its records in the order of the list, each with a position that places it among the records
+ * of the other buckets, so reading merges the buckets back into one list. A manifest at the address book's file path
+ * names the file of every shard. Changed shards are written to new files first, and the save takes effect only once
+ * the manifest naming them replaces the old one in a single step. A save cut short therefore leaves the last complete
+ * save in place, and files no longer named by the manifest are removed afterwards.
+ * <p>
+ * The address book's {@link ChangeLog} tells which records changed since the last save, so a save only looks at those
+ * records and rewrites only the buckets that hold them. Lists only grow at their end, so records added since the last
+ * save are given positions after every earlier one, and no other record moves.
+ * <p>
+ * Reading or saving to a path ending in {@link #JSON_FILE_EXTENSION} uses JSON instead, so address books can still be
+ * imported from and exported to JSON.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".manifest";
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String JSON_FILE_EXTENSION = ".json";
+
+    /** Buckets for students, the one list that grows large enough for a save to rewrite only part of it. */
+    public static final int DEFAULT_STUDENT_BUCKET_COUNT = 16;
+
+    public static final String MESSAGE_MISSING_SHARD = "The manifest does not name the shard \"%1$s\".";
+    public static final String MESSAGE_INVALID_SHARD_FILE = "The manifest names \"%1$s\", which is not a shard file.";
+    public static final String MESSAGE_NOT_LIST = "Shard file \"%1$s\" does not hold a JSON array.";
+    public static final String MESSAGE_INVALID_ENTRY =
+            "Shard file \"%1$s\" holds an entry that is not a position followed by a record.";
+    public static final String MESSAGE_DUPLICATE_ENTRY =
+            "The shards of %1$s hold two entries with the same ID or the same position.";
+
+    static final String STAFFS = "staffs";
+    static final String STUDENTS = "students";
+    static final String EXTERNAL_PARTIES = "externalParties";
+    static final String EVENTS = "events";
+
+    private static final String SHARD_FILE_EXTENSION = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path manifestPath;
+    private final Path shardDirectory;
+    private final int studentBucketCount;
+    private final JsonAddressBookStorage jsonStorage;
+
+    private final ShardedList<Staff, JsonAdaptedStaff> staffs;
+    private final ShardedList<Student, JsonAdaptedStudent> students;
+    private final ShardedList<ExternalParty, JsonAdaptedExternalParty> externalParties;
+    private final ShardedList<Event, JsonAdaptedEvent> events;
+
+    /** The manifest of the last save read or written, or null if there was none. */
+    private JsonShardManifest manifest;
+    /** The address book as of {@link #manifest}, or null if the shards must all be rewritten on the next save. */
+    private ChangeLog.Mark savedMark;
+
+    /**
+     * Creates a storage whose manifest is at {@code manifestPath}, splitting students into
+     * {@link #DEFAULT_STUDENT_BUCKET_COUNT} buckets.
+     */
+    public ShardedAddressBookStorage(Path manifestPath) {
+        this(manifestPath, DEFAULT_STUDENT_BUCKET_COUNT);
+    }
+
+    /**
+     * Creates a storage whose manifest is at {@code manifestPath}, splitting students into
+     * {@code studentBucketCount} buckets.
+     * The other lists each fit in a single bucket.
+     */
+    public ShardedAddressBookStorage(Path manifestPath, int studentBucketCount) {
+        requireNonNull(manifestPath);
+        checkArgument(studentBucketCount > 0, "Bucket count must be positive.");
+        this.manifestPath = manifestPath;
+        this.shardDirectory = manifestPath.resolveSibling(getShardDirectoryName(manifestPath));
+        this.studentBucketCount = studentBucketCount;
+        this.jsonStorage = new JsonAddressBookStorage(manifestPath);
+        this.staffs = new ShardedList<>(STAFFS, 1, ReadOnlyAddressBook::getStaffList,
+                (addressBook, id) -> findPerson(addressBook, id, Staff.class), Person::getId,
+                JsonAdaptedStaff::new, JsonAdaptedStaff.class, JsonAdaptedStaff::getId);
+        this.students = new ShardedList<>(STUDENTS, studentBucketCount, ReadOnlyAddressBook::getStudentList,
+                (addressBook, id) -> findPerson(addressBook, id, Student.class), Person::getId,
+                JsonAdaptedStudent::new, JsonAdaptedStudent.class, JsonAdaptedStudent::getId);
+        this.externalParties = new ShardedList<>(EXTERNAL_PARTIES, 1, ReadOnlyAddressBook::getExternalPartyList,
+                (addressBook, id) -> findPerson(addressBook, id, ExternalParty.class), Person::getId,
+                JsonAdaptedExternalParty::new, JsonAdaptedExternalParty.class, JsonAdaptedExternalParty::getId);
+        this.events = new ShardedList<>(EVENTS, 1, ReadOnlyAddressBook::getEventList,
+                ReadOnlyAddressBook::findEventById, Event::getId,
+                JsonAdaptedEvent::new, JsonAdaptedEvent.class, JsonAdaptedEvent::getId);
+    }
+
+    /**
+     * Returns true if {@code filePath} names the manifest of a sharded address book.
+     */
+    public static boolean isShardedFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return manifestPath;
+    }
+
+    /**
+     * Returns the directory that holds the shard files.
+     */
+    Path getShardDirectory() {
+        return shardDirectory;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(manifestPath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonShardManifest readManifest = readManifest();
+            AddressBook addressBook = read(readManifest);
+            // Later saves only rewrite the shards of records changed since. Shards split into a different number of
+            // buckets hold different records, so they are all rewritten instead.
+            manifest = readManifest;
+            savedMark = readManifest.getShards().keySet().equals(getShardNames())
+                    ? addressBook.getChangeLog().mark()
+                    : null;
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from file " + manifestPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + manifestPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but reads JSON if {@code filePath} ends in {@link #JSON_FILE_EXTENSION}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+        if (filePath.equals(manifestPath)) {
+            return readAddressBook();
+        }
+        return new ShardedAddressBookStorage(filePath, studentBucketCount).readAddressBook();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        ChangeLog.Mark newMark = addressBook.getChangeLog().mark();
+        Set<String> changedShards = findChangedShards(addressBook);
+        if (changedShards.isEmpty()) {
+            savedMark = newMark;
+            return;
+        }
+
+        try {
+            Files.createDirectories(shardDirectory);
+            long generation = nextGeneration(changedShards);
+            Map<String, String> shardFiles = new LinkedHashMap<>();
+            for (ShardedList<?, ?> list : getLists()) {
+                for (int bucket = 0; bucket < list.bucketCount; bucket++) {
+                    String shardName = list.getShardName(bucket);
+                    if (changedShards.contains(shardName)) {
+                        String fileName = getShardFileName(shardName, generation);
+                        int bucketToWrite = bucket;
+                        FileUtil.writeToFile(shardDirectory.resolve(fileName),
+                                out -> list.writeBucket(addressBook, bucketToWrite, out), true);
+                        shardFiles.put(shardName, fileName);
+                    } else {
+                        shardFiles.put(shardName, manifest.getShards().get(shardName));
+                    }
+                }
+            }
+
+            // The save takes effect here; until then the old manifest still names only the old files
+            JsonShardManifest newManifest = new JsonShardManifest(generation, shardFiles);
+            FileUtil.createParentDirsOfFile(manifestPath);
+            FileUtil.writeToFile(manifestPath, JsonUtil.toJsonString(newManifest), true);
+            manifest = newManifest;
+        } catch (IOException e) {
+            // What the shards hold is no longer known, so the next save rewrites them all
+            savedMark = null;
+            throw e;
+        }
+        savedMark = newMark;
+        logger.fine("Saved " + changedShards.size() + " of " + manifest.getShards().size() + " shards to "
+                + shardDirectory);
+
+        deleteUnnamedShardFiles();
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes JSON if {@code filePath} ends in
+     * {@link #JSON_FILE_EXTENSION}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (isJsonFile(filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+        } else if (filePath.equals(manifestPath)) {
+            saveAddressBook(addressBook);
+        } else {
+            new ShardedAddressBookStorage(filePath, studentBucketCount).saveAddressBook(addressBook);
+        }
+    }
+
+    /**
+     * Brings what each bucket holds up to date with {@code addressBook}, and returns the names of the shards that
+     * changed since the last save.
+     * Only the records the change log names are looked at, unless the last save is not in its history, in which case
+     * every shard is laid out anew and counts as changed.
+     */
+    private Set<String> findChangedShards(ReadOnlyAddressBook addressBook) {
+        Optional<List<Long>> changedIds = manifest == null || savedMark == null
+                ? Optional.empty()
+                : addressBook.getChangeLog().getChangedIdsSince(savedMark);
+        Set<String> changedShards = new LinkedHashSet<>();
+        if (changedIds.isPresent()) {
+            Set<Long> changedIdSet = new HashSet<>(changedIds.get());
+            boolean isConsistent = true;
+            for (ShardedList<?, ?> list : getLists()) {
+                isConsistent &= list.applyChanges(addressBook, changedIdSet, changedShards);
+            }
+            if (isConsistent) {
+                return changedShards;
+            }
+            logger.warning("Shards of " + manifestPath + " do not match the address book; rewriting all of them");
+        }
+
+        for (ShardedList<?, ?> list : getLists()) {
+            list.reset(addressBook);
+        }
+        return getShardNames();
+    }
+
+    private List<ShardedList<?, ?>> getLists() {
+        return List.of(staffs, students, externalParties, events);
+    }
+
+    private Set<String> getShardNames() {
+        Set<String> shardNames = new LinkedHashSet<>();
+        for (ShardedList<?, ?> list : getLists()) {
+            for (int bucket = 0; bucket < list.bucketCount; bucket++) {
+                shardNames.add(list.getShardName(bucket));
+            }
+        }
+        return shardNames;
+    }
+
+    private static <T extends Person> Optional<T> findPerson(ReadOnlyAddressBook addressBook, long id,
+            Class<T> personClass) {
+        return addressBook.findPersonById(id).filter(personClass::isInstance).map(personClass::cast);
+    }
+
+    private AddressBook read(JsonShardManifest readManifest) throws IOException, IllegalValueException {
+        List<JsonAdaptedStaff> readStaffs = readList(readManifest, staffs);
+        List<JsonAdaptedStudent> readStudents = readList(readManifest, students);
+        List<JsonAdaptedExternalParty> readExternalParties = readList(readManifest, externalParties);
+        List<JsonAdaptedEvent> readEvents = readList(readManifest, events);
+
+        ParallelRecordConverter<JsonAdaptedStaff, Staff> staffConverter =
+                new ParallelRecordConverter<>(JsonAdaptedStaff::toModelType);
+        readStaffs.forEach(staffConverter::add);
+        ParallelRecordConverter<JsonAdaptedStudent, Student> studentConverter =
+                new ParallelRecordConverter<>(JsonAdaptedStudent::toModelType);
+        readStudents.forEach(studentConverter::add);
+        ParallelRecordConverter<JsonAdaptedExternalParty, ExternalParty> externalPartyConverter =
+                new ParallelRecordConverter<>(JsonAdaptedExternalParty::toModelType);
+        readExternalParties.forEach(externalPartyConverter::add);
+        return JsonSerializableAddressBook.toAddressBook(staffConverter.join(), studentConverter.join(),
+                externalPartyConverter.join(), readEvents);
+    }
+
+    /**
+     * Reads {@code list} from its bucket shards, merging them by position, and remembers where each record was read.
+     */
+    private <A> List<A> readList(JsonShardManifest readManifest, ShardedList<?, A> list)
+            throws IOException, IllegalValueException {
+        TreeMap<Long, A> recordsByPosition = new TreeMap<>();
+        Map<Long, Long> positionById = new HashMap<>();
+        String bucketPrefix = getShardName(list.name, "");
+        for (String shardName : readManifest.getShards().keySet()) {
+            if (!shardName.startsWith(bucketPrefix)) {
+                continue;
+            }
+            for (Map.Entry<Long, A> entry : readShard(readManifest, shardName, list.adaptedClass)) {
+                Long id = list.adaptedIdOf.apply(entry.getValue());
+                if (id == null || positionById.put(id, entry.getKey()) != null
+                        || recordsByPosition.put(entry.getKey(), entry.getValue()) != null) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ENTRY, list.name));
+                }
+            }
+        }
+        list.load(positionById);
+        return new ArrayList<>(recordsByPosition.values());
+    }
+
+    /**
+     * Reads the entries in the file of {@code shardName}, each a position followed by a record.
+     */
+    private <T> List<Map.Entry<Long, T>> readShard(JsonShardManifest readManifest, String shardName,
+            Class<T> elementClass) throws IOException, IllegalValueException {
+        String fileName = readManifest.getShards().get(shardName);
+        if (fileName == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardName));
+        }
+        Path shardFile = shardDirectory.resolve(fileName).normalize();
+        // A manifest edited by hand must not lead outside the shard directory
+        if (!shardDirectory.normalize().equals(shardFile.getParent())) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_FILE, fileName));
+        }
+
+        List<Map.Entry<Long, T>> entries = new ArrayList<>();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(shardFile));
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, String.format(MESSAGE_NOT_LIST, fileName));
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (parser.currentToken() != JsonToken.START_ARRAY
+                        || parser.nextToken() != JsonToken.VALUE_NUMBER_INT) {
+                    throw new JsonParseException(parser, String.format(MESSAGE_INVALID_ENTRY, fileName));
+                }
+                long position = parser.getLongValue();
+                parser.nextToken();
+                T record = JsonUtil.readValue(parser, elementClass);
+                if (parser.nextToken() != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, String.format(MESSAGE_INVALID_ENTRY, fileName));
+                }
+                entries.add(Map.entry(position, record));
+            }
+        }
+        return entries;
+    }
+
+    private JsonShardManifest readManifest() throws IOException {
+        return JsonUtil.fromJsonString(FileUtil.readFromFile(manifestPath), JsonShardManifest.class);
+    }
+
+    /**
+     * Returns a generation newer than any save read or written, whose files for {@code changedShards} do not exist
+     * yet, so that writing them cannot touch a file the current manifest names.
+     */
+    private long nextGeneration(Collection<String> changedShards) {
+        long generation = manifest == null ? 1 : manifest.getGeneration() + 1;
+        while (hasShardFile(changedShards, generation)) {
+            generation++;
+        }
+        return generation;
+    }
+
+    private boolean hasShardFile(Collection<String> shardNames, long generation) {
+        return shardNames.stream()
+                .anyMatch(shardName -> Files.exists(shardDirectory.resolve(getShardFileName(shardName, generation))));
+    }
+
+    /**
+     * Deletes the shard files that the manifest no longer names.
+     * Failing to delete one only wastes space, so failures are logged and otherwise ignored.
+     */
+    private void deleteUnnamedShardFiles() {
+        Set<String> namedFiles = new HashSet<>(manifest.getShards().values());
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory, "*" + SHARD_FILE_EXTENSION)) {
+            for (Path file : files) {
+                if (!namedFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete old shard files in " + shardDirectory + ": " + e);
+        }
+    }
+
+    private static String getShardDirectoryName(Path manifestPath) {
+        String fileName = manifestPath.getFileName().toString();
+        String baseName = fileName.endsWith(FILE_EXTENSION)
+                ? fileName.substring(0, fileName.length() - FILE_EXTENSION.length())
+                : fileName;
+        return baseName + SHARD_DIRECTORY_SUFFIX;
+    }
+
+    private static String getShardName(String listName, String part) {
+        return listName + "-" + part;
+    }
+
+    private static String getShardFileName(String shardName, long generation) {
+        return shardName + "." + generation + SHARD_FILE_EXTENSION;
+    }
+
+    /**
+     * Returns the bucket of the entry with ID {@code id}.
+     */
+    static int getBucket(long id, int bucketCount) {
+        return Math.floorMod(Long.hashCode(id), bucketCount);
+    }
+
+    private static boolean isJsonFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(JSON_FILE_EXTENSION);
+    }
+
+    /**
+     * One list of the address book, split into buckets by ID, and the position of each of its records as of the last
+     * save read or written.
+     *
+     * @param <T> the type of the records.
+     * @param <A> the type each record is saved as.
+     */
+    private static class ShardedList<T, A> {
+        private final String name;
+        private final int bucketCount;
+        private final Function<ReadOnlyAddressBook, List<T>> recordsOf;
+        private final BiFunction<ReadOnlyAddressBook, Long, Optional<T>> finder;
+        private final ToLongFunction<T> idOf;
+        private final Function<T, A> adapter;
+        private final Class<A> adaptedClass;
+        private final Function<A, Long> adaptedIdOf;
+
+        private final Map<Long, Long> positionById = new HashMap<>();
+        /** The IDs in each bucket, keyed by their position. */
+        private final List<TreeMap<Long, Long>> buckets = new ArrayList<>();
+        private long nextPosition;
+
+        ShardedList(String name, int bucketCount, Function<ReadOnlyAddressBook, List<T>> recordsOf,
+                BiFunction<ReadOnlyAddressBook, Long, Optional<T>> finder, ToLongFunction<T> idOf,
+                Function<T, A> adapter, Class<A> adaptedClass, Function<A, Long> adaptedIdOf) {
+            this.name = name;
+            this.bucketCount = bucketCount;
+            this.recordsOf = recordsOf;
+            this.finder = finder;
+            this.idOf = idOf;
+            this.adapter = adapter;
+            this.adaptedClass = adaptedClass;
+            this.adaptedIdOf = adaptedIdOf;
+            for (int i = 0; i < bucketCount; i++) {
+                buckets.add(new TreeMap<>());
+            }
+        }
+
+        String getShardName(int bucket) {
+            return ShardedAddressBookStorage.getShardName(name, String.valueOf(bucket));
+        }
+
+        /**
+         * Replaces the positions of the records with {@code readPositionById}, as read from the shards.
+         */
+        void load(Map<Long, Long> readPositionById) {
+            clear();
+            readPositionById.forEach(this::put);
+            nextPosition = readPositionById.values().stream().mapToLong(position -> position + 1).max().orElse(0);
+        }
+
+        /**
+         * Lays out the records of this list in {@code addressBook} anew, positioned in the order of the list.
+         */
+        void reset(ReadOnlyAddressBook addressBook) {
+            clear();
+            for (T record : recordsOf.apply(addressBook)) {
+                put(idOf.applyAsLong(record), nextPosition++);
+            }
+        }
+
+        /**
+         * Updates the positions of the records with {@code changedIds} to match {@code addressBook}, adding the names
+         * of the shards that changed to {@code changedShards}.
+         * Returns false if the list does not match what was saved, so that the list must be laid out anew.
+         */
+        boolean applyChanges(ReadOnlyAddressBook addressBook, Set<Long> changedIds, Set<String> changedShards) {
+            List<T> records = recordsOf.apply(addressBook);
+            // Records are only ever added at the end, so those added since the last save are in a run of changed
+            // records at the end. Any other changed record was edited in place or removed.
+            int addedFrom = records.size();
+            while (addedFrom > 0 && changedIds.contains(idOf.applyAsLong(records.get(addedFrom - 1)))) {
+                addedFrom--;
+            }
+            for (long id : changedIds) {
+                if (positionById.containsKey(id)) {
+                    changedShards.add(getShardName(getBucket(id, bucketCount)));
+                    if (finder.apply(addressBook, id).isEmpty()) {
+                        remove(id);
+                    }
+                }
+            }
+            for (int i = addedFrom; i < records.size(); i++) {
+                long id = idOf.applyAsLong(records.get(i));
+                remove(id);
+                put(id, nextPosition++);
+                changedShards.add(getShardName(getBucket(id, bucketCount)));
+            }
+            return positionById.size() == records.size();
+        }
+
+        /**
+         * Writes the records of {@code bucket} in {@code addressBook} to {@code out}, in the order of their positions.
+         */
+        void writeBucket(ReadOnlyAddressBook addressBook, int bucket, OutputStream out) throws IOException {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, false)) {
+                generator.writeStartArray();
+                for (Map.Entry<Long, Long> entry : buckets.get(bucket).entrySet()) {
+                    generator.writeStartArray();
+                    generator.writeNumber(entry.getKey());
+                    JsonUtil.writeValue(generator, adapter.apply(finder.apply(addressBook, entry.getValue())
+                            .orElseThrow()));
+                    generator.writeEndArray();
+                }
+                generator.writeEndArray();
+            }
+        }
+
+        private void put(long id, long position) {
+            positionById.put(id, position);
+            buckets.get(getBucket(id, bucketCount)).put(position, id);
+        }
+
+        private void remove(long id) {
+            Long position = positionById.remove(id);
+            if (position != null) {
+                buckets.get(getBucket(id, bucketCount)).remove(position);
+            }
+        }
+
+        private void clear() {
+            positionById.clear();
+            buckets.forEach(TreeMap::clear);
+            nextPosition = 0;
+        }
+    }
+}
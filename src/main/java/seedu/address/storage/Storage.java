@@ -29,4 +29,26 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Checks the address book at {@code filePath}, and the journal kept next to it if there is one, without loading
+     * them, and returns what was found.
+     * Returns {@code Optional.empty()} if the file is not in a format whose records can be checked.
+     *
+     * @throws DataLoadingException if the file could not be read, or does not hold an address book.
+     */
+    Optional<DamageReport> verifyAddressBook(Path filePath) throws DataLoadingException;
+
+    /**
+     * Throws the error of an earlier address book save that failed only after it had returned, if there is one.
+     * Each such error is thrown once.
+     */
+    void checkPendingSaveFailure() throws IOException;
+
+    /**
+     * Waits until every address book save requested so far has been written.
+     *
+     * @throws IOException if any of those saves failed and its error has not been thrown yet.
+     */
+    void flush() throws IOException;
+
 }
@@ -28,6 +28,25 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the storage for the address book file that {@code userPrefs} names, chosen by the file's extension.
+     * Binary and JSON files are saved as a snapshot plus a journal of the changes since, so that a save costs as much
+     * as the change. Sharded files are not journaled, as each save already rewrites only the shards that changed,
+     * which it can only tell if it is handed every save rather than the few that compact a journal.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (ShardedAddressBookStorage.isShardedFile(filePath)) {
+            return new ShardedAddressBookStorage(filePath);
+        }
+        AddressBookStorage snapshotStorage = BinaryAddressBookStorage.isBinaryFile(filePath)
+                ? new BinaryAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath, false, userPrefs.getAddressBookCompression(),
+                        userPrefs.getAddressBookCompressionLevel());
+        return new JournaledAddressBookStorage(snapshotStorage,
+                JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, userPrefs.getAddressBookSyncIntervalMillis());
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -55,7 +74,8 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook();
     }
 
     @Override
@@ -64,9 +84,17 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<PendingAddressBook> readAddressBookInBackground() throws DataLoadingException {
+        logger.fine("Attempting to read data in the background from file: "
+                + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBookInBackground();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        logger.fine("Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBook(addressBook);
     }
 
     @Override
@@ -75,4 +103,30 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    /**
+     * Only JSON data files carry checksums, so binary and sharded ones are not checked.
+     */
+    @Override
+    public Optional<DamageReport> verifyAddressBook(Path filePath) throws DataLoadingException {
+        logger.fine("Attempting to verify data file: " + filePath);
+        if (BinaryAddressBookStorage.isBinaryFile(filePath) || ShardedAddressBookStorage.isShardedFile(filePath)) {
+            return Optional.empty();
+        }
+        DamageReport report = JsonAddressBookStorage.verifyAddressBook(filePath);
+        JournaledAddressBookStorage.verifyJournal(filePath, report);
+        return Optional.of(report);
+    }
+
+    /**
+     * Does nothing, as every save is written before it returns.
+     */
+    @Override
+    public void checkPendingSaveFailure() {}
+
+    /**
+     * Does nothing, as every save is written before it returns.
+     */
+    @Override
+    public void flush() {}
+
 }
@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void parseLine_plainFields_split() {
+        assertEquals(List.of("a", " b ", "", "c"), CsvUtil.parseLine("a, b ,,c"));
+        assertEquals(List.of(""), CsvUtil.parseLine(""));
+        assertEquals(List.of("a", ""), CsvUtil.parseLine("a,"));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unquoted() {
+        assertEquals(List.of("1, Clementi Ave", "say \"hi\"", ""),
+                CsvUtil.parseLine("\"1, Clementi Ave\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void parseLine_malformed_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("\"unclosed,a"));
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void toLine_roundTrips() {
+        List<String> fields = List.of("plain", "1, Clementi Ave", "say \"hi\"", "");
+        assertEquals("plain,\"1, Clementi Ave\",\"say \"\"hi\"\"\",", CsvUtil.toLine(fields));
+        assertEquals(fields, CsvUtil.parseLine(CsvUtil.toLine(fields)));
+    }
+
+    @Test
+    public void toLine_lineBreak_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.toLine(List.of("two\nlines")));
+    }
+
+    @Test
+    public void toLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.toLine(null));
+    }
+}
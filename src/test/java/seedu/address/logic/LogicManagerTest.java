@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.DESCRIPTION_DESC_FATIMAH;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_FATIMAH;
@@ -8,10 +10,16 @@ import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_FATIMAH;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_FATIMAH;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalExternalParties.FATIMAH;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+import static seedu.address.testutil.TypicalStudents.MIKE;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,11 +30,16 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddExternalPartyCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.DeleteStudentCommand;
+import seedu.address.logic.commands.ListStudentCommand;
 import seedu.address.logic.commands.ModelStub;
+import seedu.address.logic.commands.SearchStudentCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ListType;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -34,8 +47,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.storage.AsyncStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PendingAddressBook;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.EventBuilder;
 
@@ -64,6 +79,140 @@ public class LogicManagerTest {
         assertParseException(invalidCommand, MESSAGE_UNKNOWN_COMMAND);
     }
 
+    @Test
+    public void execute_commandChangesNothing_addressBookNotSaved() throws Exception {
+        assertCommandSuccess(ListStudentCommand.COMMAND_WORD, ListStudentCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_commandChangesAddressBook_addressBookSaved() throws Exception {
+        logic.execute(AddExternalPartyCommand.COMMAND_WORD + NAME_DESC_FATIMAH + PHONE_DESC_FATIMAH
+                + EMAIL_DESC_FATIMAH + DESCRIPTION_DESC_FATIMAH);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_earlierSaveFailedInBackground_nextCommandReportsFailureThenSaves() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        AsyncStorage storage = new AsyncStorage(new StorageManager(new JsonAddressBookStorage(addressBookPath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")))) {
+            private boolean hasFailed;
+
+            @Override
+            public void checkPendingSaveFailure() throws IOException {
+                if (!hasFailed) {
+                    hasFailed = true;
+                    throw DUMMY_IO_EXCEPTION;
+                }
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        assertCommandException(ListStudentCommand.COMMAND_WORD,
+                String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+
+        // The next command saves again, even though it changes nothing itself
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+        storage.flush();
+        assertTrue(Files.exists(addressBookPath));
+    }
+
+    @Test
+    public void execute_addressBookLoadingInBackground_waitsForWholeAddressBook() throws Exception {
+        AddressBook preview = new AddressBook();
+        preview.addExternalParty(FATIMAH);
+        model.setAddressBook(preview);
+        CompletableFuture<ReadOnlyAddressBook> loading = new CompletableFuture<>();
+        ((LogicManager) logic).loadAddressBookInBackground(new PendingAddressBook(preview, loading));
+
+        AddressBook wholeAddressBook = getTypicalAddressBook();
+        loading.complete(wholeAddressBook);
+        logic.execute(ListStudentCommand.COMMAND_WORD);
+
+        assertEquals(wholeAddressBook, model.getAddressBook());
+        // The loaded address book is already in storage
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void previewCommand_searchBeingTyped_narrowsListWithoutSaving() {
+        model.setAddressBook(getTypicalAddressBook());
+
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " name/m");
+        assertEquals(List.of(MIKE), logic.getFilteredStudentList());
+        assertEquals(ListType.STUDENT, model.getListType());
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " name/ja");
+        assertEquals(List.of(JAMAL), logic.getFilteredStudentList());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void previewCommand_textErased_showsListAsBefore() {
+        model.setAddressBook(getTypicalAddressBook());
+        model.setListType(ListType.STAFF);
+
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " name/m");
+        assertEquals(List.of(MIKE), logic.getFilteredStudentList());
+        assertEquals(ListType.STAFF, model.getListType());
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " na");
+        assertEquals(List.of(JAMAL, MIKE), logic.getFilteredStudentList());
+        logic.previewCommand("");
+        assertEquals(List.of(JAMAL, MIKE), logic.getFilteredStudentList());
+        assertEquals(ListType.STAFF, model.getListType());
+    }
+
+    @Test
+    public void execute_searchPreviewed_actsOnListAsSubmitted() throws Exception {
+        model.setAddressBook(getTypicalAddressBook());
+
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " name/m");
+        logic.execute(DeleteStudentCommand.COMMAND_WORD + " 1");
+        assertEquals(List.of(MIKE), model.getAddressBook().getStudentList());
+        assertEquals(List.of(MIKE), logic.getFilteredStudentList());
+    }
+
+    @Test
+    public void previewCommand_addressBookLoadingInBackground_skipped() {
+        AddressBook preview = new AddressBook();
+        preview.addStudent(MIKE);
+        model.setAddressBook(preview);
+        CompletableFuture<ReadOnlyAddressBook> loading = new CompletableFuture<>();
+        ((LogicManager) logic).loadAddressBookInBackground(new PendingAddressBook(preview, loading));
+
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " name/ja");
+        assertEquals(List.of(MIKE), logic.getFilteredStudentList());
+
+        loading.complete(getTypicalAddressBook());
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " name/ja");
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertEquals(List.of(JAMAL), logic.getFilteredStudentList());
+    }
+
+    @Test
+    public void previewCommand_notSearch_ignored() {
+        model.setAddressBook(getTypicalAddressBook());
+        int studentCount = model.getAddressBook().getStudentList().size();
+
+        logic.previewCommand(SearchStudentCommand.COMMAND_WORD + " na");
+        logic.previewCommand("delete_stu 1");
+        logic.previewCommand("uicfhmowqewca");
+        assertEquals(studentCount, model.getAddressBook().getStudentList().size());
+        assertEquals(studentCount, logic.getFilteredStudentList().size());
+    }
+
+    @Test
+    public void finishLoadingAddressBook_loadingFailed_emptyAddressBook() {
+        model.setAddressBook(getTypicalAddressBook());
+        CompletableFuture<ReadOnlyAddressBook> loading = new CompletableFuture<>();
+        loading.completeExceptionally(new DataLoadingException(DUMMY_IO_EXCEPTION));
+        LogicManager logicManager = (LogicManager) logic;
+        logicManager.loadAddressBookInBackground(new PendingAddressBook(model.getAddressBook(), loading));
+
+        logicManager.finishLoadingAddressBook();
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
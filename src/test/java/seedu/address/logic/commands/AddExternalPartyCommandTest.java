@@ -5,20 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_PHONE_OR_EMAIL;
 
 import java.util.ArrayList;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ExternalParty;
 import seedu.address.model.person.Phone;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.ExternalPartyBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for AddExternalCommand.
@@ -52,6 +58,23 @@ public class AddExternalPartyCommandTest {
                 AddExternalPartyCommand.MESSAGE_DUPLICATE_PARTY, () -> command.execute(modelStub));
     }
 
+    @Test
+    public void execute_phoneOfStudentAndEmailOfExternalParty_throwsDuplicateParty() {
+        Model model = new ModelManager();
+        model.addStudent(new StudentBuilder().withPhone("81111111").withEmail("student@example.com").build());
+        model.addExternalParty(new ExternalPartyBuilder().withPhone("82222222").withEmail("party@example.com").build());
+
+        AddExternalPartyCommand mixedOwners = new AddExternalPartyCommand(
+                new ExternalPartyBuilder().withPhone("81111111").withEmail("party@example.com").build());
+        Assert.assertThrows(CommandException.class, AddExternalPartyCommand.MESSAGE_DUPLICATE_PARTY, () ->
+                mixedOwners.execute(model));
+
+        AddExternalPartyCommand studentPhone = new AddExternalPartyCommand(
+                new ExternalPartyBuilder().withPhone("81111111").withEmail("new@example.com").build());
+        Assert.assertThrows(CommandException.class, MESSAGE_DUPLICATE_PHONE_OR_EMAIL, () ->
+                studentPhone.execute(model));
+    }
+
     @Test
     public void equals() {
         ExternalParty alice = new ExternalPartyBuilder().withName("Alice").build();
@@ -92,6 +115,13 @@ public class AddExternalPartyCommandTest {
             requireNonNull(externalParty);
             return this.externalParty.isSamePerson(externalParty);
         }
+
+        @Override
+        public Optional<ListType> getContactOwner(Phone phone, Email email) {
+            return this.externalParty.hasPersonWithPhoneOrEmail(phone, email)
+                    ? Optional.of(ListType.EXTERNAL)
+                    : Optional.empty();
+        }
     }
 
     /**
@@ -101,8 +131,10 @@ public class AddExternalPartyCommandTest {
         final ArrayList<ExternalParty> externalPartyAdded = new ArrayList<>();
 
         @Override
-        public boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
-            return false;
+        public Optional<ListType> getContactOwner(Phone phone, Email email) {
+            return externalPartyAdded.stream().anyMatch(added -> added.hasPersonWithPhoneOrEmail(phone, email))
+                    ? Optional.of(ListType.EXTERNAL)
+                    : Optional.empty();
         }
 
         @Override
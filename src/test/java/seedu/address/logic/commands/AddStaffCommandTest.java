@@ -5,20 +5,26 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_DUPLICATE_PHONE_OR_EMAIL;
 
 import java.util.ArrayList;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ListType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Staff;
 import seedu.address.testutil.Assert;
 import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class AddStaffCommandTest {
 
@@ -48,6 +54,23 @@ public class AddStaffCommandTest {
                 CommandException.class, AddStaffCommand.MESSAGE_DUPLICATE_PERSON, () -> cmd.execute(model));
     }
 
+    @Test
+    public void execute_phoneOfStudentAndEmailOfStaff_throwsDuplicatePerson() {
+        Model model = new ModelManager();
+        model.addStudent(new StudentBuilder().withPhone("81111111").withEmail("student@example.com").build());
+        model.addStaff(new StaffBuilder().withPhone("82222222").withEmail("staff@example.com").build());
+
+        AddStaffCommand mixedOwners = new AddStaffCommand(
+                new StaffBuilder().withPhone("81111111").withEmail("staff@example.com").build());
+        Assert.assertThrows(CommandException.class, AddStaffCommand.MESSAGE_DUPLICATE_PERSON, () ->
+                mixedOwners.execute(model));
+
+        AddStaffCommand studentPhone = new AddStaffCommand(
+                new StaffBuilder().withPhone("81111111").withEmail("new@example.com").build());
+        Assert.assertThrows(CommandException.class, MESSAGE_DUPLICATE_PHONE_OR_EMAIL, () ->
+                studentPhone.execute(model));
+    }
+
     @Test
     public void equals() {
         Staff alice = new StaffBuilder().withName("Alice").build();
@@ -96,6 +119,11 @@ public class AddStaffCommandTest {
             return this.staff.isSamePerson(staff);
         }
 
+        @Override
+        public Optional<ListType> getContactOwner(Phone phone, Email email) {
+            return this.staff.hasPersonWithPhoneOrEmail(phone, email) ? Optional.of(ListType.STAFF) : Optional.empty();
+        }
+
     }
 
     /**
@@ -105,8 +133,10 @@ public class AddStaffCommandTest {
         final ArrayList<Staff> staffsAdded = new ArrayList<>();
 
         @Override
-        public boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
-            return false;
+        public Optional<ListType> getContactOwner(Phone phone, Email email) {
+            return staffsAdded.stream().anyMatch(added -> added.hasPersonWithPhoneOrEmail(phone, email))
+                    ? Optional.of(ListType.STAFF)
+                    : Optional.empty();
         }
 
         @Override
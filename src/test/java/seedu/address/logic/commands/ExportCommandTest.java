@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.ExportCommand.ExportList;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_unsupportedExtension_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ExportCommand.Format.MESSAGE_CONSTRAINTS, () ->
+                new ExportCommand(ExportList.STUDENTS, testFolder.resolve("students.txt")));
+    }
+
+    @Test
+    public void execute_filteredStudentsToCsv_onlyShownStudentsWritten() throws Exception {
+        model.updateFilteredStudentList(student -> student.equals(JAMAL));
+        Path file = testFolder.resolve("nested").resolve("students.csv");
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredStudentList(student -> student.equals(JAMAL));
+
+        assertCommandSuccess(new ExportCommand(ExportList.STUDENTS, file), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, "students", file), expectedModel);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals("type,name,matric,phone,email,address,tags,emergency,block,level,room,designation",
+                lines.get(0));
+        List<String> fields = CsvUtil.parseLine(lines.get(1));
+        assertEquals(List.of("student", JAMAL.getName().fullName, JAMAL.getMatric().value, JAMAL.getPhone().value,
+                JAMAL.getEmail().value, JAMAL.getAddress().value), fields.subList(0, 6));
+        assertEquals(String.valueOf(JAMAL.getStudentDesignation().getOrdinalDesignation()), fields.get(11));
+        assertEquals(2, lines.size());
+    }
+
+    @Test
+    public void execute_exportedCsv_importsBackIntoEmptyAddressBook() throws Exception {
+        Path studentsFile = testFolder.resolve("students.csv");
+        Path staffFile = testFolder.resolve("staff.csv");
+        new ExportCommand(ExportList.STUDENTS, studentsFile).execute(model);
+        new ExportCommand(ExportList.STAFF, staffFile).execute(model);
+
+        Model importedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        new ImportCommand(studentsFile).execute(importedModel);
+        new ImportCommand(staffFile).execute(importedModel);
+
+        assertEquals(model.getFilteredStudentList(), importedModel.getFilteredStudentList());
+        assertEquals(model.getFilteredStaffList(), importedModel.getFilteredStaffList());
+    }
+
+    @Test
+    public void execute_eventsToJson_membersListedByName() throws Exception {
+        Event event = new EventBuilder().build();
+        model.addEvent(event);
+        event.addStudent(JAMAL);
+        event.addStaff(HARIS);
+        Path file = testFolder.resolve("events.json");
+
+        CommandResult result = new ExportCommand(ExportList.EVENTS, file).execute(model);
+
+        assertEquals(String.format(ExportCommand.MESSAGE_SUCCESS, 1, "events", file), result.getFeedbackToUser());
+        JsonNode events = JsonUtil.fromJsonString(Files.readString(file), JsonNode.class);
+        assertEquals(1, events.size());
+        JsonNode exported = events.get(0);
+        assertEquals(EventBuilder.DEFAULT_EVENT_NAME, exported.get("name").asText());
+        assertEquals(EventBuilder.DEFAULT_START_TIME, exported.get("from").asText());
+        assertEquals(EventBuilder.DEFAULT_END_TIME, exported.get("to").asText());
+        assertEquals(JAMAL.getName().fullName, exported.get("students").get(0).asText());
+        assertEquals(HARIS.getName().fullName, exported.get("staff").get(0).asText());
+        assertEquals(0, exported.get("externalParties").size());
+    }
+
+    @Test
+    public void execute_emptyListToJson_emptyArray() throws Exception {
+        model.updateFilteredStudentList(student -> false);
+        Path file = testFolder.resolve("students.json");
+
+        new ExportCommand(ExportList.STUDENTS, file).execute(model);
+
+        assertEquals(0, JsonUtil.fromJsonString(Files.readString(file), JsonNode.class).size());
+    }
+
+    @Test
+    public void execute_fileIsNonEmptyDirectory_throwsCommandException() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        Files.createDirectories(file.resolve("inside"));
+        assertThrows(CommandException.class, () -> new ExportCommand(ExportList.STUDENTS, file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportStudents = new ExportCommand(ExportList.STUDENTS, testFolder.resolve("a.csv"));
+
+        assertTrue(exportStudents.equals(exportStudents));
+        assertTrue(exportStudents.equals(new ExportCommand(ExportList.STUDENTS, testFolder.resolve("a.csv"))));
+        assertFalse(exportStudents.equals(null));
+        assertFalse(exportStudents.equals(1));
+        assertFalse(exportStudents.equals(new ExportCommand(ExportList.STAFF, testFolder.resolve("a.csv"))));
+        assertFalse(exportStudents.equals(new ExportCommand(ExportList.STUDENTS, testFolder.resolve("a.json"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = testFolder.resolve("a.csv");
+        String expected = ExportCommand.class.getCanonicalName() + "{list=" + ExportList.STUDENTS + ", file=" + file
+                + "}";
+        assertEquals(expected, new ExportCommand(ExportList.STUDENTS, file).toString());
+    }
+}
@@ -0,0 +1,184 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.Staff;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.ExternalPartyBuilder;
+import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "type,name,matric,phone,email,address,tags,emergency,block,level,room,"
+            + "designation,description";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        Path file = write("import.csv",
+                HEADER,
+                "student,Amy Bee,A0738274C,85355255,amy@gmail.com,\"123, Jurong West Ave 6, #08-111\",friends; "
+                        + "owesMoney,91234567,A,7,5,1,",
+                "Staff,Bob Choo,,22222222,bob@example.com,Block 123,,93210283,B,3,2,,",
+                "external,Carl Kurz,,95352563,carl@example.com,,,,,,,,Plumber");
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        Student student = new StudentBuilder().withTags("friends", "owesMoney").withDesignation("1").build();
+        Staff staff = new StaffBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                .withAddress("Block 123").withEmergency("93210283").withBlock("B").withLevel("3").withRoom("2")
+                .build();
+        ExternalParty externalParty = new ExternalPartyBuilder().withName("Carl Kurz").withPhone("95352563")
+                .withEmail("carl@example.com").withDescription("Plumber").build();
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        expectedModel.addPersons(List.of(staff), List.of(student), List.of(externalParty));
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, 1, 1, 0), expectedModel);
+        assertFalse(Files.exists(ImportCommand.getRejectReportPath(file)));
+    }
+
+    @Test
+    public void execute_invalidAndDuplicateRows_rejectedWithLineNumbers() throws Exception {
+        Path file = write("import.csv",
+                "name,type,phone,email,description",
+                "Carl Kurz,external,95352563,carl@example.com,Plumber",
+                "",
+                "Dan Lee,external,abc,dan@example.com,Plumber",
+                "Eve Tan,external,95352563,eve@example.com,Plumber",
+                "Fay Ong,visitor,11111111,fay@example.com,Plumber",
+                "Gus Lim,external,22222222,gus@example.com,",
+                "Hal Ng,external," + JAMAL.getPhone() + ",hal@example.com,Plumber",
+                "\"Ivy Goh,external,33333333,ivy@example.com,Plumber");
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addStudent(JAMAL);
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        Path report = ImportCommand.getRejectReportPath(file);
+        assertEquals(testFolder.resolve("import.rejects.csv"), report);
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 0, 0, 1, 6)
+                + String.format(ImportCommand.MESSAGE_REJECT_REPORT, report), result.getFeedbackToUser());
+        assertEquals(1, model.getFilteredExternalPartyList().size());
+        List<String> reportLines = Files.readAllLines(report);
+        assertEquals("line,reason", reportLines.get(0));
+        assertTrue(reportLines.get(1).startsWith("4,"));
+        assertEquals(reportLine(5, String.format(ImportCommand.MESSAGE_DUPLICATE_IN_FILE, "phone", 2)),
+                reportLines.get(2));
+        assertEquals(reportLine(6, String.format(ImportCommand.MESSAGE_UNKNOWN_TYPE, "visitor")), reportLines.get(3));
+        assertEquals(reportLine(7, String.format(ImportCommand.MESSAGE_MISSING_VALUE, "description")),
+                reportLines.get(4));
+        assertEquals(reportLine(8, Messages.MESSAGE_DUPLICATE_PHONE_OR_EMAIL), reportLines.get(5));
+        assertTrue(reportLines.get(6).startsWith("9,"));
+        assertEquals(7, reportLines.size());
+    }
+
+    @Test
+    public void execute_manyRows_importedInFileOrder() throws Exception {
+        int count = ImportCommand.BATCH_SIZE * 2 + 7;
+        List<String> lines = new ArrayList<>();
+        lines.add("type,name,matric,phone,email,address,emergency,block,level,room");
+        for (int i = 0; i < count; i++) {
+            lines.add(String.format("student,Student %d,A%07dX,9%07d,student%d@example.com,Clementi,91234567,A,1,1",
+                    i, i, i, i));
+        }
+        lines.add("student,Copy,A0000000X,80000000,copy@example.com,Clementi,91234567,A,1,1");
+        Path file = write("many.csv", lines.toArray(new String[0]));
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+
+        CommandResult result = new ImportCommand(file).execute(model);
+
+        assertTrue(result.getFeedbackToUser()
+                .startsWith(String.format(ImportCommand.MESSAGE_SUCCESS, count, 0, 0, 1)));
+        List<Student> students = model.getAddressBook().getStudentList();
+        assertEquals(count, students.size());
+        for (int i = 0; i < count; i++) {
+            assertEquals("Student " + i, students.get(i).getName().fullName);
+        }
+        assertEquals(List.of("line,reason",
+                reportLine(count + 2, String.format(ImportCommand.MESSAGE_DUPLICATE_IN_FILE, "matric", 2))),
+                Files.readAllLines(ImportCommand.getRejectReportPath(file)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), new ModelManager(),
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void execute_noTypeColumn_throwsCommandException() throws Exception {
+        Path file = write("import.csv", "name,phone", "Amy Bee,85355255");
+        assertCommandFailure(new ImportCommand(file), new ModelManager(), ImportCommand.MESSAGE_MISSING_TYPE_COLUMN);
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path file = write("import.csv");
+        assertCommandFailure(new ImportCommand(file), new ModelManager(), ImportCommand.MESSAGE_EMPTY_FILE);
+    }
+
+    @Test
+    public void getRejectReportPath() {
+        Path report = testFolder.resolve("a.rejects.csv");
+        assertEquals(report, ImportCommand.getRejectReportPath(testFolder.resolve("a.csv")));
+        assertEquals(report, ImportCommand.getRejectReportPath(testFolder.resolve("a")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importA = new ImportCommand(testFolder.resolve("a.csv"));
+
+        assertTrue(importA.equals(importA));
+        assertTrue(importA.equals(new ImportCommand(testFolder.resolve("a.csv"))));
+        assertFalse(importA.equals(null));
+        assertFalse(importA.equals(1));
+        assertFalse(importA.equals(new ImportCommand(testFolder.resolve("b.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = testFolder.resolve("a.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{file=" + file + "}";
+        assertEquals(expected, new ImportCommand(file).toString());
+    }
+
+    private static String reportLine(int lineNumber, String reason) {
+        return CsvUtil.toLine(List.of(String.valueOf(lineNumber), reason));
+    }
+
+    private Path write(String fileName, String... lines) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
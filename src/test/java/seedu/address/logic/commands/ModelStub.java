@@ -1,6 +1,8 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ObjectProperty;
@@ -14,9 +16,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ExternalParty;
+import seedu.address.model.person.ExternalPartyMatchesAttributesPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.SearchPlan;
 import seedu.address.model.person.Staff;
+import seedu.address.model.person.StaffMatchesAttributesPredicate;
 import seedu.address.model.person.Student;
+import seedu.address.model.person.StudentMatchesAttributesPredicate;
 
 /**
  * A default model stub that have all the methods failing.
@@ -62,16 +69,51 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPersonWithPhoneOrEmail(Phone phone, Email email) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<ListType> getContactOwner(Phone phone, Email email) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Person> findPersonById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Event> findEventById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasEvent(Event event) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Event> getEventsOfStudent(Student student) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsOfStaff(Staff staff) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsOfExternalParty(ExternalParty externalParty) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void addEvent(Event event) {
         throw new AssertionError("This method should not be called.");
@@ -122,6 +164,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public SearchPlan<Staff> searchStaffList(StaffMatchesAttributesPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredStaffList(Predicate<Staff> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -167,6 +214,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public SearchPlan<ExternalParty> searchExternalPartyList(ExternalPartyMatchesAttributesPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
 
     @Override
     public ObjectProperty<ListType> getListTypeProperty() {
@@ -198,6 +250,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addPersons(List<Staff> staff, List<Student> students, List<ExternalParty> externalParties) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setStudent(Student target, Student editedStudent) {
         throw new AssertionError("This method should not be called.");
@@ -213,11 +270,36 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public SearchPlan<Student> searchStudentList(StudentMatchesAttributesPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredStudentList(Predicate<Student> predicate) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void previewStudentSearch(StudentMatchesAttributesPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void previewStaffSearch(StaffMatchesAttributesPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void previewExternalPartySearch(ExternalPartyMatchesAttributesPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearPreview() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setSelectedEventDetail(Event event, Index eventIndex) {
         throw new AssertionError("This method should not be called.");
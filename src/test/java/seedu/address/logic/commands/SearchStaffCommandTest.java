@@ -49,6 +49,9 @@ public class SearchStaffCommandTest {
         // null -> returns false
         assertFalse(searchFirstCommand.equals(null));
 
+        // explained -> returns false
+        assertFalse(searchFirstCommand.equals(new SearchStaffCommand(firstCriteria, true)));
+
         // different search criteria -> returns false
         assertFalse(searchFirstCommand.equals(searchSecondCommand));
     }
@@ -82,6 +85,7 @@ public class SearchStaffCommandTest {
         SearchStaffCommand command = new SearchStaffCommand(searchCriteria);
         String expected = new ToStringBuilder(command)
                 .add("predicate", new StaffMatchesAttributesPredicate(searchCriteria))
+                .add("isExplained", false)
                 .toString();
         assertEquals(expected, command.toString());
     }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalStudents.SAUL;
 import static seedu.address.testutil.TypicalStudents.getStudentOnlyAddressBook;
 
 import java.util.HashMap;
@@ -49,6 +50,9 @@ public class SearchStudentCommandTest {
         // null -> returns false
         assertFalse(searchFirstCommand.equals(null));
 
+        // explained -> returns false
+        assertFalse(searchFirstCommand.equals(new SearchStudentCommand(firstCriteria, true)));
+
         // different search criteria -> returns false
         assertFalse(searchFirstCommand.equals(searchSecondCommand));
     }
@@ -76,12 +80,25 @@ public class SearchStudentCommandTest {
                 new StudentMatchesAttributesPredicate(searchCriteria)), result.getFeedbackToUser());
     }
 
+    @Test
+    public void execute_explained_showsPlanStartingFromMatric() {
+        // Mike and Saul are both on level 6, but only Mike has the matric
+        model.addStudent(SAUL);
+        Map<Prefix, String> searchCriteria = Map.of(CliSyntax.PREFIX_LEVEL, "6", CliSyntax.PREFIX_MATRIC, "a7654321z");
+        String feedback = new SearchStudentCommand(searchCriteria, true).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains("\nSearch plan:\n1. Look up matric/a7654321z: 1 row ("), feedback);
+        assertTrue(feedback.contains("\n2. Check 1 candidate for level/6: 1 row ("), feedback);
+        assertTrue(feedback.contains("\nTotal: "), feedback);
+    }
+
     @Test
     public void toStringMethod() {
         Map<Prefix, String> searchCriteria = Map.of(CliSyntax.PREFIX_NAME, "Alice");
         SearchStudentCommand command = new SearchStudentCommand(searchCriteria);
         String expected = new ToStringBuilder(command)
                 .add("predicate", new StudentMatchesAttributesPredicate(searchCriteria))
+                .add("isExplained", false)
                 .toString();
         assertEquals(expected, command.toString());
     }
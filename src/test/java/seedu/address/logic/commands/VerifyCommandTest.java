@@ -0,0 +1,141 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.SAUL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.DamageReport;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class VerifyCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private VerifyCommand.Verifier verifier;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        verifier = file -> storage.verifyAddressBook(file).map(DamageReport::getSummary);
+    }
+
+    @Test
+    public void execute_noFilePath_verifiesDataFile() throws Exception {
+        Path dataFile = testFolder.resolve("resiconnect.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(dataFile).saveAddressBook(addressBook);
+        Model model = createModel(dataFile);
+        Model expectedModel = createModel(dataFile);
+
+        int recordCount = addressBook.getStaffList().size() + addressBook.getStudentList().size()
+                + addressBook.getExternalPartyList().size();
+        assertCommandSuccess(new VerifyCommand(verifier), model, String.format(VerifyCommand.MESSAGE_RESULT, dataFile,
+                JsonAddressBookStorage.verifyAddressBook(dataFile).getSummary()), expectedModel);
+        assertTrue(JsonAddressBookStorage.verifyAddressBook(dataFile).getSummary()
+                .startsWith("No damage found in " + recordCount + " records"));
+    }
+
+    @Test
+    public void execute_damagedFile_damagedRecordsNamed() throws Exception {
+        Path file = testFolder.resolve("backup.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        new JsonAddressBookStorage(file).saveAddressBook(addressBook);
+        String name = addressBook.getStudentList().get(0).getName().fullName;
+        Files.writeString(file, Files.readString(file).replaceFirst(name, name + "x"));
+
+        String feedback = new VerifyCommand(verifier, file).execute(createModel(testFolder.resolve("other.json")))
+                .getFeedbackToUser();
+
+        assertTrue(feedback.contains("Damage found in"));
+        assertTrue(feedback.contains("Record 1 of students is damaged"));
+    }
+
+    @Test
+    public void execute_tornJournalEntry_damagedEntryNamed() throws Exception {
+        Path file = testFolder.resolve("journaled.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(file);
+        storage.saveAddressBook(addressBook);
+        addressBook.addStudent(SAUL);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(storage.getJournalFilePath(), "{\"type\": \"put", StandardOpenOption.APPEND);
+
+        String feedback = new VerifyCommand(verifier, file).execute(createModel(file)).getFeedbackToUser();
+
+        assertTrue(feedback.contains("Damage found in"));
+        assertTrue(feedback.contains("Record 2 of journal is damaged: "
+                + JournaledAddressBookStorage.MESSAGE_ENTRY_UNREADABLE));
+    }
+
+    @Test
+    public void execute_notAddressBook_reportedUnreadable() throws Exception {
+        Path file = testFolder.resolve("broken.json");
+        Files.writeString(file, "{\"staffs\": [");
+
+        String feedback = new VerifyCommand(verifier, file).execute(createModel(file)).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(VerifyCommand.MESSAGE_UNREADABLE, file, "")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = testFolder.resolve("missing.json");
+        assertCommandFailure(new VerifyCommand(verifier, file), new ModelManager(),
+                String.format(VerifyCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void execute_binaryFile_throwsCommandException() throws Exception {
+        Path file = testFolder.resolve("resiconnect.rcab");
+        Files.write(file, new byte[] {1, 2, 3});
+        assertCommandFailure(new VerifyCommand(verifier, file), new ModelManager(),
+                String.format(VerifyCommand.MESSAGE_UNSUPPORTED_FORMAT, file));
+    }
+
+    @Test
+    public void equals() {
+        VerifyCommand verifyA = new VerifyCommand(verifier, testFolder.resolve("a.json"));
+
+        assertTrue(verifyA.equals(verifyA));
+        assertTrue(verifyA.equals(new VerifyCommand(verifier, testFolder.resolve("a.json"))));
+        assertTrue(new VerifyCommand(verifier).equals(new VerifyCommand(verifier)));
+        assertFalse(verifyA.equals(null));
+        assertFalse(verifyA.equals(1));
+        assertFalse(verifyA.equals(new VerifyCommand(verifier, testFolder.resolve("b.json"))));
+        assertFalse(verifyA.equals(new VerifyCommand(verifier)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = testFolder.resolve("a.json");
+        String expected = VerifyCommand.class.getCanonicalName() + "{file=" + file + "}";
+        assertEquals(expected, new VerifyCommand(verifier, file).toString());
+    }
+
+    private static Model createModel(Path dataFile) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(dataFile);
+        return new ModelManager(new AddressBook(), userPrefs);
+    }
+}
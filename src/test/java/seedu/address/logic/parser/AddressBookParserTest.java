@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Optional;
 
@@ -21,13 +22,16 @@ import seedu.address.logic.commands.DeleteExternalPartyCommand;
 import seedu.address.logic.commands.DeleteStaffCommand;
 import seedu.address.logic.commands.DeleteStudentCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListExternalPartyCommand;
 import seedu.address.logic.commands.ListStaffCommand;
 import seedu.address.logic.commands.ListStudentCommand;
 import seedu.address.logic.commands.SearchExternalPartyCommand;
 import seedu.address.logic.commands.SearchStaffCommand;
 import seedu.address.logic.commands.SearchStudentCommand;
+import seedu.address.logic.commands.VerifyCommand;
 import seedu.address.logic.commands.event.AddEventCommand;
 import seedu.address.logic.commands.event.AddEventMemberCommand;
 import seedu.address.logic.commands.event.DeleteEventCommand;
@@ -45,7 +49,9 @@ import seedu.address.testutil.StudentBuilder;
 
 public class AddressBookParserTest {
 
-    private final AddressBookParser parser = new AddressBookParser();
+    private static final VerifyCommand.Verifier VERIFIER = file -> Optional.empty();
+
+    private final AddressBookParser parser = new AddressBookParser(VERIFIER);
 
     @Test
     public void parseCommand_add_staff() throws Exception {
@@ -173,6 +179,25 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(ExportCommand.COMMAND_WORD + " stu data/a.csv");
+        assertEquals(new ExportCommand(ExportCommand.ExportList.STUDENTS, Paths.get("data", "a.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " data/new.csv");
+        assertEquals(new ImportCommand(Paths.get("data", "new.csv")), command);
+    }
+
+    @Test
+    public void parseCommand_verify() throws Exception {
+        assertEquals(new VerifyCommand(VERIFIER), parser.parseCommand(VerifyCommand.COMMAND_WORD));
+        assertEquals(new VerifyCommand(VERIFIER, Paths.get("data", "backup.json")),
+                parser.parseCommand(VerifyCommand.COMMAND_WORD + " data/backup.json"));
+    }
+
     @Test
     public void parseCommand_listStaff() throws Exception {
         assertTrue(parser.parseCommand(ListStaffCommand.COMMAND_WORD) instanceof ListStaffCommand);
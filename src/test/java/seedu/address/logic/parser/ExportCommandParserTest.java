@@ -0,0 +1,43 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.ExportList;
+import seedu.address.logic.commands.ExportCommand.Format;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " stu  data/block a heads.csv ",
+                new ExportCommand(ExportList.STUDENTS, Paths.get("data", "block a heads.csv")));
+        assertParseSuccess(parser, "staff staff.JSON", new ExportCommand(ExportList.STAFF, Paths.get("staff.JSON")));
+        assertParseSuccess(parser, "ext ext.csv", new ExportCommand(ExportList.EXTERNAL_PARTIES, Paths.get("ext.csv")));
+        assertParseSuccess(parser, "event events.json", new ExportCommand(ExportList.EVENTS, Paths.get("events.json")));
+    }
+
+    @Test
+    public void parse_missingOrUnknownList_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "data/students.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "students data/students.csv", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "stu", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "stu data/students.txt", Format.MESSAGE_CONSTRAINTS);
+    }
+}
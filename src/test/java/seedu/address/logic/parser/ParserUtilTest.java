@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -193,4 +194,15 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseFilePath_validPath_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data", "new residents.csv"), ParserUtil.parseFilePath("  data/new residents.csv "));
+    }
+
+    @Test
+    public void parseFilePath_invalidPath_throwsParseException() {
+        assertThrows(ParseException.class, String.format(ParserUtil.MESSAGE_INVALID_FILE_PATH, "a\0.csv"), () ->
+                ParserUtil.parseFilePath("a\0.csv"));
+    }
 }
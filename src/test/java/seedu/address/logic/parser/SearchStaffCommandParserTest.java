@@ -34,6 +34,14 @@ public class SearchStaffCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice " + PREFIX_PHONE + "12345678", expectedCommand);
     }
 
+    @Test
+    public void parse_explain_returnsExplainedSearchStaffCommand() {
+        Map<Prefix, String> expectedCriteria = Map.of(PREFIX_NAME, "Alice");
+        SearchStaffCommand expectedCommand = new SearchStaffCommand(expectedCriteria, true);
+        assertParseSuccess(parser, " explain " + PREFIX_NAME + "Alice", expectedCommand);
+        assertParseSuccess(parser, " EXPLAIN " + PREFIX_NAME + "Alice", expectedCommand);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "Alice Bob", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
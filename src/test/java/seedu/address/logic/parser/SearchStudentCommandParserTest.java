@@ -35,6 +35,14 @@ public class SearchStudentCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME + "Alice " + PREFIX_PHONE + "12345678", expectedCommand);
     }
 
+    @Test
+    public void parse_explain_returnsExplainedSearchStudentCommand() {
+        Map<Prefix, String> expectedCriteria = Map.of(PREFIX_NAME, "Alice");
+        SearchStudentCommand expectedCommand = new SearchStudentCommand(expectedCriteria, true);
+        assertParseSuccess(parser, " explain " + PREFIX_NAME + "Alice", expectedCommand);
+        assertParseSuccess(parser, " EXPLAIN " + PREFIX_NAME + "Alice", expectedCommand);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "Alice Bob", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
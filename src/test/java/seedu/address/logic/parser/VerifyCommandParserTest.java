@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.VerifyCommand;
+
+public class VerifyCommandParserTest {
+
+    private static final VerifyCommand.Verifier VERIFIER = file -> Optional.empty();
+
+    private final VerifyCommandParser parser = new VerifyCommandParser(VERIFIER);
+
+    @Test
+    public void parse_emptyArg_returnsVerifyCommandForDataFile() {
+        assertParseSuccess(parser, "     ", new VerifyCommand(VERIFIER));
+    }
+
+    @Test
+    public void parse_validArgs_returnsVerifyCommand() {
+        assertParseSuccess(parser, "  data/old backup.json  ",
+                new VerifyCommand(VERIFIER, Paths.get("data", "old backup.json")));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "data/\0.json",
+                String.format(ParserUtil.MESSAGE_INVALID_FILE_PATH, "data/\0.json"));
+    }
+}
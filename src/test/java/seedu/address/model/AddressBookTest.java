@@ -11,6 +11,8 @@ import static seedu.address.testutil.TypicalStudents.JAMAL;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +25,7 @@ import seedu.address.model.person.Staff;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.ExternalPartyBuilder;
 import seedu.address.testutil.StaffBuilder;
 import seedu.address.testutil.StudentBuilder;
@@ -65,6 +68,35 @@ public class AddressBookTest {
         assertThrows(NullPointerException.class, () -> addressBook.hasExternalParty(null));
     }
 
+    @Test
+    public void addPersons_newPersons_addedToEachRoster() {
+        ExternalParty externalParty = new ExternalPartyBuilder(FATIMAH).withPhone("93334444").build();
+        addressBook.addPersons(List.of(HARIS), List.of(JAMAL), List.of(externalParty));
+        assertEquals(List.of(HARIS), addressBook.getStaffList());
+        assertEquals(List.of(JAMAL), addressBook.getStudentList());
+        assertEquals(List.of(externalParty), addressBook.getExternalPartyList());
+        assertEquals(Optional.of(ListType.STUDENT), addressBook.getContactOwner(JAMAL.getPhone(), JAMAL.getEmail()));
+    }
+
+    @Test
+    public void addPersons_sharedContactAcrossRosters_addressBookUnchanged() {
+        Staff staffWithStudentEmail = new StaffBuilder(HARIS).withEmail(JAMAL.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.addPersons(List.of(staffWithStudentEmail), List.of(JAMAL), List.of()));
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void addPersons_contactInAddressBook_addressBookUnchanged() {
+        addressBook.addStudent(JAMAL);
+        ExternalParty partyWithStudentPhone = new ExternalPartyBuilder(FATIMAH).withPhone(JAMAL.getPhone().value)
+                .build();
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.addPersons(List.of(HARIS), List.of(), List.of(partyWithStudentPhone)));
+        assertEquals(List.of(), addressBook.getStaffList());
+        assertEquals(List.of(), addressBook.getExternalPartyList());
+    }
+
     @Test
     public void hasStaff_staffNotInAddressBook_returnsFalse() {
         assertFalse(addressBook.hasStaff(HARIS));
@@ -167,6 +199,131 @@ public class AddressBookTest {
         assertThrows(PersonNotFoundException.class, () -> addressBook.removeStudent(new StudentBuilder().build()));
     }
 
+    @Test
+    public void getContactOwner_nullPhone_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getContactOwner(null, HARIS.getEmail()));
+    }
+
+    @Test
+    public void getContactOwner_contactNotInAddressBook_returnsEmpty() {
+        assertEquals(Optional.empty(), addressBook.getContactOwner(HARIS.getPhone(), HARIS.getEmail()));
+    }
+
+    @Test
+    public void getContactOwner_contactInAddressBook_returnsOwningRoster() {
+        addressBook.addStaff(HARIS);
+        addressBook.addStudent(JAMAL);
+        ExternalParty externalParty = new ExternalPartyBuilder(FATIMAH).withPhone("93334444").build();
+        addressBook.addExternalParty(externalParty);
+        assertEquals(Optional.of(ListType.STAFF), addressBook.getContactOwner(HARIS.getPhone(), JAMAL.getEmail()));
+        assertEquals(Optional.of(ListType.STUDENT), addressBook.getContactOwner(JAMAL.getPhone(), HARIS.getEmail()));
+        assertEquals(Optional.of(ListType.EXTERNAL),
+                addressBook.getContactOwner(externalParty.getPhone(), externalParty.getEmail()));
+    }
+
+    @Test
+    public void getContactOwner_afterEditAndRemove_tracksRosters() {
+        Staff editedHaris = new StaffBuilder(HARIS).withPhone("99998888").withEmail("haris@example.com").build();
+        addressBook.addStaff(HARIS);
+        addressBook.setStaff(HARIS, editedHaris);
+        assertEquals(Optional.empty(), addressBook.getContactOwner(HARIS.getPhone(), HARIS.getEmail()));
+        assertEquals(Optional.of(ListType.STAFF),
+                addressBook.getContactOwner(editedHaris.getPhone(), editedHaris.getEmail()));
+
+        addressBook.removeStaff(editedHaris);
+        assertFalse(addressBook.hasPersonWithPhoneOrEmail(editedHaris.getPhone(), editedHaris.getEmail()));
+    }
+
+    @Test
+    public void getContactOwner_sharedContactRemovedByFirstOwner_keptForOtherOwner() {
+        Student student = new StudentBuilder(JAMAL).withPhone(HARIS.getPhone().value)
+                .withEmail(HARIS.getEmail().value).build();
+        addressBook.addStaff(HARIS);
+        addressBook.addStudent(student);
+        assertEquals(Optional.of(ListType.STAFF), addressBook.getContactOwner(HARIS.getPhone(), HARIS.getEmail()));
+
+        addressBook.removeStaff(HARIS);
+        assertEquals(Optional.of(ListType.STUDENT), addressBook.getContactOwner(HARIS.getPhone(), HARIS.getEmail()));
+        assertTrue(addressBook.hasPersonWithPhoneOrEmail(HARIS.getPhone(), HARIS.getEmail()));
+
+        addressBook.setStaffs(List.of(HARIS));
+        addressBook.setStaffs(List.of());
+        assertEquals(Optional.of(ListType.STUDENT), addressBook.getContactOwner(HARIS.getPhone(), HARIS.getEmail()));
+
+        addressBook.removeStudent(student);
+        assertEquals(Optional.empty(), addressBook.getContactOwner(HARIS.getPhone(), HARIS.getEmail()));
+    }
+
+    @Test
+    public void findPersonById_personsInEachRoster_found() {
+        addressBook.addStudent(JAMAL);
+        addressBook.addStaff(HARIS);
+        ExternalParty externalParty = new ExternalPartyBuilder(FATIMAH).withPhone("93334444").build();
+        addressBook.addExternalParty(externalParty);
+        assertEquals(Optional.of(JAMAL), addressBook.findPersonById(JAMAL.getId()));
+        assertEquals(Optional.of(HARIS), addressBook.findPersonById(HARIS.getId()));
+        assertEquals(Optional.of(externalParty), addressBook.findPersonById(externalParty.getId()));
+        assertEquals(Optional.empty(), addressBook.findPersonById(FATIMAH.getId()));
+    }
+
+    @Test
+    public void findPersonById_afterEditAndRemove_keepsIdUntilRemoved() {
+        Staff editedHaris = new StaffBuilder(HARIS).withPhone("99998888").build();
+        addressBook.addStaff(HARIS);
+        addressBook.setStaff(HARIS, editedHaris);
+        assertEquals(Optional.of(editedHaris), addressBook.findPersonById(HARIS.getId()));
+        assertEquals(HARIS.getId(), addressBook.findPersonById(HARIS.getId()).get().getId());
+        assertEquals(Optional.empty(), addressBook.findPersonById(editedHaris.getId()));
+
+        addressBook.removeStaff(editedHaris);
+        assertEquals(Optional.empty(), addressBook.findPersonById(HARIS.getId()));
+    }
+
+    @Test
+    public void findEventById_eventInAddressBook_found() {
+        Event event = new EventBuilder().build();
+        addressBook.addEvent(event);
+        assertEquals(Optional.of(event), addressBook.findEventById(event.getId()));
+
+        addressBook.removeEvent(event);
+        assertEquals(Optional.empty(), addressBook.findEventById(event.getId()));
+    }
+
+    @Test
+    public void getModificationCount_changesOnlyWhenContentsChange() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.hasStudent(JAMAL);
+        addressBook.getEventsOfStudent(JAMAL);
+        assertEquals(initialCount, addressBook.getModificationCount());
+
+        addressBook.addStudent(JAMAL);
+        long afterAdd = addressBook.getModificationCount();
+        assertTrue(afterAdd != initialCount);
+
+        Event event = new EventBuilder().build();
+        addressBook.addEvent(event);
+        long afterAddEvent = addressBook.getModificationCount();
+        assertTrue(afterAddEvent != afterAdd);
+
+        event.addStudent(JAMAL);
+        assertTrue(addressBook.getModificationCount() != afterAddEvent);
+    }
+
+    @Test
+    public void copyOf_laterChangesToSource_notCopied() {
+        Event event = new EventBuilder().build();
+        addressBook.addEvent(event);
+        addressBook.addStudent(JAMAL);
+        AddressBook copy = AddressBook.copyOf(addressBook);
+        assertEquals(addressBook, copy);
+        assertEquals(event.getId(), copy.getEventList().get(0).getId());
+
+        event.addStudent(JAMAL);
+        addressBook.removeStudent(JAMAL);
+        assertTrue(copy.hasStudent(JAMAL));
+        assertTrue(copy.getEventList().get(0).getStudents().isEmpty());
+    }
+
     @Test
     public void getStaffList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getStaffList().remove(0));
@@ -228,6 +385,21 @@ public class AddressBookTest {
         public ObservableList<Student> getStudentList() {
             return students;
         }
+
+        @Override
+        public Optional<Person> findPersonById(long id) {
+            return persons.stream().filter(person -> person.getId() == id).findFirst();
+        }
+
+        @Override
+        public Optional<Event> findEventById(long id) {
+            return events.stream().filter(event -> event.getId() == id).findFirst();
+        }
+
+        @Override
+        public ChangeLog getChangeLog() {
+            return new ChangeLog();
+        }
     }
 
 }
@@ -0,0 +1,119 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class DisplayedListTest {
+
+    private static final Predicate<String> STARTS_WITH_A = row -> row.startsWith("a");
+
+    private final ObservableList<String> source = FXCollections.observableArrayList();
+    private DisplayedList<String> displayed;
+
+    @BeforeEach
+    public void setUp() {
+        source.setAll("amy", "bob", "alex", "cat", "ann");
+        displayed = new DisplayedList<>(source);
+    }
+
+    @Test
+    public void constructor_showsEveryRow() {
+        assertEquals(source, displayed.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMatches_showsMatchesWithoutTestingRows() {
+        displayed.setMatches(List.of("amy", "alex", "ann"), row -> {
+            throw new AssertionError("tested " + row);
+        });
+        assertEquals(List.of("amy", "alex", "ann"), displayed.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMatches_narrowingShownMatches_onlyRemovesOtherRows() {
+        displayed.setMatches(List.of("amy", "alex", "ann"), STARTS_WITH_A);
+        List<String> added = new ArrayList<>();
+        displayed.asUnmodifiableObservableList().addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        displayed.setMatches(List.of("amy", "ann"), row -> row.startsWith("a") && row.length() == 3);
+        assertEquals(List.of("amy", "ann"), displayed.asUnmodifiableObservableList());
+        assertEquals(List.of(), added);
+    }
+
+    @Test
+    public void sourceChanged_afterMatches_keepsRowsMeetingPredicateInOrder() {
+        displayed.setMatches(List.of("amy", "alex", "ann"), STARTS_WITH_A);
+
+        source.add("abe");
+        source.add("dan");
+        assertEquals(List.of("amy", "alex", "ann", "abe"), displayed.asUnmodifiableObservableList());
+
+        // Replaced in place, whether the row replaced was shown or not
+        source.set(2, "alexa");
+        source.set(1, "al");
+        source.set(0, "zed");
+        assertEquals(List.of("al", "alexa", "ann", "abe"), displayed.asUnmodifiableObservableList());
+
+        source.remove("ann");
+        assertEquals(List.of("al", "alexa", "abe"), displayed.asUnmodifiableObservableList());
+
+        source.setAll("bea", "ava");
+        assertEquals(List.of("ava"), displayed.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearPreview_showsRowsShownBeforePreview() {
+        displayed.setMatches(List.of("amy", "alex", "ann"), STARTS_WITH_A);
+
+        displayed.previewMatches(List.of("amy", "ann"), row -> row.startsWith("a") && row.length() == 3);
+        displayed.previewMatches(List.of("ann"), row -> row.startsWith("an"));
+        assertEquals(List.of("ann"), displayed.asUnmodifiableObservableList());
+
+        displayed.clearPreview();
+        assertEquals(List.of("amy", "alex", "ann"), displayed.asUnmodifiableObservableList());
+        displayed.clearPreview();
+        assertEquals(List.of("amy", "alex", "ann"), displayed.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void clearPreview_sourceChangedDuringPreview_showsRowsMeetingPredicate() {
+        displayed.setMatches(List.of("amy", "alex", "ann"), STARTS_WITH_A);
+        displayed.previewMatches(List.of("ann"), row -> row.startsWith("an"));
+
+        source.add("andy");
+        source.add("abe");
+        assertEquals(List.of("ann", "andy"), displayed.asUnmodifiableObservableList());
+
+        displayed.clearPreview();
+        assertEquals(List.of("amy", "alex", "ann", "andy", "abe"), displayed.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setMatches_duringPreview_replacesPreview() {
+        displayed.previewMatches(List.of("amy", "alex", "ann"), STARTS_WITH_A);
+        displayed.setMatches(List.of("bob"), row -> row.startsWith("b"));
+
+        displayed.clearPreview();
+        assertEquals(List.of("bob"), displayed.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_testsEveryRow() {
+        displayed.setPredicate(STARTS_WITH_A.negate());
+        assertEquals(List.of("bob", "cat"), displayed.asUnmodifiableObservableList());
+    }
+}
@@ -18,4 +18,23 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookSyncIntervalMillis_negativeInterval_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookSyncIntervalMillis(-1));
+    }
+
+    @Test
+    public void setAddressBookCompression_nullCompression_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookCompression(null));
+    }
+
+    @Test
+    public void setAddressBookCompressionLevel_invalidLevel_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCompressionLevel(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setAddressBookCompressionLevel(10));
+    }
+
 }
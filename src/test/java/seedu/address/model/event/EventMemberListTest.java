@@ -0,0 +1,75 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+import static seedu.address.testutil.TypicalStudents.SAUL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.StudentBuilder;
+
+public class EventMemberListTest {
+
+    private final EventMemberList<Student> members = new EventMemberList<>();
+
+    @Test
+    public void contains_sameFieldsDifferentId_returnsFalse() {
+        members.add(JAMAL);
+        assertTrue(members.contains(JAMAL));
+        assertFalse(members.contains(new StudentBuilder(JAMAL).build()));
+    }
+
+    @Test
+    public void add_sameMemberTwice_throwsDuplicatePersonException() {
+        members.add(JAMAL);
+        assertThrows(DuplicatePersonException.class, () -> members.add(JAMAL));
+    }
+
+    @Test
+    public void set_editedMemberWithSameId_replacesInPlace() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addStudent(JAMAL);
+        addressBook.setStudent(JAMAL, new StudentBuilder(JAMAL).withName("Jamal Edited").build());
+        Student edited = addressBook.getStudentList().get(0);
+        members.add(JAMAL);
+        members.add(SAUL);
+
+        members.set(JAMAL, edited);
+
+        assertEquals(List.of(edited, SAUL), members.asUnmodifiableObservableList());
+        assertTrue(members.contains(edited));
+    }
+
+    @Test
+    public void set_targetNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> members.set(JAMAL, JAMAL));
+    }
+
+    @Test
+    public void remove_memberInList_removesIt() {
+        members.add(JAMAL);
+        members.add(SAUL);
+        members.remove(JAMAL);
+        assertEquals(List.of(SAUL), members.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> members.remove(JAMAL));
+    }
+
+    @Test
+    public void copy_laterChanges_notShared() {
+        members.add(JAMAL);
+        EventMemberList<Student> copy = new EventMemberList<>(members);
+        copy.add(SAUL);
+        assertFalse(members.contains(SAUL));
+        assertNotEquals(members, copy);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.event;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalEvents.DANCE_EVENT;
 import static seedu.address.testutil.TypicalExternalParties.JESSICA;
@@ -8,10 +10,15 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalStaffs.HARIS;
 import static seedu.address.testutil.TypicalStudents.JAMAL;
 
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.StudentBuilder;
 
 public class UniqueEventListIntegrationTest {
     private AddressBook addressBook;
@@ -21,6 +28,16 @@ public class UniqueEventListIntegrationTest {
         addressBook = getTypicalAddressBook();
     }
 
+    @Test
+    public void setEvent_editedEventHasSameIdentity_success() {
+        Event event = new EventBuilder().build();
+        Event editedEvent = new EventBuilder().build();
+        editedEvent.addStudent(JAMAL);
+        addressBook.addEvent(event);
+        addressBook.setEvent(event, editedEvent);
+        assertEquals(List.of(editedEvent), addressBook.getEventList());
+    }
+
     @Test
     public void removeStaffFromAllEvents_correct() {
         Event event = DANCE_EVENT;
@@ -56,4 +73,56 @@ public class UniqueEventListIntegrationTest {
 
         assertFalse(event.isExternalPartyInEvent(JESSICA));
     }
+
+    @Test
+    public void getEventsOfStudent_membershipChanges_tracksOnlyMemberEvents() {
+        Event rehearsal = new EventBuilder().withEventName("Rehearsal").build();
+        Event training = new EventBuilder().withEventName("Training").build();
+        Event briefing = new EventBuilder().withEventName("Briefing").build();
+        rehearsal.addStudent(JAMAL);
+        addressBook.addEvent(rehearsal);
+        addressBook.addEvent(training);
+        addressBook.addEvent(briefing);
+        briefing.addStudent(JAMAL);
+
+        assertEquals(List.of(rehearsal, briefing), addressBook.getEventsOfStudent(JAMAL));
+
+        rehearsal.removeStudent(JAMAL);
+        assertEquals(List.of(briefing), addressBook.getEventsOfStudent(JAMAL));
+
+        addressBook.removeEvent(briefing);
+        assertEquals(List.of(), addressBook.getEventsOfStudent(JAMAL));
+    }
+
+    @Test
+    public void removeStaff_memberOfSeveralEvents_removedFromEachEvent() {
+        Event rehearsal = new EventBuilder().withEventName("Rehearsal").build();
+        Event training = new EventBuilder().withEventName("Training").build();
+        addressBook.addEvent(rehearsal);
+        addressBook.addEvent(training);
+        rehearsal.addStaff(HARIS);
+        training.addStaff(HARIS);
+
+        addressBook.removeStaff(HARIS);
+
+        assertFalse(rehearsal.isStaffInEvent(HARIS));
+        assertFalse(training.isStaffInEvent(HARIS));
+        assertEquals(List.of(), addressBook.getEventsOfStaff(HARIS));
+    }
+
+    @Test
+    public void setStudent_memberOfEvent_eventRefersToEditedStudent() {
+        Event rehearsal = new EventBuilder().withEventName("Rehearsal").build();
+        addressBook.addEvent(rehearsal);
+        rehearsal.addStudent(JAMAL);
+        Student editedJamal = new StudentBuilder(JAMAL).withName("Jamal Tan").build();
+
+        addressBook.setStudent(JAMAL, editedJamal);
+
+        // The event refers to the roster entry, which keeps the ID of the student edited
+        assertSame(addressBook.findPersonById(JAMAL.getId()).get(), rehearsal.getStudents().get(0));
+        assertEquals(editedJamal, rehearsal.getStudents().get(0));
+        assertEquals(List.of(rehearsal), addressBook.getEventsOfStudent(editedJamal));
+        assertEquals(List.of(), addressBook.getEventsOfStudent(JAMAL));
+    }
 }
@@ -0,0 +1,333 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOCK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESIGNATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROOM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.testutil.StudentBuilder;
+
+public class AttributeIndexTest {
+
+    private static final String[] BLOCKS = {"A", "B", "C", "D", "E"};
+    private static final String[] TAGS = {"choir", "hall", "soccer"};
+
+    private static final List<Map<Prefix, String>> SEARCHES = List.of(
+            Map.of(PREFIX_BLOCK, "a"),
+            Map.of(PREFIX_BLOCK, "B", PREFIX_LEVEL, "03"),
+            Map.of(PREFIX_BLOCK, "C", PREFIX_LEVEL, "2", PREFIX_DESIGNATION, "1"),
+            Map.of(PREFIX_TAG, "CHOIR", PREFIX_ROOM, "4"),
+            Map.of(PREFIX_NAME, "student 7"),
+            Map.of(PREFIX_NAME, "STU 4", PREFIX_BLOCK, "b"),
+            Map.of(PREFIX_NAME, "4 stu"),
+            Map.of(PREFIX_NAME, "tudent"),
+            Map.of(PREFIX_PHONE, "80000007", PREFIX_BLOCK, "a", PREFIX_ADDRESS, "clementi"),
+            Map.of(PREFIX_ADDRESS, "Clementi", PREFIX_LEVEL, "1"),
+            Map.of(PREFIX_ADDRESS, "ti ave 3"),
+            Map.of(PREFIX_ADDRESS, "RONG", PREFIX_BLOCK, "a"),
+            Map.of(PREFIX_ADDRESS, "ve"),
+            Map.of(PREFIX_ADDRESS, "Clementi Ave 33"),
+            Map.of(PREFIX_LEVEL, "three"),
+            Map.of(PREFIX_BLOCK, "Z"));
+
+    @Test
+    public void search_randomRoster_sameAsScanning() {
+        List<Student> students = createStudents(500, new Random(7));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+        assertSameAsScanning(index, students);
+
+        // Frees most slots, which compacts the bitmaps
+        List<Student> removed = new ArrayList<>(students.subList(0, 400));
+        removed.forEach(index::remove);
+        List<Student> remaining = new ArrayList<>(students.subList(400, students.size()));
+        assertSameAsScanning(index, remaining);
+
+        removed.subList(0, 50).forEach(index::add);
+        remaining.addAll(removed.subList(0, 50));
+        assertSameAsScanning(index, remaining);
+    }
+
+    @Test
+    public void search_rowAddedAfterSearch_testedByPredicate() {
+        AttributeIndex<Student> index = createIndex();
+        Student inBlockA = new StudentBuilder().withName("Amy").withBlock("A").build();
+        Student inBlockB = new StudentBuilder().withName("Bob").withBlock("B").build();
+        index.add(inBlockA);
+        index.add(inBlockB);
+
+        Map<Prefix, String> criteria = Map.of(PREFIX_BLOCK, "A");
+        Predicate<Student> search = index.search(criteria, new StudentMatchesAttributesPredicate(criteria)).getResult();
+
+        Student addedLater = new StudentBuilder().withName("Cat").withBlock("A").build();
+        index.add(addedLater);
+        assertTrue(search.test(inBlockA));
+        assertFalse(search.test(inBlockB));
+        assertTrue(search.test(addedLater));
+    }
+
+    @Test
+    public void search_rowReplacedInPlace_keepsItsPlaceInMatches() {
+        AttributeIndex<Student> index = createIndex();
+        Student first = new StudentBuilder().withName("Amy").withBlock("A").build();
+        Student second = new StudentBuilder().withName("Bob").withBlock("A").build();
+        index.add(first);
+        index.add(second);
+
+        Student edited = new StudentBuilder(first).withName("Amelia").build();
+        index.replace(first, edited);
+        Map<Prefix, String> criteria = Map.of(PREFIX_BLOCK, "A");
+        assertEquals(List.of(edited, second),
+                index.search(criteria, new StudentMatchesAttributesPredicate(criteria)).getMatches());
+    }
+
+    @Test
+    public void remove_lastRowWithValue_valueDropped() {
+        AttributeIndex<Student> index = createIndex();
+        Student student = new StudentBuilder().withBlock("A").withTags("choir", "CHOIR").build();
+        index.add(student);
+        assertEquals(1, index.getValueCount(PREFIX_TAG));
+
+        index.remove(student);
+        assertEquals(0, index.getValueCount(PREFIX_BLOCK));
+        assertEquals(0, index.getValueCount(PREFIX_TAG));
+        assertEquals(0, index.search(Map.of(), unused -> true).getSteps().get(0).getRows());
+    }
+
+    @Test
+    public void search_selectiveCriterion_plannedFirst() {
+        List<Student> students = createStudents(100, new Random(3));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+
+        Map<Prefix, String> criteria = Map.of(PREFIX_BLOCK, "A", PREFIX_LEVEL, "2", PREFIX_PHONE, "80000042",
+                PREFIX_ADDRESS, students.get(42).getAddress().value);
+        SearchPlan<Student> plan = index.search(criteria, new StudentMatchesAttributesPredicate(criteria));
+        List<SearchPlan.Step> steps = plan.getSteps();
+
+        // The phone lookup leaves one candidate, which is checked for the rest rather than narrowed further
+        assertEquals(2, steps.size());
+        assertEquals("Look up phone/80000042", steps.get(0).getDescription());
+        assertEquals(1, steps.get(0).getRows());
+        assertTrue(steps.get(1).getDescription().startsWith("Check 1 candidate for "));
+        assertTrue(steps.get(1).getDescription().contains("a/" + students.get(42).getAddress().value));
+    }
+
+    @Test
+    public void search_unselectiveCriteria_narrowedByEachLookup() {
+        List<Student> students = createStudents(500, new Random(5));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+
+        Map<Prefix, String> criteria = Map.of(PREFIX_BLOCK, "A", PREFIX_TAG, "choir");
+        List<SearchPlan.Step> steps = index.search(criteria, new StudentMatchesAttributesPredicate(criteria))
+                .getSteps();
+        assertEquals(3, steps.size());
+        assertEquals("Look up block/A", steps.get(0).getDescription());
+        assertEquals("Narrow by t/choir", steps.get(1).getDescription());
+        assertTrue(steps.get(0).getRows() >= steps.get(1).getRows());
+        assertEquals("Confirm " + steps.get(1).getRows() + " candidates", steps.get(2).getDescription());
+    }
+
+    @Test
+    public void search_tiedCriteria_plannedInDeclarationOrder() {
+        // Level and room each have one row and two values, so level, declared first, is looked up first
+        Map<Prefix, String> levelFirst = new LinkedHashMap<>();
+        levelFirst.put(PREFIX_LEVEL, "1");
+        levelFirst.put(PREFIX_ROOM, "1");
+        Map<Prefix, String> roomFirst = new LinkedHashMap<>();
+        roomFirst.put(PREFIX_ROOM, "1");
+        roomFirst.put(PREFIX_LEVEL, "1");
+        for (Map<Prefix, String> criteria : List.of(levelFirst, roomFirst)) {
+            // A fresh index each time, as a search repeated on the same index narrows the last one instead
+            AttributeIndex<Student> index = createIndex();
+            index.add(new StudentBuilder().withName("Amy").withLevel("1").withRoom("1").build());
+            index.add(new StudentBuilder().withName("Bob").withPhone("91234567").withEmail("bob@example.com")
+                    .withMatric("A7654321Z").withLevel("2").withRoom("2").build());
+            SearchPlan<Student> plan = index.search(criteria, new StudentMatchesAttributesPredicate(criteria));
+            assertEquals("Look up level/1", plan.getSteps().get(0).getDescription());
+            assertEquals("Check 1 candidate for room/1", plan.getSteps().get(1).getDescription());
+        }
+    }
+
+    @Test
+    public void search_noIndexedCriterion_scansEveryRow() {
+        List<Student> students = createStudents(20, new Random(9));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+
+        // Text shorter than a trigram cannot be looked up
+        Map<Prefix, String> criteria = Map.of(PREFIX_ADDRESS, "Cl");
+        SearchPlan<Student> plan = index.search(criteria, new StudentMatchesAttributesPredicate(criteria));
+        assertEquals("Scan every row", plan.getSteps().get(0).getDescription());
+        assertEquals(20, plan.getSteps().get(0).getRows());
+        assertTrue(plan.explain().startsWith("1. Scan every row: 20 rows ("));
+    }
+
+    @Test
+    public void search_nameTypedLetterByLetter_narrowsLastLookup() {
+        List<Student> students = createStudents(300, new Random(11));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+
+        List<SearchPlan.Step> firstSteps = searchName(index, students, "stu 1");
+        assertEquals("Look up name/stu 1", firstSteps.get(0).getDescription());
+        List<SearchPlan.Step> narrowedSteps = searchName(index, students, "stu 12");
+        assertEquals("Look up name/stu 12 among the rows found for name/stu 1",
+                narrowedSteps.get(0).getDescription());
+        assertEquals(11, narrowedSteps.get(0).getRows());
+        searchName(index, students, "stu 12 student");
+
+        // A row added since could match, so the lookup goes back to the index
+        Student added = new StudentBuilder().withName("Student 1200").withPhone("99999999")
+                .withEmail("added@example.com").build();
+        index.add(added);
+        students.add(added);
+        List<SearchPlan.Step> afterAddSteps = searchName(index, students, "stu 120");
+        assertEquals("Look up name/stu 120", afterAddSteps.get(0).getDescription());
+        assertEquals(2, afterAddSteps.get(0).getRows());
+
+        // A word that no longer extends the last one goes back to the index
+        assertEquals("Look up name/stu 2", searchName(index, students, "stu 2").get(0).getDescription());
+    }
+
+    @Test
+    public void search_criteriaNarrowed_checksLastMatches() {
+        List<Student> students = createStudents(500, new Random(19));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+
+        Map<Prefix, String> blockOnly = Map.of(PREFIX_BLOCK, "A");
+        SearchPlan<Student> first = index.search(blockOnly, new StudentMatchesAttributesPredicate(blockOnly));
+        Map<Prefix, String> narrowed = Map.of(PREFIX_BLOCK, "A", PREFIX_ADDRESS, "Clementi");
+        StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(narrowed);
+        SearchPlan<Student> plan = index.search(narrowed, predicate);
+        assertEquals(1, plan.getSteps().size());
+        assertEquals("Check the " + first.getMatches().size() + " rows found for block/A",
+                plan.getSteps().get(0).getDescription());
+        assertEquals(students.stream().filter(predicate).collect(Collectors.toList()), plan.getMatches());
+
+        // Another block is not among the rows found, so the search goes back to the index
+        Map<Prefix, String> otherBlock = Map.of(PREFIX_BLOCK, "B", PREFIX_ADDRESS, "Clementi");
+        assertEquals("Look up block/B", index.search(otherBlock, new StudentMatchesAttributesPredicate(otherBlock))
+                .getSteps().get(0).getDescription());
+    }
+
+    @Test
+    public void search_addressContainingText_lookedUpByTrigram() {
+        List<Student> students = createStudents(100, new Random(13));
+        AttributeIndex<Student> index = createIndex();
+        students.forEach(index::add);
+
+        Map<Prefix, String> criteria = Map.of(PREFIX_ADDRESS, "jurong ave 4");
+        StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(criteria);
+        List<SearchPlan.Step> steps = index.search(criteria, predicate).getSteps();
+        assertEquals("Look up a/jurong ave 4", steps.get(0).getDescription());
+        assertEquals(students.stream().filter(predicate).count(), steps.get(0).getRows());
+    }
+
+    @Test
+    public void addAll_manyRows_textIndexedInBackground() throws InterruptedException {
+        List<Student> students = createStudents(1500, new Random(17));
+        AttributeIndex<Student> index = createIndex();
+        index.addAll(students);
+
+        // Searches give the same results whether or not the text is indexed yet
+        assertSameAsScanning(index, students);
+        Student removed = students.remove(0);
+        index.remove(removed);
+        assertSameAsScanning(index, students);
+
+        // The trigrams are installed once the build in the background is done
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (index.getValueCount(PREFIX_ADDRESS) == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Map<Prefix, String> criteria = Map.of(PREFIX_ADDRESS, "clementi ave 6");
+        assertEquals("Look up a/clementi ave 6", index.search(criteria,
+                new StudentMatchesAttributesPredicate(criteria)).getSteps().get(0).getDescription());
+        assertSameAsScanning(index, students);
+    }
+
+    @Test
+    public void foldCase() {
+        assertEquals(AttributeIndex.foldCase("Tan Ah Kow"), AttributeIndex.foldCase("TAN ah kOW"));
+        assertFalse(AttributeIndex.foldCase("Tan").equals(AttributeIndex.foldCase("Tam")));
+    }
+
+    private static List<SearchPlan.Step> searchName(AttributeIndex<Student> index, List<Student> students,
+            String name) {
+        Map<Prefix, String> criteria = Map.of(PREFIX_NAME, name);
+        StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(criteria);
+        SearchPlan<Student> plan = index.search(criteria, predicate);
+        assertEquals(students.stream().filter(predicate).collect(Collectors.toList()),
+                students.stream().filter(plan.getResult()).collect(Collectors.toList()), name);
+        return plan.getSteps();
+    }
+
+    private static void assertSameAsScanning(AttributeIndex<Student> index, List<Student> students) {
+        for (Map<Prefix, String> criteria : SEARCHES) {
+            StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(criteria);
+            SearchPlan<Student> plan = index.search(criteria, predicate);
+            List<Student> scanned = students.stream().filter(predicate).collect(Collectors.toList());
+            assertEquals(scanned, students.stream().filter(plan.getResult()).collect(Collectors.toList()),
+                    criteria.toString());
+            assertEquals(scanned, plan.getMatches(), criteria.toString());
+        }
+    }
+
+    private static AttributeIndex<Student> createIndex() {
+        return new AttributeIndex<>(List.of(
+                AttributeIndex.Attribute.words(PREFIX_NAME, student -> student.getName().fullName),
+                AttributeIndex.Attribute.of(PREFIX_PHONE, student -> student.getPhone().value, value -> value),
+                AttributeIndex.Attribute.text(PREFIX_ADDRESS, student -> student.getAddress().value),
+                new AttributeIndex.Attribute<>(PREFIX_TAG, student -> student.getTags().stream()
+                        .map(tag -> tag.tagName).collect(Collectors.toList()), AttributeIndex::foldCase),
+                AttributeIndex.Attribute.of(PREFIX_BLOCK, student -> student.getBlock().value,
+                        AttributeIndex::foldCase),
+                AttributeIndex.Attribute.of(PREFIX_LEVEL, student -> String.valueOf(student.getLevel().value),
+                        AttributeIndex::parseNumber),
+                AttributeIndex.Attribute.of(PREFIX_ROOM, student -> String.valueOf(student.getRoom().value),
+                        AttributeIndex::parseNumber),
+                AttributeIndex.Attribute.of(PREFIX_DESIGNATION,
+                        student -> String.valueOf(student.getStudentDesignation().getOrdinalDesignation()),
+                        AttributeIndex::parseNumber)));
+    }
+
+    private static List<Student> createStudents(int count, Random random) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder()
+                    .withName("Student " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withEmail("student" + i + "@example.com")
+                    .withAddress((random.nextBoolean() ? "Clementi" : "Jurong") + " Ave " + (i % 7))
+                    .withBlock(BLOCKS[random.nextInt(BLOCKS.length)])
+                    .withLevel(String.valueOf(1 + random.nextInt(4)))
+                    .withRoom(String.valueOf(1 + random.nextInt(5)))
+                    .withDesignation(String.valueOf(random.nextInt(3)))
+                    .withTags(TAGS[random.nextInt(TAGS.length)])
+                    .build());
+        }
+        return students;
+    }
+}
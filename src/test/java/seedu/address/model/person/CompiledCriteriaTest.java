@@ -0,0 +1,113 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.StudentBuilder;
+
+public class CompiledCriteriaTest {
+
+    private final Student student = new StudentBuilder().withName("Alice").withLevel("3").withRoom("5").build();
+
+    @Test
+    public void build_impossibleCriterion_matchesNothingWithoutReadingRow() {
+        List<String> fieldsRead = new ArrayList<>();
+        CompiledCriteria<Student> criteria = new CompiledCriteria.Builder<Student>()
+                .text(row -> read(fieldsRead, "name", row.getName().fullName), "Alice")
+                .number(row -> row.getLevel().value, "3.0")
+                .build();
+
+        assertTrue(criteria.matchesNothing());
+        assertFalse(criteria.test(student));
+        assertTrue(fieldsRead.isEmpty());
+    }
+
+    @Test
+    public void wordPrefixes_eachWordStartsAWord_matches() {
+        Student student = new StudentBuilder().withName("Tan Ah Kow").build();
+        assertTrue(wordPrefixes("tan").test(student));
+        assertTrue(wordPrefixes("KOW").test(student));
+        assertTrue(wordPrefixes("k t").test(student));
+        assertTrue(wordPrefixes("Tan Ah Kow").test(student));
+
+        // Words must start a word of the name, and every word must be found
+        assertFalse(wordPrefixes("ow").test(student));
+        assertFalse(wordPrefixes("tan lee").test(student));
+        assertFalse(wordPrefixes("Tan Ah Kow Lim").test(student));
+    }
+
+    @Test
+    public void text_sameAsEqualsIgnoreCase() {
+        for (String name : List.of("Alice Pauline", "ALICE PAULINE", "alice pauline", "Alice", "Alice Paulinee")) {
+            Student student = new StudentBuilder().withName(name).build();
+            for (String value : List.of("alice pauline", "ALICE Pauline", "Alice")) {
+                assertEquals(name.equalsIgnoreCase(value), new CompiledCriteria.Builder<Student>()
+                        .text(row -> row.getName().fullName, value).build().test(student));
+            }
+        }
+    }
+
+    @Test
+    public void contains_textAnywhereIgnoringCase_matches() {
+        Student student = new StudentBuilder().withAddress("311, Clementi Ave 2, #02-25").build();
+        assertTrue(contains("clementi ave").test(student));
+        assertTrue(contains("#02-25").test(student));
+        assertTrue(contains("").test(student));
+
+        assertFalse(contains("Clementi Road").test(student));
+        assertFalse(contains("311, Clementi Ave 2, #02-25 ").test(student));
+    }
+
+    @Test
+    public void build_ordinalOutOfRange_matchesNothing() {
+        assertTrue(new CompiledCriteria.Builder<Student>()
+                .ordinal(row -> row.getStudentDesignation().getOrdinalDesignation(), "3", 3)
+                .build().matchesNothing());
+        assertTrue(new CompiledCriteria.Builder<Student>()
+                .ordinal(row -> row.getStudentDesignation().getOrdinalDesignation(), "-1", 3)
+                .build().matchesNothing());
+    }
+
+    @Test
+    public void test_cheapestCriteriaFirst() {
+        List<String> fieldsRead = new ArrayList<>();
+        CompiledCriteria<Student> criteria = new CompiledCriteria.Builder<Student>()
+                .text(row -> read(fieldsRead, "name", row.getName().fullName), "Bob")
+                .number(row -> read(fieldsRead, "level", row.getLevel().value), "4")
+                .build();
+
+        assertFalse(criteria.test(student));
+        assertEquals(List.of("level"), fieldsRead);
+    }
+
+    @Test
+    public void test_allCriteriaMet_returnsTrue() {
+        CompiledCriteria<Student> criteria = new CompiledCriteria.Builder<Student>()
+                .text(row -> row.getName().fullName, "ALICE")
+                .number(row -> row.getLevel().value, "03")
+                .number(row -> row.getRoom().value, "5")
+                .build();
+
+        assertFalse(criteria.matchesNothing());
+        assertTrue(criteria.test(student));
+    }
+
+    private static CompiledCriteria<Student> wordPrefixes(String value) {
+        return new CompiledCriteria.Builder<Student>().wordPrefixes(row -> row.getName().fullName, value).build();
+    }
+
+    private static CompiledCriteria<Student> contains(String value) {
+        return new CompiledCriteria.Builder<Student>().contains(row -> row.getAddress().value, value).build();
+    }
+
+    private static <V> V read(List<String> fieldsRead, String field, V value) {
+        fieldsRead.add(field);
+        return value;
+    }
+}
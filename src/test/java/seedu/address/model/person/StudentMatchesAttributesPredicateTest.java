@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOCK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESIGNATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MATRIC;
@@ -124,4 +125,27 @@ public class StudentMatchesAttributesPredicateTest {
         StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(criteria);
         assertFalse(predicate.test(new StudentBuilder().withDesignation("1").build()));
     }
+
+    @Test
+    public void test_matricAndBlockInLowerCase_returnsTrue() {
+        Map<Prefix, String> criteria = new HashMap<>();
+        criteria.put(PREFIX_MATRIC, "a1234567b");
+        criteria.put(PREFIX_BLOCK, "c");
+        StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(criteria);
+        assertTrue(predicate.test(new StudentBuilder().withMatric("A1234567B").withBlock("C").build()));
+    }
+
+    @Test
+    public void test_impossibleCriterionAmongOthers_returnsFalse() {
+        Map<Prefix, String> criteria = new HashMap<>();
+        criteria.put(PREFIX_NAME, "Alice");
+        criteria.put(PREFIX_LEVEL, "three");
+        StudentMatchesAttributesPredicate predicate = new StudentMatchesAttributesPredicate(criteria);
+        assertFalse(predicate.test(new StudentBuilder().withName("Alice").withLevel("3").build()));
+    }
+
+    @Test
+    public void test_noCriteria_returnsTrue() {
+        assertTrue(new StudentMatchesAttributesPredicate(new HashMap<>()).test(new StudentBuilder().build()));
+    }
 }
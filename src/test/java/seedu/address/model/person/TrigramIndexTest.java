@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void lookUp_containedText_findsRowsWithAllTrigrams() {
+        TrigramIndex index = createIndex(TrigramIndex.DEFAULT_MAX_BYTES);
+        assertEquals(bits(0, 2), index.lookUp("menti").get());
+        assertEquals(bits(0), index.lookUp("MENTI AVE").get());
+        assertEquals(bits(), index.lookUp("Bukit").get());
+
+        // Rows with every trigram but not the text itself are candidates to be checked
+        assertEquals(bits(3), index.lookUp("abcde").get());
+    }
+
+    @Test
+    public void lookUp_textShorterThanTrigram_cannotTell() {
+        TrigramIndex index = createIndex(TrigramIndex.DEFAULT_MAX_BYTES);
+        assertEquals(Optional.empty(), index.lookUp("cl"));
+        assertEquals(Optional.empty(), index.lookUp(""));
+    }
+
+    @Test
+    public void remove_lastRowWithTrigrams_trigramsDropped() {
+        TrigramIndex index = new TrigramIndex("test", TrigramIndex.DEFAULT_MAX_BYTES);
+        index.add(0, List.of("Jurong"));
+        index.add(1, List.of("Jurong West"));
+        index.remove(1, List.of("Jurong West"));
+        assertEquals(bits(0), index.lookUp("rong").get());
+        assertEquals(4, index.getTrigramCount());
+
+        index.remove(0, List.of("Jurong"));
+        assertEquals(0, index.getTrigramCount());
+    }
+
+    @Test
+    public void add_overBudget_droppedUntilCleared() {
+        TrigramIndex index = createIndex(1000);
+        assertEquals(Optional.empty(), index.lookUp("menti"));
+        assertEquals(0, index.getTrigramCount());
+
+        index.clear();
+        index.add(0, List.of("Jurong"));
+        assertEquals(bits(0), index.lookUp("jurong").get());
+    }
+
+    @Test
+    public void buildInBackground_changedWhileBuilding_changesApplied() throws InterruptedException {
+        TrigramIndex index = new TrigramIndex("test", TrigramIndex.DEFAULT_MAX_BYTES);
+        int[] slots = new int[2000];
+        List<Collection<String>> texts = new ArrayList<>();
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = i;
+            texts.add(List.of("Blk " + i + (i % 2 == 0 ? " Clementi" : " Jurong")));
+        }
+        index.buildInBackground(slots, texts);
+        index.add(2000, List.of("Blk 2000 Clementi"));
+        index.remove(0, texts.get(0));
+
+        BitSet found = awaitLookUp(index, "clementi");
+        assertEquals(1000, found.cardinality());
+        assertFalse(found.get(0));
+        assertTrue(found.get(2000));
+    }
+
+    @Test
+    public void trigramsOf() {
+        assertEquals(3, TrigramIndex.trigramsOf("abcde").size());
+        assertEquals(1, TrigramIndex.trigramsOf("aaaa").size());
+        assertEquals(0, TrigramIndex.trigramsOf("ab").size());
+        assertFalse(TrigramIndex.trigramsOf("abc").equals(TrigramIndex.trigramsOf("acb")));
+    }
+
+    /**
+     * Looks up {@code value} once the index can tell, which it cannot until its build in the background is done.
+     */
+    private static BitSet awaitLookUp(TrigramIndex index, String value) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        Optional<BitSet> found = index.lookUp(value);
+        while (found.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            found = index.lookUp(value);
+        }
+        return found.get();
+    }
+
+    private static TrigramIndex createIndex(long maxBytes) {
+        TrigramIndex index = new TrigramIndex("test", maxBytes);
+        index.add(0, List.of("311, Clementi Ave 2"));
+        index.add(1, List.of("Jurong West St 91"));
+        index.add(2, List.of("clementi road"));
+        index.add(3, List.of("abcd xcde"));
+        return index;
+    }
+
+    private static BitSet bits(int... slots) {
+        BitSet bitmap = new BitSet();
+        for (int slot : slots) {
+            bitmap.set(slot);
+        }
+        return bitmap;
+    }
+}
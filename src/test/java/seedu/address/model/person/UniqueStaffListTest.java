@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -137,6 +139,25 @@ public class UniqueStaffListTest {
         assertEquals(expectedUniqueStaffList, uniqueStaffList);
     }
 
+    @Test
+    public void remove_existingStaff_releasesIdentityFields() {
+        Staff staff = new StaffBuilder().build();
+        uniqueStaffList.add(staff);
+        uniqueStaffList.remove(staff);
+        assertFalse(uniqueStaffList.contains(staff));
+        assertFalse(uniqueStaffList.hasPersonWithPhoneOrEmail(staff.getPhone(), staff.getEmail()));
+    }
+
+    @Test
+    public void setStaff_editedStaffSharesEmailWithOtherStaff_throwsDuplicatePersonException() {
+        Staff staff = new StaffBuilder().build();
+        Staff otherStaff = new StaffBuilder().withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        uniqueStaffList.add(staff);
+        uniqueStaffList.add(otherStaff);
+        Staff editedStaff = new StaffBuilder().withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniqueStaffList.setStaff(staff, editedStaff));
+    }
+
     @Test
     public void setStaffs_nullUniqueStaffList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStaffList.setStaffs((UniqueStaffList) null));
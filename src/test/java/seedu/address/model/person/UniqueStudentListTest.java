@@ -8,10 +8,15 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MATRIC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BLOCK;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -48,6 +53,28 @@ public class UniqueStudentListTest {
         assertTrue(uniqueStudentList.contains(editedStudent));
     }
 
+    @Test
+    public void addAll_newStudents_addedInOrder() {
+        Student first = new StudentBuilder().build();
+        Student second = new StudentBuilder().withMatric(VALID_MATRIC_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        uniqueStudentList.addAll(List.of(first, second));
+        assertEquals(List.of(first, second), uniqueStudentList.asUnmodifiableObservableList());
+        assertTrue(uniqueStudentList.contains(second));
+    }
+
+    @Test
+    public void addAll_duplicateWithinBatchOrList_listUnchanged() {
+        Student student = new StudentBuilder().build();
+        Student sameMatric = new StudentBuilder().withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniqueStudentList.addAll(List.of(student, sameMatric)));
+        assertEquals(List.of(), uniqueStudentList.asUnmodifiableObservableList());
+
+        uniqueStudentList.add(student);
+        assertThrows(DuplicatePersonException.class, () -> uniqueStudentList.addAll(List.of(sameMatric)));
+        assertEquals(List.of(student), uniqueStudentList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void addStudent_nullStaff_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.add(null));
@@ -140,6 +167,63 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_existingStudent_releasesIdentityFields() {
+        Student student = new StudentBuilder().build();
+        uniqueStudentList.add(student);
+        uniqueStudentList.remove(student);
+        assertFalse(uniqueStudentList.contains(student));
+        assertFalse(uniqueStudentList.hasPersonWithPhoneOrEmail(student.getPhone(), student.getEmail()));
+    }
+
+    @Test
+    public void setStudent_editedStudentHasDifferentIdentity_releasesOldIdentityFields() {
+        Student student = new StudentBuilder().build();
+        uniqueStudentList.add(student);
+        Student editedStudent = new StudentBuilder().withMatric(VALID_MATRIC_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        uniqueStudentList.setStudent(student, editedStudent);
+        assertFalse(uniqueStudentList.contains(student));
+        assertTrue(uniqueStudentList.contains(editedStudent));
+    }
+
+    @Test
+    public void setStudent_editedStudentSharesMatricWithOtherStudent_throwsDuplicatePersonException() {
+        Student student = new StudentBuilder().build();
+        Student otherStudent = new StudentBuilder().withMatric(VALID_MATRIC_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        uniqueStudentList.add(student);
+        uniqueStudentList.add(otherStudent);
+        Student editedStudent = new StudentBuilder().withMatric(VALID_MATRIC_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniqueStudentList.setStudent(student, editedStudent));
+    }
+
+    @Test
+    public void setStudents_list_replacesIdentityFields() {
+        Student student = new StudentBuilder().build();
+        uniqueStudentList.add(student);
+        Student otherStudent = new StudentBuilder().withMatric(VALID_MATRIC_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).build();
+        uniqueStudentList.setStudents(List.of(otherStudent));
+        assertFalse(uniqueStudentList.contains(student));
+        assertTrue(uniqueStudentList.contains(otherStudent));
+    }
+
+    @Test
+    public void setStudents_listWithDuplicateStudents_reportsEveryDuplicate() {
+        Student student = new StudentBuilder().build();
+        Student samePhone = new StudentBuilder().withMatric(VALID_MATRIC_BOB).withEmail(VALID_EMAIL_BOB).build();
+        Student sameMatric = new StudentBuilder().withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        Student unique = new StudentBuilder().withMatric("A0000001X").withPhone("80000001")
+                .withEmail("unique@example.com").build();
+        List<Student> listWithDuplicates = Arrays.asList(student, samePhone, unique, sameMatric);
+
+        DuplicatePersonException thrown = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                uniqueStudentList.setStudents(listWithDuplicates));
+        assertEquals(List.of(samePhone, sameMatric), thrown.getDuplicates());
+        assertEquals(new UniqueStudentList(), uniqueStudentList);
+    }
+
     @Test
     public void setStudents_nullUniqueStaffList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -200,5 +284,17 @@ public class UniqueStudentListTest {
         assertFalse(list1.equals(list2)); // The students are different
     }
 
-
+    @Test
+    public void search_afterEdit_editedStudentTestedByPredicate() {
+        Student inBlockA = new StudentBuilder().withBlock("A").build();
+        uniqueStudentList.add(inBlockA);
+        StudentMatchesAttributesPredicate predicate =
+                new StudentMatchesAttributesPredicate(Map.of(PREFIX_BLOCK, "B"));
+        Predicate<Student> search = uniqueStudentList.search(predicate).getResult();
+        assertFalse(search.test(inBlockA));
+
+        Student movedToBlockB = new StudentBuilder(inBlockA).withBlock("B").build();
+        uniqueStudentList.setStudent(inBlockA, movedToBlockB);
+        assertTrue(search.test(movedToBlockB));
+    }
 }
@@ -0,0 +1,36 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdSequenceTest {
+
+    @Test
+    public void next_calledTwice_returnsIncreasingIds() {
+        long first = IdSequence.next();
+        assertTrue(IdSequence.next() > first);
+    }
+
+    @Test
+    public void claim_idAheadOfSequence_neverHandedOutAgain() {
+        long claimed = IdSequence.next() + 1_000;
+        assertEquals(claimed, IdSequence.claim(claimed));
+        assertTrue(IdSequence.next() > claimed);
+    }
+
+    @Test
+    public void claim_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, IdSequence.MESSAGE_CONSTRAINTS, () -> IdSequence.claim(0));
+    }
+
+    @Test
+    public void isValidId() {
+        assertFalse(IdSequence.isValidId(-1));
+        assertFalse(IdSequence.isValidId(0));
+        assertTrue(IdSequence.isValidId(1));
+    }
+}
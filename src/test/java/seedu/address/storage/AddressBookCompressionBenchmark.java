@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.AddressBookLoadBenchmark.generate;
+import static seedu.address.storage.AddressBookLoadBenchmark.parseCounts;
+import static seedu.address.storage.AddressBookLoadBenchmark.time;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.core.Compression;
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares saving and loading a JSON address book with each compression at each level, and the size of each file.
+ * Throughput is the size of the uncompressed JSON divided by the time taken, so that levels compare directly.
+ * Not part of the test suite; run {@link #main(String[])} directly, optionally passing the record counts to try.
+ */
+public class AddressBookCompressionBenchmark {
+
+    private static final int[] DEFAULT_RECORD_COUNTS = {10_000, 50_000};
+
+    public static void main(String[] args) throws Exception {
+        int[] recordCounts = args.length == 0 ? DEFAULT_RECORD_COUNTS : parseCounts(args);
+        Path file = Files.createTempFile("addressbook-compression-benchmark", ".json");
+        try {
+            System.out.printf("%10s %8s %6s %12s %12s %14s %14s %10s %8s%n", "students", "codec", "level",
+                    "save (ms)", "load (ms)", "save (MB/s)", "load (MB/s)", "size (KB)", "ratio");
+            for (int count : recordCounts) {
+                AddressBook addressBook = generate(count);
+                JsonAddressBookStorage plainStorage = new JsonAddressBookStorage(file);
+                plainStorage.saveAddressBook(addressBook);
+                long plainBytes = Files.size(file);
+
+                measure(count, Compression.NONE, Compression.MIN_LEVEL, plainStorage, addressBook, plainBytes);
+                for (Compression compression : new Compression[] {Compression.DEFLATE, Compression.GZIP}) {
+                    for (int level = Compression.MIN_LEVEL; level <= Compression.MAX_LEVEL; level++) {
+                        JsonAddressBookStorage storage =
+                                new JsonAddressBookStorage(file, false, compression, level);
+                        measure(count, compression, level, storage, addressBook, plainBytes);
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void measure(int count, Compression compression, int level, JsonAddressBookStorage storage,
+            AddressBook addressBook, long plainBytes) throws Exception {
+        double saveMillis = time(() -> {
+            storage.saveAddressBook(addressBook);
+            return null;
+        });
+        double loadMillis = time(storage::readAddressBook);
+        long bytes = Files.size(storage.getAddressBookFilePath());
+        double plainMegabytes = plainBytes / 1e6;
+        System.out.printf("%10d %8s %6d %12.2f %12.2f %14.2f %14.2f %10d %8.2f%n", count, compression, level,
+                saveMillis, loadMillis, plainMegabytes / (saveMillis / 1e3), plainMegabytes / (loadMillis / 1e3),
+                bytes / 1024, (double) plainBytes / bytes);
+    }
+}
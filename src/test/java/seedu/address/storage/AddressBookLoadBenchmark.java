@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.ExternalPartyBuilder;
+import seedu.address.testutil.StaffBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Measures how long it takes to load an address book as the number of records grows.
+ * Not part of the test suite; run {@link #main(String[])} directly, optionally passing the record counts to try.
+ */
+public class AddressBookLoadBenchmark {
+
+    private static final int[] DEFAULT_RECORD_COUNTS = {1_000, 5_000, 10_000, 20_000, 50_000};
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int[] recordCounts = args.length == 0 ? DEFAULT_RECORD_COUNTS : parseCounts(args);
+        Path file = Files.createTempFile("addressbook-load-benchmark", ".json");
+        try {
+            System.out.printf("%10s %14s %14s%n", "students", "toModel (ms)", "readFile (ms)");
+            for (int count : recordCounts) {
+                AddressBook addressBook = generate(count);
+                JsonAddressBookStorage storage = new JsonAddressBookStorage(file);
+                storage.saveAddressBook(addressBook);
+                JsonSerializableAddressBook serialized = new JsonSerializableAddressBook(addressBook);
+
+                double toModelMillis = time(serialized::toModelType);
+                double readMillis = time(storage::readAddressBook);
+                System.out.printf("%10d %14.2f %14.2f%n", count, toModelMillis, readMillis);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Returns an address book with {@code studentCount} students, and a tenth as many staff and external parties.
+     */
+    static AddressBook generate(int studentCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < studentCount; i++) {
+            addressBook.addStudent(new StudentBuilder()
+                    .withName("Student " + i)
+                    .withMatric(String.format("A%07dX", i))
+                    .withPhone(String.valueOf(80_000_000 + i))
+                    .withEmail("student" + i + "@example.com")
+                    .build());
+        }
+        for (int i = 0; i < studentCount / 10; i++) {
+            addressBook.addStaff(new StaffBuilder()
+                    .withName("Staff " + i)
+                    .withPhone(String.valueOf(60_000_000 + i))
+                    .withEmail("staff" + i + "@example.com")
+                    .build());
+            addressBook.addExternalParty(new ExternalPartyBuilder()
+                    .withName("Vendor " + i)
+                    .withPhone(String.valueOf(70_000_000 + i))
+                    .withEmail("vendor" + i + "@example.com")
+                    .build());
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the mean wall-clock time in milliseconds of {@code task} over the measured runs.
+     */
+    static double time(Task task) throws Exception {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            task.run();
+        }
+        return (System.nanoTime() - start) / 1e6 / MEASURED_RUNS;
+    }
+
+    static int[] parseCounts(String[] args) {
+        int[] counts = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            counts[i] = Integer.parseInt(args[i]);
+        }
+        return counts;
+    }
+
+    /**
+     * A unit of work whose duration is measured.
+     */
+    @FunctionalInterface
+    interface Task {
+        Object run() throws Exception;
+    }
+}
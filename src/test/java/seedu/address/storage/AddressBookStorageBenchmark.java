@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.AddressBookLoadBenchmark.generate;
+import static seedu.address.storage.AddressBookLoadBenchmark.parseCounts;
+import static seedu.address.storage.AddressBookLoadBenchmark.time;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Compares saving and loading an address book as JSON and as a binary snapshot, and the size of each file.
+ * For snapshots, it also measures how long it takes until a preview of the address book can be shown.
+ * Not part of the test suite; run {@link #main(String[])} directly, optionally passing the record counts to try.
+ */
+public class AddressBookStorageBenchmark {
+
+    private static final int[] DEFAULT_RECORD_COUNTS = {1_000, 10_000, 50_000};
+    private static final int PREVIEW_RUNS = 5;
+
+    public static void main(String[] args) throws Exception {
+        int[] recordCounts = args.length == 0 ? DEFAULT_RECORD_COUNTS : parseCounts(args);
+        Path directory = Files.createTempDirectory("addressbook-storage-benchmark");
+        Path jsonFile = directory.resolve("addressbook.json");
+        Path binaryFile = directory.resolve("addressbook" + BinaryAddressBookStorage.FILE_EXTENSION);
+        try {
+            System.out.printf("%10s %8s %12s %12s %12s %12s%n", "students", "format", "save (ms)", "load (ms)",
+                    "preview (ms)", "size (KB)");
+            for (int count : recordCounts) {
+                AddressBook addressBook = generate(count);
+                measure(count, "json", new JsonAddressBookStorage(jsonFile), addressBook, false);
+                measure(count, "binary", new BinaryAddressBookStorage(binaryFile), addressBook, true);
+            }
+        } finally {
+            Files.deleteIfExists(jsonFile);
+            Files.deleteIfExists(binaryFile);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    private static void measure(int count, String format, AddressBookStorage storage, AddressBook addressBook,
+            boolean hasPreview) throws Exception {
+        double saveMillis = time(() -> {
+            storage.saveAddressBook(addressBook);
+            return null;
+        });
+        double loadMillis = time(storage::readAddressBook);
+        String previewMillis = hasPreview ? String.format("%.2f", timePreview(storage)) : "-";
+        long sizeKilobytes = Files.size(storage.getAddressBookFilePath()) / 1024;
+        System.out.printf("%10d %8s %12.2f %12.2f %12s %12d%n", count, format, saveMillis, loadMillis, previewMillis,
+                sizeKilobytes);
+    }
+
+    /**
+     * Returns the mean wall-clock time in milliseconds until {@code storage} returns a preview. Each run waits for
+     * the rest of the address book before the next starts, so that runs do not compete for the CPU.
+     */
+    private static double timePreview(AddressBookStorage storage) throws Exception {
+        long totalNanos = 0;
+        for (int i = 0; i < PREVIEW_RUNS; i++) {
+            long start = System.nanoTime();
+            PendingAddressBook pending = storage.readAddressBookInBackground().get();
+            totalNanos += System.nanoTime() - start;
+            pending.join();
+        }
+        return totalNanos / 1e6 / PREVIEW_RUNS;
+    }
+}
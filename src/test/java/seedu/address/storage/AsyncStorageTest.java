@@ -0,0 +1,173 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStaffs.WALTER;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+import static seedu.address.testutil.TypicalStudents.SAUL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class AsyncStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_laterChangesToAddressBook_notSaved() throws Exception {
+        StorageManager storageManager = createStorageManager();
+        AsyncStorage storage = new AsyncStorage(storageManager);
+        AddressBook original = getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        original.addEvent(event);
+
+        storage.saveAddressBook(original);
+        AddressBook expected = AddressBook.copyOf(original);
+        event.addStudent(JAMAL);
+        original.addStudent(SAUL);
+        storage.flush();
+
+        assertEquals(expected, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriterBusy_writesLatestOnce() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch writerReleased = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        AsyncStorage storage = new AsyncStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+                firstWriteStarted.countDown();
+                try {
+                    writerReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                written.add(addressBook);
+            }
+        });
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+        addressBook.addStudent(SAUL);
+        storage.saveAddressBook(addressBook);
+        addressBook.addStaff(WALTER);
+        storage.saveAddressBook(addressBook);
+        writerReleased.countDown();
+        storage.flush();
+
+        assertEquals(2, written.size());
+        assertEquals(addressBook, new AddressBook(written.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_journaledStorage_journalsOnlyChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage journaledStorage = new JournaledAddressBookStorage(filePath);
+        AsyncStorage storage = new AsyncStorage(new StorageManager(journaledStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        String snapshot = Files.readString(filePath);
+
+        // Whether or not the writer takes these saves together, each change reaches the journal
+        addressBook.addStudent(SAUL);
+        storage.saveAddressBook(addressBook);
+        addressBook.removeStaff(HARIS);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journaledStorage.getJournalFilePath()).size());
+        assertEquals(addressBook, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_shardedDataFile_rewritesOnlyChangedShards() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook" + ShardedAddressBookStorage.FILE_EXTENSION));
+        // Wired as the app wires it
+        AsyncStorage storage = new AsyncStorage(new StorageManager(StorageManager.createAddressBookStorage(userPrefs),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        Path shardDirectory = new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath()).getShardDirectory();
+        int bucket = ShardedAddressBookStorage.getBucket(SAUL.getId(),
+                ShardedAddressBookStorage.DEFAULT_STUDENT_BUCKET_COUNT);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        // Each save, and not only a later compaction, rewrites the one shard that changed
+        for (int generation = 2; generation <= 4; generation++) {
+            Set<String> filesBefore = listFiles(shardDirectory);
+            if (addressBook.hasStudent(SAUL)) {
+                addressBook.removeStudent(SAUL);
+            } else {
+                addressBook.addStudent(SAUL);
+            }
+            storage.saveAddressBook(addressBook);
+            storage.flush();
+
+            Set<String> rewritten = listFiles(shardDirectory);
+            rewritten.removeAll(filesBefore);
+            assertEquals(Set.of("students-" + bucket + "." + generation + ".json"), rewritten);
+        }
+        assertFalse(Files.exists(testFolder.resolve("addressbook" + ShardedAddressBookStorage.FILE_EXTENSION
+                + JournaledAddressBookStorage.JOURNAL_SUFFIX)));
+        assertEquals(addressBook, new AddressBook(new ShardedAddressBookStorage(userPrefs.getAddressBookFilePath())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_writeFailed_throwsOnce() throws Exception {
+        IOException failure = new IOException("disk full");
+        AsyncStorage storage = new AsyncStorage(new StorageManager(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+                throw failure;
+            }
+        });
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), storage::flush);
+        assertDoesNotThrow(storage::flush);
+    }
+
+    private StorageManager createStorageManager() {
+        return new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressbook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    private static Set<String> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalExternalParties.FATIMAH;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+import static seedu.address.testutil.TypicalStudents.SAUL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        event.addStudent(JAMAL);
+        event.addStaff(HARIS);
+        event.addExternalParty(FATIMAH);
+        original.addEvent(event);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(List.of(JAMAL), readBack.getEventList().get(0).getStudents());
+        assertEquals(List.of(HARIS), readBack.getEventList().get(0).getStaff());
+        assertEquals(List.of(FATIMAH), readBack.getEventList().get(0).getExternalParties());
+
+        // Overwrite an existing file
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedByte_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(storage.getAddressBookFilePath(), bytes);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        Files.write(storage.getAddressBookFilePath(), Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notSnapshot_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        Files.writeString(storage.getAddressBookFilePath(), "{ \"staffs\": [] }");
+
+        assertThrows(DataLoadingException.class,
+                new IOException(BinaryAddressBookCodec.MESSAGE_NOT_SNAPSHOT).toString(), storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        bytes[BinaryAddressBookCodec.MAGIC.length] = BinaryAddressBookCodec.FORMAT_VERSION + 1;
+        Files.write(storage.getAddressBookFilePath(), bytes);
+
+        String expectedMessage = String.format(BinaryAddressBookCodec.MESSAGE_UNSUPPORTED_VERSION,
+                BinaryAddressBookCodec.FORMAT_VERSION + 1);
+        assertThrows(DataLoadingException.class, new IOException(expectedMessage).toString(),
+                storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_jsonFilePath_exportsJson() throws Exception {
+        Path jsonFile = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        createStorage().saveAddressBook(original, jsonFile);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_jsonFilePath_importsJson() throws Exception {
+        Path jsonFile = testFolder.resolve("import.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(createStorage().readAddressBook(jsonFile).get()));
+    }
+
+    @Test
+    public void readAddressBookInBackground_largeSnapshot_previewThenWholeAddressBook() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        AddressBook original = AddressBookLoadBenchmark.generate(BinaryAddressBookStorage.PREVIEW_SIZE * 2);
+        storage.saveAddressBook(original);
+
+        PendingAddressBook pending = storage.readAddressBookInBackground().get();
+        assertEquals(original.getStudentList().subList(0, BinaryAddressBookStorage.PREVIEW_SIZE),
+                pending.getPreview().getStudentList());
+        assertEquals(original, new AddressBook(pending.join()));
+    }
+
+    @Test
+    public void readAddressBookInBackground_damagedEvents_failsOnceRead() throws Exception {
+        BinaryAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(storage.getAddressBookFilePath());
+        bytes[bytes.length - 2] ^= 0x01;
+        Files.write(storage.getAddressBookFilePath(), bytes);
+
+        PendingAddressBook pending = storage.readAddressBookInBackground().get();
+        assertThrows(DataLoadingException.class, pending::join);
+    }
+
+    @Test
+    public void readAddressBookInBackground_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBookInBackground().isPresent());
+    }
+
+    @Test
+    public void isBinaryFile() {
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(Path.of("data", "addressbook.rcab")));
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(Path.of("data", "addressbook.json")));
+    }
+
+    private BinaryAddressBookStorage createStorage() {
+        return new BinaryAddressBookStorage(
+                testFolder.resolve("addressbook" + BinaryAddressBookStorage.FILE_EXTENSION));
+    }
+}
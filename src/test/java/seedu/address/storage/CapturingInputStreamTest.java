@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class CapturingInputStreamTest {
+
+    @Test
+    public void getBytes_afterManyReleases_returnsBytesAsRead() throws Exception {
+        byte[] content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        CapturingInputStream in = new CapturingInputStream(new ByteArrayInputStream(content));
+        byte[] chunk = new byte[5000];
+        long read = 0;
+        while (read < content.length) {
+            in.release(Math.max(0, read - 3000));
+            read += in.read(chunk, 0, chunk.length);
+            assertArrayEquals(Arrays.copyOfRange(content, (int) read - 3000, (int) read),
+                    in.getBytes(read - 3000, read));
+        }
+    }
+
+    @Test
+    public void getBytes_released_throwsIllegalArgumentException() throws Exception {
+        CapturingInputStream in = new CapturingInputStream(new ByteArrayInputStream(new byte[40_000]));
+        in.release(30_000);
+        in.readAllBytes();
+        assertThrows(IllegalArgumentException.class, () -> in.getBytes(0, 10));
+    }
+}
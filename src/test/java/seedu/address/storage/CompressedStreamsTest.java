@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.Compression;
+
+public class CompressedStreamsTest {
+
+    private static final String CONTENT = "{ \"students\" : [ ] }".repeat(100);
+
+    @Test
+    public void writeThenOpen_everyCompressionAndLevel_sameContent() throws Exception {
+        for (Compression compression : Compression.values()) {
+            for (int level = Compression.MIN_LEVEL; level <= Compression.MAX_LEVEL; level++) {
+                byte[] written = write(compression, level);
+                assertEquals(compression, CompressedStreams.detect(
+                        new BufferedInputStream(new ByteArrayInputStream(written))));
+                try (InputStream in = CompressedStreams.open(new ByteArrayInputStream(written))) {
+                    assertEquals(CONTENT, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void detect_plainJson_none() throws Exception {
+        for (String json : new String[] {"{}", "[]", "\n{", " {", "\t{", "\r\n", "", "{"}) {
+            assertEquals(Compression.NONE, CompressedStreams.detect(
+                    new BufferedInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))));
+        }
+    }
+
+    private static byte[] write(Compression compression, int level) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CompressedStreams.write(out, compression, level,
+                contentOut -> contentOut.write(CONTENT.getBytes(StandardCharsets.UTF_8)));
+        return out.toByteArray();
+    }
+}
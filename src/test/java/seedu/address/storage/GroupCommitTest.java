@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class GroupCommitTest {
+
+    @Test
+    public void constructor_negativeInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, GroupCommit.MESSAGE_CONSTRAINTS, () ->
+                new GroupCommit(-1, () -> { }));
+    }
+
+    @Test
+    public void shouldForce_zeroInterval_forcesEveryWrite() {
+        GroupCommit groupCommit = new GroupCommit(0, () -> { });
+        assertTrue(groupCommit.shouldForce());
+        assertTrue(groupCommit.shouldForce());
+    }
+
+    @Test
+    public void shouldForce_withinInterval_forcesFirstWriteOnly() {
+        GroupCommit groupCommit = new GroupCommit(Long.MAX_VALUE / 1_000_000, () -> { });
+        assertTrue(groupCommit.shouldForce());
+        assertFalse(groupCommit.shouldForce());
+        assertFalse(groupCommit.shouldForce());
+    }
+
+    @Test
+    public void forceLater_unforcedAppends_forcedOnceAtEndOfInterval() throws Exception {
+        AtomicInteger forceCount = new AtomicInteger();
+        CountDownLatch forced = new CountDownLatch(1);
+        GroupCommit groupCommit = new GroupCommit(50, () -> {
+            forceCount.incrementAndGet();
+            forced.countDown();
+        });
+        assertTrue(groupCommit.shouldForce());
+        assertFalse(groupCommit.shouldForce());
+        groupCommit.forceLater();
+        assertFalse(groupCommit.shouldForce());
+        groupCommit.forceLater();
+
+        assertTrue(forced.await(10, TimeUnit.SECONDS));
+        assertEquals(1, forceCount.get());
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStaffs.WALTER;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+import static seedu.address.testutil.TypicalStudents.SAUL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.EventBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournaledAddressBookStorage(testFolder.resolve("addressbook.json"), 0));
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        // The first save writes a snapshot
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(List.of(), readJournal(storage));
+
+        // Later saves only append what changed
+        original.addStudent(SAUL);
+        original.removeStaff(HARIS);
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, readJournal(storage).size());
+
+        // Saving again without changes appends nothing
+        storage.saveAddressBook(original);
+        assertEquals(2, readJournal(storage).size());
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReloadedAddressBook_journalsOnlyChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JournaledAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        // A model loaded from storage and saved through copies, as the app does, keeps journaling
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook model = new AddressBook();
+        model.resetData(storage.readAddressBook().get());
+        String snapshot = Files.readString(filePath);
+        model.addStudent(SAUL);
+        storage.saveAddressBook(AddressBook.copyOf(model));
+        model.removeStaff(HARIS);
+        storage.saveAddressBook(AddressBook.copyOf(model));
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(2, readJournal(storage).size());
+
+        // Replacing every record forgets what changed, so the next save writes a fresh snapshot
+        model.resetData(getTypicalAddressBook());
+        storage.saveAddressBook(AddressBook.copyOf(model));
+        assertEquals(List.of(), readJournal(storage));
+        assertEquals(model, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_binarySnapshot_journalReplayedOnSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook" + BinaryAddressBookStorage.FILE_EXTENSION);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(filePath), JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readJournal(storage).size());
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(filePath), JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, 0);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBookInBackground_journalReplayedOnWholeSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook" + BinaryAddressBookStorage.FILE_EXTENSION);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(filePath), JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, 0);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(
+                new BinaryAddressBookStorage(filePath), JournaledAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, 0);
+        AddressBook readBack = new AddressBook(reopened.readAddressBookInBackground().get().join());
+        assertEquals(original, readBack);
+
+        // The journal was intact, so the next save appends to it
+        readBack.removeStudent(SAUL);
+        reopened.saveAddressBook(readBack);
+        assertEquals(2, readJournal(reopened).size());
+    }
+
+    @Test
+    public void readAddressBook_eventMembershipChanges_replayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        original.addEvent(event);
+        storage.saveAddressBook(original);
+
+        event.addStudent(JAMAL);
+        event.addStaff(HARIS);
+        storage.saveAddressBook(original);
+        original.removeStudent(JAMAL);
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(List.of(), readBack.getEventList().get(0).getStudents());
+        assertEquals(List.of(HARIS), readBack.getEventList().get(0).getStaff());
+    }
+
+    @Test
+    public void saveAddressBook_thresholdReached_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 2);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+        assertEquals(1, readJournal(storage).size());
+
+        original.addStaff(WALTER);
+        storage.saveAddressBook(original);
+        assertEquals(List.of(), readJournal(storage));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalReplayedTwice_sameResult() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(SAUL);
+        original.removeStudent(JAMAL);
+        storage.saveAddressBook(original);
+        List<String> journal = readJournal(storage);
+
+        // As if the app stopped after compacting the snapshot but before emptying the journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), journal, StandardCharsets.UTF_8);
+
+        assertEquals(original, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedJournalTail_keepsIntactEntriesAndCompactsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), List.of("{\"student\" : {\"name\""), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(original, readBack);
+
+        readBack.addStaff(WALTER);
+        reopened.saveAddressBook(readBack);
+        assertEquals(List.of(), readJournal(reopened));
+        assertEquals(readBack, new AddressBook(new JournaledAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    private static List<String> readJournal(JournaledAddressBookStorage storage) throws Exception {
+        return Files.readString(storage.getJournalFilePath()).lines().toList();
+    }
+}
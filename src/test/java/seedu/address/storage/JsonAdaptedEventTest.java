@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.storage.JsonAdaptedEvent.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalEvents.DANCE_EVENT;
+import static seedu.address.testutil.TypicalExternalParties.JESSICA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -11,9 +16,13 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.event.Event;
 import seedu.address.model.event.EventEndTime;
 import seedu.address.model.event.EventName;
 import seedu.address.model.event.EventStartTime;
+import seedu.address.model.person.Student;
+import seedu.address.model.util.IdSequence;
 
 
 public class JsonAdaptedEventTest {
@@ -25,21 +34,69 @@ public class JsonAdaptedEventTest {
     private static final String VALID_EVENT_NAME = DANCE_EVENT.getEventName().toString();
     private static final String VALID_EVENT_START_TIME = DANCE_EVENT.getEventStartTime().toString();
     private static final String VALID_EVENT_END_TIME = DANCE_EVENT.getEventEndTime().toString();
-    private static final List<JsonAdaptedStudent> VALID_STUDENTS = DANCE_EVENT.getStudents().stream()
-            .map(JsonAdaptedStudent::new)
+    private static final List<JsonAdaptedEventMember> VALID_STUDENTS = DANCE_EVENT.getStudents().stream()
+            .map(JsonAdaptedEventMember::new)
             .collect(Collectors.toList());
-    private static final List<JsonAdaptedStaff> VALID_STAFFS = DANCE_EVENT.getStaff().stream()
-            .map(JsonAdaptedStaff::new)
+    private static final List<JsonAdaptedEventMember> VALID_STAFFS = DANCE_EVENT.getStaff().stream()
+            .map(JsonAdaptedEventMember::new)
             .collect(Collectors.toList());
-    private static final List<JsonAdaptedExternalParty> VALID_EXTERNAL_PARTIES =
+    private static final List<JsonAdaptedEventMember> VALID_EXTERNAL_PARTIES =
             DANCE_EVENT.getExternalParties().stream()
-            .map(JsonAdaptedExternalParty::new)
+            .map(JsonAdaptedEventMember::new)
             .collect(Collectors.toList());
+    private static final EventMemberDirectory DIRECTORY = new EventMemberDirectory(getTypicalAddressBook());
 
     @Test
     public void toModelType_validEventDetails_returnsEvent() throws Exception {
         JsonAdaptedEvent event = new JsonAdaptedEvent(DANCE_EVENT);
-        assertEquals(DANCE_EVENT, event.toModelType());
+        assertEquals(DANCE_EVENT, event.toModelType(DIRECTORY));
+    }
+
+    @Test
+    public void toModelType_memberKeys_resolvedToRosterEntries() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, VALID_EVENT_START_TIME, VALID_EVENT_END_TIME,
+                List.of(new JsonAdaptedEventMember(JAMAL)), List.of(new JsonAdaptedEventMember(HARIS)),
+                List.of(new JsonAdaptedEventMember(JESSICA)));
+        Event modelEvent = event.toModelType(DIRECTORY);
+        assertSame(getRosterEntry(JAMAL), modelEvent.getStudents().get(0));
+        assertEquals(List.of(HARIS), modelEvent.getStaff());
+        assertEquals(List.of(JESSICA), modelEvent.getExternalParties());
+    }
+
+    @Test
+    public void toModelType_legacyMemberKeys_resolvedToRosterEntries() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, VALID_EVENT_START_TIME, VALID_EVENT_END_TIME,
+                List.of(JsonAdaptedEventMember.ofLegacyKey(JAMAL.getMatric().value)),
+                List.of(JsonAdaptedEventMember.ofLegacyKey(HARIS.getEmail().value)),
+                List.of(JsonAdaptedEventMember.ofLegacyKey(JESSICA.getEmail().value)));
+        Event modelEvent = event.toModelType(DIRECTORY);
+        assertSame(getRosterEntry(JAMAL), modelEvent.getStudents().get(0));
+        assertEquals(List.of(HARIS), modelEvent.getStaff());
+        assertEquals(List.of(JESSICA), modelEvent.getExternalParties());
+    }
+
+    @Test
+    public void toModelType_id_preserved() throws Exception {
+        Event modelEvent = new JsonAdaptedEvent(DANCE_EVENT).toModelType(DIRECTORY);
+        assertEquals(DANCE_EVENT.getId(), modelEvent.getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(0L, VALID_EVENT_NAME, VALID_EVENT_START_TIME,
+                VALID_EVENT_END_TIME, VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
+        assertThrows(IllegalValueException.class, IdSequence.MESSAGE_CONSTRAINTS, () -> event.toModelType(DIRECTORY));
+    }
+
+    @Test
+    public void toModelType_unknownMember_dropped() throws Exception {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, VALID_EVENT_START_TIME, VALID_EVENT_END_TIME,
+                List.of(JsonAdaptedEventMember.ofLegacyKey("A0000000Z"), JsonAdaptedEventMember.ofId(Long.MAX_VALUE),
+                        new JsonAdaptedEventMember(JAMAL)),
+                List.of(JsonAdaptedEventMember.ofLegacyKey("nobody@example.com")), List.of());
+        Event modelEvent = event.toModelType(DIRECTORY);
+        assertEquals(List.of(JAMAL), modelEvent.getStudents());
+        assertEquals(List.of(), modelEvent.getStaff());
     }
 
     @Test
@@ -47,7 +104,7 @@ public class JsonAdaptedEventTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(INVALID_EVENT_NAME, VALID_EVENT_START_TIME, VALID_EVENT_END_TIME,
                 VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
         String expectedMessage = EventName.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalArgumentException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> event.toModelType(DIRECTORY));
     }
 
     @Test
@@ -55,7 +112,7 @@ public class JsonAdaptedEventTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(null, VALID_EVENT_START_TIME, VALID_EVENT_END_TIME,
                 VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EventName.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(DIRECTORY));
     }
 
     @Test
@@ -63,7 +120,7 @@ public class JsonAdaptedEventTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, INVALID_EVENT_START_TIME, VALID_EVENT_END_TIME,
                 VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
         String expectedMessage = EventStartTime.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalArgumentException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> event.toModelType(DIRECTORY));
     }
 
     @Test
@@ -71,7 +128,7 @@ public class JsonAdaptedEventTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, null, VALID_EVENT_END_TIME,
                 VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EventStartTime.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(DIRECTORY));
     }
 
     @Test
@@ -79,7 +136,7 @@ public class JsonAdaptedEventTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, VALID_EVENT_START_TIME, INVALID_EVENT_END_TIME,
                 VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
         String expectedMessage = EventEndTime.MESSAGE_CONSTRAINTS;
-        assertThrows(IllegalArgumentException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalArgumentException.class, expectedMessage, () -> event.toModelType(DIRECTORY));
     }
 
     @Test
@@ -87,7 +144,46 @@ public class JsonAdaptedEventTest {
         JsonAdaptedEvent event = new JsonAdaptedEvent(VALID_EVENT_NAME, VALID_EVENT_START_TIME, null,
                 VALID_STUDENTS, VALID_STAFFS, VALID_EXTERNAL_PARTIES);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, EventEndTime.class.getSimpleName());
-        assertThrows(IllegalValueException.class, expectedMessage, event::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> event.toModelType(DIRECTORY));
+    }
+
+    @Test
+    public void fromJson_memberIds_roundTrip() throws Exception {
+        assertRoundTrip(String.valueOf(getRosterEntry(JAMAL).getId()), String.valueOf(HARIS.getId()));
+    }
+
+    @Test
+    public void fromJson_legacyMemberKeys_roundTrip() throws Exception {
+        assertRoundTrip("\"" + JAMAL.getMatric().value + "\"", "\"" + HARIS.getEmail().value + "\"");
     }
 
+    @Test
+    public void fromJson_legacyMemberObjects_roundTrip() throws Exception {
+        assertRoundTrip("{\"name\": \"" + JAMAL.getName().fullName + "\", \"matric\": \"" + JAMAL.getMatric().value
+                        + "\", \"email\": \"" + JAMAL.getEmail().value + "\", \"tags\": []}",
+                "{\"name\": \"" + HARIS.getName().fullName + "\", \"email\": \"" + HARIS.getEmail().value + "\"}");
+    }
+
+    /**
+     * Asserts that an event whose only student and staff are stored as {@code studentJson} and {@code staffJson}
+     * is read with JAMAL and HARIS as members, and is read the same again once written back.
+     */
+    private static void assertRoundTrip(String studentJson, String staffJson) throws Exception {
+        String eventJson = "{\"eventName\": \"" + VALID_EVENT_NAME + "\", \"eventStartTime\": \""
+                + VALID_EVENT_START_TIME + "\", \"eventEndTime\": \"" + VALID_EVENT_END_TIME + "\", "
+                + "\"students\": [" + studentJson + "], \"staffs\": [" + staffJson + "], \"externalParties\": []}";
+        Event read = JsonUtil.fromJsonString(eventJson, JsonAdaptedEvent.class).toModelType(DIRECTORY);
+        assertSame(getRosterEntry(JAMAL), read.getStudents().get(0));
+        assertEquals(List.of(HARIS), read.getStaff());
+
+        String written = JsonUtil.toJsonString(new JsonAdaptedEvent(read));
+        Event readAgain = JsonUtil.fromJsonString(written, JsonAdaptedEvent.class).toModelType(DIRECTORY);
+        assertEquals(read, readAgain);
+        assertEquals(read.getId(), readAgain.getId());
+        assertSame(getRosterEntry(JAMAL), readAgain.getStudents().get(0));
+    }
+
+    private static Student getRosterEntry(Student student) {
+        return DIRECTORY.findStudent(new JsonAdaptedEventMember(student)).get();
+    }
 }
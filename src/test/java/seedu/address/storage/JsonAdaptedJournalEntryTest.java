@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.storage.JsonAdaptedJournalEntry.MESSAGE_CONFLICTING_ENTRY;
+import static seedu.address.storage.JsonAdaptedJournalEntry.MESSAGE_EMPTY_ENTRY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Staff;
+import seedu.address.testutil.StaffBuilder;
+
+public class JsonAdaptedJournalEntryTest {
+
+    @Test
+    public void applyTo_putExistingId_replacesRecord() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Staff editedHaris = new JsonAdaptedStaff(HARIS.getId(), HARIS.getName().fullName, "99998888",
+                HARIS.getEmail().value, HARIS.getAddress().value, null, HARIS.getEmergency().value,
+                HARIS.getBlock().value, String.valueOf(HARIS.getLevel()), String.valueOf(HARIS.getRoom()),
+                String.valueOf(HARIS.getStaffDesignation().getOrdinalDesignation())).toModelType();
+
+        JsonAdaptedJournalEntry.put(editedHaris).applyTo(addressBook);
+        assertEquals(Optional.of(editedHaris), addressBook.findPersonById(HARIS.getId()));
+        assertEquals(editedHaris.getPhone(), addressBook.findPersonById(HARIS.getId()).get().getPhone());
+    }
+
+    @Test
+    public void applyTo_removeTwice_secondDoesNothing() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAdaptedJournalEntry entry = JsonAdaptedJournalEntry.remove(JAMAL.getId());
+        entry.applyTo(addressBook);
+        entry.applyTo(addressBook);
+        assertFalse(addressBook.hasStudent(JAMAL));
+    }
+
+    @Test
+    public void applyTo_idOfOtherRoster_throwsIllegalValueException() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Staff staffWithStudentId = new StaffBuilder().withPhone("99998888").withEmail("clash@example.com").build();
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(null, new JsonAdaptedStaff(JAMAL.getId(),
+                staffWithStudentId.getName().fullName, staffWithStudentId.getPhone().value,
+                staffWithStudentId.getEmail().value, staffWithStudentId.getAddress().value, null,
+                staffWithStudentId.getEmergency().value, staffWithStudentId.getBlock().value,
+                String.valueOf(staffWithStudentId.getLevel()), String.valueOf(staffWithStudentId.getRoom()),
+                String.valueOf(staffWithStudentId.getStaffDesignation().getOrdinalDesignation())), null, null, null);
+        assertThrows(IllegalValueException.class, String.format(MESSAGE_CONFLICTING_ENTRY, JAMAL.getId()), () ->
+                entry.applyTo(addressBook));
+    }
+
+    @Test
+    public void applyTo_emptyEntry_throwsIllegalValueException() {
+        JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry(null, null, null, null, null);
+        assertThrows(IllegalValueException.class, MESSAGE_EMPTY_ENTRY, () -> entry.applyTo(new AddressBook()));
+    }
+}
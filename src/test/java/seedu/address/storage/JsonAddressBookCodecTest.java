@@ -0,0 +1,313 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.JsonAddressBookCodec.MESSAGE_NOT_LIST;
+import static seedu.address.storage.JsonAddressBookCodec.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.StaffBuilder;
+
+public class JsonAddressBookCodecTest {
+
+    private static final List<String> LISTS = List.of("staffs", "students", "externalParties", "events");
+
+    private static final Path LEGACY_EVENT_MEMBERS_FILE =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest", "legacyEventMembersAddressBook.json");
+
+    @Test
+    public void write_pretty_sameAsJsonSerializableAddressBookWithChecksums() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        String json = write(new JsonAddressBookCodec(false), addressBook);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook)),
+                JsonUtil.toJsonString(withoutChecksums(JsonUtil.fromJsonString(json, JsonNode.class))));
+    }
+
+    @Test
+    public void write_everyRecordAndListChecksummed() throws Exception {
+        JsonNode written = JsonUtil.fromJsonString(write(new JsonAddressBookCodec(true),
+                getTypicalAddressBookWithEvent()), JsonNode.class);
+        for (String list : LISTS) {
+            assertTrue(written.get(RecordChecksums.sectionField(list)).isTextual());
+            for (JsonNode record : written.get(list)) {
+                ObjectNode withoutChecksum = ((ObjectNode) record).deepCopy();
+                int checksum = RecordChecksums.parse(withoutChecksum.remove(RecordChecksums.RECORD_FIELD).asText());
+                assertEquals(RecordChecksums.compute(withoutChecksum), checksum);
+            }
+        }
+    }
+
+    @Test
+    public void write_compact_singleLineReadableAsJsonSerializableAddressBook() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        String json = write(new JsonAddressBookCodec(true), addressBook);
+
+        assertFalse(json.contains("\n"));
+        assertEquals(addressBook, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void read_writtenAddressBook_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        JsonAddressBookCodec codec = new JsonAddressBookCodec(true);
+        assertEquals(addressBook, read(codec, write(codec, addressBook)));
+    }
+
+    @Test
+    public void read_eventsBeforeRostersAndUnknownFields_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        String json = "{\"events\":["
+                + JsonUtil.toCompactJsonString(new JsonAdaptedEvent(addressBook.getEventList().get(0))) + "],"
+                + "\"unknown\":{\"nested\":[1,2]},"
+                + "\"staffs\":[" + JsonUtil.toCompactJsonString(new JsonAdaptedStaff(HARIS)) + "],"
+                + "\"students\":[" + JsonUtil.toCompactJsonString(new JsonAdaptedStudent(JAMAL)) + "],"
+                + "\"externalParties\":[]}";
+
+        AddressBook readBack = read(new JsonAddressBookCodec(false), json);
+        assertEquals(addressBook.getEventList(), readBack.getEventList());
+    }
+
+    @Test
+    public void read_listNotArray_throwsIoException() {
+        IOException e = assertThrows(IOException.class, () ->
+                read(new JsonAddressBookCodec(false), "{\"staffs\":{}}"));
+        assertTrue(e.getMessage().startsWith(String.format(MESSAGE_NOT_LIST, "staffs")));
+    }
+
+    @Test
+    public void read_missingRoster_throwsIllegalValueException() {
+        IllegalValueException e = assertThrows(IllegalValueException.class, () ->
+                read(new JsonAddressBookCodec(false), "{\"staffs\":[],\"students\":[]}"));
+        assertEquals(String.format(MISSING_FIELD_MESSAGE_FORMAT, "externalParties"), e.getMessage());
+    }
+
+    @Test
+    public void write_versionFirst() throws Exception {
+        String json = write(new JsonAddressBookCodec(true), getTypicalAddressBookWithEvent());
+        assertTrue(json.startsWith("{\"version\":" + JsonSchemaMigrations.CURRENT_VERSION + ","));
+    }
+
+    @Test
+    public void read_unversionedEventMemberCopies_migratedToRosterEntries() throws Exception {
+        AddressBook readBack = read(new JsonAddressBookCodec(false), Files.readString(LEGACY_EVENT_MEMBERS_FILE));
+        Event event = readBack.getEventList().get(0);
+        assertSame(readBack.getStudentList().get(0), event.getStudents().get(0));
+        assertSame(readBack.getStaffList().get(1), event.getStaff().get(0));
+        assertSame(readBack.getExternalPartyList().get(1), event.getExternalParties().get(0));
+    }
+
+    @Test
+    public void read_newerVersion_throwsIoException() {
+        int version = JsonSchemaMigrations.CURRENT_VERSION + 1;
+        IOException e = assertThrows(IOException.class, () -> read(new JsonAddressBookCodec(false),
+                "{\"version\":" + version + ",\"staffs\":[],\"students\":[],\"externalParties\":[]}"));
+        assertEquals(String.format(JsonSchemaMigrations.MESSAGE_UNSUPPORTED_VERSION, version), e.getMessage());
+    }
+
+    @Test
+    public void read_versionNotNumber_throwsIoException() {
+        IOException e = assertThrows(IOException.class, () ->
+                read(new JsonAddressBookCodec(false), "{\"version\":\"2\",\"staffs\":[]}"));
+        assertTrue(e.getMessage().startsWith(JsonAddressBookCodec.MESSAGE_INVALID_VERSION));
+    }
+
+    @Test
+    public void read_damagedRecord_leftOutAndReported() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        ObjectNode written = writeTree(addressBook);
+        ((ObjectNode) written.get("students").get(1)).put("name", "Mallory");
+
+        DamageReport report = new DamageReport();
+        AddressBook readBack = read(new JsonAddressBookCodec(false), written.toString(), report);
+
+        List<Student> expectedStudents = new ArrayList<>(addressBook.getStudentList());
+        expectedStudents.remove(1);
+        assertEquals(expectedStudents, readBack.getStudentList());
+        assertEquals(addressBook.getStaffList(), readBack.getStaffList());
+        assertEquals(1, report.getDamagedRecords().size());
+        DamageReport.DamagedRecord damaged = report.getDamagedRecords().get(0);
+        assertEquals("students", damaged.getList());
+        assertEquals(1, damaged.getIndex());
+        assertEquals(DamageReport.MESSAGE_CHECKSUM_MISMATCH, damaged.getReason());
+        assertEquals("Mallory", damaged.getRecord().get("name").asText());
+        assertTrue(damaged.getRecord().has(RecordChecksums.RECORD_FIELD));
+        assertTrue(report.getDamagedLists().isEmpty());
+    }
+
+    @Test
+    public void read_byteChangedInWrittenFile_recordReported() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        String json = write(new JsonAddressBookCodec(false), addressBook);
+        String name = addressBook.getStaffList().get(0).getName().fullName;
+        String damagedJson = json.replaceFirst(name, "X" + name.substring(1));
+
+        DamageReport report = new DamageReport();
+        AddressBook readBack = read(new JsonAddressBookCodec(false), damagedJson, report);
+
+        assertEquals(addressBook.getStaffList().subList(1, addressBook.getStaffList().size()),
+                readBack.getStaffList());
+        assertEquals(List.of(0),
+                report.getDamagedRecords().stream().map(DamageReport.DamagedRecord::getIndex).toList());
+    }
+
+    @Test
+    public void read_recordsReformatted_readIntact() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        String reformatted = JsonUtil.toJsonString(writeTree(addressBook));
+
+        DamageReport report = new DamageReport();
+        assertEquals(addressBook, read(new JsonAddressBookCodec(false), reformatted, report));
+        assertTrue(report.isClean());
+    }
+
+    @Test
+    public void read_manyRecordsOneDamaged_restLoadedInOrder() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        int count = ParallelRecordConverter.CHUNK_SIZE * 2 + 3;
+        for (int i = 0; i < count; i++) {
+            addressBook.addStaff(new StaffBuilder().withName("Staff " + i).withPhone(String.valueOf(80000000 + i))
+                    .withEmail("staff" + i + "@example.com").build());
+        }
+        ObjectNode written = writeTree(addressBook);
+        int damagedIndex = ParallelRecordConverter.CHUNK_SIZE + 1;
+        ((ObjectNode) written.get("staffs").get(damagedIndex)).put(RecordChecksums.RECORD_FIELD, "not a crc");
+
+        DamageReport report = new DamageReport();
+        AddressBook readBack = read(new JsonAddressBookCodec(true), written.toString(), report);
+
+        assertEquals(count - 1, readBack.getStaffList().size());
+        assertEquals("Staff " + (damagedIndex + 1), readBack.getStaffList().get(damagedIndex).getName().fullName);
+        assertEquals(List.of(damagedIndex),
+                report.getDamagedRecords().stream().map(DamageReport.DamagedRecord::getIndex).toList());
+        assertEquals(DamageReport.MESSAGE_CHECKSUM_UNREADABLE, report.getDamagedRecords().get(0).getReason());
+    }
+
+    @Test
+    public void read_recordsSwapped_listReportedDamaged() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        ObjectNode written = writeTree(addressBook);
+        ArrayNode students = (ArrayNode) written.get("students");
+        JsonNode first = students.remove(0);
+        students.add(first);
+
+        DamageReport report = new DamageReport();
+        AddressBook readBack = read(new JsonAddressBookCodec(false), written.toString(), report);
+
+        assertEquals(addressBook.getStudentList().size(), readBack.getStudentList().size());
+        assertTrue(report.getDamagedRecords().isEmpty());
+        assertEquals(List.of("students: " + DamageReport.MESSAGE_SECTION_MISMATCH), report.getDamagedLists());
+    }
+
+    @Test
+    public void read_recordsWithoutChecksums_readUnchecked() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        ObjectNode written = writeTree(addressBook);
+        ((ObjectNode) written.get("staffs").get(0)).remove(RecordChecksums.RECORD_FIELD);
+        ((ObjectNode) written.get("staffs").get(0)).put("address", "Edited by hand");
+        written.remove(RecordChecksums.sectionField("staffs"));
+
+        DamageReport report = new DamageReport();
+        AddressBook readBack = read(new JsonAddressBookCodec(false), written.toString(), report);
+
+        assertTrue(report.isClean());
+        assertEquals(1, report.getUncheckedRecordCount());
+        assertEquals("Edited by hand", readBack.getStaffList().get(0).getAddress().value);
+    }
+
+    @Test
+    public void verify_damagedRecord_reportedWithoutReadingRest() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvent();
+        ObjectNode written = writeTree(addressBook);
+        ((ObjectNode) written.get("events").get(0)).put("name", "Renamed");
+        // Not a valid name, but verifying does not convert records
+        ((ObjectNode) written.get("staffs").get(0)).put("name", "");
+        ((ObjectNode) written.get("staffs").get(0)).remove(RecordChecksums.RECORD_FIELD);
+
+        DamageReport report = new DamageReport();
+        new JsonAddressBookCodec(false).verify(
+                new ByteArrayInputStream(written.toString().getBytes(StandardCharsets.UTF_8)), report);
+
+        assertEquals(List.of("events"),
+                report.getDamagedRecords().stream().map(DamageReport.DamagedRecord::getList).toList());
+        assertEquals(1, report.getUncheckedRecordCount());
+        int recordCount = addressBook.getStaffList().size() + addressBook.getStudentList().size()
+                + addressBook.getExternalPartyList().size() + addressBook.getEventList().size();
+        assertEquals(recordCount, report.getRecordCount());
+    }
+
+    @Test
+    public void verify_missingRoster_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new JsonAddressBookCodec(false).verify(
+                new ByteArrayInputStream("{\"staffs\":[]}".getBytes(StandardCharsets.UTF_8)), new DamageReport()));
+    }
+
+    private static AddressBook getTypicalAddressBookWithEvent() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        addressBook.addEvent(event);
+        event.addStudent(JAMAL);
+        event.addStaff(HARIS);
+        return addressBook;
+    }
+
+    private static String write(JsonAddressBookCodec codec, AddressBook addressBook) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(addressBook, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ObjectNode writeTree(AddressBook addressBook) throws IOException {
+        return (ObjectNode) JsonUtil.fromJsonString(write(new JsonAddressBookCodec(true), addressBook), JsonNode.class);
+    }
+
+    /**
+     * Removes the checksums of {@code addressBook} and all its records, and returns it.
+     */
+    private static JsonNode withoutChecksums(JsonNode addressBook) {
+        for (String list : LISTS) {
+            ((ObjectNode) addressBook).remove(RecordChecksums.sectionField(list));
+            for (JsonNode record : addressBook.get(list)) {
+                ((ObjectNode) record).remove(RecordChecksums.RECORD_FIELD);
+            }
+        }
+        return addressBook;
+    }
+
+    private static AddressBook read(JsonAddressBookCodec codec, String json)
+            throws IOException, IllegalValueException {
+        return read(codec, json, new DamageReport());
+    }
+
+    private static AddressBook read(JsonAddressBookCodec codec, String json, DamageReport report)
+            throws IOException, IllegalValueException {
+        return codec.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), report);
+    }
+}
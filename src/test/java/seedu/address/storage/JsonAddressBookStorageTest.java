@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalExternalParties.FATIMAH;
 import static seedu.address.testutil.TypicalExternalParties.LAMAR;
@@ -12,12 +13,16 @@ import static seedu.address.testutil.TypicalStudents.JAMAL;
 import static seedu.address.testutil.TypicalStudents.SAUL;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.core.Compression;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -95,6 +100,90 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_compressed_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (Compression compression : Compression.values()) {
+            Path filePath = testFolder.resolve(compression + ".json");
+            new JsonAddressBookStorage(filePath, false, compression, Compression.MAX_LEVEL)
+                    .saveAddressBook(original);
+
+            // Read back without saying how the file was compressed
+            assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        }
+        assertTrue(Files.size(testFolder.resolve(Compression.DEFLATE + ".json"))
+                < Files.size(testFolder.resolve(Compression.NONE + ".json")));
+    }
+
+    @Test
+    public void readAddressBook_truncatedCompressedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        new JsonAddressBookStorage(filePath, false, Compression.GZIP, Compression.DEFAULT_LEVEL)
+                .saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_damagedRecord_restLoadedAndRecordQuarantined() throws Exception {
+        Path filePath = testFolder.resolve("damaged.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        String json = Files.readString(filePath);
+        String name = original.getStaffList().get(0).getName().fullName;
+        Files.writeString(filePath, json.replaceFirst(name, name + "x"));
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+
+        assertEquals(original.getStaffList().subList(1, original.getStaffList().size()), readBack.getStaffList());
+        assertEquals(original.getStudentList(), readBack.getStudentList());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            Path quarantine = files.filter(file -> !file.equals(filePath)).findFirst().get();
+            assertTrue(quarantine.getFileName().toString().startsWith("damaged.json.quarantine-"));
+            assertTrue(Files.readString(quarantine).contains(name + "x"));
+        }
+    }
+
+    @Test
+    public void readAddressBook_recordWithoutIdBeforeSavedIds_givenUnusedId() throws Exception {
+        Path filePath = testFolder.resolve("handEdited.json");
+        Files.writeString(filePath, JsonSerializableAddressBookTest.toJsonWithIdlessRecordFirst());
+
+        ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        JsonSerializableAddressBookTest.assertIdlessRecordGivenUnusedId(readBack);
+    }
+
+    @Test
+    public void verifyAddressBook_savedFile_clean() throws Exception {
+        Path filePath = testFolder.resolve("saved.json");
+        new JsonAddressBookStorage(filePath, true, Compression.GZIP, Compression.DEFAULT_LEVEL)
+                .saveAddressBook(getTypicalAddressBook());
+
+        DamageReport report = JsonAddressBookStorage.verifyAddressBook(filePath);
+        assertTrue(report.isClean());
+        assertEquals(0, report.getUncheckedRecordCount());
+    }
+
+    @Test
+    public void verifyAddressBook_notJsonFormat_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () ->
+                JsonAddressBookStorage.verifyAddressBook(TEST_DATA_FOLDER.resolve("notJsonFormatAddressBook.json")));
+    }
+
+    @Test
+    public void getQuarantinePath() {
+        assertEquals(testFolder.resolve("data.json.quarantine-42.json"),
+                JsonAddressBookStorage.getQuarantinePath(testFolder.resolve("data.json"), 42));
+    }
+
+    @Test
+    public void constructor_invalidCompressionLevel_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonAddressBookStorage(testFolder.resolve("a.json"),
+                false, Compression.DEFLATE, Compression.MAX_LEVEL + 1));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
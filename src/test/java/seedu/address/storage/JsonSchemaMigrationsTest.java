@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class JsonSchemaMigrationsTest {
+
+    @Test
+    public void upgradeFrom_unsupportedVersion_throwsIoException() {
+        for (int version : new int[] {JsonSchemaMigrations.UNVERSIONED - 1, JsonSchemaMigrations.CURRENT_VERSION + 1}) {
+            String expectedMessage = String.format(JsonSchemaMigrations.MESSAGE_UNSUPPORTED_VERSION, version);
+            assertThrows(IOException.class, expectedMessage, () -> JsonSchemaMigrations.upgradeFrom(version));
+        }
+    }
+
+    @Test
+    public void upgradeFrom_currentVersion_recordUnchanged() throws Exception {
+        String json = "{\"eventName\":\"Camp\",\"students\":[{\"matric\":\"A1234567B\"}]}";
+        ObjectNode record = parse(json);
+        JsonSchemaMigrations.upgradeFrom(JsonSchemaMigrations.CURRENT_VERSION).migrate("events", record);
+        assertEquals(parse(json), record);
+    }
+
+    @Test
+    public void upgradeFrom_unversioned_eventMemberCopiesReplacedWithKeys() throws Exception {
+        ObjectNode record = parse("{\"eventName\":\"Camp\","
+                + "\"students\":[{\"name\":\"Jamal\",\"matric\":\"A1234567B\",\"email\":\"j@example.com\"}, 5],"
+                + "\"staffs\":[{\"id\":7,\"email\":\"h@example.com\"}],"
+                + "\"externalParties\":[{\"name\":\"Fatimah\",\"email\":\"f@example.com\"}, {\"name\":\"Nobody\"}]}");
+        JsonSchemaMigrations.upgradeFrom(JsonSchemaMigrations.UNVERSIONED).migrate("events", record);
+
+        assertEquals(parse("{\"eventName\":\"Camp\",\"students\":[\"A1234567B\", 5],\"staffs\":[7],"
+                + "\"externalParties\":[\"f@example.com\", {\"name\":\"Nobody\"}]}"), record);
+    }
+
+    @Test
+    public void upgradeFrom_unversioned_personsUnchanged() throws Exception {
+        String json = "{\"name\":\"Jamal\",\"students\":[{\"matric\":\"A1234567B\"}]}";
+        ObjectNode record = parse(json);
+        JsonSchemaMigrations.upgradeFrom(JsonSchemaMigrations.UNVERSIONED).migrate("students", record);
+        assertEquals(parse(json), record);
+    }
+
+    private static ObjectNode parse(String json) throws IOException {
+        return JsonUtil.fromJsonString(json, ObjectNode.class);
+    }
+}
@@ -1,16 +1,32 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.IdSequence;
+import seedu.address.testutil.EventBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -23,8 +39,12 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_EXTERNAL_PARTY_FILE =
             TEST_DATA_FOLDER.resolve("invalidExternalPartyAddressBook.json");
 
+    private static final Path LEGACY_EVENT_MEMBERS_FILE =
+            TEST_DATA_FOLDER.resolve("legacyEventMembersAddressBook.json");
+
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentAddressBook.json");
     private static final Path DUPLICATE_STAFF_FILE = TEST_DATA_FOLDER.resolve("duplicateStaffAddressBook.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdAddressBook.json");
     private static final Path DUPLICATE_EXTERNAL_PARTY_FILE =
             TEST_DATA_FOLDER.resolve("duplicateExternalPartyAddressBook.json");
 
@@ -37,6 +57,101 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_legacyEventMembers_migratedToRosterEntries() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(LEGACY_EVENT_MEMBERS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Event event = addressBookFromFile.getEventList().get(0);
+        assertSame(addressBookFromFile.getStudentList().get(0), event.getStudents().get(0));
+        assertSame(addressBookFromFile.getStaffList().get(1), event.getStaff().get(0));
+        assertSame(addressBookFromFile.getExternalPartyList().get(1), event.getExternalParties().get(0));
+    }
+
+    @Test
+    public void constructor_eventMembers_serializedAsIds() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        addressBook.addEvent(event);
+        event.addStudent(JAMAL);
+        event.addStaff(HARIS);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        assertTrue(json.contains("\"students\" : [ " + JAMAL.getId() + " ]"));
+        assertTrue(json.contains("\"staffs\" : [ " + HARIS.getId() + " ]"));
+
+        AddressBook reloaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(List.of(JAMAL), reloaded.getEventList().get(0).getStudents());
+        assertEquals(List.of(HARIS), reloaded.getEventList().get(0).getStaff());
+    }
+
+    @Test
+    public void toModelType_roundTrip_idsPreserved() throws Exception {
+        AddressBook addressBook = TypicalPersons.getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        addressBook.addEvent(event);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        AddressBook reloaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(JAMAL, reloaded.findPersonById(JAMAL.getId()).get());
+        assertEquals(HARIS, reloaded.findPersonById(HARIS.getId()).get());
+        assertEquals(event, reloaded.findEventById(event.getId()).get());
+    }
+
+    @Test
+    public void toModelType_recordWithoutIdBeforeSavedIds_givenUnusedId() throws Exception {
+        AddressBook reloaded = JsonUtil.fromJsonString(toJsonWithIdlessRecordFirst(),
+                JsonSerializableAddressBook.class).toModelType();
+        assertIdlessRecordGivenUnusedId(reloaded);
+    }
+
+    /**
+     * Returns the typical address book in JSON, with its first staff saved without an ID and every other person
+     * saved with the IDs the ID sequence would hand out next.
+     */
+    static String toJsonWithIdlessRecordFirst() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(TypicalPersons.getTypicalAddressBook()));
+        ObjectNode tree = (ObjectNode) new ObjectMapper().readTree(json);
+        long nextId = IdSequence.next() + 1;
+        for (String list : List.of("staffs", "students", "externalParties")) {
+            for (JsonNode record : tree.get(list)) {
+                if (record == tree.get("staffs").get(0)) {
+                    ((ObjectNode) record).remove("id");
+                } else {
+                    ((ObjectNode) record).put("id", nextId++);
+                }
+            }
+        }
+        return tree.toString();
+    }
+
+    /**
+     * Asserts that {@code reloaded} is the typical address book, with its first staff, saved without an ID, given one
+     * no other person has.
+     */
+    static void assertIdlessRecordGivenUnusedId(ReadOnlyAddressBook reloaded) {
+        AddressBook typical = TypicalPersons.getTypicalAddressBook();
+        assertEquals(typical.getStaffList(), reloaded.getStaffList());
+        assertEquals(typical.getStudentList(), reloaded.getStudentList());
+        assertEquals(typical.getExternalPartyList(), reloaded.getExternalPartyList());
+        Set<Long> ids = new HashSet<>();
+        for (List<? extends Person> persons : List.of(reloaded.getStaffList(), reloaded.getStudentList(),
+                reloaded.getExternalPartyList())) {
+            persons.forEach(person -> ids.add(person.getId()));
+        }
+        int personCount = reloaded.getStaffList().size() + reloaded.getStudentList().size()
+                + reloaded.getExternalPartyList().size();
+        assertEquals(personCount, ids.size());
+    }
+
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ID, 7),
+                dataFromFile::toModelType);
+    }
+
     @Test
     public void toModelType_invalidStudentFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_STUDENT_FILE,
@@ -62,7 +177,8 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicateStudents_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT,
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ENTRIES,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_STUDENT, "Alex Yeoh"),
                 dataFromFile::toModelType);
     }
 
@@ -70,7 +186,8 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicateStaff_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STAFF_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_STAFF,
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ENTRIES,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_STAFF, "Charlotte Oliveiro"),
                 dataFromFile::toModelType);
     }
 
@@ -78,7 +195,8 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicateExternalParty_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_EXTERNAL_PARTY_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EXTERNAL_PARTY,
+        assertThrows(IllegalValueException.class, String.format(JsonSerializableAddressBook.MESSAGE_DUPLICATE_ENTRIES,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_EXTERNAL_PARTY, "Irfan Ibrahim"),
                 dataFromFile::toModelType);
     }
 
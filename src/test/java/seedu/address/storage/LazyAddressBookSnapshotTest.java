@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.storage.AddressBookLoadBenchmark.generate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class LazyAddressBookSnapshotTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readPreview_firstRecordsOfEachList() throws Exception {
+        AddressBook original = generate(30);
+        Path filePath = save(original);
+
+        try (LazyAddressBookSnapshot snapshot = LazyAddressBookSnapshot.open(filePath).get()) {
+            assertEquals(30, snapshot.getRecordCount(BinaryAddressBookCodec.SECTION_STUDENTS));
+            assertEquals(3, snapshot.getRecordCount(BinaryAddressBookCodec.SECTION_STAFF));
+
+            AddressBook preview = snapshot.readPreview(10);
+            assertEquals(original.getStudentList().subList(0, 10), preview.getStudentList());
+            assertEquals(original.getStaffList(), preview.getStaffList());
+            assertEquals(original.getExternalPartyList(), preview.getExternalPartyList());
+            assertTrue(preview.getEventList().isEmpty());
+        }
+    }
+
+    @Test
+    public void readAll_wholeAddressBook() throws Exception {
+        AddressBook original = generate(30);
+        Path filePath = save(original);
+
+        try (LazyAddressBookSnapshot snapshot = LazyAddressBookSnapshot.open(filePath).get()) {
+            assertEquals(original, snapshot.readAll());
+        }
+    }
+
+    @Test
+    public void readAll_damagedSectionNotInPreview_throwsIoException() throws Exception {
+        Path filePath = save(generate(30));
+        byte[] bytes = Files.readAllBytes(filePath);
+        // Just before the end marker lies the CRC of the last section, which holds the events
+        bytes[bytes.length - 2] ^= 0x01;
+        Files.write(filePath, bytes);
+
+        try (LazyAddressBookSnapshot snapshot = LazyAddressBookSnapshot.open(filePath).get()) {
+            snapshot.readPreview(10);
+            assertThrows(IOException.class, snapshot::readAll);
+        }
+    }
+
+    @Test
+    public void open_truncatedSnapshot_throwsIoException() throws Exception {
+        Path filePath = save(generate(30));
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(IOException.class, () -> LazyAddressBookSnapshot.open(filePath));
+    }
+
+    private Path save(AddressBook addressBook) throws IOException {
+        Path filePath = testFolder.resolve("addressbook" + BinaryAddressBookStorage.FILE_EXTENSION);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        return filePath;
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelRecordConverterTest {
+
+    private static final int RECORD_COUNT = ParallelRecordConverter.CHUNK_SIZE * 4 + 1;
+
+    @Test
+    public void join_noRecords_emptyList() throws Exception {
+        assertEquals(List.of(), new ParallelRecordConverter<Integer, String>(String::valueOf).join());
+    }
+
+    @Test
+    public void join_manyChunks_orderKept() throws Exception {
+        ParallelRecordConverter<Integer, String> converter = new ParallelRecordConverter<>(String::valueOf);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i);
+            expected.add(String.valueOf(i));
+        }
+        assertEquals(expected, converter.join());
+    }
+
+    @Test
+    public void join_failuresInSeveralChunks_earliestReported() {
+        int firstFailure = ParallelRecordConverter.CHUNK_SIZE + 3;
+        List<Integer> failures = List.of(firstFailure, firstFailure + 1, RECORD_COUNT - 1);
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(record -> {
+            if (failures.contains(record)) {
+                throw new IllegalValueException("Record " + record);
+            }
+            return record;
+        });
+        IntStream.range(0, RECORD_COUNT).forEach(converter::add);
+
+        assertThrows(IllegalValueException.class, "Record " + firstFailure, converter::join);
+    }
+
+    @Test
+    public void join_calledAgain_onlyNewRecords() throws Exception {
+        ParallelRecordConverter<Integer, Integer> converter = new ParallelRecordConverter<>(record -> record * 2);
+        converter.add(1);
+        assertEquals(List.of(2), converter.join());
+        converter.add(2);
+        assertEquals(List.of(4), converter.join());
+    }
+}
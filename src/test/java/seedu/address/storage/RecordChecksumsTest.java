@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.util.JsonUtil;
+
+public class RecordChecksumsTest {
+
+    @Test
+    public void formatAndParse_roundTrip() {
+        for (int checksum : new int[] {0, 1, -1, Integer.MIN_VALUE, 0x1234abcd}) {
+            String text = RecordChecksums.format(checksum);
+            assertEquals(8, text.length());
+            assertEquals(checksum, RecordChecksums.parse(text));
+        }
+    }
+
+    @Test
+    public void parse_notEightHexDigits_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> RecordChecksums.parse("1234abc"));
+        assertThrows(NumberFormatException.class, () -> RecordChecksums.parse("1234abcde"));
+        assertThrows(NumberFormatException.class, () -> RecordChecksums.parse("1234abcg"));
+    }
+
+    @Test
+    public void addTo_checksumOfRecordWithoutIt() throws Exception {
+        byte[] bytes = JsonUtil.toCompactBytes(new JsonAdaptedStaff(HARIS));
+        int checksum = RecordChecksums.compute(bytes);
+        String written = RecordChecksums.addTo(bytes, checksum);
+
+        ObjectNode readBack = (ObjectNode) JsonUtil.fromJsonString(written, ObjectNode.class);
+        assertEquals(RecordChecksums.format(checksum), readBack.remove(RecordChecksums.RECORD_FIELD).asText());
+        assertEquals(checksum, RecordChecksums.compute(readBack));
+
+        readBack.put("phone", "99999999");
+        assertNotEquals(checksum, RecordChecksums.compute(readBack));
+    }
+
+    @Test
+    public void findAtEnd_writtenRecord_sameChecksumAsTree() throws Exception {
+        byte[] bytes = JsonUtil.toCompactBytes(new JsonAdaptedStaff(HARIS));
+        int checksum = RecordChecksums.compute(bytes);
+        byte[] written = RecordChecksums.addTo(bytes, checksum).getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(RecordChecksums.format(checksum), RecordChecksums.findAtEnd(written));
+        assertEquals(checksum, RecordChecksums.computeWithoutEnd(written));
+
+        // A record written differently, such as pretty-printed, is not recognised
+        String prettyPrinted = JsonUtil.toJsonString(JsonUtil.fromJsonBytes(written, ObjectNode.class));
+        assertNull(RecordChecksums.findAtEnd(prettyPrinted.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void section_dependsOnOrder() {
+        RecordChecksums.Section inOrder = new RecordChecksums.Section();
+        inOrder.add(1);
+        inOrder.add(2);
+        RecordChecksums.Section swapped = new RecordChecksums.Section();
+        swapped.add(2);
+        swapped.add(1);
+
+        assertEquals(2, inOrder.size());
+        assertTrue(inOrder.matches(RecordChecksums.format(inOrder.getValue())));
+        assertFalse(swapped.matches(RecordChecksums.format(inOrder.getValue())));
+        assertFalse(inOrder.matches("not a checksum"));
+    }
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalExternalParties.FATIMAH;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStaffs.HARIS;
+import static seedu.address.testutil.TypicalStudents.JAMAL;
+import static seedu.address.testutil.TypicalStudents.SAUL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.EventBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int BUCKET_COUNT = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> createStorage().readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        Event event = new EventBuilder().build();
+        event.addStudent(JAMAL);
+        event.addStaff(HARIS);
+        event.addExternalParty(FATIMAH);
+        original.addEvent(event);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(createStorage().readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(List.of(JAMAL), readBack.getEventList().get(0).getStudents());
+        assertEquals(List.of(HARIS), readBack.getEventList().get(0).getStaff());
+        assertEquals(List.of(FATIMAH), readBack.getEventList().get(0).getExternalParties());
+
+        // Overwrite an existing address book
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_studentAdded_rewritesOnlyChangedShards() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Set<String> filesBefore = listShardFiles(storage);
+
+        addressBook.addStudent(SAUL);
+        storage.saveAddressBook(addressBook);
+
+        Set<String> rewritten = new HashSet<>(listShardFiles(storage));
+        rewritten.removeAll(filesBefore);
+        int bucket = ShardedAddressBookStorage.getBucket(SAUL.getId(), BUCKET_COUNT);
+        assertEquals(Set.of("students-" + bucket + ".2.json"), rewritten);
+        assertEquals(filesBefore.size(), listShardFiles(storage).size());
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_editsRemovalsAndAdditions_keepListOrder() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook model = new AddressBook();
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        model.resetData(storage.readAddressBook().get());
+
+        // Saved through copies, as the app does
+        Student firstStudent = model.getStudentList().get(0);
+        model.setStudent(firstStudent, new StudentBuilder(firstStudent).withName("Renamed").build());
+        model.removeStudent(model.getStudentList().get(1));
+        model.addStudent(SAUL);
+        storage.saveAddressBook(AddressBook.copyOf(model));
+        Event event = new EventBuilder().build();
+        model.addEvent(event);
+        event.addStudent(SAUL);
+        storage.saveAddressBook(AddressBook.copyOf(model));
+
+        AddressBook readBack = new AddressBook(createStorage().readAddressBook().get());
+        assertEquals(model, readBack);
+        assertEquals(model.getStudentList(), readBack.getStudentList());
+        assertEquals(List.of(SAUL), readBack.getEventList().get(0).getStudents());
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writesNothing() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String manifest = Files.readString(storage.getAddressBookFilePath());
+        Set<String> files = listShardFiles(storage);
+
+        storage.saveAddressBook(AddressBook.copyOf(addressBook));
+        assertEquals(manifest, Files.readString(storage.getAddressBookFilePath()));
+        assertEquals(files, listShardFiles(storage));
+    }
+
+    @Test
+    public void saveAddressBook_bucketCountChanged_readsBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        createStorage().saveAddressBook(original);
+
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(getManifestPath(), 1);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+        assertFalse(listShardFiles(storage).contains("students-1.1.json"));
+    }
+
+    @Test
+    public void readAddressBook_unfinishedSave_readsLastSave() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        // A save that wrote its shards but stopped before replacing the manifest
+        int bucket = ShardedAddressBookStorage.getBucket(SAUL.getId(), BUCKET_COUNT);
+        Path unnamedShard = storage.getShardDirectory().resolve("students-" + bucket + ".2.json");
+        Files.writeString(unnamedShard, "[ 1, 2 ");
+
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+
+        // The next save neither overwrites nor keeps the file left behind
+        original.addStudent(SAUL);
+        storage.saveAddressBook(original);
+        assertFalse(Files.exists(unnamedShard));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePosition_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path staffShard = storage.getShardDirectory().resolve("staffs-0.1.json");
+        Files.writeString(staffShard, Files.readString(staffShard).replaceFirst("\\[\\s*1,", "[ 0,"));
+
+        String expectedMessage = new IllegalValueException(String.format(
+                ShardedAddressBookStorage.MESSAGE_DUPLICATE_ENTRY, ShardedAddressBookStorage.STAFFS)).toString();
+        assertThrows(DataLoadingException.class, expectedMessage, createStorage()::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_shardFileOutsideDirectory_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        storage.saveAddressBook(getTypicalAddressBook());
+        String manifest = Files.readString(storage.getAddressBookFilePath());
+        Files.writeString(storage.getAddressBookFilePath(),
+                manifest.replace("\"staffs-0.1.json\"", "\"../addressbook.manifest\""));
+
+        String expectedMessage = new IllegalValueException(String.format(
+                ShardedAddressBookStorage.MESSAGE_INVALID_SHARD_FILE, "../addressbook.manifest")).toString();
+        assertThrows(DataLoadingException.class, expectedMessage, createStorage()::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_jsonFilePath_exportsJson() throws Exception {
+        Path jsonFile = testFolder.resolve("export.json");
+        AddressBook original = getTypicalAddressBook();
+
+        createStorage().saveAddressBook(original, jsonFile);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(jsonFile).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherManifestPath_success() throws Exception {
+        Path otherManifest = testFolder.resolve("other" + ShardedAddressBookStorage.FILE_EXTENSION);
+        AddressBook original = getTypicalAddressBook();
+
+        createStorage().saveAddressBook(original, otherManifest);
+        assertEquals(original, new AddressBook(createStorage().readAddressBook(otherManifest).get()));
+        assertFalse(Files.exists(getManifestPath()));
+    }
+
+    @Test
+    public void isShardedFile() {
+        assertTrue(ShardedAddressBookStorage.isShardedFile(Path.of("data", "addressbook.manifest")));
+        assertFalse(ShardedAddressBookStorage.isShardedFile(Path.of("data", "addressbook.json")));
+    }
+
+    private Set<String> listShardFiles(ShardedAddressBookStorage storage) throws Exception {
+        try (Stream<Path> files = Files.list(storage.getShardDirectory())) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private Path getManifestPath() {
+        return testFolder.resolve("addressbook" + ShardedAddressBookStorage.FILE_EXTENSION);
+    }
+
+    private ShardedAddressBookStorage createStorage() {
+        return new ShardedAddressBookStorage(getManifestPath(), BUCKET_COUNT);
+    }
+}
@@ -2,9 +2,13 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalStudents.SAUL;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +64,42 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_journaledStorage_journalUsed() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(getTempFilePath("journaled"));
+        StorageManager journaledStorageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        AddressBook original = getTypicalAddressBook();
+        journaledStorageManager.saveAddressBook(original);
+        original.addStudent(SAUL);
+        journaledStorageManager.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(addressBookStorage.getJournalFilePath()).size());
+        assertEquals(original, new AddressBook(journaledStorageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void verifyAddressBook_journaledFile_journalEntriesCounted() throws Exception {
+        JournaledAddressBookStorage addressBookStorage = new JournaledAddressBookStorage(getTempFilePath("journaled"));
+        AddressBook original = getTypicalAddressBook();
+        addressBookStorage.saveAddressBook(original);
+        DamageReport snapshotReport = storageManager.verifyAddressBook(getTempFilePath("journaled")).get();
+        original.addStudent(SAUL);
+        addressBookStorage.saveAddressBook(original);
+
+        DamageReport report = storageManager.verifyAddressBook(getTempFilePath("journaled")).get();
+        assertTrue(report.isClean());
+        assertEquals(snapshotReport.getRecordCount() + 1, report.getRecordCount());
+        assertEquals(snapshotReport.getUncheckedRecordCount() + 1, report.getUncheckedRecordCount());
+    }
+
+    @Test
+    public void verifyAddressBook_binaryFile_notVerified() throws Exception {
+        Path binaryFile = getTempFilePath("ab" + BinaryAddressBookStorage.FILE_EXTENSION);
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(getTypicalAddressBook());
+        assertEquals(Optional.empty(), storageManager.verifyAddressBook(binaryFile));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -1,5 +1,8 @@
 package seedu.address.testutil;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import seedu.address.model.event.Event;
 import seedu.address.model.event.EventEndTime;
 import seedu.address.model.event.EventName;
@@ -7,9 +10,6 @@ import seedu.address.model.event.EventStartTime;
 import seedu.address.model.person.ExternalParty;
 import seedu.address.model.person.Staff;
 import seedu.address.model.person.Student;
-import seedu.address.model.person.UniqueExternalPartyList;
-import seedu.address.model.person.UniqueStaffList;
-import seedu.address.model.person.UniqueStudentList;
 
 /**
  * A utility class to help with building Event objects.
@@ -18,16 +18,13 @@ public class EventBuilder {
     public static final String DEFAULT_EVENT_NAME = "Dance Club Rehearsal";
     public static final String DEFAULT_START_TIME = "2025-06-15 18:00";
     public static final String DEFAULT_END_TIME = "2025-06-15 21:00";
-    public static final UniqueStudentList DEFAULT_STUDENTS = new UniqueStudentList();
-    public static final UniqueStaffList DEFAULT_STAFFS = new UniqueStaffList();
-    public static final UniqueExternalPartyList DEFAULT_EXTERNAL_PARTIES = new UniqueExternalPartyList();
 
     private EventName eventName;
     private EventStartTime startTime;
     private EventEndTime endTime;
-    private UniqueStudentList students;
-    private UniqueStaffList staffs;
-    private UniqueExternalPartyList externalParties;
+    private List<Student> students;
+    private List<Staff> staffs;
+    private List<ExternalParty> externalParties;
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -36,9 +33,9 @@ public class EventBuilder {
         eventName = new EventName(DEFAULT_EVENT_NAME);
         startTime = new EventStartTime(DEFAULT_START_TIME);
         endTime = new EventEndTime(DEFAULT_END_TIME);
-        students = DEFAULT_STUDENTS;
-        staffs = DEFAULT_STAFFS;
-        externalParties = DEFAULT_EXTERNAL_PARTIES;
+        students = new ArrayList<>();
+        staffs = new ArrayList<>();
+        externalParties = new ArrayList<>();
     }
 
     /**